@@ -6,8 +6,11 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
+import org.triple.backend.auth.config.property.AccessTokenFormatProperties;
+import org.triple.backend.auth.config.property.JwtCacheProperties;
 import org.triple.backend.auth.config.property.JwtProperties;
 import org.triple.backend.auth.config.property.KakaoOauthProperties;
+import org.triple.backend.auth.config.property.OauthResilienceProperties;
 import org.triple.backend.auth.config.property.RestClientProperties;
 import org.triple.backend.auth.oauth.OauthClient;
 import org.triple.backend.auth.oauth.OauthProvider;
@@ -23,7 +26,10 @@ import java.util.stream.Collectors;
 @EnableConfigurationProperties({
         KakaoOauthProperties.class,
         RestClientProperties.class,
-        JwtProperties.class
+        JwtProperties.class,
+        JwtCacheProperties.class,
+        AccessTokenFormatProperties.class,
+        OauthResilienceProperties.class
 })
 public class OauthConfig {
 
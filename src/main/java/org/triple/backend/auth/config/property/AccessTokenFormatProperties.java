@@ -0,0 +1,21 @@
+package org.triple.backend.auth.config.property;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+import org.triple.backend.auth.jwt.AccessTokenFormat;
+
+@Validated
+@ConfigurationProperties(prefix = "security.jwt.access-token")
+public record AccessTokenFormatProperties(
+        @NotNull AccessTokenFormat format,
+        boolean acceptBothFormats
+) {
+    public static AccessTokenFormatProperties jwtOnly() {
+        return new AccessTokenFormatProperties(AccessTokenFormat.JWT, false);
+    }
+
+    public boolean accepts(AccessTokenFormat candidate) {
+        return acceptBothFormats || format == candidate;
+    }
+}
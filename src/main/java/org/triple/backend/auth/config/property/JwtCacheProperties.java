@@ -0,0 +1,16 @@
+package org.triple.backend.auth.config.property;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "security.jwt.cache")
+public record JwtCacheProperties(
+        boolean enabled,
+        @Min(1) long maximumSize
+) {
+    public static JwtCacheProperties disabled() {
+        return new JwtCacheProperties(false, 1);
+    }
+}
@@ -0,0 +1,35 @@
+package org.triple.backend.auth.config.property;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * OAuth 프로바이더 호출 격리 설정
+ * threads / max-concurrent-calls : 전용 실행기 크기와 프로바이더별 동시 호출 상한(bulkhead)
+ * max-attempts / *-backoff : 일시 장애 재시도. 대기는 스레드를 재우지 않고 예약 실행으로 처리
+ * failure-rate-threshold ~ half-open-permitted-calls : 프로바이더별 circuit breaker
+ * call-timeout : 요청 스레드가 로그인 결과를 기다리는 최대 시간
+ */
+@Validated
+@ConfigurationProperties(prefix = "oauth.resilience")
+public record OauthResilienceProperties(
+        @Min(1) int threads,
+        @Min(1) int maxConcurrentCalls,
+        @Min(1) int maxAttempts,
+        @NotNull Duration initialBackoff,
+        @DecimalMin("1.0") double backoffMultiplier,
+        @NotNull Duration maxBackoff,
+        @DecimalMin("1.0") @DecimalMax("100.0") double failureRateThreshold,
+        @Min(1) int slidingWindowSize,
+        @Min(1) int minimumNumberOfCalls,
+        @NotNull Duration openDuration,
+        @Min(1) int halfOpenPermittedCalls,
+        @NotNull Duration callTimeout
+) {
+}
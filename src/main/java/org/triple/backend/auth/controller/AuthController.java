@@ -33,4 +33,10 @@ public class AuthController {
         log.debug("refresh start");
         authServiceFacade.refresh(request, response);
     }
+
+    @PostMapping("/logout")
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        log.debug("logout start");
+        authServiceFacade.logout(request, response);
+    }
 }
@@ -1,22 +1,94 @@
 package org.triple.backend.auth.crypto;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.triple.backend.global.error.BusinessException;
 import org.triple.backend.global.error.ErrorCode;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 @Component
-@RequiredArgsConstructor
 public class PublicUuidCodec {
 
+    private static final long DEFAULT_TOKEN_CACHE_SIZE = 10_000;
+    private static final Duration DEFAULT_TOKEN_CACHE_TTL = Duration.ofMinutes(10);
+
     private final UuidCrypto uuidCrypto;
+    private final @Nullable Cache<UUID, String> tokenCache;
+
+    public PublicUuidCodec(final UuidCrypto uuidCrypto) {
+        this(uuidCrypto, DEFAULT_TOKEN_CACHE_SIZE, DEFAULT_TOKEN_CACHE_TTL);
+    }
+
+    /**
+     * 결정적 모드는 UuidCrypto 가 이미 UUID -> 토큰을 캐시하므로 토큰 캐시를 만들지 않는다.
+     */
+    @Autowired
+    public PublicUuidCodec(
+            final UuidCrypto uuidCrypto,
+            @Value("${security.uuid.token-cache-size:10000}") final long tokenCacheSize,
+            @Value("${security.uuid.token-cache-ttl:PT10M}") final Duration tokenCacheTtl
+    ) {
+        this.uuidCrypto = uuidCrypto;
+        this.tokenCache = uuidCrypto.isDeterministic()
+                ? null
+                : Caffeine.newBuilder()
+                        .maximumSize(tokenCacheSize)
+                        .expireAfterWrite(tokenCacheTtl)
+                        .<UUID, String>build();
+    }
 
     public String encrypt(final String plainPublicUuid) {
         return uuidCrypto.encrypt(UUID.fromString(plainPublicUuid));
     }
 
+    public List<String> encryptAll(final List<String> plainPublicUuids) {
+        List<UUID> publicUuids = plainPublicUuids.stream()
+                .map(UUID::fromString)
+                .toList();
+        return uuidCrypto.encryptAll(publicUuids);
+    }
+
+    /**
+     * 멤버 목록처럼 같은 사용자가 반복해서 노출되는 응답용
+     * 랜덤 모드에서도 UUID 별로 만든 토큰을 ttl 동안 재사용하고, 캐시에 없는 UUID 만 한 번에 암호화한다.
+     * 랜덤 모드 토큰도 언제든 복호화되므로 재사용해도 decryptOrThrow 결과는 같다.
+     */
+    public List<String> encryptAllCached(final List<String> plainPublicUuids) {
+        if (tokenCache == null) {
+            return encryptAll(plainPublicUuids);
+        }
+
+        List<UUID> publicUuids = plainPublicUuids.stream()
+                .map(UUID::fromString)
+                .toList();
+        Map<UUID, String> tokens = tokenCache.getAll(publicUuids, missing -> {
+            List<UUID> missingUuids = new ArrayList<>(missing);
+            List<String> encrypted = uuidCrypto.encryptAll(missingUuids);
+            Map<UUID, String> loaded = new HashMap<>(missingUuids.size());
+            for (int i = 0; i < missingUuids.size(); i++) {
+                loaded.put(missingUuids.get(i), encrypted.get(i));
+            }
+            return loaded;
+        });
+        return publicUuids.stream()
+                .map(tokens::get)
+                .toList();
+    }
+
     public String decryptOrThrow(final String encryptedPublicUuid, final ErrorCode errorCode) {
         UUID publicUuid = uuidCrypto.decryptToUuid(encryptedPublicUuid);
         if (publicUuid == null) {
@@ -24,4 +96,58 @@ public class PublicUuidCodec {
         }
         return publicUuid.toString();
     }
+
+    public List<String> decryptAllOrThrow(final List<String> encryptedPublicUuids, final ErrorCode errorCode) {
+        List<UUID> publicUuids = uuidCrypto.decryptAll(encryptedPublicUuids);
+        List<String> decrypted = new ArrayList<>(publicUuids.size());
+        for (UUID publicUuid : publicUuids) {
+            if (publicUuid == null) {
+                throw new BusinessException(errorCode);
+            }
+            decrypted.add(publicUuid.toString());
+        }
+        return decrypted;
+    }
+
+    /**
+     * items 의 id(idOf) 를 한 번에 암호화해, 같은 순서의 토큰으로 바꾼 item(withId) 목록을 돌려준다.
+     */
+    public <T> List<T> encryptIds(
+            final List<T> items,
+            final Function<T, String> idOf,
+            final BiFunction<T, String, T> withId
+    ) {
+        return replaceIds(items, idOf, this::encryptAll, withId);
+    }
+
+    public <T> List<T> encryptIdsCached(
+            final List<T> items,
+            final Function<T, String> idOf,
+            final BiFunction<T, String, T> withId
+    ) {
+        return replaceIds(items, idOf, this::encryptAllCached, withId);
+    }
+
+    public <T> List<T> decryptIdsOrThrow(
+            final List<T> items,
+            final Function<T, String> idOf,
+            final BiFunction<T, String, T> withId,
+            final ErrorCode errorCode
+    ) {
+        return replaceIds(items, idOf, ids -> decryptAllOrThrow(ids, errorCode), withId);
+    }
+
+    private static <T> List<T> replaceIds(
+            final List<T> items,
+            final Function<T, String> idOf,
+            final UnaryOperator<List<String>> convert,
+            final BiFunction<T, String, T> withId
+    ) {
+        Iterator<String> ids = convert.apply(items.stream().map(idOf).toList()).iterator();
+        List<T> replaced = new ArrayList<>(items.size());
+        for (T item : items) {
+            replaced.add(withId.apply(item, ids.next()));
+        }
+        return replaced;
+    }
 }
@@ -4,7 +4,12 @@ import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -21,6 +26,32 @@ public class UserIdentityResolver {
         return uuidToUserIdCache.find(publicUuid);
     }
 
+    /**
+     * 입력 순서를 유지하며, 식별할 수 없는 항목은 null 로 채운다.
+     */
+    public List<Long> resolveAll(List<?> principals) {
+        List<UUID> publicUuids = parsePublicUuids(principals);
+        Map<UUID, Long> userIdByPublicUuid = uuidToUserIdCache.findAll(
+                publicUuids.stream().filter(Objects::nonNull).collect(Collectors.toSet())
+        );
+
+        List<Long> userIds = new ArrayList<>(publicUuids.size());
+        for (UUID publicUuid : publicUuids) {
+            userIds.add(publicUuid == null ? null : userIdByPublicUuid.get(publicUuid));
+        }
+        return userIds;
+    }
+
+    public List<UUID> parsePublicUuids(List<?> principals) {
+        List<UUID> decrypted = uuidCrypto.decryptAll(principals);
+        List<UUID> publicUuids = new ArrayList<>(principals.size());
+        for (int i = 0; i < principals.size(); i++) {
+            Object principal = principals.get(i);
+            publicUuids.add(principal instanceof UUID uuid ? uuid : decrypted.get(i));
+        }
+        return publicUuids;
+    }
+
     public @Nullable UUID parsePublicUuid(Object principal) {
         if (principal instanceof UUID uuid) {
             return uuid;
@@ -1,75 +1,265 @@
 package org.triple.backend.auth.crypto;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.annotation.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.Mac;
 import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.SecureRandom;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * publicUuid 암호화
+ * 1. 평문 : UUID 16바이트 바이너리 (이전 토큰의 36자 문자열 평문도 계속 복호화 가능)
+ * 2. 기본(랜덤) 모드 : AES/GCM, 토큰 = iv(12) | 암호문 + tag
+ * 3. 결정적 모드 : SIV 방식, siv = HMAC-SHA256(평문) 앞 16바이트, 토큰 = siv(16) | AES/CTR(iv = siv) 암호문
+ *    같은 UUID 는 항상 같은 토큰이 되므로 UUID -> 토큰, 토큰 -> UUID 양방향을 크기 제한 캐시에 보관함
+ * 4. 복호화는 토큰 길이로 형식을 구분하므로 모드와 관계없이 두 형식을 모두 읽을 수 있음
+ * 5. Cipher / Mac 은 스레드마다 하나를 만들어 재사용하고, 목록 단위 처리 시 버퍼를 공유함
+ * 토큰은 Base64 URL(패딩 없음)로 인코딩
+ */
 @Component
 public class UuidCrypto {
 
     private static final String CIPHER_TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final String SIV_CIPHER_TRANSFORMATION = "AES/CTR/NoPadding";
+    private static final String SIV_MAC_ALGORITHM = "HmacSHA256";
     private static final int GCM_TAG_LENGTH_BITS = 128;
+    private static final int GCM_TAG_LENGTH_BYTES = GCM_TAG_LENGTH_BITS / 8;
     private static final int IV_LENGTH_BYTES = 12;
+    private static final int UUID_BINARY_LENGTH = 16;
+    private static final int UUID_STRING_LENGTH = 36;
+    private static final int PAYLOAD_LENGTH = IV_LENGTH_BYTES + UUID_BINARY_LENGTH + GCM_TAG_LENGTH_BYTES;
+    private static final int PLAIN_BUFFER_LENGTH = UUID_STRING_LENGTH + GCM_TAG_LENGTH_BYTES;
+    private static final int SIV_LENGTH_BYTES = 16;
+    private static final int SIV_PAYLOAD_LENGTH = SIV_LENGTH_BYTES + UUID_BINARY_LENGTH;
+    private static final int MAC_LENGTH_BYTES = 32;
+    private static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
 
     private final SecretKeySpec secretKeySpec;
+    private final SecretKeySpec sivCipherKeySpec;
+    private final SecretKeySpec sivMacKeySpec;
     private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadLocal<Cipher> cipherHolder = ThreadLocal.withInitial(() -> newCipher(CIPHER_TRANSFORMATION));
+    private final ThreadLocal<Cipher> sivCipherHolder = ThreadLocal.withInitial(() -> newCipher(SIV_CIPHER_TRANSFORMATION));
+    private final ThreadLocal<Mac> sivMacHolder = ThreadLocal.withInitial(this::newSivMac);
+
+    private final boolean deterministic;
+    private final @Nullable Cache<UUID, String> encryptCache;
+    private final @Nullable Cache<String, UUID> decryptCache;
+
+    public UuidCrypto(String secret) {
+        this(secret, false, DEFAULT_CACHE_SIZE);
+    }
 
-    public UuidCrypto(@Value("${security.uuid.secret}") String secret) {
+    @Autowired
+    public UuidCrypto(
+            @Value("${security.uuid.secret}") String secret,
+            @Value("${security.uuid.deterministic:false}") boolean deterministic,
+            @Value("${security.uuid.cache-size:10000}") long cacheSize
+    ) {
         this.secretKeySpec = new SecretKeySpec(hash(secret), "AES");
+        this.sivCipherKeySpec = new SecretKeySpec(hash("uuid-siv-cipher:" + secret), "AES");
+        this.sivMacKeySpec = new SecretKeySpec(hash("uuid-siv-mac:" + secret), SIV_MAC_ALGORITHM);
+        this.deterministic = deterministic;
+        this.encryptCache = deterministic ? Caffeine.newBuilder().maximumSize(cacheSize).<UUID, String>build() : null;
+        this.decryptCache = deterministic ? Caffeine.newBuilder().maximumSize(cacheSize).<String, UUID>build() : null;
+    }
+
+    public boolean isDeterministic() {
+        return deterministic;
     }
 
     public String encrypt(UUID uuid) {
-        byte[] iv = new byte[IV_LENGTH_BYTES];
+        return encrypt(uuid, new Buffers());
+    }
+
+    public List<String> encryptAll(Collection<UUID> uuids) {
+        Buffers buffers = new Buffers();
+        List<String> encrypted = new ArrayList<>(uuids.size());
+        for (UUID uuid : uuids) {
+            encrypted.add(encrypt(uuid, buffers));
+        }
+        return encrypted;
+    }
+
+    public @Nullable UUID decryptToUuid(@Nullable Object encryptedPrincipal) {
+        return decryptToUuid(encryptedPrincipal, new Buffers());
+    }
+
+    /**
+     * 입력 순서를 유지하며, 복호화에 실패한 항목은 null 로 채운다.
+     */
+    public List<UUID> decryptAll(Collection<?> encryptedPrincipals) {
+        Buffers buffers = new Buffers();
+        List<UUID> decrypted = new ArrayList<>(encryptedPrincipals.size());
+        for (Object encryptedPrincipal : encryptedPrincipals) {
+            decrypted.add(decryptToUuid(encryptedPrincipal, buffers));
+        }
+        return decrypted;
+    }
+
+    private String encrypt(UUID uuid, Buffers buffers) {
+        if (encryptCache == null) {
+            return encryptRandom(uuid, buffers);
+        }
+        return encryptCache.get(uuid, key -> {
+            String token = encryptDeterministic(key, buffers);
+            decryptCache.put(token, key);
+            return token;
+        });
+    }
+
+    private String encryptRandom(UUID uuid, Buffers buffers) {
+        byte[] payload = buffers.payload;
+        byte[] plain = buffers.plain;
+        writeLong(plain, 0, uuid.getMostSignificantBits());
+        writeLong(plain, 8, uuid.getLeastSignificantBits());
+
+        byte[] iv = buffers.iv;
         secureRandom.nextBytes(iv);
+        System.arraycopy(iv, 0, payload, 0, IV_LENGTH_BYTES);
 
         try {
-            Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+            Cipher cipher = cipherHolder.get();
             cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec, new GCMParameterSpec(GCM_TAG_LENGTH_BITS, iv));
-            byte[] encrypted = cipher.doFinal(uuid.toString().getBytes(StandardCharsets.UTF_8));
+            cipher.doFinal(plain, 0, UUID_BINARY_LENGTH, payload, IV_LENGTH_BYTES);
+            return ENCODER.encodeToString(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("UUID 암호화에 실패했습니다.", e);
+        }
+    }
+
+    private String encryptDeterministic(UUID uuid, Buffers buffers) {
+        byte[] payload = buffers.sivPayload;
+        byte[] plain = buffers.plain;
+        writeLong(plain, 0, uuid.getMostSignificantBits());
+        writeLong(plain, 8, uuid.getLeastSignificantBits());
+
+        try {
+            syntheticIv(plain, buffers.mac);
+            System.arraycopy(buffers.mac, 0, payload, 0, SIV_LENGTH_BYTES);
 
-            byte[] payload = new byte[iv.length + encrypted.length];
-            System.arraycopy(iv, 0, payload, 0, iv.length);
-            System.arraycopy(encrypted, 0, payload, iv.length, encrypted.length);
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(payload);
+            Cipher cipher = sivCipherHolder.get();
+            cipher.init(Cipher.ENCRYPT_MODE, sivCipherKeySpec, new IvParameterSpec(payload, 0, SIV_LENGTH_BYTES));
+            cipher.doFinal(plain, 0, UUID_BINARY_LENGTH, payload, SIV_LENGTH_BYTES);
+            return ENCODER.encodeToString(payload);
         } catch (GeneralSecurityException e) {
             throw new IllegalStateException("UUID 암호화에 실패했습니다.", e);
         }
     }
 
-    public @Nullable UUID decryptToUuid(@Nullable Object encryptedPrincipal) {
+    private @Nullable UUID decryptToUuid(@Nullable Object encryptedPrincipal, Buffers buffers) {
         if (!(encryptedPrincipal instanceof String token) || token.isBlank()) {
             return null;
         }
+        if (decryptCache == null) {
+            return decrypt(token, buffers);
+        }
+        return decryptCache.get(token, key -> decrypt(key, buffers));
+    }
 
+    private @Nullable UUID decrypt(String token, Buffers buffers) {
         try {
-            byte[] payload = Base64.getUrlDecoder().decode(token);
-            if (payload.length <= IV_LENGTH_BYTES) {
-                return null;
+            byte[] payload = DECODER.decode(token);
+            if (payload.length == SIV_PAYLOAD_LENGTH) {
+                return decryptDeterministic(payload, buffers);
             }
 
-            byte[] iv = Arrays.copyOfRange(payload, 0, IV_LENGTH_BYTES);
-            byte[] encrypted = Arrays.copyOfRange(payload, IV_LENGTH_BYTES, payload.length);
+            int encryptedLength = payload.length - IV_LENGTH_BYTES;
+            if (encryptedLength <= GCM_TAG_LENGTH_BYTES || encryptedLength > PLAIN_BUFFER_LENGTH) {
+                return null;
+            }
 
-            Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
-            cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, new GCMParameterSpec(GCM_TAG_LENGTH_BITS, iv));
-            byte[] decrypted = cipher.doFinal(encrypted);
-            return UUID.fromString(new String(decrypted, StandardCharsets.UTF_8));
+            Cipher cipher = cipherHolder.get();
+            cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, new GCMParameterSpec(GCM_TAG_LENGTH_BITS, payload, 0, IV_LENGTH_BYTES));
+            int plainLength = cipher.doFinal(payload, IV_LENGTH_BYTES, encryptedLength, buffers.plain, 0);
+            return toUuid(buffers.plain, plainLength);
         } catch (RuntimeException | GeneralSecurityException e) {
             return null;
         }
     }
 
+    private @Nullable UUID decryptDeterministic(byte[] payload, Buffers buffers) throws GeneralSecurityException {
+        Cipher cipher = sivCipherHolder.get();
+        cipher.init(Cipher.DECRYPT_MODE, sivCipherKeySpec, new IvParameterSpec(payload, 0, SIV_LENGTH_BYTES));
+        cipher.doFinal(payload, SIV_LENGTH_BYTES, UUID_BINARY_LENGTH, buffers.plain, 0);
+
+        syntheticIv(buffers.plain, buffers.mac);
+        int diff = 0;
+        for (int i = 0; i < SIV_LENGTH_BYTES; i++) {
+            diff |= buffers.mac[i] ^ payload[i];
+        }
+        return diff == 0 ? toUuid(buffers.plain, UUID_BINARY_LENGTH) : null;
+    }
+
+    private void syntheticIv(byte[] plain, byte[] macOut) throws GeneralSecurityException {
+        Mac mac = sivMacHolder.get();
+        mac.update(plain, 0, UUID_BINARY_LENGTH);
+        mac.doFinal(macOut, 0);
+    }
+
+    private static @Nullable UUID toUuid(byte[] plain, int length) {
+        if (length == UUID_BINARY_LENGTH) {
+            return new UUID(readLong(plain, 0), readLong(plain, 8));
+        }
+        if (length == UUID_STRING_LENGTH) {
+            // 바이너리 평문 도입 이전에 발급된 토큰
+            return UUID.fromString(new String(plain, 0, length, StandardCharsets.UTF_8));
+        }
+        return null;
+    }
+
+    private static void writeLong(byte[] target, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            target[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long readLong(byte[] source, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (source[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static Cipher newCipher(String transformation) {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("UUID 암호화 엔진 초기화에 실패했습니다.", e);
+        }
+    }
+
+    private Mac newSivMac() {
+        try {
+            Mac mac = Mac.getInstance(SIV_MAC_ALGORITHM);
+            mac.init(sivMacKeySpec);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("UUID 암호화 엔진 초기화에 실패했습니다.", e);
+        }
+    }
+
     private static byte[] hash(String secret) {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
@@ -78,4 +268,12 @@ public class UuidCrypto {
             throw new IllegalStateException("UUID 암호화 키 초기화에 실패했습니다.", e);
         }
     }
+
+    private static final class Buffers {
+        private final byte[] iv = new byte[IV_LENGTH_BYTES];
+        private final byte[] plain = new byte[PLAIN_BUFFER_LENGTH];
+        private final byte[] payload = new byte[PAYLOAD_LENGTH];
+        private final byte[] sivPayload = new byte[SIV_PAYLOAD_LENGTH];
+        private final byte[] mac = new byte[MAC_LENGTH_BYTES];
+    }
 }
@@ -2,39 +2,88 @@ package org.triple.backend.auth.crypto;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.triple.backend.global.cache.CacheInvalidationBus;
 import org.triple.backend.user.repository.UserJpaRepository;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Caffeine Cache를 이용하였음
  * 1. 조회 전략(find) : publicUuid로 O(1) 수준의 검색, 캐시 미스 시 userJpaRepository에서 직접 조회 후 캐시 적재
+ *    여러 건 조회(findAll) 시 캐시 히트는 그대로 사용하고, 미스만 모아 IN 쿼리 한 번으로 적재
  * 2. 저장 전략(save) : publicUuid와 userId를 받아 저장. 만약, 캐시 가득 찼을 시 Caffeine 내부 정책에 의해 최저 조회 객체들 삭제 후 저장
  * 3. 삭제 전략(invalidate) : 그냥 publicUuid로 삭제
+ * 4. 노드 간 일관성 : save / invalidate 시 CacheInvalidationBus 로 다른 노드의 같은 키를 제거함 (미스로 저장된 빈 값 포함)
  */
 @Component
-@RequiredArgsConstructor
 public class UuidToUserIdCache {
+
+    static final String CACHE_NAME = "uuid-to-user-id";
+
     private final UserJpaRepository userJpaRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
     private final Cache<UUID, Optional<Long>> cache = Caffeine.newBuilder()
             .maximumSize(100_000)
-            .expireAfterWrite(Duration.ofSeconds(10000))
+            .expireAfterWrite(Duration.ofHours(12))
             .build();
 
+    public UuidToUserIdCache(final UserJpaRepository userJpaRepository) {
+        this(userJpaRepository, CacheInvalidationBus.local());
+    }
+
+    @Autowired
+    public UuidToUserIdCache(final UserJpaRepository userJpaRepository, final CacheInvalidationBus cacheInvalidationBus) {
+        this.userJpaRepository = userJpaRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        cacheInvalidationBus.register(CACHE_NAME, key -> cache.invalidate(UUID.fromString(key)));
+    }
+
     public Long find(UUID publicUuid) {
         return cache.get(publicUuid, userJpaRepository::findIdByPublicUuid)
                 .orElse(null);
     }
 
+    /**
+     * 존재하는 publicUuid 만 결과 Map 에 담는다.
+     */
+    public Map<UUID, Long> findAll(Collection<UUID> publicUuids) {
+        Map<UUID, Optional<Long>> cached = cache.getAll(publicUuids, this::loadAll);
+
+        Map<UUID, Long> userIds = new HashMap<>();
+        cached.forEach((publicUuid, userId) -> userId.ifPresent(id -> userIds.put(publicUuid, id)));
+        return userIds;
+    }
+
     public void invalidate(UUID publicUuid) {
         cache.invalidate(publicUuid);
+        cacheInvalidationBus.publish(CACHE_NAME, publicUuid.toString());
     }
 
+    /**
+     * 값이 바뀐 경우에만 다른 노드에 무효화를 발행한다. (로그인마다 같은 값을 다시 저장하므로)
+     */
     public void save(UUID publicUuid, Long userId) {
-        cache.put(publicUuid, Optional.ofNullable(userId));
+        Optional<Long> next = Optional.ofNullable(userId);
+        Optional<Long> previous = cache.asMap().put(publicUuid, next);
+        if (!next.equals(previous)) {
+            cacheInvalidationBus.publish(CACHE_NAME, publicUuid.toString());
+        }
+    }
+
+    private Map<UUID, Optional<Long>> loadAll(Set<? extends UUID> missingPublicUuids) {
+        Map<UUID, Optional<Long>> loaded = new HashMap<>();
+        missingPublicUuids.forEach(publicUuid -> loaded.put(publicUuid, Optional.empty()));
+        userJpaRepository.findIdsByPublicUuidIn(new ArrayList<>(missingPublicUuids))
+                .forEach(row -> loaded.put(row.getPublicUuid(), Optional.of(row.getUserId())));
+        return loaded;
     }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package org.triple.backend.auth.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,17 +18,23 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "refresh_token")
+@Table(
+        name = "refresh_token",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_user_id", columnNames = "user_id"),
+        indexes = @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+)
 public class RefreshToken extends BaseEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "user_id", nullable = false)
     private Long userId;
 
     private String tokenHash;
 
+    @Column(name = "expires_at")
     private LocalDateTime expiresAt;
 
     public static RefreshToken create(Long userId, String tokenHash, LocalDateTime expiresAt) {
@@ -0,0 +1,50 @@
+package org.triple.backend.auth.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.triple.backend.global.common.BaseEntity;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "revoked_token",
+        uniqueConstraints = @UniqueConstraint(name = "uk_revoked_token_jti", columnNames = "jti"),
+        indexes = {
+                @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at"),
+                @Index(name = "idx_revoked_token_created_at", columnList = "created_at")
+        }
+)
+public class RevokedToken extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String jti;
+
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public static RevokedToken create(String jti, Long userId, LocalDateTime expiresAt) {
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.jti = jti;
+        revokedToken.userId = userId;
+        revokedToken.expiresAt = expiresAt;
+        return revokedToken;
+    }
+}
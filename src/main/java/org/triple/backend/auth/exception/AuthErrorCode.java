@@ -9,6 +9,7 @@ public enum AuthErrorCode implements ErrorCode {
     FAILED_ISSUE_KAKAO_ACCESS_TOKEN(HttpStatus.UNAUTHORIZED, "카카오 인증 토큰 발급을 실패했습니다."),
     FAILED_FIND_KAKAO_USER_INFO(HttpStatus.UNAUTHORIZED, "카카오 사용자 정보 조회를 실패했습니다."),
     UNSUPPORTED_OAUTH_PROVIDER(HttpStatus.UNAUTHORIZED, "지원하지 않는 프로바이더 입니다."),
+    OAUTH_PROVIDER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "인증 프로바이더가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
     INVALID_CSRF_TOKEN(HttpStatus.FORBIDDEN, "CSRF 토큰이 유효하지 않습니다.");
 
     private HttpStatus status;
@@ -0,0 +1,6 @@
+package org.triple.backend.auth.jwt;
+
+public enum AccessTokenFormat {
+    JWT,
+    COMPACT
+}
@@ -0,0 +1,39 @@
+package org.triple.backend.auth.jwt;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 요청 단위 인증 결과.
+ * 한 요청 안에서 토큰 검증은 한 번만 수행하고, 인터셉터와 ArgumentResolver 가 이 결과를 공유한다.
+ */
+public record AuthenticationContext(@Nullable Long userId) {
+
+    public static final String ATTRIBUTE_NAME = AuthenticationContext.class.getName();
+
+    private static final AuthenticationContext ANONYMOUS = new AuthenticationContext(null);
+
+    public static AuthenticationContext anonymous() {
+        return ANONYMOUS;
+    }
+
+    public static AuthenticationContext authenticated(final Long userId) {
+        return new AuthenticationContext(userId);
+    }
+
+    public static @Nullable AuthenticationContext find(final HttpServletRequest request) {
+        Object context = request.getAttribute(ATTRIBUTE_NAME);
+        return context instanceof AuthenticationContext authenticationContext ? authenticationContext : null;
+    }
+
+    public boolean isAuthenticated() {
+        return userId != null;
+    }
+
+    public void bindTo(final HttpServletRequest request) {
+        request.setAttribute(ATTRIBUTE_NAME, this);
+        if (userId != null) {
+            request.setAttribute(JwtAuthenticationInterceptor.LOGIN_USER_ID, userId);
+        }
+    }
+}
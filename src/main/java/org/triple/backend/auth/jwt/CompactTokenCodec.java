@@ -0,0 +1,164 @@
+package org.triple.backend.auth.jwt;
+
+import org.triple.backend.auth.exception.AuthErrorCode;
+import org.triple.backend.global.error.BusinessException;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 고정 길이 바이너리 액세스 토큰
+ * 레이아웃 : version(1) | type(1) | userId(8) | iat(8) | exp(8) | jti(16) | HMAC-SHA256 tag(32)
+ * iat / exp 는 epoch seconds, 전체를 Base64 URL(패딩 없음)로 인코딩함
+ * 검증은 디코딩된 바이트 배열 위에서 바로 수행하며 Claims / Date 같은 중간 객체를 만들지 않음
+ * 서명 키는 JWT 서명 키를 그대로 쓰지 않고 HMAC(JWT 키, KEY_LABEL) 로 유도하여 한 키를 두 토큰 형식에 쓰지 않음
+ */
+public class CompactTokenCodec {
+
+    static final byte VERSION = 1;
+    static final byte ACCESS_TYPE = 1;
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final byte[] KEY_LABEL = "triple-compact-access-token-v1".getBytes(StandardCharsets.UTF_8);
+    private static final int PAYLOAD_LENGTH = 1 + 1 + 8 + 8 + 8 + 16;
+    private static final int TAG_LENGTH = 32;
+    private static final int TOKEN_LENGTH = PAYLOAD_LENGTH + TAG_LENGTH;
+    private static final int ENCODED_LENGTH = (TOKEN_LENGTH * 4 + 2) / 3;
+
+    private static final int TYPE_OFFSET = 1;
+    private static final int USER_ID_OFFSET = 2;
+    private static final int ISSUED_AT_OFFSET = 10;
+    private static final int EXPIRES_AT_OFFSET = 18;
+    private static final int JTI_OFFSET = 26;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec keySpec;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadLocal<Mac> macHolder = ThreadLocal.withInitial(this::newMac);
+    private final ThreadLocal<byte[]> tagBuffer = ThreadLocal.withInitial(() -> new byte[TAG_LENGTH]);
+
+    public CompactTokenCodec(final byte[] jwtSigningKey) {
+        this.keySpec = new SecretKeySpec(deriveKey(jwtSigningKey), HMAC_ALGORITHM);
+        newMac();
+    }
+
+    public static boolean isCompact(String token) {
+        return token.length() == ENCODED_LENGTH && token.indexOf('.') < 0;
+    }
+
+    public String issueAccessToken(long userId, Instant issuedAt, long expireSeconds) {
+        byte[] token = new byte[TOKEN_LENGTH];
+        token[0] = VERSION;
+        token[TYPE_OFFSET] = ACCESS_TYPE;
+        writeLong(token, USER_ID_OFFSET, userId);
+        writeLong(token, ISSUED_AT_OFFSET, issuedAt.getEpochSecond());
+        writeLong(token, EXPIRES_AT_OFFSET, issuedAt.getEpochSecond() + expireSeconds);
+
+        byte[] jti = new byte[16];
+        secureRandom.nextBytes(jti);
+        System.arraycopy(jti, 0, token, JTI_OFFSET, jti.length);
+
+        sign(token);
+        return ENCODER.encodeToString(token);
+    }
+
+    /**
+     * 서명과 만료를 검증하고 결과를 반환한다.
+     * 실패 시 토큰 구조를 드러내지 않도록 모두 UNAUTHORIZED 로 처리한다.
+     */
+    public VerifiedToken verify(String encoded, long nowEpochSecond) {
+        if (!isCompact(encoded)) throw unauthorized();
+
+        byte[] token;
+        try {
+            token = DECODER.decode(encoded);
+        } catch (IllegalArgumentException e) {
+            throw unauthorized();
+        }
+        if (token.length != TOKEN_LENGTH || token[0] != VERSION || token[TYPE_OFFSET] != ACCESS_TYPE) {
+            throw unauthorized();
+        }
+        if (!tagMatches(token)) throw unauthorized();
+
+        long expiresAt = readLong(token, EXPIRES_AT_OFFSET);
+        if (expiresAt <= nowEpochSecond) throw unauthorized();
+
+        UUID jti = new UUID(readLong(token, JTI_OFFSET), readLong(token, JTI_OFFSET + 8));
+        return new VerifiedToken(readLong(token, USER_ID_OFFSET), JwtManager.ACCESS_TYPE, jti.toString(), Instant.ofEpochSecond(expiresAt));
+    }
+
+    private void sign(byte[] token) {
+        Mac mac = macHolder.get();
+        mac.update(token, 0, PAYLOAD_LENGTH);
+        try {
+            mac.doFinal(token, PAYLOAD_LENGTH);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException("Compact token buffer is too short.", e);
+        }
+    }
+
+    private boolean tagMatches(byte[] token) {
+        Mac mac = macHolder.get();
+        byte[] expected = tagBuffer.get();
+        mac.update(token, 0, PAYLOAD_LENGTH);
+        try {
+            mac.doFinal(expected, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException("Compact token buffer is too short.", e);
+        }
+
+        int diff = 0;
+        for (int i = 0; i < TAG_LENGTH; i++) {
+            diff |= expected[i] ^ token[PAYLOAD_LENGTH + i];
+        }
+        return diff == 0;
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(keySpec);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Compact token MAC initialization failed.", e);
+        }
+    }
+
+    private static byte[] deriveKey(final byte[] jwtSigningKey) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(jwtSigningKey, HMAC_ALGORITHM));
+            return mac.doFinal(KEY_LABEL);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Compact token key derivation failed.", e);
+        }
+    }
+
+    private static void writeLong(byte[] target, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            target[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long readLong(byte[] source, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (source[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static BusinessException unauthorized() {
+        return new BusinessException(AuthErrorCode.UNAUTHORIZED);
+    }
+}
@@ -4,13 +4,20 @@ import lombok.RequiredArgsConstructor;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 import org.triple.backend.auth.exception.AuthErrorCode;
 import org.triple.backend.global.error.BusinessException;
 import org.triple.backend.global.log.MaskUtil;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -19,22 +26,41 @@ public class JwtAuthenticationInterceptor implements HandlerInterceptor {
     public static final String LOGIN_USER_ID = "LOGIN_USER_ID";
 
     private final JwtManager jwtManager;
+    private final Map<Method, Boolean> loginRequiredByHandler = new ConcurrentHashMap<>();
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void precomputeLoginRequired(ContextRefreshedEvent event) {
+        event.getApplicationContext()
+                .getBeansOfType(RequestMappingHandlerMapping.class)
+                .values()
+                .forEach(mapping -> mapping.getHandlerMethods().values().forEach(this::isLoginRequired));
+        log.debug("@LoginRequired 핸들러 메타데이터 사전 계산 완료 = {}건", loginRequiredByHandler.size());
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
         if (!(handler instanceof HandlerMethod handlerMethod)) return true;
-        if (!hasLoginRequiredAnnotation(handlerMethod)) return true;
+        if (!isLoginRequired(handlerMethod)) return true;
+
+        AuthenticationContext context = AuthenticationContext.find(request);
+        if (context == null) {
+            context = AuthenticationContext.authenticated(requireUserId(request));
+            context.bindTo(request);
+        }
+        if (!context.isAuthenticated()) throw new BusinessException(AuthErrorCode.UNAUTHORIZED);
+        return true;
+    }
 
+    private Long requireUserId(HttpServletRequest request) {
         Long userId = jwtManager.resolveUserId(request.getHeader(AUTHORIZATION_HEADER));
         if (userId == null) throw new BusinessException(AuthErrorCode.UNAUTHORIZED);
         log.debug("토큰 정상, userId 정상적으로 받아옴 = {}", MaskUtil.maskId(userId));
-
-        request.setAttribute(LOGIN_USER_ID, userId);
-        return true;
+        return userId;
     }
 
-    private boolean hasLoginRequiredAnnotation(HandlerMethod handlerMethod) {
-        return handlerMethod.hasMethodAnnotation(LoginRequired.class)
-                || handlerMethod.getBeanType().isAnnotationPresent(LoginRequired.class);
+    private boolean isLoginRequired(HandlerMethod handlerMethod) {
+        return loginRequiredByHandler.computeIfAbsent(handlerMethod.getMethod(), method ->
+                handlerMethod.hasMethodAnnotation(LoginRequired.class)
+                        || handlerMethod.getBeanType().isAnnotationPresent(LoginRequired.class));
     }
 }
@@ -25,4 +25,16 @@ public class JwtCookieWriter {
 
         response.addHeader("Set-Cookie", refreshCookie.toString());
     }
+
+    public void expireRefreshCookie(HttpServletResponse response) {
+        ResponseCookie refreshCookie = ResponseCookie.from(jwtProperties.refreshCookieName(), "")
+                .httpOnly(true)
+                .secure(jwtProperties.refreshCookieSecure())
+                .sameSite(jwtProperties.refreshCookieSameSite())
+                .path(jwtProperties.refreshCookiePath())
+                .maxAge(Duration.ZERO)
+                .build();
+
+        response.addHeader("Set-Cookie", refreshCookie.toString());
+    }
 }
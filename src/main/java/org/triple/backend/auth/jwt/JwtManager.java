@@ -1,11 +1,17 @@
 package org.triple.backend.auth.jwt;
 
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.triple.backend.auth.config.property.AccessTokenFormatProperties;
+import org.triple.backend.auth.config.property.JwtCacheProperties;
 import org.triple.backend.auth.config.property.JwtProperties;
 import org.triple.backend.auth.exception.AuthErrorCode;
 import org.triple.backend.global.error.BusinessException;
@@ -19,20 +25,56 @@ import java.util.Date;
 import java.util.Base64;
 import java.util.UUID;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtManager {
 
     public static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
     private static final String USER_ID = "userId";
     private static final String TOKEN_TYPE = "tokenType";
-    private static final String ACCESS_TYPE = "ACCESS";
-    private static final String REFRESH_TYPE = "REFRESH";
+    static final String ACCESS_TYPE = "ACCESS";
+    static final String REFRESH_TYPE = "REFRESH";
 
     private final JwtProperties jwtProperties;
+    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenFormatProperties accessTokenFormatProperties;
+    private final CompactTokenCodec compactTokenCodec;
+    private final TokenRevocationChecker tokenRevocationChecker;
+
+    public JwtManager(final JwtProperties jwtProperties) {
+        this(jwtProperties, JwtCacheProperties.disabled());
+    }
+
+    public JwtManager(final JwtProperties jwtProperties, final JwtCacheProperties jwtCacheProperties) {
+        this(jwtProperties, jwtCacheProperties, AccessTokenFormatProperties.jwtOnly(), TokenRevocationChecker.NONE);
+    }
+
+    @Autowired
+    public JwtManager(
+            final JwtProperties jwtProperties,
+            final JwtCacheProperties jwtCacheProperties,
+            final AccessTokenFormatProperties accessTokenFormatProperties,
+            final TokenRevocationChecker tokenRevocationChecker
+    ) {
+        this.jwtProperties = jwtProperties;
+        this.verifiedTokenCache = new VerifiedTokenCache(jwtCacheProperties);
+        this.accessTokenFormatProperties = accessTokenFormatProperties;
+        this.tokenRevocationChecker = tokenRevocationChecker;
+        // 키 유도(SHA-256)와 파서 생성은 요청마다 반복할 필요가 없으므로 기동 시 한 번만 수행한다.
+        this.secretKey = Keys.hmacShaKeyFor(hash(jwtProperties.secret()));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.compactTokenCodec = new CompactTokenCodec(secretKey.getEncoded());
+    }
 
     public String createAccessToken(Long userId) {
+        if (accessTokenFormatProperties.format() == AccessTokenFormat.COMPACT) {
+            return compactTokenCodec.issueAccessToken(userId, Instant.now(), jwtProperties.accessTokenExpireSeconds());
+        }
         return createToken(userId, ACCESS_TYPE, jwtProperties.accessTokenExpireSeconds());
     }
 
@@ -41,7 +83,6 @@ public class JwtManager {
     }
 
     private String createToken(Long userId, String tokenType, long expireSeconds) {
-        SecretKey secretKey = secretKey();
         Instant now = Instant.now();
 
         return Jwts.builder()
@@ -55,6 +96,11 @@ public class JwtManager {
     }
 
     public Long resolveUserId(String jwtHeader) {
+        VerifiedToken verifiedToken = resolveAccessToken(jwtHeader);
+        return verifiedToken == null ? null : verifiedToken.userId();
+    }
+
+    public VerifiedToken resolveAccessToken(String jwtHeader) {
         if (jwtHeader == null || jwtHeader.isBlank()) return null;
 
         if (!jwtHeader.startsWith(BEARER_PREFIX)) throw new BusinessException(AuthErrorCode.UNAUTHORIZED);
@@ -63,13 +109,11 @@ public class JwtManager {
 
         if (token.isBlank()) throw new BusinessException(AuthErrorCode.UNAUTHORIZED);
 
-        try {
-            Claims claims = parse(token);
-            validateTokenType(claims, ACCESS_TYPE);
-            return extractUserId(claims);
-        } catch (JwtException | IllegalArgumentException e) {
+        VerifiedToken verifiedToken = verify(token, ACCESS_TYPE);
+        if (tokenRevocationChecker.isRevoked(verifiedToken.jti())) {
             throw new BusinessException(AuthErrorCode.UNAUTHORIZED);
         }
+        return verifiedToken;
     }
 
     public Long resolveUserIdFromRefreshToken(String refreshToken) {
@@ -77,13 +121,7 @@ public class JwtManager {
             throw new BusinessException(AuthErrorCode.UNAUTHORIZED);
         }
 
-        try {
-            Claims claims = parse(refreshToken);
-            validateTokenType(claims, REFRESH_TYPE);
-            return extractUserId(claims);
-        } catch (JwtException | IllegalArgumentException e) {
-            throw new BusinessException(AuthErrorCode.UNAUTHORIZED);
-        }
+        return verify(refreshToken, REFRESH_TYPE).userId();
     }
 
     public String hashToken(String token) {
@@ -93,10 +131,54 @@ public class JwtManager {
         return Base64.getEncoder().encodeToString(hash(token));
     }
 
+    public CacheStats verifiedTokenCacheStats() {
+        return verifiedTokenCache.stats();
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.cache.stats-log-interval:PT5M}")
+    public void logVerifiedTokenCacheStats() {
+        if (!verifiedTokenCache.isEnabled()) return;
+        CacheStats stats = verifiedTokenCache.stats();
+        log.info("verified token cache size={}, hitRate={}, hit={}, miss={}, eviction={}",
+                verifiedTokenCache.estimatedSize(), stats.hitRate(), stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+
+    private VerifiedToken verify(String token, String expectedType) {
+        VerifiedToken verifiedToken = verifiedTokenCache.get(token, this::verifySignature);
+        if (!expectedType.equals(verifiedToken.tokenType())) {
+            throw new BusinessException(AuthErrorCode.UNAUTHORIZED);
+        }
+        return verifiedToken;
+    }
+
+    private VerifiedToken verifySignature(String token) {
+        if (CompactTokenCodec.isCompact(token)) {
+            if (!accessTokenFormatProperties.accepts(AccessTokenFormat.COMPACT)) {
+                throw new BusinessException(AuthErrorCode.UNAUTHORIZED);
+            }
+            return compactTokenCodec.verify(token, Instant.now().getEpochSecond());
+        }
+        return verifyJwt(token);
+    }
+
+    private VerifiedToken verifyJwt(String token) {
+        try {
+            Claims claims = parse(token);
+            Date expiration = claims.getExpiration();
+            if (expiration == null) throw new BusinessException(AuthErrorCode.UNAUTHORIZED);
+
+            String tokenType = extractTokenType(claims);
+            if (ACCESS_TYPE.equals(tokenType) && !accessTokenFormatProperties.accepts(AccessTokenFormat.JWT)) {
+                throw new BusinessException(AuthErrorCode.UNAUTHORIZED);
+            }
+            return new VerifiedToken(extractUserId(claims), tokenType, claims.getId(), expiration.toInstant());
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BusinessException(AuthErrorCode.UNAUTHORIZED);
+        }
+    }
+
     private Claims parse(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey())
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -112,18 +194,12 @@ public class JwtManager {
         throw new BusinessException(AuthErrorCode.UNAUTHORIZED);
     }
 
-    private void validateTokenType(Claims claims, String expectedType) {
+    private String extractTokenType(Claims claims) {
         Object tokenTypeObj = claims.get(TOKEN_TYPE);
         if (!(tokenTypeObj instanceof String tokenType)) {
             throw new BusinessException(AuthErrorCode.UNAUTHORIZED);
         }
-        if (!expectedType.equals(tokenType)) {
-            throw new BusinessException(AuthErrorCode.UNAUTHORIZED);
-        }
-    }
-
-    private SecretKey secretKey() {
-        return Keys.hmacShaKeyFor(hash(jwtProperties.secret()));
+        return tokenType;
     }
 
     private byte[] hash(String secret) {
@@ -41,20 +41,26 @@ public class JwtUserArgumentResolver implements HandlerMethodArgumentResolver {
             return null;
         }
 
-        Object loginUser = request.getAttribute(LOGIN_USER_ID);
-        if (loginUser instanceof Long userId) {
-            log.debug("request attribute userId detected = {}", MaskUtil.maskId(userId));
-            return userId;
+        AuthenticationContext context = AuthenticationContext.find(request);
+        if (context != null) {
+            return context.userId();
         }
 
+        context = resolveContext(request);
+        context.bindTo(request);
+        return context.userId();
+    }
+
+    private AuthenticationContext resolveContext(HttpServletRequest request) {
         try {
             Long userId = jwtManager.resolveUserId(request.getHeader(JwtManager.AUTHORIZATION_HEADER));
-            if (userId != null) {
-                log.debug("authorization header userId detected = {}", MaskUtil.maskId(userId));
+            if (userId == null) {
+                return AuthenticationContext.anonymous();
             }
-            return userId;
+            log.debug("authorization header userId detected = {}", MaskUtil.maskId(userId));
+            return AuthenticationContext.authenticated(userId);
         } catch (BusinessException e) {
-            return null;
+            return AuthenticationContext.anonymous();
         }
     }
 }
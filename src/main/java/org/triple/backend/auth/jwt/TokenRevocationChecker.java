@@ -0,0 +1,9 @@
+package org.triple.backend.auth.jwt;
+
+@FunctionalInterface
+public interface TokenRevocationChecker {
+
+    TokenRevocationChecker NONE = jti -> false;
+
+    boolean isRevoked(String jti);
+}
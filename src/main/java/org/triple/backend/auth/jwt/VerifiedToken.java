@@ -0,0 +1,11 @@
+package org.triple.backend.auth.jwt;
+
+import java.time.Instant;
+
+public record VerifiedToken(
+        Long userId,
+        String tokenType,
+        String jti,
+        Instant expiresAt
+) {
+}
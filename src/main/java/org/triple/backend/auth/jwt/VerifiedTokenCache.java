@@ -0,0 +1,115 @@
+package org.triple.backend.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.jspecify.annotations.Nullable;
+import org.triple.backend.auth.config.property.JwtCacheProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * 서명 검증이 끝난 토큰의 결과를 보관하는 캐시
+ * 1. 키 : 토큰 원문이 아닌 SHA-256 digest 를 사용해 토큰 자체가 메모리에 남지 않게 함
+ * 2. 만료 : 항목마다 토큰의 exp 까지만 유지 (exp 이후에는 반드시 다시 검증)
+ * 3. 크기 : maximumSize 초과 시 Caffeine 정책에 따라 제거
+ * 비활성화 시 매번 검증 함수를 그대로 호출함
+ */
+public class VerifiedTokenCache {
+
+    private final @Nullable Cache<String, VerifiedToken> cache;
+    private final Clock clock;
+
+    public VerifiedTokenCache(final JwtCacheProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    public VerifiedTokenCache(final JwtCacheProperties properties, final Clock clock) {
+        this.clock = clock;
+        this.cache = properties.enabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(properties.maximumSize())
+                        .expireAfter(new UntilTokenExpiry(clock))
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    public VerifiedToken get(final String token, final Function<String, VerifiedToken> verifier) {
+        if (cache == null) {
+            return verifier.apply(token);
+        }
+        String tokenDigest = digest(token);
+        VerifiedToken cached = cache.getIfPresent(tokenDigest);
+        if (cached != null && cached.expiresAt().isAfter(clock.instant())) {
+            return cached;
+        }
+        VerifiedToken verified = verifier.apply(token);
+        if (verified.expiresAt().isAfter(clock.instant())) {
+            cache.put(tokenDigest, verified);
+        }
+        return verified;
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    public CacheStats stats() {
+        return cache == null ? CacheStats.empty() : cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache == null ? 0 : cache.estimatedSize();
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hashed = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("JWT cache digest initialization failed.", e);
+        }
+    }
+
+    private record UntilTokenExpiry(Clock clock) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return remainingNanos(value.expiresAt());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return remainingNanos(value.expiresAt());
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long remainingNanos(Instant expiresAt) {
+            Duration remaining = Duration.between(clock.instant(), expiresAt);
+            if (remaining.isNegative()) {
+                return 0;
+            }
+            return remaining.toNanos();
+        }
+    }
+}
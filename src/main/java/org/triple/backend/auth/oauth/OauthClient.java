@@ -1,6 +1,9 @@
 package org.triple.backend.auth.oauth;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface OauthClient {
     OauthProvider provider();
     OauthUser fetchUser(String code);
+    CompletableFuture<OauthUser> fetchUserAsync(String code);
 }
@@ -0,0 +1,20 @@
+package org.triple.backend.auth.oauth;
+
+public record OauthIdentity(OauthProvider provider, String providerId) {
+
+    public static OauthIdentity from(OauthUser oauthUser) {
+        return new OauthIdentity(oauthUser.provider(), oauthUser.providerId());
+    }
+
+    public String cacheKey() {
+        return provider.name() + ":" + providerId;
+    }
+
+    public static OauthIdentity fromCacheKey(String cacheKey) {
+        int separator = cacheKey.indexOf(':');
+        return new OauthIdentity(
+                OauthProvider.valueOf(cacheKey.substring(0, separator)),
+                cacheKey.substring(separator + 1)
+        );
+    }
+}
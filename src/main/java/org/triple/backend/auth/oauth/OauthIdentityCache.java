@@ -0,0 +1,49 @@
+package org.triple.backend.auth.oauth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.triple.backend.global.cache.CacheInvalidationBus;
+
+import java.time.Duration;
+
+/**
+ * (provider, providerId) -> userId 캐시
+ * 재로그인 시 users 테이블의 (provider, provider_id) 조회를 건너뛰고 PK 조회만 하도록 함
+ * 존재하는 사용자만 저장하며(미스는 저장하지 않음), 사용자가 사라지면 invalidate 로 모든 노드에서 제거함
+ */
+@Component
+public class OauthIdentityCache {
+
+    static final String CACHE_NAME = "oauth-identity";
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Cache<OauthIdentity, Long> cache = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofHours(12))
+            .build();
+
+    public OauthIdentityCache() {
+        this(CacheInvalidationBus.local());
+    }
+
+    @Autowired
+    public OauthIdentityCache(final CacheInvalidationBus cacheInvalidationBus) {
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        cacheInvalidationBus.register(CACHE_NAME, key -> cache.invalidate(OauthIdentity.fromCacheKey(key)));
+    }
+
+    public Long find(OauthIdentity identity) {
+        return cache.getIfPresent(identity);
+    }
+
+    public void save(OauthIdentity identity, Long userId) {
+        cache.put(identity, userId);
+    }
+
+    public void invalidate(OauthIdentity identity) {
+        cache.invalidate(identity);
+        cacheInvalidationBus.publish(CACHE_NAME, identity.cacheKey());
+    }
+}
@@ -1,11 +1,8 @@
 package org.triple.backend.auth.oauth.kakao;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -14,11 +11,14 @@ import org.triple.backend.auth.dto.response.KakaoTokenResponseDto;
 import org.triple.backend.auth.dto.response.KakaoUserInfoResponseDto;
 import org.triple.backend.auth.exception.AuthErrorCode;
 import org.triple.backend.auth.exception.OauthTransientException;
-import org.springframework.retry.annotation.Backoff;
 import org.triple.backend.global.error.BusinessException;
 import org.triple.backend.auth.config.property.KakaoOauthProperties;
 
-@Slf4j
+/**
+ * 카카오 API 단건 호출
+ * 5xx / 네트워크 오류는 OauthTransientException, 4xx 는 BusinessException 으로 구분만 하고
+ * 재시도 / 차단 / 동시 호출 제한은 OauthCallExecutor 에서 처리함
+ */
 @Component
 @RequiredArgsConstructor
 public class KakaoApiCaller {
@@ -26,11 +26,6 @@ public class KakaoApiCaller {
     private final KakaoOauthProperties props;
     private final RestClient restClient;
 
-    @Retryable(
-            retryFor = {OauthTransientException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 300, multiplier = 2.0, maxDelay = 3000)
-    )
     public String requestAccessToken(final String code) {
         try {
             MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
@@ -66,11 +61,6 @@ public class KakaoApiCaller {
         }
     }
 
-    @Retryable(
-            retryFor = {OauthTransientException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 300, multiplier = 2.0, maxDelay = 3000)
-    )
     public KakaoUserInfoResponseDto requestUserInfo(final String accessToken) {
         try {
             KakaoUserInfoResponseDto kakaoUserInfoResponseDto = restClient.get()
@@ -97,30 +87,4 @@ public class KakaoApiCaller {
             throw new OauthTransientException("Kakao userInfo API 호출 실패", e);
         }
     }
-
-    @Recover
-    public String recoverAccessToken(OauthTransientException e, String code) {
-        log.error(
-                "Kakao OAuth access token 요청 재시도 실패, provider={}, tokenUri={}, causeType={}, message={}",
-                "KAKAO",
-                props.tokenUri(),
-                (e.getCause() != null ? e.getCause().getClass().getSimpleName() : e.getClass().getSimpleName()),
-                e.getMessage(),
-                e
-        );
-        throw new BusinessException(AuthErrorCode.FAILED_ISSUE_KAKAO_ACCESS_TOKEN);
-    }
-
-    @Recover
-    public KakaoUserInfoResponseDto recoverUserInfo(OauthTransientException e, String accessToken) {
-        log.error(
-                "Kakao OAuth 유저 정보요청 재시도 실패, provider={}, userInfoUri={}, causeType={}, message={}",
-                "KAKAO",
-                props.userInfoUri(),
-                (e.getCause() != null ? e.getCause().getClass().getSimpleName() : e.getClass().getSimpleName()),
-                e.getMessage(),
-                e
-        );
-        throw new BusinessException(AuthErrorCode.FAILED_FIND_KAKAO_USER_INFO);
-    }
 }
@@ -3,9 +3,13 @@ package org.triple.backend.auth.oauth.kakao;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.triple.backend.auth.dto.response.KakaoUserInfoResponseDto;
+import org.triple.backend.auth.exception.AuthErrorCode;
 import org.triple.backend.auth.oauth.OauthClient;
 import org.triple.backend.auth.oauth.OauthProvider;
 import org.triple.backend.auth.oauth.OauthUser;
+import org.triple.backend.auth.oauth.resilience.OauthCallExecutor;
+
+import java.util.concurrent.CompletableFuture;
 
 import static org.triple.backend.auth.dto.response.KakaoUserInfoResponseDto.KakaoAccount;
 import static org.triple.backend.auth.dto.response.KakaoUserInfoResponseDto.KakaoProfile;
@@ -15,6 +19,7 @@ import static org.triple.backend.auth.dto.response.KakaoUserInfoResponseDto.Kaka
 public class KakaoOauthClient implements OauthClient {
 
     private final KakaoApiCaller kakaoApiCaller;
+    private final OauthCallExecutor oauthCallExecutor;
 
     @Override
     public OauthProvider provider() {
@@ -23,9 +28,36 @@ public class KakaoOauthClient implements OauthClient {
 
     @Override
     public OauthUser fetchUser(final String code) {
-        String accessToken = kakaoApiCaller.requestAccessToken(code);
-        KakaoUserInfoResponseDto dto = kakaoApiCaller.requestUserInfo(accessToken);
+        return oauthCallExecutor.await(fetchUserAsync(code));
+    }
+
+    @Override
+    public CompletableFuture<OauthUser> fetchUserAsync(final String code) {
+        CompletableFuture<OauthUser> user = new CompletableFuture<>();
+        oauthCallExecutor.submit(
+                        provider(),
+                        () -> kakaoApiCaller.requestAccessToken(code),
+                        AuthErrorCode.FAILED_ISSUE_KAKAO_ACCESS_TOKEN,
+                        user
+                )
+                .thenCompose(accessToken -> oauthCallExecutor.submit(
+                        provider(),
+                        () -> kakaoApiCaller.requestUserInfo(accessToken),
+                        AuthErrorCode.FAILED_FIND_KAKAO_USER_INFO,
+                        user
+                ))
+                .thenApply(this::toOauthUser)
+                .whenComplete((value, e) -> {
+                    if (e != null) {
+                        user.completeExceptionally(e);
+                        return;
+                    }
+                    user.complete(value);
+                });
+        return user;
+    }
 
+    private OauthUser toOauthUser(final KakaoUserInfoResponseDto dto) {
         String providerId = dto.id();
         KakaoAccount account = dto.kakaoAccount();
         KakaoProfile profile = account != null ? account.profile() : null;
@@ -0,0 +1,241 @@
+package org.triple.backend.auth.oauth.resilience;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.triple.backend.auth.config.property.OauthResilienceProperties;
+import org.triple.backend.auth.exception.AuthErrorCode;
+import org.triple.backend.auth.exception.OauthTransientException;
+import org.triple.backend.auth.oauth.OauthProvider;
+import org.triple.backend.global.error.BusinessException;
+import org.triple.backend.global.error.ErrorCode;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * OAuth 프로바이더 호출 전용 실행기
+ * 1. 격리 : 크기가 고정된 전용 스레드 풀에서 호출하여 Tomcat 요청 스레드가 프로바이더 I/O 를 직접 수행하지 않음
+ * 2. bulkhead : 프로바이더별 동시 호출 수를 Semaphore 로 제한하고, 초과 시 대기하지 않고 바로 거절
+ * 3. circuit breaker : 프로바이더별 실패율이 높으면 일정 시간 호출 없이 바로 실패
+ * 4. 재시도 : OauthTransientException 일 때만 지수 백오프로 재시도. 대기는 delayedExecutor 예약으로 처리하여 스레드를 재우지 않음
+ * 5. 취소 : 호출자가 시간 초과로 결과를 버리면 남은 재시도를 예약하지 않고 bulkhead 를 바로 반환함
+ * 거절 / 차단 / 시간 초과는 OAUTH_PROVIDER_UNAVAILABLE, 재시도 소진은 호출자가 넘긴 ErrorCode 로 실패함
+ */
+@Slf4j
+@Component
+public class OauthCallExecutor {
+
+    private final OauthResilienceProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Map<OauthProvider, OauthCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final Map<OauthProvider, Semaphore> bulkheads = new ConcurrentHashMap<>();
+
+    public OauthCallExecutor(final OauthResilienceProperties properties) {
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(
+                properties.threads(),
+                properties.threads(),
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(Math.max(properties.maxConcurrentCalls(), properties.threads())),
+                daemonThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public <T> CompletableFuture<T> submit(OauthProvider provider, Supplier<T> call, ErrorCode exhaustedErrorCode) {
+        return submit(provider, call, exhaustedErrorCode, null);
+    }
+
+    /**
+     * owner 가 먼저 끝나면(호출자 시간 초과로 취소 등) 이 호출도 실패로 완료하여 예약된 재시도를 멈춘다.
+     * 여러 호출을 이어 붙일 때는 모두 같은 owner 를 넘기고 owner 를 결과로 돌려주면, await 의 취소가 내부 호출까지 전파된다.
+     */
+    public <T> CompletableFuture<T> submit(
+            OauthProvider provider,
+            Supplier<T> call,
+            ErrorCode exhaustedErrorCode,
+            CompletableFuture<?> owner
+    ) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        if (owner != null) {
+            owner.whenComplete((ignored, e) -> result.completeExceptionally(unavailable()));
+        }
+        attempt(provider, call, exhaustedErrorCode, 1, result);
+        return result;
+    }
+
+    /**
+     * call-timeout 까지만 결과를 기다린다. 비동기 단계에서 발생한 예외는 원래 예외로 풀어서 던진다.
+     */
+    public <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(properties.callTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw unavailable();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw unavailable();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    public OauthCircuitBreaker.State circuitState(OauthProvider provider) {
+        return circuitBreaker(provider).state();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> void attempt(
+            OauthProvider provider,
+            Supplier<T> call,
+            ErrorCode exhaustedErrorCode,
+            int attempt,
+            CompletableFuture<T> result
+    ) {
+        if (result.isDone()) return;
+
+        Semaphore bulkhead = bulkhead(provider);
+        if (!bulkhead.tryAcquire()) {
+            log.warn("OAuth bulkhead 포화 provider = {}", provider);
+            result.completeExceptionally(unavailable());
+            return;
+        }
+
+        OauthCircuitBreaker circuitBreaker = circuitBreaker(provider);
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            result.completeExceptionally(unavailable());
+            return;
+        }
+
+        try {
+            executor.execute(() -> run(provider, call, exhaustedErrorCode, attempt, result, bulkhead, circuitBreaker));
+        } catch (RejectedExecutionException e) {
+            bulkhead.release();
+            circuitBreaker.releasePermission();
+            result.completeExceptionally(unavailable());
+        }
+    }
+
+    private <T> void run(
+            OauthProvider provider,
+            Supplier<T> call,
+            ErrorCode exhaustedErrorCode,
+            int attempt,
+            CompletableFuture<T> result,
+            Semaphore bulkhead,
+            OauthCircuitBreaker circuitBreaker
+    ) {
+        if (result.isDone()) {
+            bulkhead.release();
+            circuitBreaker.releasePermission();
+            return;
+        }
+
+        T value;
+        try {
+            value = call.get();
+        } catch (OauthTransientException e) {
+            bulkhead.release();
+            circuitBreaker.onFailure();
+            retryOrFail(provider, call, exhaustedErrorCode, attempt, result, e);
+            return;
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            circuitBreaker.onSuccess();
+            result.completeExceptionally(e);
+            return;
+        }
+
+        bulkhead.release();
+        circuitBreaker.onSuccess();
+        result.complete(value);
+    }
+
+    private <T> void retryOrFail(
+            OauthProvider provider,
+            Supplier<T> call,
+            ErrorCode exhaustedErrorCode,
+            int attempt,
+            CompletableFuture<T> result,
+            OauthTransientException cause
+    ) {
+        if (attempt >= properties.maxAttempts()) {
+            log.error(
+                    "OAuth 호출 재시도 실패, provider={}, attempts={}, causeType={}, message={}",
+                    provider,
+                    attempt,
+                    (cause.getCause() != null ? cause.getCause().getClass().getSimpleName() : cause.getClass().getSimpleName()),
+                    cause.getMessage(),
+                    cause
+            );
+            result.completeExceptionally(new BusinessException(exhaustedErrorCode));
+            return;
+        }
+
+        Executor delayed = CompletableFuture.delayedExecutor(backoffMillis(attempt), TimeUnit.MILLISECONDS, Runnable::run);
+        delayed.execute(() -> attempt(provider, call, exhaustedErrorCode, attempt + 1, result));
+    }
+
+    private long backoffMillis(int attempt) {
+        double delay = properties.initialBackoff().toMillis() * Math.pow(properties.backoffMultiplier(), attempt - 1);
+        return (long) Math.min(delay, properties.maxBackoff().toMillis());
+    }
+
+    private OauthCircuitBreaker circuitBreaker(OauthProvider provider) {
+        return circuitBreakers.computeIfAbsent(provider, ignored -> new OauthCircuitBreaker(
+                properties.failureRateThreshold(),
+                properties.slidingWindowSize(),
+                properties.minimumNumberOfCalls(),
+                properties.openDuration(),
+                properties.halfOpenPermittedCalls()
+        ));
+    }
+
+    private Semaphore bulkhead(OauthProvider provider) {
+        return bulkheads.computeIfAbsent(provider, ignored -> new Semaphore(properties.maxConcurrentCalls()));
+    }
+
+    private static RuntimeException unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) return runtimeException;
+        return unavailable();
+    }
+
+    private static BusinessException unavailable() {
+        return new BusinessException(AuthErrorCode.OAUTH_PROVIDER_UNAVAILABLE);
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "oauth-call-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,139 @@
+package org.triple.backend.auth.oauth.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 횟수 기반 circuit breaker
+ * 1. CLOSED : 최근 slidingWindowSize 건 중 실패율이 임계치를 넘으면 OPEN
+ * 2. OPEN : openDuration 동안 호출을 바로 거절하고, 이후 첫 호출 시 HALF_OPEN 으로 전환
+ * 3. HALF_OPEN : halfOpenPermittedCalls 건만 통과시켜 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * 실패는 프로바이더 장애(5xx, 타임아웃, 연결 실패)만 집계하며, 4xx 같은 요청 오류는 성공으로 본다.
+ */
+public class OauthCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final double failureRateThreshold;
+    private final int minimumNumberOfCalls;
+    private final int halfOpenPermittedCalls;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] outcomes;
+    private int nextIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+
+    public OauthCircuitBreaker(
+            double failureRateThreshold,
+            int slidingWindowSize,
+            int minimumNumberOfCalls,
+            Duration openDuration,
+            int halfOpenPermittedCalls
+    ) {
+        this(failureRateThreshold, slidingWindowSize, minimumNumberOfCalls, openDuration, halfOpenPermittedCalls, System::nanoTime);
+    }
+
+    public OauthCircuitBreaker(
+            double failureRateThreshold,
+            int slidingWindowSize,
+            int minimumNumberOfCalls,
+            Duration openDuration,
+            int halfOpenPermittedCalls,
+            LongSupplier nanoClock
+    ) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.outcomes = new boolean[slidingWindowSize];
+        this.minimumNumberOfCalls = Math.min(minimumNumberOfCalls, slidingWindowSize);
+        this.halfOpenPermittedCalls = halfOpenPermittedCalls;
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) return false;
+            state = State.HALF_OPEN;
+            halfOpenInFlight = 0;
+            halfOpenSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= halfOpenPermittedCalls) return false;
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    /**
+     * 허가를 받았지만 호출하지 못한 경우 HALF_OPEN 시도 슬롯을 돌려준다.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        switch (state) {
+            case OPEN -> {
+            }
+            case HALF_OPEN -> {
+                if (++halfOpenSucceeded >= halfOpenPermittedCalls) close();
+            }
+            case CLOSED -> record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        switch (state) {
+            case OPEN -> {
+            }
+            case HALF_OPEN -> open();
+            case CLOSED -> {
+                record(true);
+                if (recordedCalls >= minimumNumberOfCalls
+                        && failedCalls * 100.0 / recordedCalls >= failureRateThreshold) {
+                    open();
+                }
+            }
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == outcomes.length) {
+            if (outcomes[nextIndex]) failedCalls--;
+        } else {
+            recordedCalls++;
+        }
+        outcomes[nextIndex] = failed;
+        if (failed) failedCalls++;
+        nextIndex = (nextIndex + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+        resetWindow();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        nextIndex = 0;
+        recordedCalls = 0;
+        failedCalls = 0;
+    }
+}
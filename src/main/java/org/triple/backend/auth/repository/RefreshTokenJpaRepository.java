@@ -1,11 +1,45 @@
 package org.triple.backend.auth.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 import org.triple.backend.auth.entity.RefreshToken;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenJpaRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findTopByUserIdOrderByIdDesc(Long userId);
-    void deleteByUserId(Long userId);
+
+    Optional<RefreshToken> findByUserId(Long userId);
+
+    /**
+     * 저장된 해시가 현재 토큰과 같고 만료되지 않은 경우에만 제자리에서 교체한다.
+     * 0 을 반환하면 이미 교체되었거나(재사용) 만료 / 위조된 토큰이다.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE RefreshToken r
+               SET r.tokenHash = :nextTokenHash, r.expiresAt = :nextExpiresAt, r.updatedAt = :now
+             WHERE r.userId = :userId AND r.tokenHash = :currentTokenHash AND r.expiresAt > :now
+            """)
+    int rotate(Long userId, String currentTokenHash, String nextTokenHash, LocalDateTime nextExpiresAt, LocalDateTime now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM RefreshToken r WHERE r.userId = :userId")
+    int deleteByUserId(Long userId);
+
+    @Query("SELECT r.id FROM RefreshToken r WHERE r.expiresAt <= :now ORDER BY r.id ASC")
+    List<Long> findExpiredIds(LocalDateTime now, Pageable pageable);
+
+    /**
+     * id 를 고른 뒤 로그인으로 같은 행이 새 토큰으로 교체될 수 있으므로, 삭제 시점에도 만료 여부를 다시 확인한다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM RefreshToken r WHERE r.id IN :ids AND r.expiresAt <= :now")
+    int deleteExpiredByIdIn(Collection<Long> ids, LocalDateTime now);
 }
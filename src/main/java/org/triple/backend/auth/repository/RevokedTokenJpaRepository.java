@@ -0,0 +1,27 @@
+package org.triple.backend.auth.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.triple.backend.auth.entity.RevokedToken;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenJpaRepository extends JpaRepository<RevokedToken, Long> {
+
+    boolean existsByJti(String jti);
+
+    @Query("SELECT r FROM RevokedToken r WHERE r.id > :lastId AND r.expiresAt > :now ORDER BY r.id ASC")
+    List<RevokedToken> findActiveAfterId(Long lastId, LocalDateTime now);
+
+    /**
+     * 커밋이 늦어 id 커서보다 작은 id 로 나중에 보이는 행을 다시 읽기 위한 조회
+     */
+    @Query("SELECT r FROM RevokedToken r WHERE r.createdAt >= :since AND r.expiresAt > :now")
+    List<RevokedToken> findActiveCreatedSince(LocalDateTime since, LocalDateTime now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(LocalDateTime now);
+}
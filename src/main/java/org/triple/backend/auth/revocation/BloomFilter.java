@@ -0,0 +1,73 @@
+package org.triple.backend.auth.revocation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 전용 Bloom filter
+ * false positive 는 있을 수 있지만 false negative 는 없으므로, mightContain 이 false 면 확실히 없는 값이다.
+ * 삭제를 지원하지 않으므로 만료 항목 정리 시에는 새로 만들어 교체한다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    public BloomFilter(final long expectedInsertions, final double falsePositiveProbability) {
+        long insertions = Math.max(1, expectedInsertions);
+        long optimalBits = (long) (-insertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / insertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitSize;
+            setBit(index);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitSize;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) return;
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private static long hash(String value) {
+        // FNV-1a 64bit 후 murmur3 finalizer 로 비트를 섞는다.
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,124 @@
+package org.triple.backend.auth.revocation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.triple.backend.auth.entity.RevokedToken;
+import org.triple.backend.auth.jwt.TokenRevocationChecker;
+import org.triple.backend.auth.repository.RevokedTokenJpaRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 액세스 토큰(jti) 저장소
+ * 1. 조회 : Bloom filter 로 먼저 거르고, 양성일 때만 정확한 Set(Map) 을 확인함 (요청마다 DB 조회 없음)
+ * 2. 저장 : revoked_token 테이블에 기록하고, 커밋된 뒤에 메모리에 반영 (롤백되면 반영하지 않음)
+ * 3. 동기화 : 기동 시 테이블 전체(미만료)로 재구성하고, 이후 마지막으로 읽은 id 이후 행을 주기적으로 반영 (다른 노드의 폐기 포함)
+ *    IDENTITY id 는 커밋 순서와 다를 수 있으므로 최근 lookback 구간에 생성된 행도 함께 다시 읽음 (반영은 멱등)
+ * 4. 정리 : 만료된 행/항목을 주기적으로 삭제하고 Bloom filter 를 새로 만들어 교체
+ */
+@Slf4j
+@Component
+public class RevokedTokenRegistry implements TokenRevocationChecker {
+
+    private static final long EXPECTED_INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.001;
+
+    private final RevokedTokenJpaRepository revokedTokenJpaRepository;
+    private final Map<String, LocalDateTime> revokedJtis = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter = newBloomFilter();
+    private final Duration lookback;
+    private volatile long lastSyncedId = 0L;
+
+    public RevokedTokenRegistry(
+            final RevokedTokenJpaRepository revokedTokenJpaRepository,
+            @Value("${security.jwt.revocation.lookback:PT1M}") final Duration lookback
+    ) {
+        this.revokedTokenJpaRepository = revokedTokenJpaRepository;
+        this.lookback = lookback;
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) return false;
+
+        LocalDateTime expiresAt = revokedJtis.get(jti);
+        return expiresAt != null && expiresAt.isAfter(LocalDateTime.now());
+    }
+
+    @Transactional
+    public void revoke(String jti, Long userId, LocalDateTime expiresAt) {
+        if (jti == null || !expiresAt.isAfter(LocalDateTime.now())) return;
+
+        if (!revokedTokenJpaRepository.existsByJti(jti)) {
+            revokedTokenJpaRepository.save(RevokedToken.create(jti, userId, expiresAt));
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(jti, expiresAt);
+                }
+            });
+        } else {
+            remember(jti, expiresAt);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        revokedJtis.clear();
+        lastSyncedId = 0L;
+        bloomFilter = newBloomFilter();
+        syncFromTable();
+        log.info("폐기 토큰 목록 재구성 완료 = {}건", revokedJtis.size());
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.sync-interval:PT10S}")
+    @Transactional(readOnly = true)
+    public void syncFromTable() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> revokedTokens = new ArrayList<>(revokedTokenJpaRepository.findActiveCreatedSince(now.minus(lookback), now));
+        revokedTokens.addAll(revokedTokenJpaRepository.findActiveAfterId(lastSyncedId, now));
+        for (RevokedToken revokedToken : revokedTokens) {
+            remember(revokedToken.getJti(), revokedToken.getExpiresAt());
+            lastSyncedId = Math.max(lastSyncedId, revokedToken.getId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.sweep-interval:PT10M}")
+    @Transactional
+    public void sweepExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = revokedTokenJpaRepository.deleteExpired(now);
+        revokedJtis.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+
+        BloomFilter rebuilt = newBloomFilter();
+        revokedJtis.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        // 교체 직전에 추가된 항목이 빠지지 않도록 한 번 더 반영한다.
+        revokedJtis.keySet().forEach(rebuilt::put);
+        log.debug("만료된 폐기 토큰 정리 = {}건, 남은 항목 = {}건", deleted, revokedJtis.size());
+    }
+
+    private void remember(String jti, LocalDateTime expiresAt) {
+        revokedJtis.put(jti, expiresAt);
+        bloomFilter.put(jti);
+    }
+
+    private static BloomFilter newBloomFilter() {
+        return new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+    }
+}
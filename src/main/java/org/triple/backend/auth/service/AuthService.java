@@ -5,8 +5,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.triple.backend.auth.config.property.JwtProperties;
 import org.triple.backend.auth.crypto.UuidToUserIdCache;
 import org.triple.backend.auth.dto.request.AuthLoginRequestDto;
@@ -15,17 +18,24 @@ import org.triple.backend.auth.entity.RefreshToken;
 import org.triple.backend.auth.exception.AuthErrorCode;
 import org.triple.backend.auth.jwt.JwtCookieWriter;
 import org.triple.backend.auth.jwt.JwtManager;
+import org.triple.backend.auth.jwt.VerifiedToken;
 import org.triple.backend.auth.oauth.OauthClient;
+import org.triple.backend.auth.oauth.OauthIdentity;
+import org.triple.backend.auth.oauth.OauthIdentityCache;
 import org.triple.backend.auth.oauth.OauthProvider;
 import org.triple.backend.auth.oauth.OauthUser;
 import org.triple.backend.auth.repository.RefreshTokenJpaRepository;
+import org.triple.backend.auth.revocation.RevokedTokenRegistry;
+import org.triple.backend.global.concurrent.SingleFlight;
 import org.triple.backend.global.error.BusinessException;
 import org.triple.backend.global.log.MaskUtil;
 import org.triple.backend.user.entity.User;
 import org.triple.backend.user.repository.UserJpaRepository;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -40,6 +50,10 @@ public class AuthService {
     private final JwtManager jwtManager;
     private final JwtCookieWriter jwtCookieWriter;
     private final JwtProperties jwtProperties;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final OauthIdentityCache oauthIdentityCache;
+    private final PlatformTransactionManager transactionManager;
+    private final SingleFlight<OauthIdentity, LoginSession> loginSingleFlight = new SingleFlight<>();
 
     public OauthUser authenticate(AuthLoginRequestDto authLoginRequestDto) {
         OauthClient client = clients.get(authLoginRequestDto.provider());
@@ -50,22 +64,23 @@ public class AuthService {
         return client.fetchUser(authLoginRequestDto.code());
     }
 
-    @Transactional
+    /**
+     * 같은 (provider, providerId) 로 동시에 들어온 로그인은 한 번만 조회 / 가입 / 토큰 발급하고 결과를 공유한다.
+     * 다른 노드와 동시에 가입해 unique 제약에 걸리면 새 트랜잭션에서 한 번 더 조회한다.
+     */
     public AuthLoginResponseDto findOrCreate(OauthUser oauthUser, HttpServletResponse response) {
-        User user = userJpaRepository.findByProviderAndProviderId(oauthUser.provider(), oauthUser.providerId())
-                .orElseGet(() -> signup(oauthUser));
-
-        user.assignPublicUuidIfAbsent();
-        uuidToUserIdCache.save(user.getPublicUuid(), user.getId());
-        log.debug("user session initialized: {}", MaskUtil.maskString(user.getPublicUuid().toString()));
-
-        String accessToken = jwtManager.createAccessToken(user.getId());
-        String refreshToken = jwtManager.createRefreshToken(user.getId());
-        replaceRefreshToken(user.getId(), refreshToken);
+        LoginSession loginSession = loginSingleFlight.execute(OauthIdentity.from(oauthUser), () -> {
+            try {
+                return issueLoginSession(oauthUser);
+            } catch (DataIntegrityViolationException e) {
+                log.debug("concurrent signup detected, retrying lookup");
+                return issueLoginSession(oauthUser);
+            }
+        });
 
-        response.setHeader(JwtManager.AUTHORIZATION_HEADER, BEARER_PREFIX + accessToken);
-        jwtCookieWriter.writeRefreshCookie(response, refreshToken);
-        return AuthLoginResponseDto.from(user);
+        response.setHeader(JwtManager.AUTHORIZATION_HEADER, BEARER_PREFIX + loginSession.accessToken());
+        jwtCookieWriter.writeRefreshCookie(response, loginSession.refreshToken());
+        return loginSession.profile();
     }
 
     @Transactional
@@ -73,18 +88,28 @@ public class AuthService {
         String refreshToken = resolveRefreshTokenFromCookie(request);
         Long userId = jwtManager.resolveUserIdFromRefreshToken(refreshToken);
 
-        RefreshToken storedRefreshToken = refreshTokenJpaRepository.findTopByUserIdOrderByIdDesc(userId)
-                .orElseThrow(this::unauthorized);
-        validateStoredRefreshToken(storedRefreshToken, refreshToken);
-
         String nextAccessToken = jwtManager.createAccessToken(userId);
         String nextRefreshToken = jwtManager.createRefreshToken(userId);
-        replaceRefreshToken(userId, nextRefreshToken);
+        rotateRefreshToken(userId, refreshToken, nextRefreshToken);
 
         response.setHeader(JwtManager.AUTHORIZATION_HEADER, BEARER_PREFIX + nextAccessToken);
         jwtCookieWriter.writeRefreshCookie(response, nextRefreshToken);
     }
 
+    @Transactional
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        VerifiedToken accessToken = jwtManager.resolveAccessToken(request.getHeader(JwtManager.AUTHORIZATION_HEADER));
+        if (accessToken == null) {
+            throw unauthorized();
+        }
+
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(accessToken.expiresAt(), ZoneId.systemDefault());
+        revokedTokenRegistry.revoke(accessToken.jti(), accessToken.userId(), expiresAt);
+        refreshTokenJpaRepository.deleteByUserId(accessToken.userId());
+        jwtCookieWriter.expireRefreshCookie(response);
+        log.debug("logout completed: {}", MaskUtil.maskId(accessToken.userId()));
+    }
+
     private String resolveRefreshTokenFromCookie(HttpServletRequest request) {
         Cookie[] cookies = request.getCookies();
         if (cookies == null) {
@@ -106,25 +131,65 @@ public class AuthService {
         throw unauthorized();
     }
 
-    private void validateStoredRefreshToken(RefreshToken storedRefreshToken, String refreshToken) {
-        String tokenHash = storedRefreshToken.getTokenHash();
-        if (tokenHash == null || !tokenHash.equals(jwtManager.hashToken(refreshToken))) {
-            throw unauthorized();
-        }
-
-        LocalDateTime expiresAt = storedRefreshToken.getExpiresAt();
-        if (expiresAt == null || expiresAt.isBefore(LocalDateTime.now())) {
+    /**
+     * 해시 비교와 만료 확인을 조건부 UPDATE 한 번으로 처리한다.
+     * 동시에 같은 리프레시 토큰으로 요청하면 한 요청만 교체에 성공한다.
+     */
+    private void rotateRefreshToken(Long userId, String currentRefreshToken, String nextRefreshToken) {
+        LocalDateTime now = LocalDateTime.now();
+        int rotated = refreshTokenJpaRepository.rotate(
+                userId,
+                jwtManager.hashToken(currentRefreshToken),
+                jwtManager.hashToken(nextRefreshToken),
+                now.plusSeconds(jwtProperties.refreshTokenExpireSeconds()),
+                now
+        );
+        if (rotated == 0) {
             throw unauthorized();
         }
     }
 
-    private void replaceRefreshToken(Long userId, String refreshToken) {
+    private void saveRefreshToken(Long userId, String refreshToken) {
         String tokenHash = jwtManager.hashToken(refreshToken);
         LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(jwtProperties.refreshTokenExpireSeconds());
 
-        refreshTokenJpaRepository.deleteByUserId(userId);
-        RefreshToken nextRefreshToken = RefreshToken.create(userId, tokenHash, expiresAt);
-        refreshTokenJpaRepository.save(nextRefreshToken);
+        refreshTokenJpaRepository.findByUserId(userId)
+                .ifPresentOrElse(
+                        stored -> stored.rotate(tokenHash, expiresAt),
+                        () -> refreshTokenJpaRepository.save(RefreshToken.create(userId, tokenHash, expiresAt))
+                );
+    }
+
+    private LoginSession issueLoginSession(OauthUser oauthUser) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            User user = findOrSignup(oauthUser);
+
+            user.assignPublicUuidIfAbsent();
+            uuidToUserIdCache.save(user.getPublicUuid(), user.getId());
+            log.debug("user session initialized: {}", MaskUtil.maskString(user.getPublicUuid().toString()));
+
+            String accessToken = jwtManager.createAccessToken(user.getId());
+            String refreshToken = jwtManager.createRefreshToken(user.getId());
+            saveRefreshToken(user.getId(), refreshToken);
+            return new LoginSession(AuthLoginResponseDto.from(user), accessToken, refreshToken);
+        });
+    }
+
+    private User findOrSignup(OauthUser oauthUser) {
+        OauthIdentity identity = OauthIdentity.from(oauthUser);
+        Long cachedUserId = oauthIdentityCache.find(identity);
+        if (cachedUserId != null) {
+            Optional<User> cachedUser = userJpaRepository.findById(cachedUserId);
+            if (cachedUser.isPresent()) {
+                return cachedUser.get();
+            }
+            oauthIdentityCache.invalidate(identity);
+        }
+
+        User user = userJpaRepository.findByProviderAndProviderId(oauthUser.provider(), oauthUser.providerId())
+                .orElseGet(() -> signup(oauthUser));
+        oauthIdentityCache.save(identity, user.getId());
+        return user;
     }
 
     private User signup(final OauthUser oauthUser) {
@@ -142,4 +207,7 @@ public class AuthService {
     private BusinessException unauthorized() {
         return new BusinessException(AuthErrorCode.UNAUTHORIZED);
     }
+
+    private record LoginSession(AuthLoginResponseDto profile, String accessToken, String refreshToken) {
+    }
 }
@@ -21,4 +21,8 @@ public class AuthServiceFacade {
     public void refresh(HttpServletRequest request, HttpServletResponse response) {
         authService.reissueAccessToken(request, response);
     }
+
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        authService.logout(request, response);
+    }
 }
@@ -0,0 +1,54 @@
+package org.triple.backend.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.triple.backend.auth.repository.RefreshTokenJpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 만료된 refresh_token 행 정리
+ * 한 번에 batch-size 건씩 id 로 골라 삭제하고, 배치마다 트랜잭션을 끊어 락 보유 시간을 짧게 유지함
+ * 한 번의 실행에서 max-batches 를 넘기면 다음 실행으로 미룸
+ */
+@Slf4j
+@Component
+public class ExpiredRefreshTokenSweeper {
+
+    private final RefreshTokenJpaRepository refreshTokenJpaRepository;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public ExpiredRefreshTokenSweeper(
+            final RefreshTokenJpaRepository refreshTokenJpaRepository,
+            @Value("${security.jwt.refresh-sweep.batch-size:500}") final int batchSize,
+            @Value("${security.jwt.refresh-sweep.max-batches:20}") final int maxBatches
+    ) {
+        this.refreshTokenJpaRepository = refreshTokenJpaRepository;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.refresh-sweep.interval:PT30M}")
+    public int sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Long> expiredIds = refreshTokenJpaRepository.findExpiredIds(now, PageRequest.of(0, batchSize));
+            if (expiredIds.isEmpty()) break;
+
+            deleted += refreshTokenJpaRepository.deleteExpiredByIdIn(expiredIds, now);
+            if (expiredIds.size() < batchSize) break;
+        }
+
+        if (deleted > 0) {
+            log.debug("만료된 리프레시 토큰 정리 = {}건", deleted);
+        }
+        return deleted;
+    }
+}
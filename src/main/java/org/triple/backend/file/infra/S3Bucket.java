@@ -14,4 +14,9 @@ public interface S3Bucket {
     void validateContentType(String mimeType);
 
     String concatUploadPrefix(String uploadedKey);
+
+    /**
+     * concatUploadPrefix 로 만든 URL 에서 객체 key 를 되돌린다. 이 버킷의 URL 이 아니면 null
+     */
+    String extractUploadedKey(String uploadedUrl);
 }
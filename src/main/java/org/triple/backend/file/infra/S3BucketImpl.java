@@ -152,6 +152,15 @@ public class S3BucketImpl implements S3Bucket {
         return s3BucketProp.prefix().getUrlPrefix() + uploadedKey;
     }
 
+    @Override
+    public String extractUploadedKey(String uploadedUrl) {
+        String urlPrefix = s3BucketProp.prefix().getUrlPrefix();
+        if (uploadedUrl == null || !uploadedUrl.startsWith(urlPrefix) || uploadedUrl.length() == urlPrefix.length()) {
+            return null;
+        }
+        return uploadedUrl.substring(urlPrefix.length());
+    }
+
     private PutObjectPresignRequest makePutObjectPresignedRequest(String key, String mimeType) {
         PutObjectRequest putObjectRequest = makePutObjectRequest(key, mimeType);
         return makePutObjectPresignRequest(putObjectRequest);
@@ -0,0 +1,84 @@
+package org.triple.backend.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 로컬 캐시(Caffeine)용 노드 간 무효화 버스
+ * 1. 등록(register) : 캐시 이름별로 키를 제거하는 evictor 를 등록
+ * 2. 발행(publish) : 다른 노드에 키 제거를 요청. 트랜잭션 안이면 커밋 이후에 발행하여 롤백된 변경이 전파되지 않도록 함
+ * 3. 수신 : 전송 계층에서 받은 메시지 중 다른 노드가 발행한 것만 등록된 evictor 로 전달
+ * 발행 노드의 로컬 캐시 반영(put / invalidate)은 각 캐시가 직접 수행한다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Consumer<String>> evictors = new ConcurrentHashMap<>();
+    private final CacheInvalidationTransport transport;
+
+    public CacheInvalidationBus(final CacheInvalidationTransport transport) {
+        this.transport = transport;
+        transport.subscribe(this::receive);
+    }
+
+    @Autowired
+    public CacheInvalidationBus(final ObjectProvider<CacheInvalidationTransport> transportProvider) {
+        this(transportProvider.getIfAvailable(() -> CacheInvalidationTransport.NONE));
+    }
+
+    public static CacheInvalidationBus local() {
+        return new CacheInvalidationBus(CacheInvalidationTransport.NONE);
+    }
+
+    public void register(String cacheName, Consumer<String> evictor) {
+        evictors.put(cacheName, evictor);
+    }
+
+    public void publish(String cacheName, String cacheKey) {
+        CacheInvalidationMessage message = new CacheInvalidationMessage(nodeId, cacheName, cacheKey);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(message);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(message);
+            }
+        });
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    void receive(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.origin())) return;
+
+        Consumer<String> evictor = evictors.get(message.cacheName());
+        if (evictor != null) {
+            evictor.accept(message.cacheKey());
+        }
+    }
+
+    private void send(CacheInvalidationMessage message) {
+        try {
+            transport.publish(message);
+        } catch (RuntimeException e) {
+            // 전파 실패는 요청을 실패시키지 않는다. 다른 노드는 TTL 만료로 결국 일관성을 회복한다.
+            log.warn("캐시 무효화 발행 실패 cache = {}, key = {}", message.cacheName(), message.cacheKey(), e);
+        }
+    }
+}
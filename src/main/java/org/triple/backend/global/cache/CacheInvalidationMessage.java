@@ -0,0 +1,8 @@
+package org.triple.backend.global.cache;
+
+/**
+ * 다른 노드로 전달되는 캐시 무효화 메시지
+ * origin 은 발행한 노드 식별자이며, 자기 자신이 발행한 메시지는 수신 측에서 무시한다.
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, String cacheKey) {
+}
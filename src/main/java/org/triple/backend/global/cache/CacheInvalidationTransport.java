@@ -0,0 +1,24 @@
+package org.triple.backend.global.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 메시지를 노드 간에 전달하는 전송 계층
+ * 기본 구현은 MySQL 테이블 폴링(TableCacheInvalidationTransport)이며, Redis Pub/Sub 등으로 교체할 수 있다.
+ */
+public interface CacheInvalidationTransport {
+
+    CacheInvalidationTransport NONE = new CacheInvalidationTransport() {
+        @Override
+        public void publish(CacheInvalidationMessage message) {
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        }
+    };
+
+    void publish(CacheInvalidationMessage message);
+
+    void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
@@ -0,0 +1,26 @@
+package org.triple.backend.global.cache;
+
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 region 이름
+ * 그룹(travel_group)은 인원 / 여행 / 후기 수와 version 을 HQL 조건부 UPDATE 로 자주 바꾸고, 그때마다 Hibernate 가 region 전체를 비우므로 캐시하지 않는다.
+ * 엔티티 region 마다 그 엔티티를 조회하는 쿼리 캐시 region("-query")을 따로 두어, 다른 노드의 변경을 받으면 해당 쿼리 결과만 비운다.
+ */
+public final class SecondLevelCacheRegions {
+
+    public static final String USER = "user";
+    public static final String USER_GROUP = "user-group";
+
+    public static final String USER_QUERY = USER + "-query";
+    public static final String USER_GROUP_QUERY = USER_GROUP + "-query";
+
+    public static final List<String> ALL = List.of(USER, USER_GROUP, USER_QUERY, USER_GROUP_QUERY);
+
+    private SecondLevelCacheRegions() {
+    }
+
+    public static String queryRegionOf(final String entityRegion) {
+        return entityRegion + "-query";
+    }
+}
@@ -0,0 +1,138 @@
+package org.triple.backend.global.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Hibernate 2차 캐시의 노드 간 무효화
+ * 2차 캐시는 노드마다 따로 있으므로, 이 노드에서 바뀐 엔티티를 CacheInvalidationBus 로 다른 노드에 알린다.
+ * 1. 엔티티 변경(insert / update / delete) : flush 시점에 "엔티티명#id" 를 발행하고, 버스가 커밋 이후에 전송함
+ * 2. JDBC 쓰기 : Hibernate 가 모르는 변경이므로 호출한 쪽에서 바꾼 id 로 evict 를 호출하여 이 노드와 다른 노드에서 그 id 만 비움
+ *    HQL UPDATE / DELETE 는 Hibernate 가 region 전체를 비우므로 캐시하는 엔티티에는 쓰지 않는다.
+ * 3. 수신 : 해당 엔티티들을 지우고, 그 엔티티 테이블의 변경 시각(timestamps region)을 갱신한 뒤 쿼리 캐시 region 을 비움
+ *    커밋 전에 옛 행을 읽은 조회가 비운 뒤에 결과를 다시 넣을 수 있으므로 region 을 비우는 것만으로는 부족하다.
+ *    변경 시각을 올려 두면 그보다 먼저 시작한 트랜잭션이 넣은 쿼리 결과는 Hibernate 가 오래된 것으로 보고 버린다.
+ * 1 의 경우 이 노드의 캐시는 Hibernate 가 직접 갱신한다.
+ */
+@Component
+public class SecondLevelCacheSync implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    static final String CACHE_NAME = "hibernate-l2";
+    private static final String ID_SEPARATOR = ",";
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public SecondLevelCacheSync(final EntityManagerFactory entityManagerFactory, final CacheInvalidationBus cacheInvalidationBus) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        cacheInvalidationBus.register(CACHE_NAME, this::evict);
+    }
+
+    /**
+     * JDBC 로 직접 바꾼 뒤에 호출한다. 커밋 이후 이 노드와 다른 노드에서 ids 의 엔티티와 쿼리 캐시 region 을 비운다.
+     * 새로 넣은 행만 있어 지울 엔티티가 없으면 ids 를 비워 넘긴다. 이 경우 쿼리 캐시 region 만 비운다.
+     */
+    public void evict(final Class<?> entityClass, final Collection<Long> ids) {
+        String cacheKey = entityClass.getName() + "#" + ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(ID_SEPARATOR));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(cacheKey);
+                }
+            });
+        } else {
+            evict(cacheKey);
+        }
+        cacheInvalidationBus.publish(CACHE_NAME, cacheKey);
+    }
+
+    @Override
+    public void onPostInsert(final PostInsertEvent event) {
+        publishIfCached(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(final PostUpdateEvent event) {
+        publishIfCached(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(final PostDeleteEvent event) {
+        publishIfCached(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(final EntityPersister persister) {
+        return false;
+    }
+
+    private void publishIfCached(final EntityPersister persister, final Object id) {
+        if (!persister.canWriteToCache()) return;
+        publish(persister.getEntityName(), id.toString());
+    }
+
+    private void publish(final String entityName, final String id) {
+        cacheInvalidationBus.publish(CACHE_NAME, entityName + "#" + id);
+    }
+
+    void evict(final String cacheKey) {
+        int separator = cacheKey.lastIndexOf('#');
+        String entityName = cacheKey.substring(0, separator);
+        String ids = cacheKey.substring(separator + 1);
+
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityName);
+        EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+        if (cacheAccess == null) return;
+
+        invalidateQuerySpaces(persister);
+        Cache cache = sessionFactory.getCache();
+        for (String id : ids.split(ID_SEPARATOR)) {
+            if (id.isEmpty()) continue;
+            // 캐시하는 엔티티의 id 는 모두 Long 이다.
+            cache.evictEntityData(entityName, Long.valueOf(id));
+        }
+        cache.evictQueryRegion(SecondLevelCacheRegions.queryRegionOf(cacheAccess.getRegion().getName()));
+    }
+
+    private void invalidateQuerySpaces(final EntityPersister persister) {
+        String[] spaces = Arrays.stream(persister.getQuerySpaces())
+                .map(String::valueOf)
+                .toArray(String[]::new);
+        try (Session session = sessionFactory.openSession()) {
+            sessionFactory.getCache().getTimestampsCache().invalidate(spaces, (SharedSessionContractImplementor) session);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.triple.backend.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.triple.backend.global.cache.entity.CacheInvalidation;
+import org.triple.backend.global.cache.repository.CacheInvalidationJpaRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * cache_invalidation 테이블을 이용한 기본 전송 계층 (MySQL 외 추가 인프라 없음)
+ * 1. 발행 : 별도 트랜잭션(REQUIRES_NEW)으로 행을 추가함. 버스가 커밋 이후에 호출하므로 바깥 트랜잭션과 분리되어야 함
+ * 2. 수신 : 주기적으로 마지막으로 읽은 id 이후 행을 읽어 구독자에게 전달. 기동 시점 이전의 행은 건너뜀
+ *    IDENTITY id 는 커밋 순서와 다를 수 있어 최근 lookback 구간에서 아직 전달하지 않은 행도 함께 전달함
+ * 3. 정리 : retention 보다 오래된 행을 주기적으로 삭제
+ * 전파 지연은 최대 poll-interval 정도이며, 다른 노드의 캐시 TTL 을 이보다 길게 잡을 수 있게 해줌
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "table", matchIfMissing = true)
+public class TableCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final int POLL_BATCH_SIZE = 500;
+
+    private final CacheInvalidationJpaRepository cacheInvalidationJpaRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration lookback;
+    private final Duration retention;
+    private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+    private final Map<Long, LocalDateTime> recentlyDelivered = new ConcurrentHashMap<>();
+    private volatile long lastSeenId = -1L;
+
+    public TableCacheInvalidationTransport(
+            final CacheInvalidationJpaRepository cacheInvalidationJpaRepository,
+            final PlatformTransactionManager transactionManager,
+            @Value("${cache.invalidation.lookback:PT5S}") final Duration lookback,
+            @Value("${cache.invalidation.retention:PT1H}") final Duration retention
+    ) {
+        this.cacheInvalidationJpaRepository = cacheInvalidationJpaRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.lookback = lookback;
+        this.retention = retention;
+    }
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        requiresNewTransaction.executeWithoutResult(status -> cacheInvalidationJpaRepository.save(
+                CacheInvalidation.create(message.origin(), message.cacheName(), message.cacheKey())
+        ));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        lastSeenId = readOnlyTransaction.execute(status -> cacheInvalidationJpaRepository.findMaxId());
+        log.info("캐시 무효화 폴링 시작 lastSeenId = {}", lastSeenId);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval:PT1S}")
+    public void poll() {
+        if (lastSeenId < 0) return;
+
+        LocalDateTime since = LocalDateTime.now().minus(lookback);
+        List<CacheInvalidation> rows = readOnlyTransaction.execute(status -> {
+            List<CacheInvalidation> found = new ArrayList<>(cacheInvalidationJpaRepository.findRecentUpToId(lastSeenId, since));
+            found.addAll(cacheInvalidationJpaRepository.findAfterId(lastSeenId, PageRequest.of(0, POLL_BATCH_SIZE)));
+            return found;
+        });
+
+        for (CacheInvalidation row : rows) {
+            if (recentlyDelivered.putIfAbsent(row.getId(), row.getCreatedAt()) != null) continue;
+
+            CacheInvalidationMessage message = new CacheInvalidationMessage(row.getOrigin(), row.getCacheName(), row.getCacheKey());
+            listeners.forEach(listener -> listener.accept(message));
+            lastSeenId = Math.max(lastSeenId, row.getId());
+        }
+        recentlyDelivered.values().removeIf(createdAt -> createdAt.isBefore(since));
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.sweep-interval:PT10M}")
+    public void sweep() {
+        Integer deleted = requiresNewTransaction.execute(status ->
+                cacheInvalidationJpaRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention)));
+        log.debug("오래된 캐시 무효화 행 정리 = {}건", deleted);
+    }
+}
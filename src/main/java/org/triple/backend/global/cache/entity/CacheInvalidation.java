@@ -0,0 +1,44 @@
+package org.triple.backend.global.cache.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.triple.backend.global.common.BaseEntity;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "cache_invalidation",
+        indexes = @Index(name = "idx_cache_invalidation_created_at", columnList = "created_at")
+)
+public class CacheInvalidation extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 36)
+    private String origin;
+
+    @Column(nullable = false, length = 64)
+    private String cacheName;
+
+    @Column(nullable = false)
+    private String cacheKey;
+
+    public static CacheInvalidation create(String origin, String cacheName, String cacheKey) {
+        CacheInvalidation cacheInvalidation = new CacheInvalidation();
+        cacheInvalidation.origin = origin;
+        cacheInvalidation.cacheName = cacheName;
+        cacheInvalidation.cacheKey = cacheKey;
+        return cacheInvalidation;
+    }
+}
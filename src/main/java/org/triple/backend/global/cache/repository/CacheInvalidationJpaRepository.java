@@ -0,0 +1,29 @@
+package org.triple.backend.global.cache.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.triple.backend.global.cache.entity.CacheInvalidation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CacheInvalidationJpaRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM CacheInvalidation c")
+    long findMaxId();
+
+    @Query("SELECT c FROM CacheInvalidation c WHERE c.id > :lastId ORDER BY c.id ASC")
+    List<CacheInvalidation> findAfterId(Long lastId, Pageable pageable);
+
+    /**
+     * IDENTITY id 는 커밋 순서와 다를 수 있으므로, 이미 지나간 id 구간에 늦게 커밋된 최근 행을 찾는다.
+     */
+    @Query("SELECT c FROM CacheInvalidation c WHERE c.id <= :lastId AND c.createdAt >= :since ORDER BY c.id ASC")
+    List<CacheInvalidation> findRecentUpToId(Long lastId, LocalDateTime since);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM CacheInvalidation c WHERE c.createdAt < :before")
+    int deleteCreatedBefore(LocalDateTime before);
+}
@@ -0,0 +1,41 @@
+package org.triple.backend.global.cdn;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 사용자와 무관한 공개 응답에 붙이는 CDN 캐시 헤더
+ * 1. Cache-Control : public, 브라우저는 max-age, 공유 캐시(CDN / 프록시)는 s-maxage 동안 캐시
+ * 2. Surrogate-Control : CDN 전용 TTL. CDN 이 소비하고 클라이언트에는 전달하지 않음
+ * 3. Surrogate-Key : 응답에 담긴 데이터의 key 목록. 데이터가 바뀌면 CdnPurger 가 같은 key 로 purge 하므로 s-maxage 를 길게 잡을 수 있음
+ */
+@Component
+public class CdnCachePolicy {
+
+    public static final String SURROGATE_CONTROL = "Surrogate-Control";
+    public static final String SURROGATE_KEY = "Surrogate-Key";
+
+    private final CacheControl cacheControl;
+    private final String surrogateControl;
+
+    public CdnCachePolicy(
+            @Value("${cdn.cache.max-age:PT10S}") final Duration maxAge,
+            @Value("${cdn.cache.s-maxage:PT5M}") final Duration sharedMaxAge
+    ) {
+        this.cacheControl = CacheControl.maxAge(maxAge).sMaxAge(sharedMaxAge).cachePublic();
+        this.surrogateControl = "max-age=" + sharedMaxAge.toSeconds();
+    }
+
+    public HttpHeaders publicHeaders(final Collection<String> surrogateKeys) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl(cacheControl);
+        headers.set(SURROGATE_CONTROL, surrogateControl);
+        headers.set(SURROGATE_KEY, String.join(" ", surrogateKeys));
+        return headers;
+    }
+}
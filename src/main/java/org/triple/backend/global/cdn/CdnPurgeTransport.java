@@ -0,0 +1,12 @@
+package org.triple.backend.global.cdn;
+
+import java.util.Collection;
+
+/**
+ * CDN / 리버스 프록시에 surrogate key 단위 purge 를 요청하는 전송 계층
+ * 기본 구현은 받은 key 를 기록만 하는 LocalCdnPurgeReceiver 이며, cdn.purge.transport=http 면 HttpCdnPurgeTransport 를 쓴다.
+ */
+public interface CdnPurgeTransport {
+
+    void purge(Collection<String> surrogateKeys);
+}
@@ -0,0 +1,110 @@
+package org.triple.backend.global.cdn;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * surrogate key purge 요청. 변경이 커밋된 뒤(AFTER_COMMIT 리스너 등)에 호출해야 커밋 전 옛 데이터가 다시 캐시되지 않는다.
+ * 1. 비동기 : purge 는 key 를 대기 집합에 넣기만 하고, 전송은 전용 스레드 하나가 맡아 요청 스레드가 CDN 응답을 기다리지 않음
+ * 2. 병합 : 전송을 기다리는 동안 들어온 key 는 중복 없이 합쳐 batch-size 개씩 한 번에 보냄 (회원 정보 수정처럼 여러 그룹을 건드려도 요청 수가 늘지 않음)
+ * 3. 상한 : 대기 key 가 max-pending-keys 를 넘으면 새 key 는 버린다
+ * purge 실패나 버린 key 는 요청을 실패시키지 않는다. CDN 은 s-maxage 가 지나면 새 응답을 받는다.
+ */
+@Slf4j
+@Component
+public class CdnPurger {
+
+    private final CdnPurgeTransport transport;
+    private final int batchSize;
+    private final int maxPendingKeys;
+    private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ThreadPoolExecutor executor;
+
+    public CdnPurger(
+            final CdnPurgeTransport transport,
+            @Value("${cdn.purge.batch-size:100}") final int batchSize,
+            @Value("${cdn.purge.max-pending-keys:10000}") final int maxPendingKeys
+    ) {
+        this.transport = transport;
+        this.batchSize = batchSize;
+        this.maxPendingKeys = maxPendingKeys;
+        this.executor = new ThreadPoolExecutor(
+                1,
+                1,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cdn-purge");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public void purge(final String... surrogateKeys) {
+        for (String key : surrogateKeys) {
+            if (pendingKeys.size() >= maxPendingKeys) {
+                log.warn("CDN purge 대기 key 가 가득 차 버림 key = {}", key);
+                continue;
+            }
+            pendingKeys.add(key);
+        }
+        scheduleFlush();
+    }
+
+    /**
+     * 대기 중인 key 를 지금 전송한다. 진행 중인 전송이 있으면 끝날 때까지 기다린 뒤 남은 key 를 보낸다.
+     */
+    public synchronized void flush() {
+        flushScheduled.set(false);
+        List<String> batch;
+        while (!(batch = drain()).isEmpty()) {
+            try {
+                transport.purge(batch);
+            } catch (RuntimeException e) {
+                log.warn("CDN purge 실패 keys = {}", batch, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) return;
+        try {
+            executor.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            flushScheduled.set(false);
+        }
+    }
+
+    private List<String> drain() {
+        List<String> batch = new ArrayList<>(batchSize);
+        Iterator<String> iterator = pendingKeys.iterator();
+        while (batch.size() < batchSize && iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+}
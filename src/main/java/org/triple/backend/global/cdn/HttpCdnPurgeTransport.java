@@ -0,0 +1,61 @@
+package org.triple.backend.global.cdn;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * surrogate key purge API 호출 (Fastly 방식 : POST purge-url, Surrogate-Key 헤더에 공백으로 구분한 key)
+ * 인증 토큰은 token-header 헤더로 보낸다. url 이나 token 이 비어 있으면 purge 가 하나도 나가지 않아 s-maxage 동안 옛 응답이 남으므로 기동을 멈춘다.
+ * OAuth 호출용 RestClient 와 타임아웃을 공유하지 않도록 짧은 connect / read timeout 을 가진 전용 클라이언트를 쓴다.
+ */
+@Component
+@ConditionalOnProperty(name = "cdn.purge.transport", havingValue = "http")
+public class HttpCdnPurgeTransport implements CdnPurgeTransport {
+
+    private final RestClient restClient;
+    private final String purgeUrl;
+    private final String tokenHeader;
+    private final String token;
+
+    public HttpCdnPurgeTransport(
+            @Value("${cdn.purge.url:}") final String purgeUrl,
+            @Value("${cdn.purge.token-header:Fastly-Key}") final String tokenHeader,
+            @Value("${cdn.purge.token:}") final String token,
+            @Value("${cdn.purge.connect-timeout:PT1S}") final Duration connectTimeout,
+            @Value("${cdn.purge.read-timeout:PT2S}") final Duration readTimeout
+    ) {
+        if (purgeUrl.isBlank() || token.isBlank()) {
+            throw new IllegalStateException("cdn.purge.transport=http 에는 cdn.purge.url 과 cdn.purge.token 이 필요합니다.");
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(readTimeout);
+
+        this.restClient = RestClient.builder()
+                .requestFactory(factory)
+                .build();
+        this.purgeUrl = purgeUrl;
+        this.tokenHeader = tokenHeader;
+        this.token = token;
+    }
+
+    @Override
+    public void purge(Collection<String> surrogateKeys) {
+        restClient.post()
+                .uri(purgeUrl)
+                .header(CdnCachePolicy.SURROGATE_KEY, String.join(" ", surrogateKeys))
+                .header(tokenHeader, token)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
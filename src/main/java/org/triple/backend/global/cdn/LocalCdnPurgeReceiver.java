@@ -0,0 +1,44 @@
+package org.triple.backend.global.cdn;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * CDN 없이 쓰는 purge 수신 stub (로컬 / 테스트용)
+ * 받은 surrogate key 를 최근 MAX_RECORDS 개까지 기록하여 어떤 purge 가 나갔는지 확인할 수 있게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cdn.purge.transport", havingValue = "local", matchIfMissing = true)
+public class LocalCdnPurgeReceiver implements CdnPurgeTransport {
+
+    private static final int MAX_RECORDS = 1_000;
+
+    private final Deque<String> receivedKeys = new ConcurrentLinkedDeque<>();
+
+    @Override
+    public void purge(Collection<String> surrogateKeys) {
+        log.debug("CDN purge 수신 keys = {}", surrogateKeys);
+        for (String key : surrogateKeys) {
+            receivedKeys.addLast(key);
+            if (receivedKeys.size() > MAX_RECORDS) {
+                receivedKeys.pollFirst();
+            }
+        }
+    }
+
+    public List<String> receivedKeys() {
+        return new ArrayList<>(receivedKeys);
+    }
+
+    public void clear() {
+        receivedKeys.clear();
+    }
+}
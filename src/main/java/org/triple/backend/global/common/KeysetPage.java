@@ -0,0 +1,48 @@
+package org.triple.backend.global.common;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * id 내림차순 keyset(cursor) 페이지
+ * 1. 조회(fetch) : 다음 페이지 존재 여부를 알기 위해 pageSize + 1 개를 조회. cursor 가 없으면 첫 페이지 쿼리, 있으면 cursor 미만 쿼리를 사용
+ * 2. 자르기(of) : pageSize 를 넘는 한 건은 hasNext 판단에만 쓰고 버리며, 마지막 항목의 키를 nextCursor 로 둠
+ * 3. 변환(map) : 조회용 projection 을 응답 DTO 로 바꿀 때 커서 정보는 그대로 유지
+ */
+public record KeysetPage<T>(
+        List<T> items,
+        Long nextCursor,
+        boolean hasNext
+) {
+
+    public static <T> KeysetPage<T> fetch(
+            final Long cursor,
+            final int pageSize,
+            final Function<Pageable, List<T>> firstPage,
+            final BiFunction<Long, Pageable, List<T>> nextPage,
+            final Function<T, Long> keyOf
+    ) {
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<T> rows = cursor == null ? firstPage.apply(pageable) : nextPage.apply(cursor, pageable);
+        return of(rows, pageSize, keyOf);
+    }
+
+    public static <T> KeysetPage<T> of(final List<T> rows, final int pageSize, final Function<T, Long> keyOf) {
+        boolean hasNext = rows.size() > pageSize;
+        List<T> items = hasNext ? rows.subList(0, pageSize) : rows;
+
+        Long nextCursor = hasNext ? keyOf.apply(items.get(items.size() - 1)) : null;
+        return new KeysetPage<>(items, nextCursor, hasNext);
+    }
+
+    public <R> KeysetPage<R> map(final Function<? super T, ? extends R> mapper) {
+        List<R> mapped = items.stream()
+                .<R>map(mapper)
+                .toList();
+        return new KeysetPage<>(mapped, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,124 @@
+package org.triple.backend.global.concurrent;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 서로 독립적인 조회 쿼리를 동시에 실행하는 실행기
+ * 1. fork : 전용 스레드 풀에서 각자의 읽기 전용 트랜잭션(별도 커넥션)으로 실행. 응답 시간이 쿼리 합이 아니라 가장 느린 쿼리에 가까워짐
+ *    지연 로딩이 트랜잭션 밖으로 새지 않도록 supplier 안에서 DTO 변환까지 끝내야 함
+ * 2. join : timeout 까지만 기다리고, 비동기 단계에서 발생한 예외는 원래 예외로 풀어서 던짐
+ * 3. 인라인 실행 : 호출자가 읽기-쓰기 트랜잭션 안이면 커밋되지 않은 변경을 다른 커넥션이 볼 수 없으므로 호출 스레드에서 바로 실행함
+ *    스레드 풀 대기열이 가득 찬 경우에도 호출 스레드에서 실행하여 요청을 실패시키지 않음
+ * 스레드 수는 커넥션 풀보다 작게 잡아 호출자가 쥔 커넥션과 합쳐 풀이 고갈되지 않도록 해야 함
+ */
+@Component
+public class ParallelReadExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration timeout;
+
+    public ParallelReadExecutor(
+            final PlatformTransactionManager transactionManager,
+            @Value("${query.parallel.threads:8}") final int threads,
+            @Value("${query.parallel.queue-capacity:64}") final int queueCapacity,
+            @Value("${query.parallel.timeout:PT5S}") final Duration timeout
+    ) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                daemonThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public <T> CompletableFuture<T> fork(Supplier<T> query) {
+        if (isInsideReadWriteTransaction()) {
+            return runInline(query);
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> query.get()), executor);
+        } catch (RejectedExecutionException e) {
+            return runInline(() -> readOnlyTransaction.execute(status -> query.get()));
+        }
+    }
+
+    public <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new QueryTimeoutException("Parallel read query timed out after " + timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryTimeoutException("Parallel read query was interrupted");
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static boolean isInsideReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static <T> CompletableFuture<T> runInline(Supplier<T> query) {
+        try {
+            return CompletableFuture.completedFuture(query.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "parallel-read-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
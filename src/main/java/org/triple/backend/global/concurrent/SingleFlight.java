@@ -0,0 +1,50 @@
+package org.triple.backend.global.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 작업을 한 번만 실행하고 결과를 공유한다.
+ * 먼저 들어온 호출(leader)이 자신의 스레드에서 작업을 실행하고, 나머지는 그 결과(또는 예외)를 기다린다.
+ * 작업이 끝나면 키를 바로 제거하므로 결과를 캐시하지는 않는다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> work) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = work.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if (cause instanceof Error error) throw error;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.triple.backend.global.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기존 MySQL DB 의 join_apply.join_apply_status 가 아직 enum 이면 기동을 멈춘다.
+ * enum 컬럼에는 EXPIRED 를 쓸 수 없어 만료 작업과 재신청이 실패하는데, ddl-auto: update 는 컬럼 타입을 바꾸지 않는다.
+ * 이 경우 MIGRATION_SCRIPT 를 한 번 실행한 뒤 다시 배포한다. MySQL 이 아니거나 테이블이 아직 없으면 확인하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JoinApplyStatusColumnCheck {
+
+    public static final String MIGRATION_SCRIPT = "db/migration/V1__join_apply_status_varchar.sql";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void verify() {
+        if (!isMySql()) return;
+
+        List<String> dataTypes = jdbcTemplate.queryForList("""
+                SELECT DATA_TYPE
+                  FROM information_schema.COLUMNS
+                 WHERE TABLE_SCHEMA = DATABASE()
+                   AND TABLE_NAME = 'join_apply'
+                   AND COLUMN_NAME = 'join_apply_status'
+                """, String.class);
+        if (dataTypes.stream().anyMatch("enum"::equalsIgnoreCase)) {
+            throw new IllegalStateException(
+                    "join_apply.join_apply_status 가 enum 컬럼입니다. " + MIGRATION_SCRIPT + " 를 실행한 뒤 다시 배포하세요.");
+        }
+    }
+
+    private boolean isMySql() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())));
+    }
+}
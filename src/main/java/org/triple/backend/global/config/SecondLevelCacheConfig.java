@@ -0,0 +1,77 @@
+package org.triple.backend.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.triple.backend.global.cache.SecondLevelCacheRegions;
+import org.triple.backend.global.config.property.SecondLevelCacheProperties;
+import org.triple.backend.global.config.property.SecondLevelCacheProperties.Region;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시(JCache + Caffeine) 설정
+ * 1. region : SecondLevelCacheRegions 의 region 을 cache.l2.regions 의 최대 개수 / TTL 로 미리 만든다. 없는 region 을 쓰면 기동 / 조회 시 실패함
+ * 2. 쿼리 캐시 : 쿼리 결과(id 목록)는 각 "-query" region 에, 테이블 변경 시각은 timestamps region 에 둔다.
+ *    timestamps 가 빠지면 오래된 쿼리 결과가 최신으로 보이므로 이 region 은 크기 제한 / 만료 없이 둔다.
+ * 3. 통계 : generate_statistics 로 region 별 hit / miss 를 모아 /actuator/metrics 의 hibernate.second.level.cache.requests,
+ *    hibernate.query.cache.requests 로 노출한다.
+ * 노드 간 무효화는 SecondLevelCacheSync 가 담당한다.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+@ConditionalOnProperty(name = "cache.l2.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    private static final Region DEFAULT_QUERY_RESULTS_REGION = new Region(1_000, Duration.ofMinutes(5));
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(final SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = createCacheManager(properties);
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            // 종료 시 Hibernate 가 닫는다.
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private CacheManager createCacheManager(final SecondLevelCacheProperties properties) {
+        // 애플리케이션 컨텍스트마다 별도의 CacheManager 를 쓰도록 URI 를 나눈다. (기본 CacheManager 는 JVM 에서 공유됨)
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("triple-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String regionName : SecondLevelCacheRegions.ALL) {
+            cacheManager.createCache(regionName, configuration(properties.region(regionName)));
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, configuration(DEFAULT_QUERY_RESULTS_REGION));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, configuration(null));
+        return cacheManager;
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration(final Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        if (region != null) {
+            configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.ttl().toNanos()));
+        }
+        return configuration;
+    }
+}
@@ -0,0 +1,31 @@
+package org.triple.backend.global.config.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 설정(cache.l2.enabled 가 false 면 사용하지 않음). region 별로 최대 개수와 TTL 을 둔다. 설정이 없는 region 은 DEFAULT_REGION 을 쓴다.
+ */
+@ConfigurationProperties(prefix = "cache.l2")
+public record SecondLevelCacheProperties(
+        Map<String, Region> regions
+) {
+
+    public static final Region DEFAULT_REGION = new Region(10_000, Duration.ofMinutes(10));
+
+    public SecondLevelCacheProperties {
+        regions = regions == null ? Map.of() : Map.copyOf(regions);
+    }
+
+    public Region region(final String name) {
+        return regions.getOrDefault(name, DEFAULT_REGION);
+    }
+
+    public record Region(
+            long maximumSize,
+            Duration ttl
+    ) {
+    }
+}
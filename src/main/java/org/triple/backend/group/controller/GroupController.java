@@ -2,15 +2,20 @@ package org.triple.backend.group.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.triple.backend.auth.jwt.LoginRequired;
 import org.triple.backend.auth.jwt.LoginUser;
 import org.triple.backend.auth.crypto.PublicUuidCodec;
+import org.triple.backend.global.cdn.CdnCachePolicy;
 import org.triple.backend.group.dto.request.CreateGroupRequestDto;
 import org.triple.backend.group.dto.request.GroupUpdateRequestDto;
 import org.triple.backend.group.dto.response.*;
 import org.triple.backend.group.exception.GroupErrorCode;
 import org.triple.backend.group.service.GroupService;
+import org.triple.backend.group.service.GroupSurrogateKeys;
+import org.triple.backend.group.service.GroupViewVersion;
 
 @RestController
 @RequestMapping("/groups")
@@ -19,6 +24,7 @@ public class GroupController {
 
     private final GroupService groupService;
     private final PublicUuidCodec publicUuidCodec;
+    private final CdnCachePolicy cdnCachePolicy;
 
     @LoginRequired
     @PostMapping
@@ -26,11 +32,23 @@ public class GroupController {
         return groupService.create(createGroupRequestDto, userId);
     }
 
+    /**
+     * 조회자와 무관한 응답이므로 CDN 이 캐시하도록 Cache-Control / Surrogate-Key 를 붙인다. 그룹이 바뀌면 GroupCdnPurgeListener 가 purge 한다.
+     */
     @GetMapping
-    public GroupCursorResponseDto browsePublicGroups(@RequestParam(required = false) String keyword,
-                                                     @RequestParam(required = false) Long cursor,
-                                                     @RequestParam(defaultValue = "10") int size) {
-        return groupService.search(keyword, cursor, size);
+    public ResponseEntity<GroupCursorResponseDto> browsePublicGroups(@RequestParam(required = false) String keyword,
+                                                                     @RequestParam(required = false) Long cursor,
+                                                                     @RequestParam(defaultValue = "10") int size) {
+        GroupCursorResponseDto response = groupService.search(keyword, cursor, size);
+        return ResponseEntity.ok()
+                .headers(cdnCachePolicy.publicHeaders(GroupSurrogateKeys.of(response)))
+                .body(response);
+    }
+
+    @GetMapping("/autocomplete")
+    public GroupAutocompleteResponseDto autocomplete(@RequestParam(required = false) String prefix,
+                                                     @RequestParam(defaultValue = "5") int size) {
+        return groupService.autocomplete(prefix, size);
     }
 
     @LoginRequired
@@ -46,8 +64,12 @@ public class GroupController {
     }
 
     @GetMapping("/{groupId}")
-    public GroupDetailResponseDto detail(@PathVariable Long groupId, @LoginUser final Long userId) {
-        return groupService.detail(groupId, userId);
+    public GroupDetailResponseDto detail(@PathVariable Long groupId, @LoginUser final Long userId, WebRequest webRequest) {
+        GroupViewVersion viewVersion = groupService.viewVersion(groupId, userId);
+        if (webRequest.checkNotModified(viewVersion.eTag())) {
+            return null;
+        }
+        return groupService.detail(viewVersion);
     }
 
     @LoginRequired
@@ -75,23 +97,23 @@ public class GroupController {
     }
 
     @GetMapping("/{groupId}/menu")
-    public GroupMenuResponseDto menu(@PathVariable Long groupId, @LoginUser final Long userId) {
+    public GroupMenuResponseDto menu(@PathVariable Long groupId, @LoginUser final Long userId, WebRequest webRequest) {
+        GroupViewVersion viewVersion = groupService.viewVersion(groupId, userId);
+        if (webRequest.checkNotModified(viewVersion.eTag())) {
+            return null;
+        }
         return groupService.menu(userId, groupId);
     }
 
     @GetMapping("/{groupId}/users")
-    public GroupUsersResponseDto groupUsers(@PathVariable Long groupId) {
-        GroupUsersResponseDto groupUsers = groupService.groupUsers(groupId);
-        return new GroupUsersResponseDto(
-                groupUsers.users().stream()
-                        .map(user -> new GroupUsersResponseDto.UserDto(
-                                publicUuidCodec.encrypt(user.id()),
-                                user.name(),
-                                user.description(),
-                                user.profileUrl(),
-                                user.isOwner()
-                        ))
-                        .toList()
-        );
+    public GroupUsersResponseDto groupUsers(@PathVariable Long groupId,
+                                            @RequestParam(required = false) Long cursor,
+                                            @RequestParam(defaultValue = "10") int size) {
+        GroupUsersResponseDto response = groupService.groupUsers(groupId, cursor, size);
+        return response.withUsers(publicUuidCodec.encryptIdsCached(
+                response.users(),
+                GroupUsersResponseDto.UserDto::id,
+                GroupUsersResponseDto.UserDto::withId
+        ));
     }
 }
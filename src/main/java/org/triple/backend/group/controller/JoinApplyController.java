@@ -1,9 +1,12 @@
 package org.triple.backend.group.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import org.triple.backend.auth.jwt.LoginRequired;
 import org.triple.backend.auth.jwt.LoginUser;
+import org.triple.backend.group.dto.request.JoinApplyBulkRequestDto;
+import org.triple.backend.group.dto.response.JoinApplyBulkResponseDto;
 import org.triple.backend.group.dto.response.JoinApplyUserResponseDto;
 import org.triple.backend.group.entity.joinApply.JoinApplyStatus;
 import org.triple.backend.group.service.JoinApplyService;
@@ -33,6 +36,22 @@ public class JoinApplyController {
         joinApplyService.reject(groupId, userId, joinApplyId);
     }
 
+    @LoginRequired
+    @PostMapping("/{groupId}/join-applies/bulk-approve")
+    public JoinApplyBulkResponseDto joinApplyBulkApprove(@PathVariable final Long groupId,
+                                                         @Valid @RequestBody final JoinApplyBulkRequestDto request,
+                                                         @LoginUser final Long userId) {
+        return joinApplyService.approveAll(groupId, userId, request.joinApplyIds());
+    }
+
+    @LoginRequired
+    @PostMapping("/{groupId}/join-applies/bulk-reject")
+    public JoinApplyBulkResponseDto joinApplyBulkReject(@PathVariable final Long groupId,
+                                                        @Valid @RequestBody final JoinApplyBulkRequestDto request,
+                                                        @LoginUser final Long userId) {
+        return joinApplyService.rejectAll(groupId, userId, request.joinApplyIds());
+    }
+
     @LoginRequired
     @GetMapping("/{groupId}/join-applies")
     public JoinApplyUserResponseDto joinApplyUser(@PathVariable final Long groupId,
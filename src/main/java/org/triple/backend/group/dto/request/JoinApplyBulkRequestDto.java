@@ -0,0 +1,15 @@
+package org.triple.backend.group.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record JoinApplyBulkRequestDto(
+
+        @NotEmpty(message = "처리할 가입 신청을 선택해주세요.")
+        @Size(max = 50, message = "가입 신청은 한 번에 최대 50건까지 처리할 수 있습니다.")
+        List<@NotNull(message = "가입 신청 ID는 필수입니다.") Long> joinApplyIds
+) {
+}
@@ -0,0 +1,25 @@
+package org.triple.backend.group.dto.response;
+
+import org.triple.backend.group.search.GroupSearchDocument;
+
+import java.util.List;
+
+public record GroupAutocompleteResponseDto(
+    List<GroupNameDto> items
+) {
+
+    public record GroupNameDto(
+        Long groupId,
+        String name
+    ) {
+
+    }
+
+    public static GroupAutocompleteResponseDto from(final List<GroupSearchDocument> suggestions) {
+        List<GroupNameDto> items = suggestions.stream()
+                .map(v -> new GroupNameDto(v.groupId(), v.name()))
+                .toList();
+
+        return new GroupAutocompleteResponseDto(items);
+    }
+}
@@ -1,6 +1,7 @@
 package org.triple.backend.group.dto.response;
 
-import org.triple.backend.group.entity.group.Group;
+import org.triple.backend.global.common.KeysetPage;
+import org.triple.backend.group.repository.GroupJpaRepository.GroupSummaryRow;
 
 import java.util.List;
 
@@ -20,15 +21,13 @@ public record GroupCursorResponseDto(
         String thumbNailUrl
     ){
 
+        public static GroupSummaryDto from(final GroupSummaryRow row) {
+            return new GroupSummaryDto(row.getGroupId(), row.getName(),
+                    row.getDescription(), row.getCurrentMemberCount(), row.getMemberLimit(), row.getThumbNailUrl());
+        }
     }
 
-    public static GroupCursorResponseDto from(final List<Group> rows, final Long nextCursor, final boolean hasNext) {
-
-        List<GroupSummaryDto> items = rows.stream().map(v ->
-                new GroupSummaryDto(v.getId(), v.getName(),
-                        v.getDescription(), v.getCurrentMemberCount(), v.getMemberLimit(), v.getThumbNailUrl()))
-                .toList();
-
-        return new GroupCursorResponseDto(items, nextCursor, hasNext);
+    public static GroupCursorResponseDto from(final KeysetPage<GroupSummaryDto> page) {
+        return new GroupCursorResponseDto(page.items(), page.nextCursor(), page.hasNext());
     }
 }
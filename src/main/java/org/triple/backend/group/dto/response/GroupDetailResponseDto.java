@@ -1,9 +1,7 @@
 package org.triple.backend.group.dto.response;
 
-import org.triple.backend.group.entity.group.Group;
 import org.triple.backend.group.entity.group.GroupKind;
 import org.triple.backend.group.entity.userGroup.Role;
-import org.triple.backend.group.entity.userGroup.UserGroup;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -53,36 +51,4 @@ public record GroupDetailResponseDto(
             int view,
             LocalDateTime createdAt
     ) {}
-
-    public static GroupDetailResponseDto from(
-            final List<UserGroup> userGroups,
-            final Group group,
-            final Role role,
-            final List<RecentPhotoDto> recentPhotos,
-            final int travelCount,
-            final List<RecentTravelDto> recentTravels,
-            final List<RecentReviewDto> recentReviews
-    ) {
-        List<UserDto> users = userGroups.stream().map(ug -> new UserDto(
-                ug.getUser().getNickname(),
-                ug.getUser().getDescription(),
-                ug.getUser().getProfileUrl(),
-                ug.getRole() == Role.OWNER
-        )).toList();
-
-        return new GroupDetailResponseDto(
-                users,
-                group.getName(),
-                group.getDescription(),
-                group.getGroupKind(),
-                group.getThumbNailUrl(),
-                group.getCurrentMemberCount(),
-                group.getMemberLimit(),
-                role,
-                recentPhotos,
-                travelCount,
-                recentTravels,
-                recentReviews
-        );
-    }
 }
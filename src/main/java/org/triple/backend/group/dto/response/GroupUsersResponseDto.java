@@ -1,12 +1,15 @@
 package org.triple.backend.group.dto.response;
 
+import org.triple.backend.global.common.KeysetPage;
 import org.triple.backend.group.entity.userGroup.Role;
-import org.triple.backend.group.entity.userGroup.UserGroup;
+import org.triple.backend.group.repository.UserGroupJpaRepository.GroupMemberRow;
 
 import java.util.List;
 
 public record GroupUsersResponseDto(
-    List<UserDto> users
+    List<UserDto> users,
+    Long nextCursor,
+    boolean hasNext
 ) {
 
     public record UserDto(
@@ -17,15 +20,26 @@ public record GroupUsersResponseDto(
             boolean isOwner
     ) {
 
+        public static UserDto from(final GroupMemberRow row) {
+            return new UserDto(
+                    row.getPublicUuid().toString(),
+                    row.getNickname(),
+                    row.getDescription(),
+                    row.getProfileUrl(),
+                    row.getRole() == Role.OWNER
+            );
+        }
+
+        public UserDto withId(final String id) {
+            return new UserDto(id, name, description, profileUrl, isOwner);
+        }
+    }
+
+    public static GroupUsersResponseDto from(final KeysetPage<UserDto> page) {
+        return new GroupUsersResponseDto(page.items(), page.nextCursor(), page.hasNext());
     }
 
-    public static GroupUsersResponseDto from(final List<UserGroup> userGroups) {
-        return new GroupUsersResponseDto(userGroups.stream().map(ug -> new UserDto(
-                ug.getUser().getPublicUuid().toString(),
-                ug.getUser().getNickname(),
-                ug.getUser().getDescription(),
-                ug.getUser().getProfileUrl(),
-                ug.getRole() == Role.OWNER
-        )).toList());
+    public GroupUsersResponseDto withUsers(final List<UserDto> users) {
+        return new GroupUsersResponseDto(users, nextCursor, hasNext);
     }
 }
@@ -0,0 +1,38 @@
+package org.triple.backend.group.dto.response;
+
+import org.triple.backend.global.error.ErrorCode;
+
+import java.util.List;
+import java.util.Map;
+
+public record JoinApplyBulkResponseDto(
+        List<ResultDto> results
+) {
+
+    /**
+     * 요청 순서대로 신청별 결과를 만든다. failures 에 없는 신청은 성공으로 본다.
+     */
+    public static JoinApplyBulkResponseDto of(final List<Long> joinApplyIds, final Map<Long, ErrorCode> failures) {
+        List<ResultDto> results = joinApplyIds.stream()
+                .map(joinApplyId -> failures.containsKey(joinApplyId)
+                        ? ResultDto.fail(joinApplyId, failures.get(joinApplyId))
+                        : ResultDto.success(joinApplyId))
+                .toList();
+        return new JoinApplyBulkResponseDto(results);
+    }
+
+    public record ResultDto(
+            Long joinApplyId,
+            boolean success,
+            String message
+    ) {
+
+        public static ResultDto success(final Long joinApplyId) {
+            return new ResultDto(joinApplyId, true, null);
+        }
+
+        public static ResultDto fail(final Long joinApplyId, final ErrorCode errorCode) {
+            return new ResultDto(joinApplyId, false, errorCode.getMessage());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.triple.backend.group.dto.response;
 
+import org.triple.backend.global.common.KeysetPage;
 import org.triple.backend.group.entity.joinApply.JoinApplyStatus;
+import org.triple.backend.group.repository.JoinApplyJpaRepository.JoinApplyUserRow;
 
 import java.util.List;
 
@@ -17,5 +19,19 @@ public record JoinApplyUserResponseDto(
             String profileUrl,
             JoinApplyStatus status
     ) {
+
+        public static UserDto from(final JoinApplyUserRow row) {
+            return new UserDto(
+                    row.getJoinApplyId(),
+                    row.getNickname(),
+                    row.getDescription(),
+                    row.getProfileUrl(),
+                    row.getStatus()
+            );
+        }
+    }
+
+    public static JoinApplyUserResponseDto from(final KeysetPage<UserDto> page) {
+        return new JoinApplyUserResponseDto(page.items(), page.nextCursor(), page.hasNext());
     }
 }
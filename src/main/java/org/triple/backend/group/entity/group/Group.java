@@ -31,6 +31,14 @@ public class Group extends BaseEntity {
     @Version
     private Long version;
 
+    /**
+     * 그룹 상세 / 메뉴 ETag 용 version. 다른 테이블이나 조건부 UPDATE 로 상세 내용이 바뀌면 GroupVersionBumper 가 올린다.
+     * 낙관적 락(@Version)과 분리해 두어야 이 값이 올라도 동시에 진행 중인 그룹 수정이 충돌하지 않는다.
+     */
+    @Builder.Default
+    @Column(name = "detail_version", nullable = false)
+    private long detailVersion = 0;
+
     @Enumerated(EnumType.STRING)
     private GroupKind groupKind;
 
@@ -56,6 +64,18 @@ public class Group extends BaseEntity {
     @Builder.Default
     private boolean isDeleted = false;
 
+    /**
+     * 삭제되지 않은 여행 / 후기 수. 여행 수는 생성 / 삭제 트랜잭션에서 GroupJpaRepository 의 조건부 UPDATE 로만 변경한다.
+     * 후기는 아직 생성 / 삭제 API 가 없어 GroupCounterReconciler 의 보정으로만 채워지며, 어긋난 여행 수도 같은 보정이 바로잡는다.
+     */
+    @Builder.Default
+    @Column(name = "travel_count", nullable = false)
+    private int travelCount = 0;
+
+    @Builder.Default
+    @Column(name = "review_count", nullable = false)
+    private int reviewCount = 0;
+
     public void addMember(User user, Role role) {
         UserGroup userGroup = UserGroup.builder()
                 .user(user)
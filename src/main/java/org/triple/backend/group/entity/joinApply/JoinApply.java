@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
                         name = "uk_join_apply_group_user",
                         columnNames = {"group_id", "user_id"}
                 )
-        }
+        },
+        indexes = @Index(name = "idx_join_apply_status_created_at", columnList = "join_apply_status, created_at")
 )
 @Builder
 @AllArgsConstructor
@@ -40,7 +41,12 @@ public class JoinApply extends BaseEntity {
     @JoinColumn(name = "group_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Group group;
 
+    /**
+     * MySQL 의 enum(...) 컬럼은 상태가 추가될 때마다 ALTER 가 필요하므로 varchar 로 둔다.
+     * 기존 DB 의 enum 컬럼은 db/migration/V1__join_apply_status_varchar.sql 로 바꾼다. (JoinApplyStatusColumnCheck 참고)
+     */
     @Enumerated(EnumType.STRING)
+    @Column(name = "join_apply_status", columnDefinition = "varchar(20)")
     private JoinApplyStatus joinApplyStatus;
 
     private LocalDateTime approvedAt;
@@ -49,6 +55,8 @@ public class JoinApply extends BaseEntity {
 
     private LocalDateTime canceledAt;
 
+    private LocalDateTime expiredAt;
+
     public static JoinApply create(final User user, final Group group) {
         return JoinApply.builder()
                 .user(user)
@@ -61,19 +69,24 @@ public class JoinApply extends BaseEntity {
         return this.joinApplyStatus == JoinApplyStatus.CANCELED;
     }
 
+    public boolean isReapplicable() {
+        return this.joinApplyStatus == JoinApplyStatus.CANCELED || this.joinApplyStatus == JoinApplyStatus.EXPIRED;
+    }
+
     public void approve() {
         this.joinApplyStatus = JoinApplyStatus.APPROVED;
         this.approvedAt = LocalDateTime.now();
     }
 
     public void reapply() {
-        if (!isCanceled()) {
-            throw new IllegalStateException("취소된 신청만 재신청할 수 있습니다.");
+        if (!isReapplicable()) {
+            throw new IllegalStateException("취소되었거나 만료된 신청만 재신청할 수 있습니다.");
         }
         this.joinApplyStatus = JoinApplyStatus.PENDING;
         this.approvedAt = null;
         this.rejectedAt = null;
         this.canceledAt = null;
+        this.expiredAt = null;
     }
 
     public void reject() {
@@ -1,5 +1,5 @@
 package org.triple.backend.group.entity.joinApply;
 
 public enum JoinApplyStatus {
-    PENDING, APPROVED, REJECTED, CANCELED
+    PENDING, APPROVED, REJECTED, CANCELED, EXPIRED
 }
@@ -0,0 +1,71 @@
+package org.triple.backend.group.entity.purge;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.triple.backend.global.common.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 그룹 한 건의 정리 진행 상황. 청크마다 커밋되므로 서버가 재시작되어도 기록된 단계부터 이어서 정리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "group_purge",
+        indexes = @Index(name = "idx_group_purge_completed_at", columnList = "completed_at")
+)
+public class GroupPurge extends BaseEntity {
+
+    @Id
+    @Column(name = "group_purge_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "group_id", nullable = false, unique = true)
+    private Long groupId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private GroupPurgeStage stage;
+
+    /**
+     * REVIEW_IMAGE_OBJECTS 단계에서 마지막으로 처리한 travel_review_image_id. 행을 지우지 않는 단계라 커서로 이어간다.
+     */
+    @Column(nullable = false)
+    private long lastId;
+
+    @Column(nullable = false)
+    private long purgedRows;
+
+    @Column(nullable = false)
+    private long deletedObjects;
+
+    @Column(nullable = false)
+    private int failureCount;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public static GroupPurge start(final Long groupId) {
+        GroupPurge groupPurge = new GroupPurge();
+        groupPurge.groupId = groupId;
+        groupPurge.stage = GroupPurgeStage.REVIEW_IMAGE_OBJECTS;
+        return groupPurge;
+    }
+
+    public boolean isCompleted() {
+        return stage.isCompleted();
+    }
+}
@@ -0,0 +1,32 @@
+package org.triple.backend.group.entity.purge;
+
+/**
+ * 삭제된 그룹의 정리 단계. 선언 순서대로 진행하며, 참조하는 쪽(자식)을 먼저 지운다.
+ * 저장소 객체는 URL 을 가진 후기 이미지 행이 지워지기 전에 먼저 삭제한다.
+ * 그룹 썸네일은 그룹 행(삭제 표시만 하고 남김)에 URL 이 있으므로 마지막에 지운다.
+ */
+public enum GroupPurgeStage {
+    REVIEW_IMAGE_OBJECTS,
+    REVIEW_IMAGES,
+    TRAVEL_REVIEWS,
+    USER_TRAVEL_ITINERARIES,
+    TRAVEL_DOCS,
+    TRANSFER_USERS,
+    TRANSFERS,
+    TRAVEL_ITINERARIES,
+    JOIN_APPLIES,
+    USER_GROUPS,
+    GROUP_THUMBNAIL_OBJECT,
+    COMPLETED;
+
+    public GroupPurgeStage next() {
+        if (this == COMPLETED) {
+            return COMPLETED;
+        }
+        return values()[ordinal() + 1];
+    }
+
+    public boolean isCompleted() {
+        return this == COMPLETED;
+    }
+}
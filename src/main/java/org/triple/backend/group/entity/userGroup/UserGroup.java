@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.triple.backend.global.cache.SecondLevelCacheRegions;
 import org.triple.backend.group.entity.group.Group;
 import org.triple.backend.user.entity.User;
 
@@ -15,6 +18,8 @@ import java.time.LocalDateTime;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheRegions.USER_GROUP)
 @Table(
         name = "user_group",
         uniqueConstraints = {
@@ -0,0 +1,8 @@
+package org.triple.backend.group.event;
+
+/**
+ * 그룹 상세 스냅샷에 들어가는 데이터(그룹 정보, 멤버, 여행, 후기)가 바뀌었음을 알리는 이벤트
+ * 발행한 트랜잭션이 커밋되면 GroupDetailSnapshotCache 가 해당 그룹의 스냅샷을 모든 노드에서 제거한다.
+ */
+public record GroupDetailChangedEvent(Long groupId) {
+}
@@ -0,0 +1,8 @@
+package org.triple.backend.group.event;
+
+/**
+ * 오래된 PENDING 가입 신청이 만료되었음을 알리는 이벤트. 만료 청크 하나에서 그룹별로 한 번 발행한다.
+ * 발행한 청크 트랜잭션 안에서 나가므로, 커밋된 결과만 다루려면 AFTER_COMMIT 으로 받는다.
+ */
+public record JoinApplyExpiredEvent(Long groupId, int expiredCount) {
+}
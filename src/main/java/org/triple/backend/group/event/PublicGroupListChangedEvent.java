@@ -0,0 +1,9 @@
+package org.triple.backend.group.event;
+
+/**
+ * 공개 그룹 목록 / 검색 결과에 새로 들어갈 수 있는 변경(공개 그룹 생성, 공개 그룹 수정)을 알리는 이벤트
+ * 기존 목록에 있던 그룹의 변경은 GroupDetailChangedEvent 의 그룹 key purge 로 충분하지만, 새로 들어가는 그룹은 그 key 가 붙은 응답이 없으므로
+ * 발행한 트랜잭션이 커밋되면 public-list key 를 purge 한다.
+ */
+public record PublicGroupListChangedEvent(Long groupId) {
+}
@@ -4,10 +4,13 @@ import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 import org.triple.backend.group.entity.group.Group;
 import org.triple.backend.group.entity.group.GroupKind;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,11 +20,26 @@ public interface GroupJpaRepository extends JpaRepository<Group, Long> {
     @Query("SELECT g FROM Group g WHERE g.id = :groupId AND g.isDeleted = false")
     Optional<Group> findByIdForUpdate(Long groupId);
 
-    @Query("SELECT g FROM Group g WHERE g.groupKind = :groupKind AND g.isDeleted = false order by g.id desc")
-    List<Group> findPublicFirstPage(GroupKind groupKind, Pageable pageable);
+    @Query("""
+            SELECT g.id AS groupId, g.name AS name, g.description AS description,
+                   g.currentMemberCount AS currentMemberCount, g.memberLimit AS memberLimit, g.thumbNailUrl AS thumbNailUrl
+            FROM Group g
+            WHERE g.groupKind = :groupKind
+              AND g.isDeleted = false
+            ORDER BY g.id desc
+            """)
+    List<GroupSummaryRow> findPublicFirstPage(GroupKind groupKind, Pageable pageable);
 
-    @Query("SELECT g FROM Group g WHERE g.groupKind = :groupKind AND g.isDeleted = false AND g.id < :cursor ORDER BY g.id desc")
-    List<Group> findPublicNextPage(GroupKind groupKind, Long cursor, Pageable pageable);
+    @Query("""
+            SELECT g.id AS groupId, g.name AS name, g.description AS description,
+                   g.currentMemberCount AS currentMemberCount, g.memberLimit AS memberLimit, g.thumbNailUrl AS thumbNailUrl
+            FROM Group g
+            WHERE g.groupKind = :groupKind
+              AND g.isDeleted = false
+              AND g.id < :cursor
+            ORDER BY g.id desc
+            """)
+    List<GroupSummaryRow> findPublicNextPage(GroupKind groupKind, Long cursor, Pageable pageable);
 
     @Lock(LockModeType.PESSIMISTIC_READ)
     @Query("SELECT g FROM Group g WHERE g.id = :groupId AND g.isDeleted = false")
@@ -32,20 +50,117 @@ public interface GroupJpaRepository extends JpaRepository<Group, Long> {
 
     boolean existsByIdAndIsDeletedFalse(Long groupId);
 
+    /**
+     * ETag 용 version 은 @Version(그룹 직접 수정)과 detail_version(다른 테이블 / 조건부 UPDATE 변경)의 합이다. 둘 다 늘기만 하므로 합도 변경마다 커진다.
+     */
+    @Query("SELECT g.version + g.detailVersion AS version, g.groupKind AS groupKind FROM Group g WHERE g.id = :groupId AND g.isDeleted = false")
+    Optional<GroupVersionRow> findVersionById(Long groupId);
+
+    /**
+     * 그룹 상세에 들어가는 데이터가 바뀌었을 때 ETag 용 detail_version 을 올린다.
+     * 낙관적 락용 @Version 은 건드리지 않으며, 여러 그룹을 한 문장으로 갱신해 row 잠금 순서를 id 순으로 고정한다.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Group g SET g.detailVersion = g.detailVersion + 1 WHERE g.id IN :groupIds")
+    int increaseDetailVersion(Collection<Long> groupIds);
+
+    /**
+     * 정원이 남아 있을 때만 인원을 1 늘린다. 반환값(0 / 1)이 승인 성공 여부이며, 그룹 row 를 미리 잠그지 않는다.
+     * 갱신한 row 의 잠금은 커밋까지 유지되므로 트랜잭션의 마지막 쓰기로 호출한다.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE Group g
+            SET g.currentMemberCount = g.currentMemberCount + 1
+            WHERE g.id = :groupId
+              AND g.isDeleted = false
+              AND g.currentMemberCount < g.memberLimit
+            """)
+    int increaseMemberCountIfAvailable(Long groupId);
+
+    /**
+     * 일괄 승인용. count 명이 모두 들어갈 자리가 있을 때만 한 번에 늘린다.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE Group g
+            SET g.currentMemberCount = g.currentMemberCount + :count
+            WHERE g.id = :groupId
+              AND g.isDeleted = false
+              AND g.currentMemberCount + :count <= g.memberLimit
+            """)
+    int increaseMemberCountIfAvailable(Long groupId, int count);
+
+    /**
+     * 오너 한 명은 항상 남으므로 1 보다 클 때만 인원을 1 줄인다.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE Group g
+            SET g.currentMemberCount = g.currentMemberCount - 1
+            WHERE g.id = :groupId
+              AND g.isDeleted = false
+              AND g.currentMemberCount > 1
+            """)
+    int decreaseMemberCount(Long groupId);
+
+    @Query("SELECT g.travelCount FROM Group g WHERE g.id = :groupId AND g.isDeleted = false")
+    Optional<Integer> findTravelCountById(Long groupId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Group g SET g.travelCount = g.travelCount + 1 WHERE g.id = :groupId AND g.isDeleted = false")
+    int increaseTravelCount(Long groupId);
+
+    /**
+     * 어긋난 값이 0 이어도 음수로 내려가지 않게 하면서, 0 을 반환하는 경우는 그룹이 없거나 삭제된 때뿐이다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE Group g
+            SET g.travelCount = CASE WHEN g.travelCount > 0 THEN g.travelCount - 1 ELSE 0 END
+            WHERE g.id = :groupId
+              AND g.isDeleted = false
+            """)
+    int decreaseTravelCount(Long groupId);
+
+    @Query("""
+            SELECT g.id AS groupId, g.travelCount AS travelCount, g.reviewCount AS reviewCount
+            FROM Group g
+            WHERE g.id > :lastId
+              AND g.isDeleted = false
+            ORDER BY g.id
+            """)
+    List<GroupCounter> findCountersAfterId(Long lastId, Pageable pageable);
+
+    /**
+     * 조회 시점 값(expected)과 같을 때만 바꾼다. 그 사이 생성 / 삭제로 값이 바뀌었으면 다음 보정으로 미룬다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Group g SET g.travelCount = :actual WHERE g.id = :groupId AND g.travelCount = :expected")
+    int reconcileTravelCount(Long groupId, int expected, int actual);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Group g SET g.reviewCount = :actual WHERE g.id = :groupId AND g.reviewCount = :expected")
+    int reconcileReviewCount(Long groupId, int expected, int actual);
+
     @Query(value = """
-            SELECT g.*
+            SELECT g.group_id AS groupId, g.name AS name, g.description AS description,
+                   g.current_member_count AS currentMemberCount, g.member_limit AS memberLimit, g.thumb_nail_url AS thumbNailUrl
             FROM travel_group g
             WHERE g.group_kind = :kind
               AND g.is_deleted = false
               AND MATCH(g.name, g.description) AGAINST(:booleanQuery IN BOOLEAN MODE)
             ORDER BY g.group_id DESC
             """, nativeQuery = true)
-    List<Group> findFirstPageByKeywordFullText(String booleanQuery,
-                                               String kind,
-                                               Pageable pageable);
+    List<GroupSummaryRow> findFirstPageByKeywordFullText(String booleanQuery,
+                                                         String kind,
+                                                         Pageable pageable);
 
     @Query(value = """
-            SELECT g.*
+            SELECT g.group_id AS groupId, g.name AS name, g.description AS description,
+                   g.current_member_count AS currentMemberCount, g.member_limit AS memberLimit, g.thumb_nail_url AS thumbNailUrl
             FROM travel_group g
             WHERE g.group_id < :cursor
               AND g.group_kind = :kind
@@ -53,8 +168,64 @@ public interface GroupJpaRepository extends JpaRepository<Group, Long> {
               AND MATCH(g.name, g.description) AGAINST(:booleanQuery IN BOOLEAN MODE)
             ORDER BY g.group_id DESC
             """, nativeQuery = true)
-    List<Group> findNextPageByKeywordFullText(String booleanQuery,
-                                              Long cursor,
-                                              String kind,
-                                              Pageable pageable);
+    List<GroupSummaryRow> findNextPageByKeywordFullText(String booleanQuery,
+                                                        Long cursor,
+                                                        String kind,
+                                                        Pageable pageable);
+
+    @Query("""
+            SELECT g.id AS groupId, g.name AS name, g.description AS description,
+                   g.currentMemberCount AS currentMemberCount, g.memberLimit AS memberLimit, g.thumbNailUrl AS thumbNailUrl,
+                   g.version + g.detailVersion AS version, g.groupKind AS groupKind, g.isDeleted AS deleted
+            FROM Group g
+            WHERE g.id > :lastId
+              AND g.groupKind = :groupKind
+              AND g.isDeleted = false
+            ORDER BY g.id
+            """)
+    List<GroupSearchRow> findSearchRowsAfterId(Long lastId, GroupKind groupKind, Pageable pageable);
+
+    /**
+     * 공개 / 삭제 여부와 상관없이 읽는다. 색인에서 뺄 때도 그 시점의 version 을 남겨야 하기 때문이다.
+     */
+    @Query("""
+            SELECT g.id AS groupId, g.name AS name, g.description AS description,
+                   g.currentMemberCount AS currentMemberCount, g.memberLimit AS memberLimit, g.thumbNailUrl AS thumbNailUrl,
+                   g.version + g.detailVersion AS version, g.groupKind AS groupKind, g.isDeleted AS deleted
+            FROM Group g
+            WHERE g.id = :groupId
+            """)
+    Optional<GroupSearchRow> findSearchRowById(Long groupId);
+
+    interface GroupVersionRow {
+        Long getVersion();
+        GroupKind getGroupKind();
+    }
+
+    interface GroupCounter {
+        Long getGroupId();
+        int getTravelCount();
+        int getReviewCount();
+    }
+
+    /**
+     * 그룹 목록 응답(GroupSummaryDto)에 필요한 컬럼만 담는 projection. 엔티티를 영속성 컨텍스트에 올리지 않는다.
+     */
+    interface GroupSummaryRow {
+        Long getGroupId();
+        String getName();
+        String getDescription();
+        int getCurrentMemberCount();
+        int getMemberLimit();
+        String getThumbNailUrl();
+    }
+
+    /**
+     * 검색 색인용 projection. version 은 findVersionById 와 같은 값이며, 늦게 끝난 다시 읽기가 더 새로운 문서를 덮지 않도록 비교하는 데 쓴다.
+     */
+    interface GroupSearchRow extends GroupSummaryRow {
+        Long getVersion();
+        GroupKind getGroupKind();
+        boolean getDeleted();
+    }
 }
@@ -0,0 +1,146 @@
+package org.triple.backend.group.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.triple.backend.group.entity.purge.GroupPurgeStage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 삭제된 그룹에 딸린 행을 단계별로 batch 단위 정리하는 JDBC 저장소
+ * 단계마다 지울 id 를 limit 개만 고른 뒤 PK 로 지워, 한 트랜잭션이 잡는 행 잠금을 limit 개로 제한한다.
+ * 조회 / 삭제 대상이 여러 엔티티에 걸쳐 있고 영속성 컨텍스트에 올릴 필요가 없어 SQL 로 직접 다룬다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GroupPurgeJdbcRepository {
+
+    private static final String FIND_REVIEW_IMAGES_SQL = """
+            SELECT tri.travel_review_image_id, tri.review_image_url
+            FROM travel_review_image tri
+            JOIN travel_review tr ON tr.travel_review_id = tri.travel_review_id
+            JOIN travel_itinerary ti ON ti.travel_itinerary_id = tr.travel_itinerary_id
+            WHERE ti.group_id = ?
+              AND tri.travel_review_image_id > ?
+            ORDER BY tri.travel_review_image_id
+            LIMIT ?
+            """;
+
+    private static final String FIND_THUMBNAIL_URL_SQL = "SELECT thumb_nail_url FROM travel_group WHERE group_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<ReviewImageRow> findReviewImagesAfterId(final Long groupId, final long lastId, final int limit) {
+        return jdbcTemplate.query(
+                FIND_REVIEW_IMAGES_SQL,
+                (rs, rowNum) -> new ReviewImageRow(rs.getLong(1), rs.getString(2)),
+                groupId, lastId, limit
+        );
+    }
+
+    /**
+     * 그룹 썸네일 URL. 그룹 행이 없거나 썸네일이 없으면 null
+     */
+    public String findThumbnailUrl(final Long groupId) {
+        List<String> urls = jdbcTemplate.queryForList(FIND_THUMBNAIL_URL_SQL, String.class, groupId);
+        return urls.isEmpty() ? null : urls.get(0);
+    }
+
+    public List<Long> findIds(final GroupPurgeStage stage, final Long groupId, final int limit) {
+        return jdbcTemplate.queryForList(target(stage).selectIdsSql(), Long.class, groupId, limit);
+    }
+
+    public int deleteByIds(final GroupPurgeStage stage, final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        PurgeTarget target = target(stage);
+        String sql = "DELETE FROM " + target.table() + " WHERE " + target.idColumn() + " IN (" + placeholders(ids.size()) + ")";
+        return jdbcTemplate.update(sql, ids.toArray());
+    }
+
+    /**
+     * 업로드 완료 시 저장한 파일 메타데이터(file) 중 정리한 URL 에 해당하는 행을 지운다.
+     */
+    public int deleteFilesByUploadedUrlIn(final List<String> uploadedUrls) {
+        List<String> urls = new ArrayList<>(uploadedUrls);
+        urls.removeIf(url -> url == null || url.isBlank());
+        if (urls.isEmpty()) {
+            return 0;
+        }
+        String sql = "DELETE FROM file WHERE uploaded_url IN (" + placeholders(urls.size()) + ")";
+        return jdbcTemplate.update(sql, urls.toArray());
+    }
+
+    private static String placeholders(final int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+
+    private static PurgeTarget target(final GroupPurgeStage stage) {
+        return switch (stage) {
+            case REVIEW_IMAGES -> new PurgeTarget("travel_review_image", "travel_review_image_id", """
+                    SELECT tri.travel_review_image_id
+                    FROM travel_review_image tri
+                    JOIN travel_review tr ON tr.travel_review_id = tri.travel_review_id
+                    JOIN travel_itinerary ti ON ti.travel_itinerary_id = tr.travel_itinerary_id
+                    WHERE ti.group_id = ?
+                    ORDER BY tri.travel_review_image_id
+                    LIMIT ?
+                    """);
+            case TRAVEL_REVIEWS -> new PurgeTarget("travel_review", "travel_review_id", """
+                    SELECT tr.travel_review_id
+                    FROM travel_review tr
+                    JOIN travel_itinerary ti ON ti.travel_itinerary_id = tr.travel_itinerary_id
+                    WHERE ti.group_id = ?
+                    ORDER BY tr.travel_review_id
+                    LIMIT ?
+                    """);
+            case USER_TRAVEL_ITINERARIES -> new PurgeTarget("user_travel_itinerary", "user_travel_itinerary_id", """
+                    SELECT uti.user_travel_itinerary_id
+                    FROM user_travel_itinerary uti
+                    JOIN travel_itinerary ti ON ti.travel_itinerary_id = uti.travel_itinerary_id
+                    WHERE ti.group_id = ?
+                    ORDER BY uti.user_travel_itinerary_id
+                    LIMIT ?
+                    """);
+            case TRAVEL_DOCS -> new PurgeTarget("travel_doc", "travel_doc_id", """
+                    SELECT td.travel_doc_id
+                    FROM travel_doc td
+                    JOIN travel_itinerary ti ON ti.travel_itinerary_id = td.travel_itinerary_id
+                    WHERE ti.group_id = ?
+                    ORDER BY td.travel_doc_id
+                    LIMIT ?
+                    """);
+            case TRANSFER_USERS -> new PurgeTarget("transfer_user", "transfer_user_id", """
+                    SELECT tu.transfer_user_id
+                    FROM transfer_user tu
+                    JOIN transfer t ON t.transfer_id = tu.transfer_id
+                    WHERE t.group_id = ?
+                    ORDER BY tu.transfer_user_id
+                    LIMIT ?
+                    """);
+            case TRANSFERS -> new PurgeTarget("transfer", "transfer_id", """
+                    SELECT transfer_id FROM transfer WHERE group_id = ? ORDER BY transfer_id LIMIT ?
+                    """);
+            case TRAVEL_ITINERARIES -> new PurgeTarget("travel_itinerary", "travel_itinerary_id", """
+                    SELECT travel_itinerary_id FROM travel_itinerary WHERE group_id = ? ORDER BY travel_itinerary_id LIMIT ?
+                    """);
+            case JOIN_APPLIES -> new PurgeTarget("join_apply", "join_apply_id", """
+                    SELECT join_apply_id FROM join_apply WHERE group_id = ? ORDER BY join_apply_id LIMIT ?
+                    """);
+            case USER_GROUPS -> new PurgeTarget("user_group", "user_group_id", """
+                    SELECT user_group_id FROM user_group WHERE group_id = ? ORDER BY user_group_id LIMIT ?
+                    """);
+            case REVIEW_IMAGE_OBJECTS, GROUP_THUMBNAIL_OBJECT, COMPLETED -> throw new IllegalArgumentException("행을 지우는 단계가 아닙니다: " + stage);
+        };
+    }
+
+    public record ReviewImageRow(long id, String url) {
+    }
+
+    private record PurgeTarget(String table, String idColumn, String selectIdsSql) {
+    }
+}
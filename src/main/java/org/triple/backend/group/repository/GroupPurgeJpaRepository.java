@@ -0,0 +1,68 @@
+package org.triple.backend.group.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.triple.backend.group.entity.purge.GroupPurge;
+import org.triple.backend.group.entity.purge.GroupPurgeStage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 진행 상황 갱신은 모두 "현재 단계가 기대한 값일 때만" 바꾸는 조건부 UPDATE 다.
+ * 여러 노드가 같은 작업을 집어도 단계 / 커서가 뒤로 돌아가지 않는다.
+ */
+public interface GroupPurgeJpaRepository extends JpaRepository<GroupPurge, Long> {
+
+    Optional<GroupPurge> findByGroupId(Long groupId);
+
+    @Query("SELECT p.id FROM GroupPurge p WHERE p.completedAt IS NULL ORDER BY p.id")
+    List<Long> findPendingIds(Pageable pageable);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE GroupPurge p
+            SET p.purgedRows = p.purgedRows + :rows
+            WHERE p.id = :id
+              AND p.stage = :stage
+            """)
+    int addPurgedRows(Long id, GroupPurgeStage stage, long rows);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE GroupPurge p
+            SET p.deletedObjects = p.deletedObjects + :deletedObjects
+            WHERE p.id = :id
+              AND p.stage = :stage
+            """)
+    int addDeletedObjects(Long id, GroupPurgeStage stage, long deletedObjects);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE GroupPurge p
+            SET p.lastId = :nextLastId,
+                p.deletedObjects = p.deletedObjects + :deletedObjects
+            WHERE p.id = :id
+              AND p.stage = :stage
+              AND p.lastId = :lastId
+            """)
+    int advanceCursor(Long id, GroupPurgeStage stage, long lastId, long nextLastId, long deletedObjects);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE GroupPurge p
+            SET p.stage = :nextStage,
+                p.lastId = 0,
+                p.completedAt = :completedAt
+            WHERE p.id = :id
+              AND p.stage = :currentStage
+            """)
+    int advanceStage(Long id, GroupPurgeStage currentStage, GroupPurgeStage nextStage, LocalDateTime completedAt);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE GroupPurge p SET p.failureCount = p.failureCount + 1 WHERE p.id = :id")
+    int increaseFailureCount(Long id);
+}
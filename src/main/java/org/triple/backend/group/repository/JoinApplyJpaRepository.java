@@ -1,6 +1,8 @@
 package org.triple.backend.group.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.domain.Pageable;
@@ -8,20 +10,33 @@ import org.triple.backend.group.entity.joinApply.JoinApply;
 import org.triple.backend.group.entity.joinApply.JoinApplyStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface JoinApplyJpaRepository extends JpaRepository<JoinApply, Long> {
 
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("DELETE FROM JoinApply ja WHERE ja.group.id = :groupId")
-    int bulkDeleteByGroupId(Long groupId);
-
     Optional<JoinApply> findByGroupIdAndUserId(Long groupId, Long userId);
 
     @Query("SELECT ja FROM JoinApply ja JOIN FETCH ja.user WHERE ja.id = :id AND ja.group.id = :groupId AND ja.joinApplyStatus = :status")
     Optional<JoinApply> findByIdAndGroupIdAndJoinApplyStatus(Long id, Long groupId, JoinApplyStatus status);
 
+    /**
+     * 일괄 승인 / 거절 대상 신청을 IN 한 번으로 읽고 잠근다. 처리 중에 단건 승인 / 거절이 같은 신청을 바꾸지 못한다.
+     * 신청자 row 까지 잠기지 않도록 user 는 fetch join 하지 않는다(신청자 id 는 FK 값으로 충분).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ja FROM JoinApply ja WHERE ja.id IN :ids AND ja.group.id = :groupId AND ja.joinApplyStatus = :status")
+    List<JoinApply> findAllForUpdateByIdInAndGroupIdAndJoinApplyStatus(Collection<Long> ids, Long groupId, JoinApplyStatus status);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE JoinApply ja SET ja.joinApplyStatus = :nextStatus, ja.approvedAt = :approvedAt WHERE ja.id IN :ids")
+    int approveAllByIdIn(Collection<Long> ids, JoinApplyStatus nextStatus, LocalDateTime approvedAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE JoinApply ja SET ja.joinApplyStatus = :nextStatus, ja.rejectedAt = :rejectedAt WHERE ja.id IN :ids")
+    int rejectAllByIdIn(Collection<Long> ids, JoinApplyStatus nextStatus, LocalDateTime rejectedAt);
+
     @Modifying
     @Query("""
             UPDATE JoinApply ja
@@ -37,17 +52,77 @@ public interface JoinApplyJpaRepository extends JpaRepository<JoinApply, Long> {
                               JoinApplyStatus nextStatus,
                               LocalDateTime rejectedAt);
 
+    /**
+     * PENDING 인 신청만 APPROVED 로 바꾼다. 동시에 같은 신청을 승인하면 한 요청만 1을 받는다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE JoinApply ja
+            SET ja.joinApplyStatus = :nextStatus,
+                ja.approvedAt = :approvedAt
+            WHERE ja.id = :id
+              AND ja.group.id = :groupId
+              AND ja.joinApplyStatus = :currentStatus
+            """)
+    int approveIfMatches(Long id,
+                         Long groupId,
+                         JoinApplyStatus currentStatus,
+                         JoinApplyStatus nextStatus,
+                         LocalDateTime approvedAt);
+
+    /**
+     * CANCELED / EXPIRED 인 신청만 PENDING 으로 되돌린다. 동시 재신청은 한 요청만 1을 받는다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE JoinApply ja
+            SET ja.joinApplyStatus = :nextStatus,
+                ja.approvedAt = null,
+                ja.rejectedAt = null,
+                ja.canceledAt = null,
+                ja.expiredAt = null
+            WHERE ja.id = :id
+              AND ja.joinApplyStatus = :currentStatus
+            """)
+    int reapplyIfMatches(Long id, JoinApplyStatus currentStatus, JoinApplyStatus nextStatus);
+
+    /**
+     * 만료 대상 신청 id 를 오래된 순으로 고른다. (join_apply_status, created_at) 인덱스 범위만 읽는다.
+     */
+    @Query("SELECT ja.id FROM JoinApply ja WHERE ja.joinApplyStatus = :status AND ja.createdAt < :createdBefore ORDER BY ja.createdAt, ja.id")
+    List<Long> findIdsByJoinApplyStatusAndCreatedAtBefore(JoinApplyStatus status, LocalDateTime createdBefore, Pageable pageable);
+
+    /**
+     * 고른 신청을 PK 로 잠그고 아직 status 인 것만 돌려준다. 그 사이 승인 / 거절된 신청은 빠진다.
+     * group 은 fetch join 하지 않으므로 travel_group row 는 읽지도 잠그지도 않는다(그룹 id 는 FK 값으로 충분).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ja FROM JoinApply ja WHERE ja.id IN :ids AND ja.joinApplyStatus = :status")
+    List<JoinApply> findAllForUpdateByIdInAndJoinApplyStatus(Collection<Long> ids, JoinApplyStatus status);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE JoinApply ja SET ja.joinApplyStatus = :nextStatus, ja.expiredAt = :expiredAt WHERE ja.id IN :ids")
+    int expireAllByIdIn(Collection<Long> ids, JoinApplyStatus nextStatus, LocalDateTime expiredAt);
+
     void deleteByGroupIdAndUserId(Long groupId, Long userId);
 
-    @Query("SELECT ja FROM JoinApply ja JOIN FETCH ja.user WHERE ja.group.id = :groupId ORDER BY ja.id DESC")
-    List<JoinApply> findFirstPageByGroupId(Long groupId, Pageable pageable);
+    @Query("SELECT ja.id AS joinApplyId, u.nickname AS nickname, u.description AS description, u.profileUrl AS profileUrl, ja.joinApplyStatus AS status FROM JoinApply ja JOIN ja.user u WHERE ja.group.id = :groupId ORDER BY ja.id DESC")
+    List<JoinApplyUserRow> findFirstPageByGroupId(Long groupId, Pageable pageable);
+
+    @Query("SELECT ja.id AS joinApplyId, u.nickname AS nickname, u.description AS description, u.profileUrl AS profileUrl, ja.joinApplyStatus AS status FROM JoinApply ja JOIN ja.user u WHERE ja.group.id = :groupId AND ja.id < :cursor ORDER BY ja.id DESC")
+    List<JoinApplyUserRow> findNextPageByGroupId(Long groupId, Long cursor, Pageable pageable);
 
-    @Query("SELECT ja FROM JoinApply ja JOIN FETCH ja.user WHERE ja.group.id = :groupId AND ja.id < :cursor ORDER BY ja.id DESC")
-    List<JoinApply> findNextPageByGroupId(Long groupId, Long cursor, Pageable pageable);
+    @Query("SELECT ja.id AS joinApplyId, u.nickname AS nickname, u.description AS description, u.profileUrl AS profileUrl, ja.joinApplyStatus AS status FROM JoinApply ja JOIN ja.user u WHERE ja.group.id = :groupId AND ja.joinApplyStatus = :status ORDER BY ja.id DESC")
+    List<JoinApplyUserRow> findFirstPageByGroupIdAndStatus(Long groupId, JoinApplyStatus status, Pageable pageable);
 
-    @Query("SELECT ja FROM JoinApply ja JOIN FETCH ja.user WHERE ja.group.id = :groupId AND ja.joinApplyStatus = :status ORDER BY ja.id DESC")
-    List<JoinApply> findFirstPageByGroupIdAndStatus(Long groupId, JoinApplyStatus status, Pageable pageable);
+    @Query("SELECT ja.id AS joinApplyId, u.nickname AS nickname, u.description AS description, u.profileUrl AS profileUrl, ja.joinApplyStatus AS status FROM JoinApply ja JOIN ja.user u WHERE ja.group.id = :groupId AND ja.joinApplyStatus = :status AND ja.id < :cursor ORDER BY ja.id DESC")
+    List<JoinApplyUserRow> findNextPageByGroupIdAndStatus(Long groupId, JoinApplyStatus status, Long cursor, Pageable pageable);
 
-    @Query("SELECT ja FROM JoinApply ja JOIN FETCH ja.user WHERE ja.group.id = :groupId AND ja.joinApplyStatus = :status AND ja.id < :cursor ORDER BY ja.id DESC")
-    List<JoinApply> findNextPageByGroupIdAndStatus(Long groupId, JoinApplyStatus status, Long cursor, Pageable pageable);
+    interface JoinApplyUserRow {
+        Long getJoinApplyId();
+        String getNickname();
+        String getDescription();
+        String getProfileUrl();
+        JoinApplyStatus getStatus();
+    }
 }
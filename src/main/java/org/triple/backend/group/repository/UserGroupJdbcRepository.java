@@ -0,0 +1,87 @@
+package org.triple.backend.group.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.triple.backend.group.entity.userGroup.JoinStatus;
+import org.triple.backend.group.entity.userGroup.Role;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * user_group 다건 쓰기 전용 JDBC 저장소
+ * UserGroup 은 IDENTITY 전략이라 JPA 로는 insert 를 batch 로 묶을 수 없어, 일괄 승인처럼 여러 멤버를 한 번에 넣을 때 사용한다.
+ * 조건부 상태 변경도 여기서 한다. HQL UPDATE 는 Hibernate 가 UserGroup 2차 캐시 region 전체를 비우기 때문이다.
+ * 여기서 바꾼 행은 Hibernate 가 모르므로 호출한 쪽에서 SecondLevelCacheSync.evict 로 해당 id 를 비워야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserGroupJdbcRepository {
+
+    private static final String INSERT_MEMBER_SQL = """
+            INSERT INTO user_group (group_id, user_id, role, join_status, joined_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String REJOIN_MEMBER_SQL = """
+            UPDATE user_group
+            SET role = ?, join_status = ?, joined_at = ?, left_at = NULL
+            WHERE user_group_id = ?
+              AND join_status = ?
+            """;
+
+    private static final String LEAVE_MEMBER_SQL = """
+            UPDATE user_group
+            SET join_status = ?, left_at = ?
+            WHERE user_group_id = ?
+              AND join_status = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsertMembers(final Long groupId, final List<Long> userIds, final Role role, final LocalDateTime joinedAt) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Timestamp joinedAtTimestamp = Timestamp.valueOf(joinedAt);
+        jdbcTemplate.batchUpdate(INSERT_MEMBER_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, groupId);
+            ps.setLong(2, userId);
+            ps.setString(3, role.name());
+            ps.setString(4, JoinStatus.JOINED.name());
+            ps.setTimestamp(5, joinedAtTimestamp);
+        });
+    }
+
+    /**
+     * LEFTED 인 멤버십만 JOINED 로 되돌린다.
+     */
+    public void batchRejoinMembers(final List<Long> userGroupIds, final Role role, final LocalDateTime joinedAt) {
+        if (userGroupIds.isEmpty()) {
+            return;
+        }
+        Timestamp joinedAtTimestamp = Timestamp.valueOf(joinedAt);
+        jdbcTemplate.batchUpdate(REJOIN_MEMBER_SQL, userGroupIds, userGroupIds.size(), (ps, userGroupId) -> {
+            ps.setString(1, role.name());
+            ps.setString(2, JoinStatus.JOINED.name());
+            ps.setTimestamp(3, joinedAtTimestamp);
+            ps.setLong(4, userGroupId);
+            ps.setString(5, JoinStatus.LEFTED.name());
+        });
+    }
+
+    /**
+     * JOINED 인 멤버십만 LEFTED 로 바꾼다. 같은 멤버의 동시 탈퇴 / 추방은 한 요청만 1을 받는다.
+     */
+    public int leaveIfJoined(final Long userGroupId, final LocalDateTime leftAt) {
+        return jdbcTemplate.update(
+                LEAVE_MEMBER_SQL,
+                JoinStatus.LEFTED.name(),
+                Timestamp.valueOf(leftAt),
+                userGroupId,
+                JoinStatus.JOINED.name()
+        );
+    }
+}
@@ -1,59 +1,81 @@
 package org.triple.backend.group.repository;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.triple.backend.group.entity.group.Group;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.triple.backend.global.cache.SecondLevelCacheRegions;
 import org.triple.backend.group.entity.userGroup.JoinStatus;
 import org.triple.backend.group.entity.userGroup.Role;
 import org.triple.backend.group.entity.userGroup.UserGroup;
+import org.triple.backend.group.repository.GroupJpaRepository.GroupSummaryRow;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface UserGroupJpaRepository extends JpaRepository<UserGroup, Long> {
 
     @Query("SELECT ug FROM UserGroup ug join fetch ug.user WHERE ug.group.id = :groupId AND ug.joinStatus = :joinStatus")
     List<UserGroup> findAllByGroupIdAndJoinStatus(Long groupId, JoinStatus joinStatus);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheRegions.USER_GROUP_QUERY)
+    })
     boolean existsByGroupIdAndUserIdAndRoleAndJoinStatus(Long groupId, Long userId, Role role, JoinStatus status);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheRegions.USER_GROUP_QUERY)
+    })
     boolean existsByGroupIdAndUserIdAndJoinStatus(Long groupId, Long userId, JoinStatus joinStatus);
     long countByGroupIdAndUserIdInAndJoinStatus(Long groupId, List<Long> userIds, JoinStatus joinStatus);
 
+    List<UserGroup> findAllByGroupIdAndUserIdIn(Long groupId, Collection<Long> userIds);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheRegions.USER_GROUP_QUERY)
+    })
     Optional<UserGroup> findByGroupIdAndUserIdAndJoinStatus(Long groupId, Long userId, JoinStatus joinStatus);
 
+    @Query("SELECT ug.group.id FROM UserGroup ug WHERE ug.user.id = :userId AND ug.joinStatus = :joinStatus")
+    List<Long> findGroupIdsByUserIdAndJoinStatus(Long userId, JoinStatus joinStatus);
+
     @Query("SELECT ug FROM UserGroup ug WHERE ug.group.id = :groupId AND ug.user.id = :userId")
     Optional<UserGroup> findByGroupIdAndUserId(Long groupId, Long userId);
 
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("DELETE FROM UserGroup ug WHERE ug.group.id = :groupId")
-    void bulkDeleteByGroupId(Long groupId);
-
 
     @Query("""
-        SELECT g FROM UserGroup ug
-        JOIN ug.group g ON ug.group.id = g.id
-        WHERE ug.user.id = :userId 
+        SELECT g.id AS groupId, g.name AS name, g.description AS description,
+               g.currentMemberCount AS currentMemberCount, g.memberLimit AS memberLimit, g.thumbNailUrl AS thumbNailUrl
+        FROM UserGroup ug
+        JOIN ug.group g
+        WHERE ug.user.id = :userId
             AND ug.joinStatus = :joinStatus
             AND g.isDeleted = false
             AND g.id < :cursor
         ORDER BY g.id desc
     """)
-    List<Group> findMyGroupsNextPage(Long userId, JoinStatus joinStatus, Long cursor, Pageable pageable);
+    List<GroupSummaryRow> findMyGroupsNextPage(Long userId, JoinStatus joinStatus, Long cursor, Pageable pageable);
 
     @Query("""
-        SELECT g FROM UserGroup ug
-        JOIN ug.group g ON ug.group.id = g.id
+        SELECT g.id AS groupId, g.name AS name, g.description AS description,
+               g.currentMemberCount AS currentMemberCount, g.memberLimit AS memberLimit, g.thumbNailUrl AS thumbNailUrl
+        FROM UserGroup ug
+        JOIN ug.group g
         WHERE ug.user.id = :userId
             AND ug.joinStatus = :joinStatus
             AND g.isDeleted = false
         ORDER BY g.id desc
     """)
-    List<Group> findMyGroupsFirstPage(Long userId, JoinStatus joinStatus, Pageable pageable);
+    List<GroupSummaryRow> findMyGroupsFirstPage(Long userId, JoinStatus joinStatus, Pageable pageable);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("""
@@ -66,4 +88,39 @@ public interface UserGroupJpaRepository extends JpaRepository<UserGroup, Long> {
          ORDER BY ug.user.id
     """)
     List<UserGroup> findJoinedUsersInGroupForUpdate(Long groupId, JoinStatus joinStatus, List<Long> userIds);
+
+    @Query("""
+        SELECT ug.id AS userGroupId, u.publicUuid AS publicUuid, u.nickname AS nickname,
+               u.description AS description, u.profileUrl AS profileUrl, ug.role AS role
+        FROM UserGroup ug
+        JOIN ug.user u
+        WHERE ug.group.id = :groupId
+            AND ug.joinStatus = :joinStatus
+        ORDER BY ug.id desc
+    """)
+    List<GroupMemberRow> findMembersFirstPage(Long groupId, JoinStatus joinStatus, Pageable pageable);
+
+    @Query("""
+        SELECT ug.id AS userGroupId, u.publicUuid AS publicUuid, u.nickname AS nickname,
+               u.description AS description, u.profileUrl AS profileUrl, ug.role AS role
+        FROM UserGroup ug
+        JOIN ug.user u
+        WHERE ug.group.id = :groupId
+            AND ug.joinStatus = :joinStatus
+            AND ug.id < :cursor
+        ORDER BY ug.id desc
+    """)
+    List<GroupMemberRow> findMembersNextPage(Long groupId, JoinStatus joinStatus, Long cursor, Pageable pageable);
+
+    /**
+     * 멤버 목록 / 상세 미리보기에 필요한 컬럼만 담는 projection. 커서는 멤버십 id(userGroupId)
+     */
+    interface GroupMemberRow {
+        Long getUserGroupId();
+        UUID getPublicUuid();
+        String getNickname();
+        String getDescription();
+        String getProfileUrl();
+        Role getRole();
+    }
 }
@@ -0,0 +1,70 @@
+package org.triple.backend.group.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 공개 그룹 이름 자동완성 색인
+ * 1. 원본 : GroupSearchIndex 의 문서를 그대로 사용. 생성 / 수정 / 삭제 반영 경로(이벤트, 노드 간 전파, 기동 시 재구성)를 공유하여 DB 를 따로 읽지 않음
+ * 2. 갱신(refresh) : 이름이 바뀌거나 그룹이 들어오고 빠져 GroupSearchIndex 의 keyVersion 이 바뀌었을 때만 불변 PrefixIndex 를 새로 만들어 교체.
+ *    변경이 몰려도 refresh-interval 마다 한 번만 다시 만들며, 조회는 교체된 참조만 읽으므로 잠금이 없음
+ * 3. 순위 갱신(refreshRanking) : 인원 수 / 여행 수처럼 이름 외의 값만 바뀐 경우는 ranking-refresh-interval 마다 한 번만 다시 만듦.
+ *    그 사이에는 순위만 늦게 반영되고, 응답 문서는 조회 시점의 검색 색인 문서로 바꿔 돌려주므로 인원 수는 최신 값임
+ * 4. 조회(suggest) : 한글 자모 단위 접두어 일치 (PrefixIndex, HangulJamo 참고)
+ */
+@Slf4j
+@Component
+public class GroupAutocompleteIndex {
+
+    private final GroupSearchIndex groupSearchIndex;
+    private final int maxSuggestions;
+
+    private volatile PrefixIndex prefixIndex = PrefixIndex.empty();
+    private volatile long builtVersion = -1L;
+    private volatile long builtKeyVersion = -1L;
+
+    public GroupAutocompleteIndex(
+            final GroupSearchIndex groupSearchIndex,
+            @Value("${group.autocomplete.max-suggestions:10}") final int maxSuggestions
+    ) {
+        this.groupSearchIndex = groupSearchIndex;
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    public List<GroupSearchDocument> suggest(String prefix, int limit) {
+        return prefixIndex.suggest(prefix, Math.min(limit, maxSuggestions)).stream()
+                .map(document -> groupSearchIndex.document(document.groupId()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${group.autocomplete.refresh-interval:PT1S}")
+    public synchronized void refresh() {
+        if (groupSearchIndex.keyVersion() == builtKeyVersion) return;
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${group.autocomplete.ranking-refresh-interval:PT1M}")
+    public synchronized void refreshRanking() {
+        if (groupSearchIndex.version() == builtVersion) return;
+        rebuild();
+    }
+
+    private void rebuild() {
+        // 문서를 읽는 중에 바뀐 내용은 다음 갱신에서 반영되도록 version 을 먼저 읽는다.
+        long version = groupSearchIndex.version();
+        long keyVersion = groupSearchIndex.keyVersion();
+
+        PrefixIndex rebuilt = PrefixIndex.build(groupSearchIndex.documents(), maxSuggestions);
+        prefixIndex = rebuilt;
+        builtVersion = version;
+        builtKeyVersion = keyVersion;
+
+        log.debug("그룹 자동완성 색인 갱신 = {}건, version = {}", rebuilt.size(), version);
+    }
+}
@@ -0,0 +1,32 @@
+package org.triple.backend.group.search;
+
+import org.triple.backend.group.dto.response.GroupCursorResponseDto.GroupSummaryDto;
+import org.triple.backend.group.repository.GroupJpaRepository.GroupSummaryRow;
+
+/**
+ * 검색 색인에 저장되는 공개 그룹 한 건. 검색 결과를 DB 없이 만들 수 있도록 목록 응답에 필요한 값을 모두 가진다.
+ */
+public record GroupSearchDocument(
+        Long groupId,
+        String name,
+        String description,
+        int currentMemberCount,
+        int memberLimit,
+        String thumbNailUrl
+) {
+
+    public static GroupSearchDocument from(final GroupSummaryRow row) {
+        return new GroupSearchDocument(
+                row.getGroupId(),
+                row.getName(),
+                row.getDescription(),
+                row.getCurrentMemberCount(),
+                row.getMemberLimit(),
+                row.getThumbNailUrl()
+        );
+    }
+
+    public GroupSummaryDto toSummary() {
+        return new GroupSummaryDto(groupId, name, description, currentMemberCount, memberLimit, thumbNailUrl);
+    }
+}
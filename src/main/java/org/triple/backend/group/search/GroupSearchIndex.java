@@ -0,0 +1,376 @@
+package org.triple.backend.group.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.triple.backend.global.cache.CacheInvalidationBus;
+import org.triple.backend.group.entity.group.GroupKind;
+import org.triple.backend.group.event.GroupDetailChangedEvent;
+import org.triple.backend.group.repository.GroupJpaRepository;
+import org.triple.backend.group.repository.GroupJpaRepository.GroupSearchRow;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공개 그룹 name / description 에 대한 프로세스 내 n-gram 역색인
+ * 1. 색인 : gram -> groupId(내림차순) posting. 분석 규칙은 NGramAnalyzer 참고
+ * 2. 검색(search) : 검색어 토큰마다 부분 문자열로 포함되어야 함(AND)
+ *    - 모든 토큰의 gram 중 posting 이 가장 짧은 것을 후보로 잡고, 저장된 문서 본문으로 다시 확인하여 gram 오탐을 걸러냄
+ *    - 후보를 group_id 내림차순으로 cursor 미만부터 limit 개까지만 훑음 (findNextPageByKeywordFullText 와 같은 커서 규칙)
+ * 3. 갱신 : GroupDetailChangedEvent 커밋 이후 해당 그룹 한 건을 다시 읽어 반영함
+ *    같은 그룹의 다시 읽기가 순서를 바꿔 끝날 수 있으므로 읽은 version 을 문서와 함께 두고, 더 오래된 결과는 버림
+ *    색인에서 뺀 그룹도 그 version 을 남겨 늦게 도착한 옛 문서가 다시 들어오지 않게 함 (재구성 때 비워짐)
+ *    다른 노드에는 발행 시점(트랜잭션 안)에 CacheInvalidationBus 로 다시 읽도록 알리고, 버스가 커밋 이후에 전송함
+ *    (커밋 이후 콜백 안에서 버스에 발행하면 전송 동기화가 실행되지 않음)
+ * 4. 재구성(rebuild) : 기동 완료 시 DB 를 group_id 순으로 끊어 읽어 새 색인을 만든 뒤 교체. 재구성 중 바뀐 그룹은 교체 후 다시 반영함
+ *    기동 시 재구성에 실패하면 retry-initial-backoff 부터 두 배씩(최대 retry-max-backoff) 늘려가며 준비될 때까지 다시 시도함
+ * 재구성이 끝나기 전(isReady = false)에는 호출자가 DB 검색으로 대신해야 함
+ */
+@Slf4j
+@Component
+public class GroupSearchIndex {
+
+    static final String CACHE_NAME = "group-search";
+    private static final long UNVERSIONED = Long.MIN_VALUE;
+
+    private final GroupJpaRepository groupJpaRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final int rebuildBatchSize;
+    private final Duration retryInitialBackoff;
+    private final Duration retryMaxBackoff;
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong keyVersion = new AtomicLong();
+
+    private volatile Index index = new Index();
+    private volatile Set<Long> changedDuringRebuild;
+    private volatile boolean ready = false;
+    private volatile Instant nextRetryAt;
+    private Duration retryBackoff;
+
+    public GroupSearchIndex(
+            final GroupJpaRepository groupJpaRepository,
+            final CacheInvalidationBus cacheInvalidationBus,
+            final int rebuildBatchSize
+    ) {
+        this(groupJpaRepository, cacheInvalidationBus, rebuildBatchSize, Duration.ofSeconds(5), Duration.ofMinutes(5));
+    }
+
+    @Autowired
+    public GroupSearchIndex(
+            final GroupJpaRepository groupJpaRepository,
+            final CacheInvalidationBus cacheInvalidationBus,
+            @Value("${group.search.rebuild-batch-size:1000}") final int rebuildBatchSize,
+            @Value("${group.search.rebuild-retry-initial-backoff:PT5S}") final Duration retryInitialBackoff,
+            @Value("${group.search.rebuild-retry-max-backoff:PT5M}") final Duration retryMaxBackoff
+    ) {
+        this.groupJpaRepository = groupJpaRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.retryInitialBackoff = retryInitialBackoff;
+        this.retryMaxBackoff = retryMaxBackoff;
+        this.retryBackoff = retryInitialBackoff;
+        cacheInvalidationBus.register(CACHE_NAME, key -> reload(Long.valueOf(key)));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인이 바뀔 때마다 증가한다. 색인에서 파생된 구조(GroupAutocompleteIndex)가 다시 만들지 판단하는 데 쓴다.
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 그룹 이름이 바뀌거나 그룹이 색인에 들어오고 빠질 때만 증가한다. 인원 수 등 나머지 값만 바뀌면 version 만 증가한다.
+     */
+    public long keyVersion() {
+        return keyVersion.get();
+    }
+
+    /**
+     * 색인에 있는 그룹의 현재 문서. 없으면 null
+     */
+    public GroupSearchDocument document(Long groupId) {
+        Entry entry = index.entries.get(groupId);
+        return entry == null ? null : entry.document();
+    }
+
+    public Collection<GroupSearchDocument> documents() {
+        return index.entries.values().stream()
+                .map(Entry::document)
+                .toList();
+    }
+
+    public List<GroupSearchDocument> search(String keyword, Long cursor, int limit) {
+        List<String> tokens = NGramAnalyzer.tokenize(keyword);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        Index current = index;
+        Posting candidates = current.mostSelectivePosting(tokens);
+        if (candidates == null) {
+            return List.of();
+        }
+
+        NavigableSet<Long> ids = cursor == null ? candidates.ids : candidates.ids.tailSet(cursor, false);
+        List<GroupSearchDocument> hits = new ArrayList<>(limit);
+        for (Long groupId : ids) {
+            Entry entry = current.entries.get(groupId);
+            if (entry != null && entry.containsAll(tokens)) {
+                hits.add(entry.document());
+                if (hits.size() >= limit) break;
+            }
+        }
+        return hits;
+    }
+
+    @EventListener
+    public void publishRefresh(GroupDetailChangedEvent event) {
+        cacheInvalidationBus.publish(CACHE_NAME, event.groupId().toString());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void refreshAfterCommit(GroupDetailChangedEvent event) {
+        reload(event.groupId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        tryRebuild();
+    }
+
+    /**
+     * 기동 시 재구성이 실패한 경우에만 동작한다. 대기 시간이 지났으면 다시 재구성한다.
+     */
+    @Scheduled(fixedDelayString = "${group.search.rebuild-retry-check-interval:PT1S}")
+    public void retryRebuild() {
+        Instant retryAt = nextRetryAt;
+        if (ready || retryAt == null || Instant.now().isBefore(retryAt)) return;
+        tryRebuild();
+    }
+
+    private void tryRebuild() {
+        try {
+            rebuild();
+            nextRetryAt = null;
+            retryBackoff = retryInitialBackoff;
+        } catch (RuntimeException e) {
+            // 재구성에 실패해도 기동은 막지 않는다. 준비되지 않은 동안 검색은 DB 로 처리된다.
+            log.error("그룹 검색 색인 재구성 실패, {} 후 다시 시도", retryBackoff, e);
+            nextRetryAt = Instant.now().plus(retryBackoff);
+            retryBackoff = retryBackoff.multipliedBy(2).compareTo(retryMaxBackoff) > 0 ? retryMaxBackoff : retryBackoff.multipliedBy(2);
+        }
+    }
+
+    /**
+     * 다음 재시도 시각. 재시도가 필요 없으면 null
+     */
+    public Instant nextRetryAt() {
+        return nextRetryAt;
+    }
+
+    public void rebuild() {
+        Set<Long> changed = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changed;
+
+        Index fresh = new Index();
+        long lastId = 0L;
+        while (true) {
+            List<GroupSearchRow> rows = groupJpaRepository.findSearchRowsAfterId(lastId, GroupKind.PUBLIC, PageRequest.of(0, rebuildBatchSize));
+            rows.forEach(row -> fresh.put(GroupSearchDocument.from(row), row.getVersion()));
+            if (rows.size() < rebuildBatchSize) break;
+            lastId = rows.get(rows.size() - 1).getGroupId();
+        }
+
+        synchronized (this) {
+            index = fresh;
+            changedDuringRebuild = null;
+            version.incrementAndGet();
+            keyVersion.incrementAndGet();
+        }
+        changed.forEach(this::reload);
+        ready = true;
+
+        log.info("그룹 검색 색인 재구성 완료 = {}건", fresh.entries.size());
+    }
+
+    /**
+     * 그룹 한 건을 DB 에서 다시 읽어 반영한다. 비공개 전환 / 삭제된 그룹은 색인에서 빠진다.
+     */
+    public void reload(Long groupId) {
+        Set<Long> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(groupId);
+        }
+
+        groupJpaRepository.findSearchRowById(groupId).ifPresentOrElse(
+                row -> {
+                    if (row.getGroupKind() == GroupKind.PUBLIC && !row.getDeleted()) {
+                        put(GroupSearchDocument.from(row), row.getVersion());
+                    } else {
+                        remove(groupId, row.getVersion());
+                    }
+                },
+                // 행이 없으면 완전히 삭제된 그룹이다. id 는 다시 쓰이지 않으므로 어떤 문서도 다시 들어오지 않게 한다.
+                () -> remove(groupId, Long.MAX_VALUE)
+        );
+    }
+
+    /**
+     * version 을 확인하지 않고 반영한다.
+     */
+    public void put(GroupSearchDocument document) {
+        put(document, UNVERSIONED);
+    }
+
+    public void remove(Long groupId) {
+        remove(groupId, UNVERSIONED);
+    }
+
+    private synchronized void put(GroupSearchDocument document, long loadedVersion) {
+        if (index.isNewerThan(document.groupId(), loadedVersion)) return;
+
+        GroupSearchDocument previous = document(document.groupId());
+        index.put(document, loadedVersion);
+        version.incrementAndGet();
+        if (previous == null || !Objects.equals(previous.name(), document.name())) {
+            keyVersion.incrementAndGet();
+        }
+    }
+
+    private synchronized void remove(Long groupId, long loadedVersion) {
+        if (index.isNewerThan(groupId, loadedVersion)) return;
+
+        if (index.entries.containsKey(groupId)) {
+            keyVersion.incrementAndGet();
+        }
+        index.remove(groupId, loadedVersion);
+        version.incrementAndGet();
+    }
+
+    public synchronized void clear() {
+        index = new Index();
+        version.incrementAndGet();
+        keyVersion.incrementAndGet();
+    }
+
+    private static final class Index {
+
+        private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+        private final Map<Long, Long> removedVersions = new ConcurrentHashMap<>();
+        private final Map<String, Posting> postings = new ConcurrentHashMap<>();
+
+        private boolean isNewerThan(Long groupId, long loadedVersion) {
+            if (loadedVersion == UNVERSIONED) return false;
+            Entry entry = entries.get(groupId);
+            long storedVersion = entry != null ? entry.version() : removedVersions.getOrDefault(groupId, UNVERSIONED);
+            return storedVersion > loadedVersion;
+        }
+
+        private void put(GroupSearchDocument document, long loadedVersion) {
+            unlink(document.groupId());
+            removedVersions.remove(document.groupId());
+
+            Entry entry = Entry.of(document, loadedVersion);
+            entries.put(document.groupId(), entry);
+            for (String gram : entry.grams()) {
+                postings.computeIfAbsent(gram, key -> new Posting()).add(document.groupId());
+            }
+        }
+
+        private void remove(Long groupId, long loadedVersion) {
+            unlink(groupId);
+            if (loadedVersion != UNVERSIONED) {
+                removedVersions.put(groupId, loadedVersion);
+            }
+        }
+
+        private void unlink(Long groupId) {
+            Entry previous = entries.remove(groupId);
+            if (previous == null) return;
+
+            for (String gram : previous.grams()) {
+                Posting posting = postings.get(gram);
+                if (posting != null && posting.remove(groupId) && posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+
+        private Posting mostSelectivePosting(List<String> tokens) {
+            Posting selected = null;
+            for (String token : tokens) {
+                for (String gram : NGramAnalyzer.queryGrams(token)) {
+                    Posting posting = postings.get(gram);
+                    if (posting == null) {
+                        return null;
+                    }
+                    if (selected == null || posting.size() < selected.size()) {
+                        selected = posting;
+                    }
+                }
+            }
+            return selected;
+        }
+    }
+
+    private static final class Posting {
+
+        private final NavigableSet<Long> ids = new ConcurrentSkipListSet<>(Comparator.reverseOrder());
+        private final AtomicInteger size = new AtomicInteger();
+
+        private void add(Long groupId) {
+            if (ids.add(groupId)) size.incrementAndGet();
+        }
+
+        private boolean remove(Long groupId) {
+            boolean removed = ids.remove(groupId);
+            if (removed) size.decrementAndGet();
+            return removed;
+        }
+
+        private int size() {
+            return size.get();
+        }
+
+        private boolean isEmpty() {
+            return size.get() == 0;
+        }
+    }
+
+    private record Entry(GroupSearchDocument document, long version, String text, Set<String> grams) {
+
+        private static Entry of(GroupSearchDocument document, long version) {
+            String text = NGramAnalyzer.normalize(document.name()) + "\n" + NGramAnalyzer.normalize(document.description());
+            return new Entry(document, version, text, NGramAnalyzer.indexGrams(text));
+        }
+
+        private boolean containsAll(List<String> tokens) {
+            return tokens.stream().allMatch(text::contains);
+        }
+    }
+}
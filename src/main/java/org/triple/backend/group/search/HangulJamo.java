@@ -0,0 +1,113 @@
+package org.triple.backend.group.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 자동완성용 한글 자모 분해
+ * 1. 완성형 음절은 초성 / 중성 / 종성의 호환 자모(ㄱ, ㅏ ...)로 분해하고, 겹받침 / 이중 모음은 입력 순서대로 다시 나눔
+ *    (ㄺ -> ㄹㄱ, ㅘ -> ㅗㅏ). 입력 중인 "젲" 이 "제주" 의, "닭" 이 "달걀" 의 접두어가 되도록 하기 위함
+ * 2. 단독으로 입력된 호환 자모도 같은 규칙으로 나누어 음절 분해 결과와 같은 문자 집합을 씀
+ * 3. 초성 키(choseong) : 음절은 초성만 남기고 공백은 제거. "ㅈㅈㅇㅎ" 로 "제주 여행" 을 찾는 초성 검색용
+ * 한글이 아닌 문자는 소문자로 그대로 둔다.
+ */
+final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private HangulJamo() {
+    }
+
+    /**
+     * NFC + 소문자 + 연속 공백 하나로 축약. NFKC 는 호환 자모를 첫가끝 자모로 바꾸므로 쓰지 않는다.
+     */
+    static String normalize(String text) {
+        if (text == null) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    static String decompose(String normalized) {
+        StringBuilder builder = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BEGIN;
+                builder.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+                        .append(JUNGSEONG[(offset / JONGSEONG_COUNT) % JUNGSEONG_COUNT])
+                        .append(JONGSEONG[offset % JONGSEONG_COUNT]);
+            } else {
+                builder.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+            }
+        }
+        return builder.toString();
+    }
+
+    static String choseong(String normalized) {
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c == ' ') continue;
+            if (isSyllable(c)) {
+                builder.append(CHOSEONG[(c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 두 글자 이상이 모두 호환 자음이면 초성 검색으로 본다.
+     * 한 글자 자음은 일반 자모 접두어로도 같은 결과가 나오므로 제외한다.
+     */
+    static boolean isChoseongQuery(String normalized) {
+        if (normalized.length() < 2) return false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c != ' ' && !isConsonant(c)) return false;
+        }
+        return true;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    private static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+}
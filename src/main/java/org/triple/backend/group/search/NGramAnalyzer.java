@@ -0,0 +1,67 @@
+package org.triple.backend.group.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 그룹 검색용 n-gram 분석기
+ * 1. 정규화 : NFKC + 소문자. 조합형(NFD)으로 들어온 한글과 전각 문자를 색인 / 검색 양쪽에서 같은 형태로 맞춤
+ * 2. 토큰 : 문자 / 숫자가 아닌 모든 문자를 경계로 자름 (기존 boolean mode 변환과 같은 기준)
+ * 3. gram : 토큰마다 음절 단위 unigram + bigram. 형태소 분석 없이도 "제주여행" 이 "여행", "주여" 로 검색됨
+ */
+final class NGramAnalyzer {
+
+    private static final String TOKEN_DELIMITER = "[^\\p{L}\\p{N}]+";
+
+    private NGramAnalyzer() {
+    }
+
+    static String normalize(String text) {
+        if (text == null) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    static List<String> tokenize(String text) {
+        return Arrays.stream(normalize(text).split(TOKEN_DELIMITER))
+                .filter(token -> !token.isBlank())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 문서 색인용. 한 글자 검색어도 찾을 수 있도록 unigram 까지 함께 만든다.
+     */
+    static Set<String> indexGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : tokenize(text)) {
+            int[] codePoints = token.codePoints().toArray();
+            for (int i = 0; i < codePoints.length; i++) {
+                grams.add(new String(codePoints, i, 1));
+                if (i + 1 < codePoints.length) {
+                    grams.add(new String(codePoints, i, 2));
+                }
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어 토큰용. 두 글자 이상이면 bigram 만 사용한다 (bigram 이 더 선택적이므로).
+     */
+    static Set<String> queryGrams(String token) {
+        int[] codePoints = token.codePoints().toArray();
+        if (codePoints.length == 1) {
+            return Set.of(token);
+        }
+
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,155 @@
+package org.triple.backend.group.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 정렬된 키 배열 기반의 불변 접두어 색인
+ * 1. 키 : 그룹 이름의 각 단어 시작 위치부터의 자모 분해 문자열 + 초성 키(CHOSEONG_MARK 로 구분). 키는 정렬된 String[] 에, 문서는 순위(int)로만 가리킴
+ * 2. 순위 : 현재 인원 많은 순, 같으면 group_id 내림차순. 순위가 작을수록 먼저 노출
+ * 3. 짧은 접두어(HOT_PREFIX_LENGTH 이하) : 후보가 많으므로 빌드 시 접두어별 상위 maxSuggestions 개 순위를 미리 계산해 둠
+ *    긴 접두어 : 이진 탐색으로 키 범위를 찾고 그 안에서 순위가 작은 것부터 고름 (범위가 충분히 좁음)
+ */
+final class PrefixIndex {
+
+    static final char CHOSEONG_MARK = '\u0001';
+    private static final int HOT_PREFIX_LENGTH = 3;
+
+    private static final PrefixIndex EMPTY = new PrefixIndex(new GroupSearchDocument[0], new String[0], new int[0], Map.of());
+
+    private final GroupSearchDocument[] ranked;
+    private final String[] keys;
+    private final int[] ranks;
+    private final Map<String, int[]> hotPrefixes;
+
+    private PrefixIndex(GroupSearchDocument[] ranked, String[] keys, int[] ranks, Map<String, int[]> hotPrefixes) {
+        this.ranked = ranked;
+        this.keys = keys;
+        this.ranks = ranks;
+        this.hotPrefixes = hotPrefixes;
+    }
+
+    static PrefixIndex empty() {
+        return EMPTY;
+    }
+
+    static PrefixIndex build(Collection<GroupSearchDocument> documents, int maxSuggestions) {
+        GroupSearchDocument[] ranked = documents.stream()
+                .sorted(Comparator.comparingInt(GroupSearchDocument::currentMemberCount).reversed()
+                        .thenComparing(GroupSearchDocument::groupId, Comparator.reverseOrder()))
+                .toArray(GroupSearchDocument[]::new);
+
+        // 순위 순서로 키를 만들어 두면 접두어별 상위 목록은 앞에서부터 채우기만 하면 된다.
+        List<KeyRank> entries = new ArrayList<>();
+        Map<String, Set<Integer>> hot = new HashMap<>();
+        for (int rank = 0; rank < ranked.length; rank++) {
+            for (String key : keysOf(ranked[rank].name())) {
+                entries.add(new KeyRank(key, rank));
+                for (int length = 1; length <= Math.min(HOT_PREFIX_LENGTH, key.length()); length++) {
+                    Set<Integer> top = hot.computeIfAbsent(key.substring(0, length), prefix -> new LinkedHashSet<>());
+                    if (top.size() < maxSuggestions) {
+                        top.add(rank);
+                    }
+                }
+            }
+        }
+
+        entries.sort(Comparator.comparing(KeyRank::key).thenComparingInt(KeyRank::rank));
+        String[] keys = new String[entries.size()];
+        int[] ranks = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            keys[i] = entries.get(i).key();
+            ranks[i] = entries.get(i).rank();
+        }
+
+        Map<String, int[]> hotPrefixes = new HashMap<>(hot.size());
+        hot.forEach((prefix, top) -> hotPrefixes.put(prefix, top.stream().mapToInt(Integer::intValue).toArray()));
+
+        return new PrefixIndex(ranked, keys, ranks, hotPrefixes);
+    }
+
+    List<GroupSearchDocument> suggest(String query, int limit) {
+        String normalized = HangulJamo.normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        String key = HangulJamo.isChoseongQuery(normalized)
+                ? CHOSEONG_MARK + HangulJamo.choseong(normalized)
+                : HangulJamo.decompose(normalized);
+
+        int[] top = key.length() <= HOT_PREFIX_LENGTH ? hotPrefixes.get(key) : topRanksInRange(key, limit);
+        if (top == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(top)
+                .limit(limit)
+                .mapToObj(rank -> ranked[rank])
+                .toList();
+    }
+
+    int size() {
+        return ranked.length;
+    }
+
+    private int[] topRanksInRange(String prefix, int limit) {
+        int from = lowerBound(prefix);
+        int to = lowerBound(prefix + Character.MAX_VALUE);
+        if (from >= to) {
+            return null;
+        }
+
+        return Arrays.stream(ranks, from, to)
+                .distinct()
+                .sorted()
+                .limit(limit)
+                .toArray();
+    }
+
+    private int lowerBound(String target) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(target) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 이름 전체와 각 단어 시작 위치부터의 나머지를 키로 쓴다. "서울 러닝 크루" 는 "러닝", "크루" 로도 찾을 수 있다.
+     */
+    private static Set<String> keysOf(String name) {
+        String normalized = HangulJamo.normalize(name);
+        Set<String> keys = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+
+        int start = 0;
+        while (start >= 0) {
+            String suffix = normalized.substring(start);
+            keys.add(HangulJamo.decompose(suffix));
+            keys.add(CHOSEONG_MARK + HangulJamo.choseong(suffix));
+
+            int space = normalized.indexOf(' ', start);
+            start = space < 0 ? -1 : space + 1;
+        }
+        return keys;
+    }
+
+    private record KeyRank(String key, int rank) {
+    }
+}
@@ -0,0 +1,31 @@
+package org.triple.backend.group.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.triple.backend.global.cdn.CdnPurger;
+import org.triple.backend.group.event.GroupDetailChangedEvent;
+import org.triple.backend.group.event.PublicGroupListChangedEvent;
+
+/**
+ * 그룹 변경이 커밋되면 CDN 에 캐시된 공개 목록 응답을 purge 한다.
+ * 1. 그룹 정보 / 인원 수 변경, 삭제 : 그 그룹이 들어 있는 응답(group-{id})
+ * 2. 공개 그룹 생성 / 수정 : 새로 목록에 들어갈 수 있으므로 모든 목록 응답(public-list)
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupCdnPurgeListener {
+
+    private final CdnPurger cdnPurger;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void purgeGroup(final GroupDetailChangedEvent event) {
+        cdnPurger.purge(GroupSurrogateKeys.group(event.groupId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void purgePublicList(final PublicGroupListChangedEvent event) {
+        cdnPurger.purge(GroupSurrogateKeys.PUBLIC_LIST);
+    }
+}
@@ -0,0 +1,114 @@
+package org.triple.backend.group.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.triple.backend.group.event.GroupDetailChangedEvent;
+import org.triple.backend.group.repository.GroupJpaRepository;
+import org.triple.backend.group.repository.GroupJpaRepository.GroupCounter;
+import org.triple.backend.travel.repository.TravelItineraryJpaRepository;
+import org.triple.backend.travel.repository.TravelItineraryJpaRepository.GroupIdCount;
+import org.triple.backend.travel.repository.TravelReviewJpaRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * 그룹의 travelCount / reviewCount 보정
+ * group_id 순으로 batch-size 개씩 끊어 실제 개수를 GROUP BY 로 다시 세고, 어긋난 그룹만 조건부 UPDATE 로 고침
+ * 청크마다 트랜잭션을 나눠 저장된 값과 실제 개수를 같은 스냅샷에서 비교하며,
+ * 그 사이 생성 / 삭제로 값이 바뀐 그룹은 UPDATE 조건에 걸려 건너뛰고 다음 실행에서 다시 확인함
+ */
+@Slf4j
+@Component
+public class GroupCounterReconciler {
+
+    private final GroupJpaRepository groupJpaRepository;
+    private final TravelItineraryJpaRepository travelItineraryJpaRepository;
+    private final TravelReviewJpaRepository travelReviewJpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public GroupCounterReconciler(
+            final GroupJpaRepository groupJpaRepository,
+            final TravelItineraryJpaRepository travelItineraryJpaRepository,
+            final TravelReviewJpaRepository travelReviewJpaRepository,
+            final ApplicationEventPublisher eventPublisher,
+            final PlatformTransactionManager transactionManager,
+            @Value("${group.counter-reconcile.batch-size:500}") final int batchSize
+    ) {
+        this.groupJpaRepository = groupJpaRepository;
+        this.travelItineraryJpaRepository = travelItineraryJpaRepository;
+        this.travelReviewJpaRepository = travelReviewJpaRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${group.counter-reconcile.interval:PT1H}")
+    public int reconcile() {
+        long lastId = 0L;
+        int fixed = 0;
+
+        while (true) {
+            long afterId = lastId;
+            ChunkResult chunk = transactionTemplate.execute(status -> reconcileChunk(afterId));
+            if (chunk == null) break;
+
+            fixed += chunk.fixed();
+            if (chunk.size() < batchSize) break;
+            lastId = chunk.lastId();
+        }
+
+        if (fixed > 0) {
+            log.warn("그룹 카운터 보정 = {}건", fixed);
+        }
+        return fixed;
+    }
+
+    private ChunkResult reconcileChunk(long lastId) {
+        List<GroupCounter> counters = groupJpaRepository.findCountersAfterId(lastId, PageRequest.of(0, batchSize));
+        if (counters.isEmpty()) return null;
+
+        List<Long> groupIds = counters.stream().map(GroupCounter::getGroupId).toList();
+        Map<Long, Long> travelCounts = toCountMap(travelItineraryJpaRepository.countActiveByGroupIdIn(groupIds));
+        Map<Long, Long> reviewCounts = toCountMap(travelReviewJpaRepository.countActiveByGroupIdIn(groupIds));
+
+        int fixed = 0;
+        for (GroupCounter counter : counters) {
+            Long groupId = counter.getGroupId();
+            int actualTravelCount = Math.toIntExact(travelCounts.getOrDefault(groupId, 0L));
+            int actualReviewCount = Math.toIntExact(reviewCounts.getOrDefault(groupId, 0L));
+
+            int updated = 0;
+            if (counter.getTravelCount() != actualTravelCount) {
+                updated += groupJpaRepository.reconcileTravelCount(groupId, counter.getTravelCount(), actualTravelCount);
+            }
+            if (counter.getReviewCount() != actualReviewCount) {
+                updated += groupJpaRepository.reconcileReviewCount(groupId, counter.getReviewCount(), actualReviewCount);
+            }
+
+            if (updated > 0) {
+                eventPublisher.publishEvent(new GroupDetailChangedEvent(groupId));
+                fixed++;
+            }
+        }
+
+        return new ChunkResult(counters.size(), groupIds.get(groupIds.size() - 1), fixed);
+    }
+
+    private static Map<Long, Long> toCountMap(List<GroupIdCount> counts) {
+        return counts.stream().collect(toMap(GroupIdCount::getGroupId, GroupIdCount::getTotal));
+    }
+
+    private record ChunkResult(int size, long lastId, int fixed) {
+    }
+}
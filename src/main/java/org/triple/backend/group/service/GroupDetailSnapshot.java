@@ -0,0 +1,91 @@
+package org.triple.backend.group.service;
+
+import org.triple.backend.group.dto.response.GroupDetailResponseDto;
+import org.triple.backend.group.entity.group.Group;
+import org.triple.backend.group.entity.group.GroupKind;
+import org.triple.backend.group.entity.userGroup.Role;
+import org.triple.backend.group.repository.UserGroupJpaRepository.GroupMemberRow;
+
+import java.util.List;
+
+import static org.triple.backend.group.dto.response.GroupDetailResponseDto.*;
+
+/**
+ * 조회자와 무관한 그룹 상세 정보
+ * 조회자별로 달라지는 역할(role)과 GUEST 에게 숨기는 최근 여행은 toResponse 에서 적용한다.
+ * version 은 적재 시점의 그룹 version 으로, ETag 보다 오래된 스냅샷인지 판단하는 데 쓴다.
+ */
+public record GroupDetailSnapshot(
+        long version,
+        List<UserDto> users,
+        String name,
+        String description,
+        GroupKind groupKind,
+        String thumbNailUrl,
+        int currentMemberCount,
+        int memberLimit,
+        List<RecentPhotoDto> recentPhotos,
+        int travelCount,
+        List<RecentTravelDto> recentTravels,
+        List<RecentReviewDto> recentReviews
+) {
+
+    public GroupDetailSnapshot {
+        users = List.copyOf(users);
+        recentPhotos = List.copyOf(recentPhotos);
+        recentTravels = List.copyOf(recentTravels);
+        recentReviews = List.copyOf(recentReviews);
+    }
+
+    public static GroupDetailSnapshot from(
+            final List<GroupMemberRow> members,
+            final Group group,
+            final List<RecentPhotoDto> recentPhotos,
+            final int travelCount,
+            final List<RecentTravelDto> recentTravels,
+            final List<RecentReviewDto> recentReviews
+    ) {
+        List<UserDto> users = members.stream().map(member -> new UserDto(
+                member.getNickname(),
+                member.getDescription(),
+                member.getProfileUrl(),
+                member.getRole() == Role.OWNER
+        )).toList();
+
+        return new GroupDetailSnapshot(
+                group.getVersion() + group.getDetailVersion(),
+                users,
+                group.getName(),
+                group.getDescription(),
+                group.getGroupKind(),
+                group.getThumbNailUrl(),
+                group.getCurrentMemberCount(),
+                group.getMemberLimit(),
+                recentPhotos,
+                travelCount,
+                recentTravels,
+                recentReviews
+        );
+    }
+
+    public boolean isPrivate() {
+        return groupKind == GroupKind.PRIVATE;
+    }
+
+    public GroupDetailResponseDto toResponse(final Role role) {
+        return new GroupDetailResponseDto(
+                users,
+                name,
+                description,
+                groupKind,
+                thumbNailUrl,
+                currentMemberCount,
+                memberLimit,
+                role,
+                recentPhotos,
+                travelCount,
+                role == Role.GUEST ? List.of() : recentTravels,
+                recentReviews
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package org.triple.backend.group.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.triple.backend.global.cache.CacheInvalidationBus;
+import org.triple.backend.group.event.GroupDetailChangedEvent;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * groupId -> GroupDetailSnapshot 캐시
+ * 1. 조회 전략(get) : 캐시 미스 시 loader 로 스냅샷을 만들어 적재. 같은 그룹의 동시 미스는 한 번만 적재됨
+ *    스냅샷 대신 적재 중인 future 를 캐시에 두므로 Caffeine 의 per-key compute 안에서는 조회를 시작만 하고 기다리지 않는다.
+ *    기다리는 것은 반환된 future 를 join 하는 호출자이며, 같은 키 / 같은 bin 의 다른 요청은 막히지 않음
+ *    적재가 실패한 future 는 Caffeine 이 캐시에서 제거함
+ * 2. 무효화 전략 : GroupDetailChangedEvent 를 받으면
+ *    - 발행 즉시 로컬 스냅샷을 제거하여 같은 트랜잭션 안의 이후 조회가 변경을 보도록 하고,
+ *      CacheInvalidationBus 에 다른 노드 전파를 맡김 (버스가 커밋 이후에 전송함)
+ *    - 커밋 이후 로컬 스냅샷을 한 번 더 제거함 (커밋 전 다른 요청이 옛 데이터로 다시 적재한 스냅샷을 걷어내기 위함)
+ *    커밋 이후 콜백 안에서 등록한 동기화는 실행되지 않으므로 버스 발행은 반드시 트랜잭션 안(발행 시점)에서 한다.
+ * 3. TTL : 이벤트를 발행하지 않는 경로(후기 조회수 등)의 변경은 TTL 안에서 반영됨
+ */
+@Component
+public class GroupDetailSnapshotCache {
+
+    static final String CACHE_NAME = "group-detail";
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final AsyncCache<Long, GroupDetailSnapshot> cache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .buildAsync();
+
+    public GroupDetailSnapshotCache() {
+        this(CacheInvalidationBus.local());
+    }
+
+    @Autowired
+    public GroupDetailSnapshotCache(final CacheInvalidationBus cacheInvalidationBus) {
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        cacheInvalidationBus.register(CACHE_NAME, key -> cache.synchronous().invalidate(Long.valueOf(key)));
+    }
+
+    /**
+     * 캐시된 스냅샷이 minVersion 보다 오래되었으면(다른 노드의 무효화가 아직 도착하지 않은 경우 등) 이 노드에서만 다시 적재한다.
+     * loader 는 조회를 시작한 future 를 바로 반환해야 한다. 반환하는 future 는 캐시된 future 가 아니므로 호출자가 취소해도 다른 요청에 영향이 없다.
+     */
+    public CompletableFuture<GroupDetailSnapshot> get(
+            Long groupId,
+            long minVersion,
+            Function<Long, CompletableFuture<GroupDetailSnapshot>> loader
+    ) {
+        CompletableFuture<GroupDetailSnapshot> cached = cache.get(groupId, (key, executor) -> loader.apply(key));
+        return cached.thenCompose(snapshot -> {
+            if (snapshot.version() >= minVersion) {
+                return CompletableFuture.completedFuture(snapshot);
+            }
+            cache.asMap().remove(groupId, cached);
+            return cache.get(groupId, (key, executor) -> loader.apply(key));
+        });
+    }
+
+    /**
+     * 적재가 끝난 스냅샷만 돌려준다. 없거나 적재 중이면 null
+     */
+    public GroupDetailSnapshot find(Long groupId) {
+        return cache.synchronous().getIfPresent(groupId);
+    }
+
+    @EventListener
+    public void evictOnPublish(GroupDetailChangedEvent event) {
+        invalidate(event.groupId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evictAfterCommit(GroupDetailChangedEvent event) {
+        cache.synchronous().invalidate(event.groupId());
+    }
+
+    public void invalidate(Long groupId) {
+        cache.synchronous().invalidate(groupId);
+        cacheInvalidationBus.publish(CACHE_NAME, groupId.toString());
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+}
@@ -0,0 +1,186 @@
+package org.triple.backend.group.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.triple.backend.file.infra.S3Bucket;
+import org.triple.backend.global.cache.SecondLevelCacheSync;
+import org.triple.backend.group.entity.purge.GroupPurge;
+import org.triple.backend.group.entity.purge.GroupPurgeStage;
+import org.triple.backend.group.entity.userGroup.UserGroup;
+import org.triple.backend.group.repository.GroupPurgeJdbcRepository;
+import org.triple.backend.group.repository.GroupPurgeJdbcRepository.ReviewImageRow;
+import org.triple.backend.group.repository.GroupPurgeJpaRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제된 그룹의 연관 데이터 정리
+ * 그룹 삭제 요청은 삭제 표시와 group_purge 등록만 하고, 여기서 GroupPurgeStage 순서대로 batch-size 개씩 지움
+ * 1. 저장소 객체 : 후기 이미지 URL 을 id 커서로 읽어 S3 객체를 지운 뒤 커서를 옮김. 중간에 실패하면 커서 이후부터 다시 지움(삭제는 멱등)
+ * 2. 행 정리 : 청크마다 트랜잭션을 나눠 id 를 골라 PK 로 지우고, 같은 트랜잭션에서 진행 상황을 기록함
+ * 3. 그룹 썸네일 : 마지막 단계에서 후기 이미지와 같은 방식(S3 객체, file 메타데이터 순)으로 지움
+ * 한 번의 실행에서 max-chunks 를 넘기면 다음 실행으로 미루고, 청크 사이에는 chunk-pause 만큼 쉬어 DB 부하를 제한함
+ */
+@Slf4j
+@Component
+public class GroupPurger {
+
+    private final GroupPurgeJpaRepository groupPurgeJpaRepository;
+    private final GroupPurgeJdbcRepository groupPurgeJdbcRepository;
+    private final S3Bucket s3Bucket;
+    private final SecondLevelCacheSync secondLevelCacheSync;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxChunks;
+    private final Duration chunkPause;
+
+    public GroupPurger(
+            final GroupPurgeJpaRepository groupPurgeJpaRepository,
+            final GroupPurgeJdbcRepository groupPurgeJdbcRepository,
+            final S3Bucket s3Bucket,
+            final SecondLevelCacheSync secondLevelCacheSync,
+            final PlatformTransactionManager transactionManager,
+            @Value("${group.purge.batch-size:500}") final int batchSize,
+            @Value("${group.purge.max-chunks:50}") final int maxChunks,
+            @Value("${group.purge.chunk-pause:PT0.05S}") final Duration chunkPause
+    ) {
+        this.groupPurgeJpaRepository = groupPurgeJpaRepository;
+        this.groupPurgeJdbcRepository = groupPurgeJdbcRepository;
+        this.s3Bucket = s3Bucket;
+        this.secondLevelCacheSync = secondLevelCacheSync;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxChunks = maxChunks;
+        this.chunkPause = chunkPause;
+    }
+
+    @Scheduled(fixedDelayString = "${group.purge.interval:PT1M}")
+    public int purge() {
+        List<Long> purgeIds = groupPurgeJpaRepository.findPendingIds(PageRequest.of(0, maxChunks));
+        int chunks = 0;
+        int completed = 0;
+
+        for (Long purgeId : purgeIds) {
+            while (chunks < maxChunks) {
+                chunks++;
+                GroupPurgeStage stage;
+                try {
+                    stage = purgeChunk(purgeId);
+                } catch (RuntimeException e) {
+                    log.warn("그룹 정리 실패, 다음 실행에서 이어서 진행 purgeId={}", purgeId, e);
+                    transactionTemplate.executeWithoutResult(status -> groupPurgeJpaRepository.increaseFailureCount(purgeId));
+                    break;
+                }
+
+                if (stage.isCompleted()) {
+                    completed++;
+                    break;
+                }
+                pause();
+            }
+            if (chunks >= maxChunks) break;
+        }
+
+        if (completed > 0) {
+            log.debug("삭제된 그룹 정리 완료 = {}건", completed);
+        }
+        return completed;
+    }
+
+    /**
+     * 한 청크를 처리하고 처리 후의 단계를 돌려준다.
+     */
+    private GroupPurgeStage purgeChunk(final Long purgeId) {
+        GroupPurge purge = groupPurgeJpaRepository.findById(purgeId).orElse(null);
+        if (purge == null || purge.isCompleted()) {
+            return GroupPurgeStage.COMPLETED;
+        }
+        if (purge.getStage() == GroupPurgeStage.REVIEW_IMAGE_OBJECTS) {
+            return purgeObjects(purge);
+        }
+        if (purge.getStage() == GroupPurgeStage.GROUP_THUMBNAIL_OBJECT) {
+            return purgeThumbnail(purge);
+        }
+        return transactionTemplate.execute(status -> purgeRows(purge));
+    }
+
+    private GroupPurgeStage purgeObjects(final GroupPurge purge) {
+        List<ReviewImageRow> images = groupPurgeJdbcRepository.findReviewImagesAfterId(purge.getGroupId(), purge.getLastId(), batchSize);
+
+        int deletedObjects = 0;
+        for (ReviewImageRow image : images) {
+            String key = s3Bucket.extractUploadedKey(image.url());
+            if (key == null) continue;
+
+            s3Bucket.deleteObject(key);
+            deletedObjects++;
+        }
+
+        int deleted = deletedObjects;
+        return transactionTemplate.execute(status -> {
+            if (!images.isEmpty()) {
+                groupPurgeJdbcRepository.deleteFilesByUploadedUrlIn(images.stream().map(ReviewImageRow::url).toList());
+                long nextLastId = images.get(images.size() - 1).id();
+                groupPurgeJpaRepository.advanceCursor(purge.getId(), purge.getStage(), purge.getLastId(), nextLastId, deleted);
+            }
+            return images.size() < batchSize ? advanceStage(purge) : purge.getStage();
+        });
+    }
+
+    /**
+     * 업로드한 파일이 아닌 URL(기본 이미지 등)이면 객체는 두고 단계만 넘긴다. 실패하면 다음 실행에서 다시 지운다(삭제는 멱등).
+     */
+    private GroupPurgeStage purgeThumbnail(final GroupPurge purge) {
+        String thumbnailUrl = groupPurgeJdbcRepository.findThumbnailUrl(purge.getGroupId());
+        String key = thumbnailUrl == null ? null : s3Bucket.extractUploadedKey(thumbnailUrl);
+        if (key != null) {
+            s3Bucket.deleteObject(key);
+        }
+
+        return transactionTemplate.execute(status -> {
+            if (key != null) {
+                groupPurgeJdbcRepository.deleteFilesByUploadedUrlIn(List.of(thumbnailUrl));
+                groupPurgeJpaRepository.addDeletedObjects(purge.getId(), purge.getStage(), 1);
+            }
+            return advanceStage(purge);
+        });
+    }
+
+    private GroupPurgeStage purgeRows(final GroupPurge purge) {
+        List<Long> ids = groupPurgeJdbcRepository.findIds(purge.getStage(), purge.getGroupId(), batchSize);
+        int deleted = groupPurgeJdbcRepository.deleteByIds(purge.getStage(), ids);
+        if (deleted > 0) {
+            groupPurgeJpaRepository.addPurgedRows(purge.getId(), purge.getStage(), deleted);
+            if (purge.getStage() == GroupPurgeStage.USER_GROUPS) {
+                // JDBC 로 지운 멤버십이 2차 캐시 / 쿼리 캐시에 남지 않도록 그 id 만 비운다.
+                secondLevelCacheSync.evict(UserGroup.class, ids);
+            }
+        }
+        return ids.size() < batchSize ? advanceStage(purge) : purge.getStage();
+    }
+
+    private GroupPurgeStage advanceStage(final GroupPurge purge) {
+        GroupPurgeStage nextStage = purge.getStage().next();
+        LocalDateTime completedAt = nextStage.isCompleted() ? LocalDateTime.now() : null;
+        groupPurgeJpaRepository.advanceStage(purge.getId(), purge.getStage(), nextStage, completedAt);
+        return nextStage;
+    }
+
+    private void pause() {
+        if (chunkPause.isZero() || chunkPause.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,24 +1,40 @@
 package org.triple.backend.group.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.triple.backend.global.cache.SecondLevelCacheSync;
+import org.triple.backend.global.common.KeysetPage;
+import org.triple.backend.global.concurrent.ParallelReadExecutor;
 import org.triple.backend.global.error.BusinessException;
 import org.triple.backend.group.dto.request.CreateGroupRequestDto;
 import org.triple.backend.group.dto.request.GroupUpdateRequestDto;
 import org.triple.backend.group.dto.response.*;
+import org.triple.backend.group.dto.response.GroupCursorResponseDto.GroupSummaryDto;
 import org.triple.backend.group.entity.group.Group;
 import org.triple.backend.group.entity.group.GroupKind;
+import org.triple.backend.group.entity.purge.GroupPurge;
 import org.triple.backend.group.entity.userGroup.JoinStatus;
 import org.triple.backend.group.entity.userGroup.Role;
 import org.triple.backend.group.entity.userGroup.UserGroup;
+import org.triple.backend.group.event.GroupDetailChangedEvent;
+import org.triple.backend.group.event.PublicGroupListChangedEvent;
 import org.triple.backend.group.exception.GroupErrorCode;
 import org.triple.backend.group.repository.GroupJpaRepository;
+import org.triple.backend.group.repository.GroupJpaRepository.GroupSummaryRow;
+import org.triple.backend.group.repository.GroupJpaRepository.GroupVersionRow;
+import org.triple.backend.group.repository.GroupPurgeJpaRepository;
 import org.triple.backend.group.repository.JoinApplyJpaRepository;
+import org.triple.backend.group.repository.UserGroupJdbcRepository;
 import org.triple.backend.group.repository.UserGroupJpaRepository;
+import org.triple.backend.group.repository.UserGroupJpaRepository.GroupMemberRow;
+import org.triple.backend.group.search.GroupAutocompleteIndex;
+import org.triple.backend.group.search.GroupSearchDocument;
+import org.triple.backend.group.search.GroupSearchIndex;
 import org.triple.backend.travel.entity.TravelItinerary;
 import org.triple.backend.travel.entity.TravelReview;
 import org.triple.backend.travel.entity.TravelReviewImage;
@@ -30,10 +46,12 @@ import org.triple.backend.user.exception.UserErrorCode;
 import org.triple.backend.user.repository.UserJpaRepository;
 import org.triple.backend.user.service.UserFinder;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static java.util.stream.Collectors.*;
 import static org.triple.backend.group.dto.response.GroupDetailResponseDto.*;
@@ -44,17 +62,26 @@ public class GroupService {
 
     private static final int KEYWORD_MAX_LENGTH = 20;
     private static final int DETAIL_RECENT_SIZE = 4;
+    private static final int DETAIL_MEMBER_PREVIEW_SIZE = 10;
     private static final int MIN_PAGE_SIZE = 1;
     private static final int MAX_PAGE_SIZE = 10;
 
     private final GroupJpaRepository groupJpaRepository;
     private final UserGroupJpaRepository userGroupJpaRepository;
+    private final UserGroupJdbcRepository userGroupJdbcRepository;
     private final JoinApplyJpaRepository joinApplyJpaRepository;
+    private final GroupPurgeJpaRepository groupPurgeJpaRepository;
     private final TravelItineraryJpaRepository travelItineraryJpaRepository;
     private final TravelReviewJpaRepository travelReviewJpaRepository;
     private final TravelReviewImageJpaRepository travelReviewImageJpaRepository;
     private final UserJpaRepository userJpaRepository;
     private final UserFinder userFinder;
+    private final GroupDetailSnapshotCache groupDetailSnapshotCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ParallelReadExecutor parallelReadExecutor;
+    private final GroupSearchIndex groupSearchIndex;
+    private final GroupAutocompleteIndex groupAutocompleteIndex;
+    private final SecondLevelCacheSync secondLevelCacheSync;
 
     @Transactional
     public CreateGroupResponseDto create(final CreateGroupRequestDto dto, final Long userId) {
@@ -65,19 +92,25 @@ public class GroupService {
 
         group.addMember(user, Role.OWNER);
         Group savedGroup = groupJpaRepository.save(group);
+        eventPublisher.publishEvent(new GroupDetailChangedEvent(savedGroup.getId()));
+        if (savedGroup.getGroupKind() == GroupKind.PUBLIC) {
+            eventPublisher.publishEvent(new PublicGroupListChangedEvent(savedGroup.getId()));
+        }
 
         return new CreateGroupResponseDto(savedGroup.getId());
     }
 
     @Transactional(readOnly = true)
     public GroupCursorResponseDto browsePublicGroups(final Long cursor, final int size) {
-        int pageSize = normalizePageSize(size);
-        Pageable pageable = PageRequest.of(0, pageSize + 1);
-
-        List<Group> rows = (cursor == null) ? groupJpaRepository.findPublicFirstPage(GroupKind.PUBLIC, pageable)
-                : groupJpaRepository.findPublicNextPage(GroupKind.PUBLIC, cursor, pageable);
+        KeysetPage<GroupSummaryRow> page = KeysetPage.fetch(
+                cursor,
+                normalizePageSize(size),
+                pageable -> groupJpaRepository.findPublicFirstPage(GroupKind.PUBLIC, pageable),
+                (after, pageable) -> groupJpaRepository.findPublicNextPage(GroupKind.PUBLIC, after, pageable),
+                GroupSummaryRow::getGroupId
+        );
 
-        return toCursorResponse(rows, pageSize);
+        return GroupCursorResponseDto.from(page.map(GroupSummaryDto::from));
     }
 
     @Transactional
@@ -86,18 +119,21 @@ public class GroupService {
         Group group = groupJpaRepository.findByIdForUpdate(groupId)
                 .orElseThrow(() -> new BusinessException(GroupErrorCode.GROUP_NOT_FOUND));
 
-        if(!userGroupJpaRepository.existsByGroupIdAndUserIdAndRoleAndJoinStatus(groupId, userId, Role.OWNER, JoinStatus.JOINED)) {
-            throw new BusinessException(GroupErrorCode.NOT_GROUP_OWNER);
-        }
+        UserGroup ownerUserGroup = userGroupJpaRepository.findByGroupIdAndUserIdAndJoinStatus(groupId, userId, JoinStatus.JOINED)
+                .filter(userGroup -> userGroup.getRole() == Role.OWNER)
+                .orElseThrow(() -> new BusinessException(GroupErrorCode.NOT_GROUP_OWNER));
 
         if (group.getCurrentMemberCount() != 1) {
             throw new BusinessException(GroupErrorCode.CANNOT_DELETE_GROUP_WITH_MEMBERS);
         }
 
+        // 연관 데이터는 GroupPurger 가 나눠서 지운다. 남은 멤버는 오너 한 명이므로 그 멤버십만 바로 끊는다.
         group.deleteGroup();
         groupJpaRepository.flush();
-        joinApplyJpaRepository.bulkDeleteByGroupId(groupId);
-        userGroupJpaRepository.bulkDeleteByGroupId(groupId);
+        userGroupJdbcRepository.leaveIfJoined(ownerUserGroup.getId(), LocalDateTime.now());
+        secondLevelCacheSync.evict(UserGroup.class, List.of(ownerUserGroup.getId()));
+        groupPurgeJpaRepository.save(GroupPurge.start(groupId));
+        eventPublisher.publishEvent(new GroupDetailChangedEvent(groupId));
     }
 
     @Transactional
@@ -112,6 +148,10 @@ public class GroupService {
 
             group.update(dto.groupKind(), dto.name(), dto.description(), dto.thumbNailUrl(), dto.memberLimit());
             groupJpaRepository.flush();
+            eventPublisher.publishEvent(new GroupDetailChangedEvent(groupId));
+            if (group.getGroupKind() == GroupKind.PUBLIC) {
+                eventPublisher.publishEvent(new PublicGroupListChangedEvent(groupId));
+            }
 
             return new GroupUpdateResponseDto(
                     group.getId(),
@@ -127,52 +167,98 @@ public class GroupService {
         }
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 조회자와 무관한 부분은 GroupDetailSnapshotCache 에서 가져오고, 조회자의 멤버십만 매 요청 조회한다.
+     * 트랜잭션을 열지 않는다. 스냅샷 적재가 병렬 조회를 기다리는 동안 호출 스레드가 커넥션을 쥐고 있지 않도록 하기 위함
+     */
     public GroupDetailResponseDto detail(final Long groupId, final Long userId) {
+        return detail(viewVersion(groupId, userId));
+    }
 
-        Group group = groupJpaRepository.findByIdAndIsDeletedFalse(groupId).orElseThrow(() -> new BusinessException(GroupErrorCode.GROUP_NOT_FOUND));
+    /**
+     * viewVersion 으로 접근 권한과 역할을 확인한 뒤 호출한다. 스냅샷이 viewVersion 보다 오래되었으면 다시 적재한다.
+     * 트랜잭션 없이 호출해야 스냅샷 적재의 조회가 모두 병렬 조회 스레드의 커넥션에서만 실행된다.
+     * 적재를 기다리는 것은 캐시 밖(이 호출 스레드)이다.
+     */
+    public GroupDetailResponseDto detail(final GroupViewVersion viewVersion) {
+        GroupDetailSnapshot snapshot = parallelReadExecutor.join(
+                groupDetailSnapshotCache.get(viewVersion.groupId(), viewVersion.version(), this::loadDetailSnapshot));
+        return snapshot.toResponse(viewVersion.role());
+    }
 
-        UserGroup myUserGroup = userGroupJpaRepository.findByGroupIdAndUserIdAndJoinStatus(groupId, userId, JoinStatus.JOINED)
-                .orElse(null);
+    /**
+     * 그룹 상세 / 메뉴의 ETag 판단용 조회. 그룹 version 과 조회자 멤버십만 읽으며, 비공개 그룹의 비회원은 여기서 막는다.
+     */
+    @Transactional(readOnly = true)
+    public GroupViewVersion viewVersion(final Long groupId, final Long userId) {
+        GroupVersionRow versionRow = groupJpaRepository.findVersionById(groupId)
+                .orElseThrow(() -> new BusinessException(GroupErrorCode.GROUP_NOT_FOUND));
 
-        if(group.getGroupKind().equals(GroupKind.PRIVATE) && myUserGroup == null) {
-            throw new BusinessException(GroupErrorCode.NOT_GROUP_MEMBER);
+        UserGroup myUserGroup = null;
+        if (userId != null) {
+            myUserGroup = userGroupJpaRepository.findByGroupIdAndUserIdAndJoinStatus(groupId, userId, JoinStatus.JOINED)
+                    .orElse(null);
         }
 
-        List<UserGroup> userGroups = userGroupJpaRepository.findAllByGroupIdAndJoinStatus(groupId, JoinStatus.JOINED);
-        Role myRole;
-        if (myUserGroup == null) {
-            myRole = Role.GUEST;
-        } else {
-            myRole = myUserGroup.getRole();
+        if (versionRow.getGroupKind() == GroupKind.PRIVATE && myUserGroup == null) {
+            throw new BusinessException(GroupErrorCode.NOT_GROUP_MEMBER);
         }
 
+        Role myRole = myUserGroup == null ? Role.GUEST : myUserGroup.getRole();
+        return new GroupViewVersion(groupId, versionRow.getVersion(), myRole);
+    }
+
+    /**
+     * 서로 독립적인 조회(그룹, 멤버, 최근 여행 / 후기 / 사진)를 ParallelReadExecutor 로 동시에 실행한다.
+     * 그룹은 기본 필드만 쓰므로 fork 의 트랜잭션이 끝난 뒤(준영속)에 읽어도 된다.
+     * 캐시의 compute 안에서 호출되므로 조회를 시작만 하고 기다리지 않는다. 모든 조회가 끝나면 스냅샷으로 완료되는 future 를 반환한다.
+     */
+    private CompletableFuture<GroupDetailSnapshot> loadDetailSnapshot(final Long groupId) {
+        CompletableFuture<Group> groupFuture = parallelReadExecutor.fork(() ->
+                groupJpaRepository.findByIdAndIsDeletedFalse(groupId).orElseThrow(() -> new BusinessException(GroupErrorCode.GROUP_NOT_FOUND)));
+
         Pageable detailRecentPage = PageRequest.of(0, DETAIL_RECENT_SIZE);
-        int travelCount = Math.toIntExact(travelItineraryJpaRepository.countByGroupIdAndIsDeletedFalse(groupId));
-        List<RecentTravelDto> recentTravels;
-        if (myRole == Role.GUEST) {
-            recentTravels = List.of();
-        } else {
-            recentTravels = travelItineraryJpaRepository.findRecentByGroupId(groupId, detailRecentPage)
-                    .stream()
-                    .map(this::toRecentTravelDto)
-                    .toList();
-        }
 
+        CompletableFuture<List<GroupMemberRow>> membersFuture = parallelReadExecutor.fork(() ->
+                userGroupJpaRepository.findMembersFirstPage(groupId, JoinStatus.JOINED, PageRequest.of(0, DETAIL_MEMBER_PREVIEW_SIZE)));
+
+        CompletableFuture<List<RecentTravelDto>> recentTravelsFuture = parallelReadExecutor.fork(() ->
+                travelItineraryJpaRepository.findRecentByGroupId(groupId, detailRecentPage)
+                        .stream()
+                        .map(this::toRecentTravelDto)
+                        .toList());
+
+        CompletableFuture<List<RecentReviewDto>> recentReviewsFuture = parallelReadExecutor.fork(() ->
+                findRecentReviews(groupId, detailRecentPage));
+
+        CompletableFuture<List<RecentPhotoDto>> recentPhotosFuture = parallelReadExecutor.fork(() ->
+                travelReviewImageJpaRepository.findRecentByGroupId(groupId, detailRecentPage)
+                        .stream()
+                        .map(this::toRecentPhotoDto)
+                        .toList());
+
+        return CompletableFuture.allOf(groupFuture, membersFuture, recentTravelsFuture, recentReviewsFuture, recentPhotosFuture)
+                .thenApply(ignored -> {
+                    Group group = groupFuture.join();
+                    return GroupDetailSnapshot.from(
+                            membersFuture.join(),
+                            group,
+                            recentPhotosFuture.join(),
+                            group.getTravelCount(),
+                            recentTravelsFuture.join(),
+                            recentReviewsFuture.join()
+                    );
+                });
+    }
+
+    private List<RecentReviewDto> findRecentReviews(final Long groupId, final Pageable detailRecentPage) {
         List<TravelReview> recentReviewEntities = travelReviewJpaRepository.findRecentByGroupId(groupId, detailRecentPage);
         Map<Long, String> reviewImageUrlByReviewId = findFirstReviewImageUrlByReviewId(recentReviewEntities);
 
-        List<RecentReviewDto> recentReviews = recentReviewEntities
+        return recentReviewEntities
                 .stream()
                 .map(review -> toRecentReviewDto(review, reviewImageUrlByReviewId.get(review.getId())))
                 .toList();
-
-        List<RecentPhotoDto> recentPhotos = travelReviewImageJpaRepository.findRecentByGroupId(groupId, detailRecentPage)
-                .stream()
-                .map(this::toRecentPhotoDto)
-                .toList();
-
-        return from(userGroups, group, myRole, recentPhotos, travelCount, recentTravels, recentReviews);
     }
 
     private RecentPhotoDto toRecentPhotoDto(final TravelReviewImage reviewImage) {
@@ -251,6 +337,7 @@ public class GroupService {
 
         targetUserGroup.transferRole(Role.OWNER);
         ownerUserGroup.transferRole(Role.MEMBER);
+        eventPublisher.publishEvent(new GroupDetailChangedEvent(groupId));
     }
 
     @Transactional
@@ -279,15 +366,12 @@ public class GroupService {
 
         joinApplyJpaRepository.deleteByGroupIdAndUserId(groupId, targetInternalUserId);
 
-        Group group = userGroup.getGroup();
-        targetUserGroup.leave();
-        group.decreaseCurrentMemberCount();
-
-        try {
-            groupJpaRepository.flush();
-        } catch(OptimisticLockingFailureException e) {
-            throw new BusinessException(GroupErrorCode.CONCURRENT_GROUP_UPDATE);
+        if(userGroupJdbcRepository.leaveIfJoined(targetUserGroup.getId(), LocalDateTime.now()) == 0) {
+            throw new BusinessException(GroupErrorCode.NOT_GROUP_MEMBER);
         }
+        secondLevelCacheSync.evict(UserGroup.class, List.of(targetUserGroup.getId()));
+        decreaseMemberCount(groupId);
+        eventPublisher.publishEvent(new GroupDetailChangedEvent(groupId));
     }
 
     @Transactional
@@ -307,13 +391,19 @@ public class GroupService {
 
         joinApplyJpaRepository.deleteByGroupIdAndUserId(groupId, userId);
 
-        Group group = userGroup.getGroup();
-        userGroup.leave();
-        group.decreaseCurrentMemberCount();
+        if(userGroupJdbcRepository.leaveIfJoined(userGroup.getId(), LocalDateTime.now()) == 0) {
+            throw new BusinessException(GroupErrorCode.ALREADY_LEAVE_GROUP);
+        }
+        secondLevelCacheSync.evict(UserGroup.class, List.of(userGroup.getId()));
+        decreaseMemberCount(groupId);
+        eventPublisher.publishEvent(new GroupDetailChangedEvent(groupId));
+    }
 
-        try {
-            groupJpaRepository.flush();
-        } catch(OptimisticLockingFailureException e) {
+    /**
+     * 인원 감소는 그룹 row 를 읽지 않는 조건부 UPDATE 한 번으로 끝낸다. 0건이면 인원 수가 이미 어긋난 상태이므로 롤백한다.
+     */
+    private void decreaseMemberCount(final Long groupId) {
+        if(groupJpaRepository.decreaseMemberCount(groupId) == 0) {
             throw new BusinessException(GroupErrorCode.CONCURRENT_GROUP_UPDATE);
         }
     }
@@ -324,30 +414,25 @@ public class GroupService {
             throw new BusinessException(UserErrorCode.USER_NOT_FOUND);
         }
 
-        int pageSize = normalizePageSize(size);
-        Pageable pageRequest = PageRequest.of(0, pageSize + 1);
-
-        List<Group> rows = cursor == null ? userGroupJpaRepository.findMyGroupsFirstPage(userId, JoinStatus.JOINED, pageRequest)
-                : userGroupJpaRepository.findMyGroupsNextPage(userId, JoinStatus.JOINED, cursor, pageRequest);
+        KeysetPage<GroupSummaryRow> page = KeysetPage.fetch(
+                cursor,
+                normalizePageSize(size),
+                pageable -> userGroupJpaRepository.findMyGroupsFirstPage(userId, JoinStatus.JOINED, pageable),
+                (after, pageable) -> userGroupJpaRepository.findMyGroupsNextPage(userId, JoinStatus.JOINED, after, pageable),
+                GroupSummaryRow::getGroupId
+        );
 
-        return toCursorResponse(rows, pageSize);
+        return GroupCursorResponseDto.from(page.map(GroupSummaryDto::from));
     }
 
     private int normalizePageSize(int size) {
         return Math.min(Math.max(size, MIN_PAGE_SIZE), MAX_PAGE_SIZE);
     }
 
-    private GroupCursorResponseDto toCursorResponse(List<Group> rows, int pageSize) {
-        boolean hasNext = rows.size() > pageSize;
-        if(hasNext) {
-            rows = rows.subList(0, pageSize);
-        }
-
-        Long nextCursor = hasNext ? rows.get(rows.size() - 1).getId() : null;
-        return GroupCursorResponseDto.from(rows, nextCursor, hasNext);
-    }
-
-    @Transactional(readOnly = true)
+    /**
+     * GroupSearchIndex 가 준비되어 있으면 색인만으로 응답하고 DB 는 조회하지 않는다.
+     * 기동 직후 색인 재구성이 끝나기 전에만 MySQL FULLTEXT 로 대신한다.
+     */
     public GroupCursorResponseDto search(final String keyword, final Long cursor, final int size) {
         String normalizedKeyword = keyword == null ? "" : keyword.trim();
 
@@ -359,14 +444,40 @@ public class GroupService {
             throw new BusinessException(GroupErrorCode.INVALID_SEARCH_KEYWORD_LENGTH);
         }
 
-        int pageSize = Math.min(Math.max(size, MIN_PAGE_SIZE), MAX_PAGE_SIZE);
-        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        int pageSize = normalizePageSize(size);
+
+        if (groupSearchIndex.isReady()) {
+            List<GroupSearchDocument> hits = groupSearchIndex.search(normalizedKeyword, cursor, pageSize + 1);
+            KeysetPage<GroupSearchDocument> page = KeysetPage.of(hits, pageSize, GroupSearchDocument::groupId);
+            return GroupCursorResponseDto.from(page.map(GroupSearchDocument::toSummary));
+        }
+
+        KeysetPage<GroupSummaryRow> page = KeysetPage.fetch(
+                cursor,
+                pageSize,
+                pageable -> findFirstPageByKeyword(normalizedKeyword, pageable),
+                (after, pageable) -> findNextPageByKeyword(normalizedKeyword, after, pageable),
+                GroupSummaryRow::getGroupId
+        );
+
+        return GroupCursorResponseDto.from(page.map(GroupSummaryDto::from));
+    }
+
+    /**
+     * 입력 중인 검색어의 자동완성. 메모리 색인만 사용하며 DB 는 조회하지 않는다.
+     */
+    public GroupAutocompleteResponseDto autocomplete(final String prefix, final int size) {
+        String normalizedPrefix = prefix == null ? "" : prefix.trim();
 
-        List<Group> rows = cursor == null
-                ? findFirstPageByKeyword(normalizedKeyword, pageable)
-                : findNextPageByKeyword(normalizedKeyword, cursor, pageable);
+        if (normalizedPrefix.isEmpty()) {
+            return new GroupAutocompleteResponseDto(List.of());
+        }
 
-        return toCursorResponse(rows, pageSize);
+        if(normalizedPrefix.length() > KEYWORD_MAX_LENGTH) {
+            throw new BusinessException(GroupErrorCode.INVALID_SEARCH_KEYWORD_LENGTH);
+        }
+
+        return GroupAutocompleteResponseDto.from(groupAutocompleteIndex.suggest(normalizedPrefix, normalizePageSize(size)));
     }
 
     @Transactional(readOnly = true)
@@ -388,7 +499,7 @@ public class GroupService {
     }
 
     @Transactional(readOnly = true)
-    public GroupUsersResponseDto groupUsers(final Long groupId) {
+    public GroupUsersResponseDto groupUsers(final Long groupId, final Long cursor, final int size) {
         Group group = groupJpaRepository.findByIdAndIsDeletedFalse(groupId)
                 .orElseThrow(() -> new BusinessException(GroupErrorCode.GROUP_NOT_FOUND));
 
@@ -396,15 +507,21 @@ public class GroupService {
             throw new BusinessException(GroupErrorCode.CANNOT_GET_PRIVATE_GROUP_MEMBERS);
         }
 
-        List<UserGroup> userGroups = userGroupJpaRepository.findAllByGroupIdAndJoinStatus(groupId, JoinStatus.JOINED);
-        return GroupUsersResponseDto.from(userGroups);
+        KeysetPage<GroupMemberRow> page = KeysetPage.fetch(
+                cursor,
+                normalizePageSize(size),
+                pageable -> userGroupJpaRepository.findMembersFirstPage(groupId, JoinStatus.JOINED, pageable),
+                (after, pageable) -> userGroupJpaRepository.findMembersNextPage(groupId, JoinStatus.JOINED, after, pageable),
+                GroupMemberRow::getUserGroupId
+        );
+        return GroupUsersResponseDto.from(page.map(GroupUsersResponseDto.UserDto::from));
     }
 
     private Long resolveTargetUserIdOrThrow(final String targetUserId) {
         return userFinder.findIdByPublicUuidOrThrow(targetUserId, GroupErrorCode.NOT_GROUP_MEMBER);
     }
 
-    private List<Group> findFirstPageByKeyword(String keyword, Pageable pageable) {
+    private List<GroupSummaryRow> findFirstPageByKeyword(String keyword, Pageable pageable) {
         String booleanQuery = toBooleanModeQuery(keyword);
         if (booleanQuery.isBlank()) {
             return List.of();
@@ -413,7 +530,7 @@ public class GroupService {
         return groupJpaRepository.findFirstPageByKeywordFullText(booleanQuery, GroupKind.PUBLIC.name(), pageable);
     }
 
-    private List<Group> findNextPageByKeyword(String keyword, Long cursor, Pageable pageable) {
+    private List<GroupSummaryRow> findNextPageByKeyword(String keyword, Long cursor, Pageable pageable) {
         String booleanQuery = toBooleanModeQuery(keyword);
         if (booleanQuery.isBlank()) {
             return List.of();
@@ -0,0 +1,30 @@
+package org.triple.backend.group.service;
+
+import org.triple.backend.group.dto.response.GroupCursorResponseDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공개 그룹 목록 응답의 surrogate key
+ * - public-list : 모든 공개 목록 / 검색 응답
+ * - group-{id} : 그 그룹이 들어 있는 응답
+ */
+public final class GroupSurrogateKeys {
+
+    public static final String PUBLIC_LIST = "public-list";
+
+    private GroupSurrogateKeys() {
+    }
+
+    public static String group(final Long groupId) {
+        return "group-" + groupId;
+    }
+
+    public static List<String> of(final GroupCursorResponseDto response) {
+        List<String> keys = new ArrayList<>(response.items().size() + 1);
+        keys.add(PUBLIC_LIST);
+        response.items().forEach(item -> keys.add(group(item.groupId())));
+        return keys;
+    }
+}
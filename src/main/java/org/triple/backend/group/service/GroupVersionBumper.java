@@ -0,0 +1,53 @@
+package org.triple.backend.group.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.triple.backend.group.event.GroupDetailChangedEvent;
+import org.triple.backend.group.repository.GroupJpaRepository;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 그룹 상세 / 메뉴 ETag 의 기준인 그룹 detail_version 갱신
+ * 멤버 수 / 여행 수 / 후기 수는 조건부 UPDATE 로, 멤버 목록과 최근 여행은 다른 테이블에서 바뀌어 @Version 이 그대로이므로
+ * GroupDetailChangedEvent 를 발행한 트랜잭션의 커밋 직전에 detail_version 을 올린다.
+ * 1. @Version 은 낙관적 락에도 쓰이므로 건드리지 않는다. 올리면 동시에 진행 중인 그룹 수정이 충돌로 실패한다.
+ * 2. 한 트랜잭션에서 여러 그룹의 이벤트가 나와도(회원 정보 수정 등) 그룹 id 를 모아 커밋 직전에 IN UPDATE 한 번만 실행한다.
+ * 그룹 row 잠금은 커밋 직전에만 잡히므로 요청 중간에 잠금을 오래 쥐지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupVersionBumper {
+
+    private final GroupJpaRepository groupJpaRepository;
+
+    @EventListener
+    public void collect(final GroupDetailChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        BumpBeforeCommit bump = TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(BumpBeforeCommit.class::isInstance)
+                .map(BumpBeforeCommit.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    BumpBeforeCommit created = new BumpBeforeCommit();
+                    TransactionSynchronizationManager.registerSynchronization(created);
+                    return created;
+                });
+        bump.groupIds.add(event.groupId());
+    }
+
+    private final class BumpBeforeCommit implements TransactionSynchronization {
+
+        private final Set<Long> groupIds = new TreeSet<>();
+
+        @Override
+        public void beforeCommit(final boolean readOnly) {
+            groupJpaRepository.increaseDetailVersion(groupIds);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.triple.backend.group.service;
+
+import org.triple.backend.group.entity.userGroup.Role;
+
+/**
+ * 그룹 상세 / 메뉴 응답의 ETag 재료. 응답 본문은 그룹 version 과 조회자 역할로만 달라진다.
+ */
+public record GroupViewVersion(
+        Long groupId,
+        long version,
+        Role role
+) {
+
+    public String eTag() {
+        return "group-" + groupId + "-v" + version + "-" + role.name();
+    }
+}
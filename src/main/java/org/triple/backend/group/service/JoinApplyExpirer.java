@@ -0,0 +1,103 @@
+package org.triple.backend.group.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.triple.backend.group.entity.joinApply.JoinApply;
+import org.triple.backend.group.entity.joinApply.JoinApplyStatus;
+import org.triple.backend.group.event.JoinApplyExpiredEvent;
+import org.triple.backend.group.repository.JoinApplyJpaRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summingInt;
+
+/**
+ * 오래된 가입 신청 만료
+ * pending-ttl 보다 오래 PENDING 인 신청을 batch-size 개씩 EXPIRED 로 바꾼다. 만료된 신청은 재신청할 수 있다.
+ * 1. 대상 선별 : (join_apply_status, created_at) 인덱스로 오래된 순으로 id 를 고름
+ * 2. 전이 : 청크마다 트랜잭션을 나눠 고른 id 를 PK 로 잠그고, 아직 PENDING 인 것만 IN UPDATE 로 바꿈. 그 사이 승인 / 거절된 신청은 건너뜀
+ * 3. 발행 : 청크에서 만료된 수를 그룹별로 세어 JoinApplyExpiredEvent 로 발행하고, 커밋되면 JoinApplyExpiryMetrics 가 지표에 더함
+ * group 은 프록시의 id(FK 값)만 쓰므로 travel_group row 는 읽지도 잠그지도 않는다. 한 번의 실행에서 max-chunks 를 넘기면 다음 실행으로 미룬다.
+ */
+@Slf4j
+@Component
+public class JoinApplyExpirer {
+
+    private final JoinApplyJpaRepository joinApplyJpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration pendingTtl;
+    private final int batchSize;
+    private final int maxChunks;
+
+    public JoinApplyExpirer(
+            final JoinApplyJpaRepository joinApplyJpaRepository,
+            final ApplicationEventPublisher eventPublisher,
+            final PlatformTransactionManager transactionManager,
+            @Value("${group.join-apply-expiry.pending-ttl:P14D}") final Duration pendingTtl,
+            @Value("${group.join-apply-expiry.batch-size:500}") final int batchSize,
+            @Value("${group.join-apply-expiry.max-chunks:20}") final int maxChunks
+    ) {
+        this.joinApplyJpaRepository = joinApplyJpaRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pendingTtl = pendingTtl;
+        this.batchSize = batchSize;
+        this.maxChunks = maxChunks;
+    }
+
+    @Scheduled(fixedDelayString = "${group.join-apply-expiry.interval:PT1H}")
+    public int expire() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime createdBefore = now.minus(pendingTtl);
+        Map<Long, Integer> expiredByGroupId = new TreeMap<>();
+
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            ChunkResult result = transactionTemplate.execute(status -> expireChunk(createdBefore, now));
+            if (result == null) break;
+
+            result.expiredByGroupId().forEach((groupId, count) -> expiredByGroupId.merge(groupId, count, Integer::sum));
+            if (result.size() < batchSize) break;
+        }
+
+        int expired = expiredByGroupId.values().stream().mapToInt(Integer::intValue).sum();
+        if (expired > 0) {
+            log.info("가입 신청 만료 = {}건, 그룹별 = {}", expired, expiredByGroupId);
+        }
+        return expired;
+    }
+
+    private ChunkResult expireChunk(final LocalDateTime createdBefore, final LocalDateTime expiredAt) {
+        List<Long> candidateIds = joinApplyJpaRepository.findIdsByJoinApplyStatusAndCreatedAtBefore(
+                JoinApplyStatus.PENDING, createdBefore, PageRequest.of(0, batchSize));
+        if (candidateIds.isEmpty()) return null;
+
+        List<JoinApply> pendingApplies = joinApplyJpaRepository.findAllForUpdateByIdInAndJoinApplyStatus(candidateIds, JoinApplyStatus.PENDING);
+        if (pendingApplies.isEmpty()) {
+            return new ChunkResult(candidateIds.size(), Map.of());
+        }
+
+        List<Long> pendingIds = pendingApplies.stream().map(JoinApply::getId).toList();
+        joinApplyJpaRepository.expireAllByIdIn(pendingIds, JoinApplyStatus.EXPIRED, expiredAt);
+
+        Map<Long, Integer> expiredByGroupId = pendingApplies.stream()
+                .collect(groupingBy(joinApply -> joinApply.getGroup().getId(), TreeMap::new, summingInt(joinApply -> 1)));
+        expiredByGroupId.forEach((groupId, count) -> eventPublisher.publishEvent(new JoinApplyExpiredEvent(groupId, count)));
+
+        return new ChunkResult(candidateIds.size(), expiredByGroupId);
+    }
+
+    private record ChunkResult(int size, Map<Long, Integer> expiredByGroupId) {
+    }
+}
@@ -0,0 +1,32 @@
+package org.triple.backend.group.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.triple.backend.group.event.JoinApplyExpiredEvent;
+
+/**
+ * 만료된 가입 신청 수 지표
+ * JoinApplyExpiredEvent 를 청크 트랜잭션이 커밋된 뒤에 받아 group.join_apply.expired 카운터에 더한다.
+ * 그룹 id 는 개수 제한이 없는 값이라 태그로 붙이지 않는다. 그룹별 수는 JoinApplyExpirer 의 실행 로그에 남는다.
+ */
+@Component
+public class JoinApplyExpiryMetrics {
+
+    static final String EXPIRED_COUNTER = "group.join_apply.expired";
+
+    private final Counter expiredCounter;
+
+    public JoinApplyExpiryMetrics(final MeterRegistry meterRegistry) {
+        this.expiredCounter = Counter.builder(EXPIRED_COUNTER)
+                .description("PENDING 기간이 지나 만료된 가입 신청 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onExpired(final JoinApplyExpiredEvent event) {
+        expiredCounter.increment(event.expiredCount());
+    }
+}
@@ -1,12 +1,15 @@
 package org.triple.backend.group.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.triple.backend.global.cache.SecondLevelCacheSync;
+import org.triple.backend.global.common.KeysetPage;
 import org.triple.backend.global.error.BusinessException;
+import org.triple.backend.global.error.ErrorCode;
+import org.triple.backend.group.dto.response.JoinApplyBulkResponseDto;
 import org.triple.backend.group.dto.response.JoinApplyUserResponseDto;
 import org.triple.backend.group.entity.group.Group;
 import org.triple.backend.group.entity.joinApply.JoinApply;
@@ -14,17 +17,25 @@ import org.triple.backend.group.entity.joinApply.JoinApplyStatus;
 import org.triple.backend.group.entity.userGroup.JoinStatus;
 import org.triple.backend.group.entity.userGroup.Role;
 import org.triple.backend.group.entity.userGroup.UserGroup;
+import org.triple.backend.group.event.GroupDetailChangedEvent;
 import org.triple.backend.group.exception.GroupErrorCode;
 import org.triple.backend.group.exception.JoinApplyErrorCode;
 import org.triple.backend.group.repository.GroupJpaRepository;
 import org.triple.backend.group.repository.JoinApplyJpaRepository;
+import org.triple.backend.group.repository.JoinApplyJpaRepository.JoinApplyUserRow;
+import org.triple.backend.group.repository.UserGroupJdbcRepository;
 import org.triple.backend.group.repository.UserGroupJpaRepository;
 import org.triple.backend.user.entity.User;
 import org.triple.backend.user.exception.UserErrorCode;
 import org.triple.backend.user.repository.UserJpaRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.triple.backend.group.dto.response.JoinApplyUserResponseDto.*;
 import static org.triple.backend.group.entity.userGroup.JoinStatus.JOINED;
@@ -41,6 +52,9 @@ public class JoinApplyService {
     private final GroupJpaRepository groupJpaRepository;
     private final JoinApplyJpaRepository joinApplyJpaRepository;
     private final UserGroupJpaRepository userGroupJpaRepository;
+    private final UserGroupJdbcRepository userGroupJdbcRepository;
+    private final SecondLevelCacheSync secondLevelCacheSync;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void joinApply(final Long groupId, final Long userId) {
@@ -50,14 +64,15 @@ public class JoinApplyService {
         }
 
         User findUser = userJpaRepository.findById(userId).orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
-        Group findGroup = groupJpaRepository.findByIdForUpdate(groupId)
+        Group findGroup = groupJpaRepository.findByIdAndIsDeletedFalse(groupId)
                 .orElseThrow(() -> new BusinessException(GroupErrorCode.GROUP_NOT_FOUND));
 
         JoinApply existingApply = joinApplyJpaRepository.findByGroupIdAndUserId(groupId, userId).orElse(null);
         if (existingApply != null) {
             switch (existingApply.getJoinApplyStatus()) {
                 case CANCELED:
-                    existingApply.reapply();
+                case EXPIRED:
+                    reapply(existingApply);
                     return;
                 case PENDING:
                     throw new BusinessException(ALREADY_APPLY_JOIN_REQUEST);
@@ -75,6 +90,12 @@ public class JoinApplyService {
         }
     }
 
+    /**
+     * 그룹 row 를 잠그지 않고 승인한다.
+     * 1. 신청 선점 : PENDING -> APPROVED 조건부 UPDATE. 동시에 같은 신청을 승인하면 한 요청만 통과
+     * 2. 멤버십 생성 / 재가입
+     * 3. 인원 증가 : 정원 조건부 UPDATE 를 마지막에 실행해 그룹 row 잠금을 커밋 직전까지만 잡는다. 0건이면 전체 롤백
+     */
     @Transactional
     public void approve(final Long groupId, final Long ownerUserId, final Long joinApplyId) {
 
@@ -82,7 +103,9 @@ public class JoinApplyService {
             throw new BusinessException(UserErrorCode.USER_NOT_FOUND);
         }
 
-        Group findGroup = groupJpaRepository.findByIdForUpdate(groupId).orElseThrow(() -> new BusinessException(GroupErrorCode.GROUP_NOT_FOUND));
+        if(!groupJpaRepository.existsByIdAndIsDeletedFalse(groupId)) {
+            throw new BusinessException(GroupErrorCode.GROUP_NOT_FOUND);
+        }
 
         if(!userGroupJpaRepository.existsByGroupIdAndUserIdAndRoleAndJoinStatus(groupId, ownerUserId, Role.OWNER, JoinStatus.JOINED)) {
             throw new BusinessException(NO_SIGNUP_APPROVAL_PERMISSION);
@@ -92,22 +115,38 @@ public class JoinApplyService {
         User applicantUser = joinApply.getUser();
 
         UserGroup existingUserGroup = userGroupJpaRepository.findByGroupIdAndUserId(groupId, applicantUser.getId()).orElse(null);
+        if (existingUserGroup != null && existingUserGroup.getJoinStatus() == JoinStatus.JOINED) {
+            throw new BusinessException(ALREADY_JOINED_GROUP);
+        }
+
+        int approved = joinApplyJpaRepository.approveIfMatches(
+                joinApplyId,
+                groupId,
+                JoinApplyStatus.PENDING,
+                JoinApplyStatus.APPROVED,
+                LocalDateTime.now()
+        );
+        if(approved == 0) {
+            throw new BusinessException(JoinApplyErrorCode.JOIN_APPLY_NOT_FOUND);
+        }
+
         if (existingUserGroup != null) {
-            if (existingUserGroup.getJoinStatus() == JoinStatus.JOINED) {
-                throw new BusinessException(ALREADY_JOINED_GROUP);
-            }
             existingUserGroup.rejoin(Role.MEMBER);
         } else {
             try {
-                UserGroup userGroup = UserGroup.create(applicantUser, findGroup, Role.MEMBER);
+                UserGroup userGroup = UserGroup.create(applicantUser, groupJpaRepository.getReferenceById(groupId), Role.MEMBER);
                 userGroupJpaRepository.saveAndFlush(userGroup);
             } catch (DataIntegrityViolationException e) {
                 throw new BusinessException(ALREADY_JOINED_GROUP);
             }
         }
 
-        findGroup.addCurrentMemberCount();
-        joinApply.approve();
+        if(groupJpaRepository.increaseMemberCountIfAvailable(groupId) == 0) {
+            throw new BusinessException(groupJpaRepository.existsByIdAndIsDeletedFalse(groupId)
+                    ? GroupErrorCode.EXCEEDED_JOIN_NUMBER
+                    : GroupErrorCode.GROUP_NOT_FOUND);
+        }
+        eventPublisher.publishEvent(new GroupDetailChangedEvent(groupId));
     }
 
     @Transactional
@@ -132,6 +171,121 @@ public class JoinApplyService {
         }
     }
 
+    /**
+     * 여러 신청을 한 트랜잭션에서 승인하고 신청별 결과를 돌려준다.
+     * 1. 권한 확인 : 오너 / 그룹 / 오너 권한은 한 번만 확인
+     * 2. 대상 선별 : PENDING 신청을 IN 한 번으로 잠가 읽고, 이미 가입된 신청자는 제외
+     * 3. 대상 확정 : 잠그지 않고 읽은 남은 자리만큼 요청 순서대로 승인 대상을 정함
+     * 4. 반영 : user_group 은 JDBC batch 로 insert / 재가입 update, 신청 상태는 IN UPDATE 한 번
+     * 5. 인원 증가 : 정원 조건부 UPDATE 를 마지막 쓰기로 한 번 실행해 그룹 row 잠금을 커밋 직전까지만 잡는다.
+     *    그 사이 다른 승인이 자리를 채워 0건이면 정원 초과로 전체 롤백
+     */
+    @Transactional
+    public JoinApplyBulkResponseDto approveAll(final Long groupId, final Long ownerUserId, final List<Long> joinApplyIds) {
+
+        if(!userJpaRepository.existsById(ownerUserId)) {
+            throw new BusinessException(UserErrorCode.USER_NOT_FOUND);
+        }
+
+        Group group = groupJpaRepository.findByIdAndIsDeletedFalse(groupId)
+                .orElseThrow(() -> new BusinessException(GroupErrorCode.GROUP_NOT_FOUND));
+
+        if(!userGroupJpaRepository.existsByGroupIdAndUserIdAndRoleAndJoinStatus(groupId, ownerUserId, Role.OWNER, JoinStatus.JOINED)) {
+            throw new BusinessException(NO_SIGNUP_APPROVAL_PERMISSION);
+        }
+
+        List<Long> requestedIds = List.copyOf(new LinkedHashSet<>(joinApplyIds));
+        Map<Long, Long> applicantIdByJoinApplyId = new HashMap<>();
+        joinApplyJpaRepository.findAllForUpdateByIdInAndGroupIdAndJoinApplyStatus(requestedIds, groupId, JoinApplyStatus.PENDING)
+                .forEach(joinApply -> applicantIdByJoinApplyId.put(joinApply.getId(), joinApply.getUser().getId()));
+
+        Map<Long, UserGroup> userGroupByUserId = new HashMap<>();
+        userGroupJpaRepository.findAllByGroupIdAndUserIdIn(groupId, applicantIdByJoinApplyId.values())
+                .forEach(userGroup -> userGroupByUserId.put(userGroup.getUser().getId(), userGroup));
+
+        Map<Long, ErrorCode> failures = new HashMap<>();
+        List<Long> candidateIds = new ArrayList<>();
+        for (Long joinApplyId : requestedIds) {
+            Long applicantId = applicantIdByJoinApplyId.get(joinApplyId);
+            if (applicantId == null) {
+                failures.put(joinApplyId, JOIN_APPLY_NOT_FOUND);
+                continue;
+            }
+            UserGroup userGroup = userGroupByUserId.get(applicantId);
+            if (userGroup != null && userGroup.getJoinStatus() == JoinStatus.JOINED) {
+                failures.put(joinApplyId, ALREADY_JOINED_GROUP);
+                continue;
+            }
+            candidateIds.add(joinApplyId);
+        }
+
+        int seats = Math.max(0, Math.min(candidateIds.size(), group.getMemberLimit() - group.getCurrentMemberCount()));
+        List<Long> approvedIds = candidateIds.subList(0, seats);
+        candidateIds.subList(seats, candidateIds.size())
+                .forEach(joinApplyId -> failures.put(joinApplyId, GroupErrorCode.EXCEEDED_JOIN_NUMBER));
+
+        if (!approvedIds.isEmpty()) {
+            List<Long> newMemberIds = new ArrayList<>();
+            List<Long> rejoinUserGroupIds = new ArrayList<>();
+            for (Long joinApplyId : approvedIds) {
+                Long applicantId = applicantIdByJoinApplyId.get(joinApplyId);
+                UserGroup userGroup = userGroupByUserId.get(applicantId);
+                if (userGroup == null) {
+                    newMemberIds.add(applicantId);
+                } else {
+                    rejoinUserGroupIds.add(userGroup.getId());
+                }
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            try {
+                userGroupJdbcRepository.batchInsertMembers(groupId, newMemberIds, Role.MEMBER, now);
+            } catch (DataIntegrityViolationException e) {
+                throw new BusinessException(ALREADY_JOINED_GROUP);
+            }
+            userGroupJdbcRepository.batchRejoinMembers(rejoinUserGroupIds, Role.MEMBER, now);
+            // 새 멤버십은 아직 캐시에 없으므로 되돌린 멤버십과 쿼리 캐시만 비운다.
+            secondLevelCacheSync.evict(UserGroup.class, rejoinUserGroupIds);
+            joinApplyJpaRepository.approveAllByIdIn(approvedIds, JoinApplyStatus.APPROVED, now);
+
+            if (groupJpaRepository.increaseMemberCountIfAvailable(groupId, approvedIds.size()) == 0) {
+                throw new BusinessException(groupJpaRepository.existsByIdAndIsDeletedFalse(groupId)
+                        ? GroupErrorCode.EXCEEDED_JOIN_NUMBER
+                        : GroupErrorCode.GROUP_NOT_FOUND);
+            }
+            eventPublisher.publishEvent(new GroupDetailChangedEvent(groupId));
+        }
+
+        return JoinApplyBulkResponseDto.of(requestedIds, failures);
+    }
+
+    @Transactional
+    public JoinApplyBulkResponseDto rejectAll(final Long groupId, final Long ownerUserId, final List<Long> joinApplyIds) {
+        if(!groupJpaRepository.existsByIdAndIsDeletedFalse(groupId)) {
+            throw new BusinessException(GroupErrorCode.GROUP_NOT_FOUND);
+        }
+
+        if(!userGroupJpaRepository.existsByGroupIdAndUserIdAndRoleAndJoinStatus(groupId, ownerUserId, Role.OWNER, JoinStatus.JOINED)) {
+            throw new BusinessException(NO_SIGNUP_APPROVAL_PERMISSION);
+        }
+
+        List<Long> requestedIds = List.copyOf(new LinkedHashSet<>(joinApplyIds));
+        List<Long> pendingIds = joinApplyJpaRepository.findAllForUpdateByIdInAndGroupIdAndJoinApplyStatus(requestedIds, groupId, JoinApplyStatus.PENDING)
+                .stream()
+                .map(JoinApply::getId)
+                .toList();
+        if (!pendingIds.isEmpty()) {
+            joinApplyJpaRepository.rejectAllByIdIn(pendingIds, JoinApplyStatus.REJECTED, LocalDateTime.now());
+        }
+
+        Set<Long> rejectedIds = Set.copyOf(pendingIds);
+        Map<Long, ErrorCode> failures = new HashMap<>();
+        requestedIds.stream()
+                .filter(joinApplyId -> !rejectedIds.contains(joinApplyId))
+                .forEach(joinApplyId -> failures.put(joinApplyId, JOIN_APPLY_NOT_FOUND));
+        return JoinApplyBulkResponseDto.of(requestedIds, failures);
+    }
+
     @Transactional(readOnly = true)
     public JoinApplyUserResponseDto joinApplyUser(final Long groupId, final Long userId, final JoinApplyStatus status, final Long cursor, final int size) {
         if(!groupJpaRepository.existsByIdAndIsDeletedFalse(groupId)) {
@@ -142,38 +296,32 @@ public class JoinApplyService {
             throw new BusinessException(GroupErrorCode.NOT_GROUP_OWNER);
         }
 
-        int pageSize = normalizePageSize(size);
-        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        KeysetPage<JoinApplyUserRow> page = status == null
+                ? KeysetPage.fetch(
+                        cursor,
+                        normalizePageSize(size),
+                        pageable -> joinApplyJpaRepository.findFirstPageByGroupId(groupId, pageable),
+                        (after, pageable) -> joinApplyJpaRepository.findNextPageByGroupId(groupId, after, pageable),
+                        JoinApplyUserRow::getJoinApplyId)
+                : KeysetPage.fetch(
+                        cursor,
+                        normalizePageSize(size),
+                        pageable -> joinApplyJpaRepository.findFirstPageByGroupIdAndStatus(groupId, status, pageable),
+                        (after, pageable) -> joinApplyJpaRepository.findNextPageByGroupIdAndStatus(groupId, status, after, pageable),
+                        JoinApplyUserRow::getJoinApplyId);
 
-        List<JoinApply> joinApplies;
-        if (status == null) {
-            joinApplies = cursor == null
-                    ? joinApplyJpaRepository.findFirstPageByGroupId(groupId, pageable)
-                    : joinApplyJpaRepository.findNextPageByGroupId(groupId, cursor, pageable);
-        } else {
-            joinApplies = cursor == null
-                    ? joinApplyJpaRepository.findFirstPageByGroupIdAndStatus(groupId, status, pageable)
-                    : joinApplyJpaRepository.findNextPageByGroupIdAndStatus(groupId, status, cursor, pageable);
-        }
+        return JoinApplyUserResponseDto.from(page.map(UserDto::from));
+    }
 
-        boolean hasNext = joinApplies.size() > pageSize;
-        if (hasNext) {
-            joinApplies = joinApplies.subList(0, pageSize);
+    private void reapply(final JoinApply closedApply) {
+        int reapplied = joinApplyJpaRepository.reapplyIfMatches(
+                closedApply.getId(),
+                closedApply.getJoinApplyStatus(),
+                JoinApplyStatus.PENDING
+        );
+        if(reapplied == 0) {
+            throw new BusinessException(ALREADY_APPLY_JOIN_REQUEST);
         }
-
-        List<UserDto> users = joinApplies
-                .stream()
-                .map(ja -> new UserDto(
-                        ja.getId(),
-                        ja.getUser().getNickname(),
-                        ja.getUser().getDescription(),
-                        ja.getUser().getProfileUrl(),
-                        ja.getJoinApplyStatus()
-                ))
-                .toList();
-
-        Long nextCursor = hasNext ? joinApplies.get(joinApplies.size() - 1).getId() : null;
-        return new JoinApplyUserResponseDto(users, nextCursor, hasNext);
     }
 
     private int normalizePageSize(final int size) {
@@ -3,6 +3,7 @@ package org.triple.backend.transfer.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.triple.backend.auth.jwt.LoginRequired;
 import org.triple.backend.auth.jwt.LoginUser;
 import org.triple.backend.transfer.dto.request.TransferAdjustRequestDto;
@@ -41,8 +42,12 @@ public class TransferController {
     @GetMapping("/travels/{travelItineraryId}")
     public TransferDetailResponseDto searchTransfer(
             @LoginUser final Long userId,
-            @PathVariable final Long travelItineraryId
+            @PathVariable final Long travelItineraryId,
+            final WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(transferService.searchTransferETag(userId, travelItineraryId))) {
+            return null;
+        }
         TransferDetailResponseDto response = transferService.searchTransfer(userId, travelItineraryId);
         return transferUserIdMapper.encryptUserIds(response);
     }
@@ -40,5 +40,8 @@ public record TransferAdjustRequestDto(
             @NotNull(message = "정산 완료 여부는 필수입니다.")
             Boolean settled
     ) {
+        public MemberDto withId(final String id) {
+            return new MemberDto(id, name, avatar, amount, settled);
+        }
     }
 }
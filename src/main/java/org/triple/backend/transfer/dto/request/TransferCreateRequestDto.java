@@ -59,5 +59,8 @@ public record TransferCreateRequestDto(
             @NotNull(message = "정산 완료 여부는 필수입니다.")
             Boolean settled
     ) {
+        public MemberDto withId(final String id) {
+            return new MemberDto(id, name, avatar, amount, settled);
+        }
     }
 }
@@ -22,6 +22,9 @@ public record TransferCreateResponseDto(
             BigDecimal amount,
             boolean settled
     ) {
+        public MemberDto withId(final String id) {
+            return new MemberDto(id, name, avatar, amount, settled);
+        }
     }
 
 
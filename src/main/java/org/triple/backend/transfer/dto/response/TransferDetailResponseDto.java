@@ -22,7 +22,11 @@ public record TransferDetailResponseDto(
             String avatar,
             BigDecimal amount,
             boolean settled
-    ) {}
+    ) {
+        public MemberDto withId(final String id) {
+            return new MemberDto(id, name, avatar, amount, settled);
+        }
+    }
 
     public static TransferDetailResponseDto from(
             final Transfer transfer,
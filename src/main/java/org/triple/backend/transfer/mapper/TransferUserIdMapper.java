@@ -48,7 +48,7 @@ public class TransferUserIdMapper {
                 response.bankName(),
                 response.accountHolder(),
                 response.totalAmount(),
-                encryptCreateMembers(response.members())
+                encryptMembers(response.members())
         );
     }
 
@@ -59,27 +59,22 @@ public class TransferUserIdMapper {
                 response.bankName(),
                 response.accountHolder(),
                 response.totalAmount(),
-                encryptAdjustMembers(response.members()),
+                encryptMembers(response.members()),
                 response.transferStatus()
         );
     }
 
     public TransferDetailResponseDto encryptUserIds(final TransferDetailResponseDto response) {
-        List<TransferDetailResponseDto.MemberDto> encryptedMembers = response.members().stream()
-                .map(member -> new TransferDetailResponseDto.MemberDto(
-                        encryptPublicUuid(member.id()),
-                        member.name(),
-                        member.avatar(),
-                        member.amount(),
-                        member.settled()
-                ))
-                .toList();
         return new TransferDetailResponseDto(
                 response.accountNumber(),
                 response.bankName(),
                 response.accountHolder(),
                 response.totalAmount(),
-                encryptedMembers,
+                publicUuidCodec.encryptIds(
+                        response.members(),
+                        TransferDetailResponseDto.MemberDto::id,
+                        TransferDetailResponseDto.MemberDto::withId
+                ),
                 response.remainingAmount(),
                 response.isDone()
         );
@@ -88,60 +83,32 @@ public class TransferUserIdMapper {
     private List<TransferCreateRequestDto.MemberDto> decryptCreateMembers(
             final List<TransferCreateRequestDto.MemberDto> members
     ) {
-        return members.stream()
-                .map(member -> new TransferCreateRequestDto.MemberDto(
-                        publicUuidCodec.decryptOrThrow(member.id(), TransferErrorCode.RECIPIENT_USER_NOT_FOUND),
-                        member.name(),
-                        member.avatar(),
-                        member.amount(),
-                        member.settled()
-                ))
-                .toList();
+        return publicUuidCodec.decryptIdsOrThrow(
+                members,
+                TransferCreateRequestDto.MemberDto::id,
+                TransferCreateRequestDto.MemberDto::withId,
+                TransferErrorCode.RECIPIENT_USER_NOT_FOUND
+        );
     }
 
     private List<TransferAdjustRequestDto.MemberDto> decryptAdjustMembers(
             final List<TransferAdjustRequestDto.MemberDto> members
     ) {
-        return members.stream()
-                .map(member -> new TransferAdjustRequestDto.MemberDto(
-                        publicUuidCodec.decryptOrThrow(member.id(), TransferErrorCode.RECIPIENT_USER_NOT_FOUND),
-                        member.name(),
-                        member.avatar(),
-                        member.amount(),
-                        member.settled()
-                ))
-                .toList();
-    }
-
-    private List<TransferCreateResponseDto.MemberDto> encryptCreateMembers(
-            final List<TransferCreateResponseDto.MemberDto> members
-    ) {
-        return members.stream()
-                .map(member -> new TransferCreateResponseDto.MemberDto(
-                        encryptPublicUuid(member.id()),
-                        member.name(),
-                        member.avatar(),
-                        member.amount(),
-                        member.settled()
-                ))
-                .toList();
+        return publicUuidCodec.decryptIdsOrThrow(
+                members,
+                TransferAdjustRequestDto.MemberDto::id,
+                TransferAdjustRequestDto.MemberDto::withId,
+                TransferErrorCode.RECIPIENT_USER_NOT_FOUND
+        );
     }
 
-    private List<TransferCreateResponseDto.MemberDto> encryptAdjustMembers(
+    private List<TransferCreateResponseDto.MemberDto> encryptMembers(
             final List<TransferCreateResponseDto.MemberDto> members
     ) {
-        return members.stream()
-                .map(member -> new TransferCreateResponseDto.MemberDto(
-                        encryptPublicUuid(member.id()),
-                        member.name(),
-                        member.avatar(),
-                        member.amount(),
-                        member.settled()
-                ))
-                .toList();
-    }
-
-    private String encryptPublicUuid(final String plainPublicUuid) {
-        return publicUuidCodec.encrypt(plainPublicUuid);
+        return publicUuidCodec.encryptIds(
+                members,
+                TransferCreateResponseDto.MemberDto::id,
+                TransferCreateResponseDto.MemberDto::withId
+        );
     }
 }
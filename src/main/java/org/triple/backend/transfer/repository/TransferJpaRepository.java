@@ -17,7 +17,10 @@ public interface TransferJpaRepository extends JpaRepository<Transfer, Long> {
     @Query("SELECT i FROM Transfer i JOIN FETCH i.travelItinerary JOIN FETCH i.group WHERE i.id = :transferId")
     Optional<Transfer> findByIdForUpdateWithGroupAndTravelItinerary(Long transferId);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    /**
+     * 정산 대상자(transfer_user)만 바뀌는 경로에서도 ETag 가 바뀌도록 잠글 때 version 을 함께 올린다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_FORCE_INCREMENT)
     @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "1000"))
     @Query("select i from Transfer i where i.id = :transferId")
     Optional<Transfer> findByIdForUpdate(Long transferId);
@@ -36,6 +39,17 @@ public interface TransferJpaRepository extends JpaRepository<Transfer, Long> {
             TransferStatus transferStatus
     );
 
+    @Query("""
+            select i.id as transferId, i.version as version
+            from Transfer i
+            where i.travelItinerary.id = :travelItineraryId
+              and i.transferStatus <> :transferStatus
+            """)
+    Optional<TransferVersionRow> findVersionByTravelItineraryIdAndTransferStatusNot(
+            Long travelItineraryId,
+            TransferStatus transferStatus
+    );
+
     @Query("""
            SELECT i
            FROM Transfer i
@@ -44,7 +58,7 @@ public interface TransferJpaRepository extends JpaRepository<Transfer, Long> {
            """)
     Optional<Transfer> findByIdWithTravelItinerary(Long transferId);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Lock(LockModeType.PESSIMISTIC_FORCE_INCREMENT)
     @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "1000"))
     @Query("""
            SELECT i
@@ -54,4 +68,9 @@ public interface TransferJpaRepository extends JpaRepository<Transfer, Long> {
            WHERE i.id = :transferId
            """)
     Optional<Transfer> findByIdForUpdateWithTransferUsers(Long transferId);
+
+    interface TransferVersionRow {
+        Long getTransferId();
+        Long getVersion();
+    }
 }
@@ -24,6 +24,7 @@ import org.triple.backend.transfer.entity.TransferStatus;
 import org.triple.backend.transfer.entity.TransferUser;
 import org.triple.backend.transfer.exception.TransferErrorCode;
 import org.triple.backend.transfer.repository.TransferJpaRepository;
+import org.triple.backend.transfer.repository.TransferJpaRepository.TransferVersionRow;
 import org.triple.backend.transfer.repository.TransferUserJpaRepository;
 import org.triple.backend.travel.entity.TravelItinerary;
 import org.triple.backend.travel.entity.UserRole;
@@ -84,6 +85,21 @@ public class TransferService {
         return TransferCreateResponseDto.from(savedTransfer, transferUsers);
     }
 
+    /**
+     * 정산 상세의 ETag 판단용 조회. 정산을 지우고 새로 만들면 version 이 겹칠 수 있어 transferId 도 함께 담는다.
+     */
+    @Transactional(readOnly = true)
+    public String searchTransferETag(final Long userId, final Long travelItineraryId) {
+        if (!userTravelItineraryJpaRepository.existsByUserIdAndTravelItineraryId(userId, travelItineraryId)) {
+            throw new BusinessException(TransferErrorCode.USER_TRAVEL_ITINERARY_NOT_FOUND);
+        }
+
+        TransferVersionRow versionRow = transferJpaRepository
+                .findVersionByTravelItineraryIdAndTransferStatusNot(travelItineraryId, TransferStatus.DELETED)
+                .orElseThrow(() -> new BusinessException(TransferErrorCode.NOT_FOUND_INVOICE));
+        return "transfer-" + versionRow.getTransferId() + "-v" + versionRow.getVersion();
+    }
+
     @Transactional(readOnly = true)
     public TransferDetailResponseDto searchTransfer(final Long userId, final Long travelItineraryId) {
         if (!userTravelItineraryJpaRepository.existsByUserIdAndTravelItineraryId(userId, travelItineraryId)) {
@@ -182,9 +198,12 @@ public class TransferService {
     private Map<Long, TransferCreateRequestDto.MemberDto> toCreateMemberMap(
             final List<TransferCreateRequestDto.MemberDto> members
     ) {
+        Map<String, Long> recipientUserIds = resolveRecipientUserIdsOrThrow(
+                members.stream().map(TransferCreateRequestDto.MemberDto::id).toList()
+        );
         return members.stream()
                 .collect(Collectors.toMap(
-                        member -> resolveRecipientUserIdOrThrow(member.id()),
+                        member -> recipientUserIds.get(member.id()),
                         member -> member,
                         (a,b) -> {throw new BusinessException(TransferErrorCode.DUPLICATE_RECIPIENT);},
                         LinkedHashMap::new
@@ -194,17 +213,20 @@ public class TransferService {
     private Map<Long, TransferAdjustRequestDto.MemberDto> toAdjustMemberMap(
             final List<TransferAdjustRequestDto.MemberDto> members
     ) {
+        Map<String, Long> recipientUserIds = resolveRecipientUserIdsOrThrow(
+                members.stream().map(TransferAdjustRequestDto.MemberDto::id).toList()
+        );
         return members.stream()
                 .collect(Collectors.toMap(
-                        member -> resolveRecipientUserIdOrThrow(member.id()),
+                        member -> recipientUserIds.get(member.id()),
                         member -> member,
                         (a,b) -> {throw new BusinessException(TransferErrorCode.DUPLICATE_RECIPIENT);},
                         LinkedHashMap::new
                 ));
     }
 
-    private Long resolveRecipientUserIdOrThrow(final String recipientUserId) {
-        return userFinder.findIdByPublicUuidOrThrow(recipientUserId, TransferErrorCode.RECIPIENT_USER_NOT_FOUND);
+    private Map<String, Long> resolveRecipientUserIdsOrThrow(final List<String> recipientUserIds) {
+        return userFinder.findIdsByPublicUuidsOrThrow(recipientUserIds, TransferErrorCode.RECIPIENT_USER_NOT_FOUND);
     }
 
     private Map<Long, User> loadRecipientUsersOrThrow(
@@ -3,6 +3,7 @@ package org.triple.backend.travel.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.triple.backend.auth.jwt.LoginRequired;
 import org.triple.backend.auth.jwt.LoginUser;
 import org.triple.backend.travel.dto.request.TravelItinerarySaveRequestDto;
@@ -79,8 +80,12 @@ public class TravelItineraryController {
     @GetMapping("/{travelId}/info")
     public TravelItineraryInfoResponseDto getTravelInfo(
             @PathVariable Long travelId,
-            @LoginUser Long userId
+            @LoginUser Long userId,
+            WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(travelItineraryService.travelInfoETag(travelId, userId))) {
+            return null;
+        }
         return travelItineraryService.getTravelInfo(travelId, userId);
     }
 
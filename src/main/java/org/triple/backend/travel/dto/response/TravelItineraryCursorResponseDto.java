@@ -1,6 +1,7 @@
 package org.triple.backend.travel.dto.response;
 
-import org.triple.backend.travel.entity.TravelItinerary;
+import org.triple.backend.global.common.KeysetPage;
+import org.triple.backend.travel.repository.TravelItineraryJpaRepository.TravelSummaryRow;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,24 +22,17 @@ public record TravelItineraryCursorResponseDto(
     ) {
     }
 
-    public static TravelItineraryCursorResponseDto of(
-            final List<TravelItinerary> travelItineraries,
-            final Long nextCursor,
-            final boolean hasNext,
-            final long count
-    ) {
-        List<TravelSummaryDto> items = travelItineraries.stream()
-                .map(travelItinerary -> new TravelSummaryDto(
-                        travelItinerary.getId(),
-                        travelItinerary.getTitle(),
-                        travelItinerary.getDescription(),
-                        travelItinerary.getStartAt(),
-                        travelItinerary.getEndAt(),
-                        travelItinerary.getMemberCount()
-                ))
-                .toList();
+    public static TravelItineraryCursorResponseDto of(final KeysetPage<TravelSummaryRow> page, final long count) {
+        KeysetPage<TravelSummaryDto> items = page.map(row -> new TravelSummaryDto(
+                row.getId(),
+                row.getTitle(),
+                row.getDescription(),
+                row.getStartAt(),
+                row.getEndAt(),
+                row.getMemberCount()
+        ));
 
-        return new TravelItineraryCursorResponseDto(items, nextCursor, hasNext, count);
+        return new TravelItineraryCursorResponseDto(items.items(), items.nextCursor(), items.hasNext(), count);
     }
 
     public static TravelItineraryCursorResponseDto countOnly(final long count) {
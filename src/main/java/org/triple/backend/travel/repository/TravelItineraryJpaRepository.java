@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.triple.backend.travel.entity.TravelItinerary;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,29 +17,45 @@ public interface TravelItineraryJpaRepository extends JpaRepository<TravelItiner
 
     long countByGroupIdAndIsDeletedFalse(Long groupId);
 
+    @Query("""
+            SELECT t.group.id AS groupId, COUNT(t) AS total
+            FROM TravelItinerary t
+            WHERE t.group.id IN :groupIds
+              AND t.isDeleted = false
+            GROUP BY t.group.id
+            """)
+    List<GroupIdCount> countActiveByGroupIdIn(List<Long> groupIds);
+
     @Query("select t from TravelItinerary t where t.id = :travelId and t.isDeleted = false")
     Optional<TravelItinerary> findByIdAndIsDeletedFalse(@Param("travelId") Long travelId);
 
+    @Query("select t.version from TravelItinerary t where t.id = :travelId and t.isDeleted = false")
+    Optional<Long> findVersionById(Long travelId);
+
     @Lock(value = LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT t from TravelItinerary t WHERE t.id = :travelItineraryId AND t.group.id = :groupId AND t.isDeleted = false")
     Optional<TravelItinerary> findByIdAndGroupIdAndIsDeletedFalseForUpdate(Long travelItineraryId, Long groupId);
 
     @Query("""
-        SELECT t FROM TravelItinerary t
+        SELECT t.id AS id, t.title AS title, t.description AS description,
+               t.startAt AS startAt, t.endAt AS endAt, t.memberCount AS memberCount
+        FROM TravelItinerary t
         WHERE t.group.id = :groupId
             AND t.isDeleted = false
         ORDER BY t.id DESC
     """)
-    List<TravelItinerary> findGroupTravelsFirstPage(@Param("groupId") Long groupId, Pageable pageable);
+    List<TravelSummaryRow> findGroupTravelsFirstPage(@Param("groupId") Long groupId, Pageable pageable);
 
     @Query("""
-        SELECT t FROM TravelItinerary t
+        SELECT t.id AS id, t.title AS title, t.description AS description,
+               t.startAt AS startAt, t.endAt AS endAt, t.memberCount AS memberCount
+        FROM TravelItinerary t
         WHERE t.group.id = :groupId
             AND t.isDeleted = false
             AND t.id < :cursor
         ORDER BY t.id DESC
     """)
-    List<TravelItinerary> findGroupTravelsNextPage(
+    List<TravelSummaryRow> findGroupTravelsNextPage(
             @Param("groupId") Long groupId,
             @Param("cursor") Long cursor,
             Pageable pageable
@@ -56,4 +73,18 @@ public interface TravelItineraryJpaRepository extends JpaRepository<TravelItiner
             ORDER BY t.id desc
             """)
     List<TravelItinerary> findRecentByGroupId(Long groupId, Pageable pageable);
+
+    interface GroupIdCount {
+        Long getGroupId();
+        long getTotal();
+    }
+
+    interface TravelSummaryRow {
+        Long getId();
+        String getTitle();
+        String getDescription();
+        LocalDateTime getStartAt();
+        LocalDateTime getEndAt();
+        int getMemberCount();
+    }
 }
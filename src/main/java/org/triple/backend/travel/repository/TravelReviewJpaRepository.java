@@ -4,6 +4,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.triple.backend.travel.entity.TravelReview;
+import org.triple.backend.travel.repository.TravelItineraryJpaRepository.GroupIdCount;
 
 import java.util.List;
 
@@ -19,4 +20,14 @@ public interface TravelReviewJpaRepository extends JpaRepository<TravelReview, L
             ORDER BY tr.id DESC
             """)
     List<TravelReview> findRecentByGroupId(Long groupId, Pageable pageable);
+
+    @Query("""
+            SELECT ti.group.id AS groupId, COUNT(tr) AS total
+            FROM TravelReview tr
+            JOIN tr.travelItinerary ti
+            WHERE ti.group.id IN :groupIds
+              AND tr.isDeleted = false
+            GROUP BY ti.group.id
+            """)
+    List<GroupIdCount> countActiveByGroupIdIn(List<Long> groupIds);
 }
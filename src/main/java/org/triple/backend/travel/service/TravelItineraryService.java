@@ -1,15 +1,16 @@
 package org.triple.backend.travel.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.triple.backend.auth.crypto.UserIdentityResolver;
+import org.triple.backend.global.common.KeysetPage;
 import org.triple.backend.global.error.BusinessException;
 import org.triple.backend.group.entity.group.Group;
 import org.triple.backend.group.entity.userGroup.JoinStatus;
+import org.triple.backend.group.event.GroupDetailChangedEvent;
 import org.triple.backend.group.exception.GroupErrorCode;
 import org.triple.backend.group.repository.GroupJpaRepository;
 import org.triple.backend.group.repository.UserGroupJpaRepository;
@@ -27,6 +28,7 @@ import org.triple.backend.travel.entity.UserTravelItinerary;
 import org.triple.backend.travel.exception.UserTravelItineraryErrorCode;
 import org.triple.backend.travel.repository.TravelDocJpaRepository;
 import org.triple.backend.travel.repository.TravelItineraryJpaRepository;
+import org.triple.backend.travel.repository.TravelItineraryJpaRepository.TravelSummaryRow;
 import org.triple.backend.travel.repository.UserTravelItineraryJpaRepository;
 import org.triple.backend.user.entity.User;
 import org.triple.backend.user.exception.UserErrorCode;
@@ -50,13 +52,14 @@ public class TravelItineraryService {
     private final GroupJpaRepository groupJpaRepository;
     private final UserGroupJpaRepository userGroupJpaRepository;
     private final UserIdentityResolver userIdentityResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TravelItinerarySaveResponseDto saveTravels(final TravelItinerarySaveRequestDto travelsRequestDto, final Long userId) {
         User user = userJpaRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
 
-        Group group = groupJpaRepository.findByIdForRead(travelsRequestDto.groupId())
+        Group group = groupJpaRepository.findByIdAndIsDeletedFalse(travelsRequestDto.groupId())
                 .orElseThrow(() -> new BusinessException(GroupErrorCode.GROUP_NOT_FOUND));
 
         if (!userGroupJpaRepository.existsByGroupIdAndUserIdAndJoinStatus(group.getId(), userId, JoinStatus.JOINED)) {
@@ -76,6 +79,12 @@ public class TravelItineraryService {
                 userId
         );
 
+        // 그룹 row 잠금을 커밋 직전까지만 잡도록 여행 수 증가를 마지막에 실행한다. 0건이면 그 사이 그룹이 삭제된 것이므로 전체 롤백
+        if (groupJpaRepository.increaseTravelCount(group.getId()) == 0) {
+            throw new BusinessException(GroupErrorCode.GROUP_NOT_FOUND);
+        }
+        publishGroupDetailChanged(savedTravelItinerary);
+
         return TravelItinerarySaveResponseDto.from(savedTravelItinerary.getId());
     }
 
@@ -92,8 +101,7 @@ public class TravelItineraryService {
         Set<Long> addedUserIds = new HashSet<>();
         List<Long> memberUserIds = new ArrayList<>();
 
-        for (String memberUuid : memberUuids) {
-            Long memberUserId = userIdentityResolver.resolve(memberUuid);
+        for (Long memberUserId : userIdentityResolver.resolveAll(memberUuids)) {
             if (memberUserId == null) {
                 throw new BusinessException(UserErrorCode.USER_NOT_FOUND);
             }
@@ -156,6 +164,7 @@ public class TravelItineraryService {
         } catch (OptimisticLockingFailureException e) {
             throw new BusinessException(TravelItineraryErrorCode.CONCURRENT_TRAVEL_ITINERARY_JOIN);
         }
+        publishGroupDetailChanged(travelItinerary);
     }
 
     @Transactional
@@ -176,6 +185,7 @@ public class TravelItineraryService {
         } catch (OptimisticLockingFailureException e) {
             throw new BusinessException(TravelItineraryErrorCode.CONCURRENT_TRAVEL_ITINERARY_UPDATE);
         }
+        publishGroupDetailChanged(travelItinerary);
     }
 
     @Transactional
@@ -196,6 +206,12 @@ public class TravelItineraryService {
         } catch (OptimisticLockingFailureException e) {
             throw new BusinessException(TravelItineraryErrorCode.CONCURRENT_TRAVEL_ITINERARY_DELETE);
         }
+
+        // saveTravels 와 같이 여행 수 감소를 마지막 쓰기로 두고, 0건이면 그 사이 그룹이 삭제된 것이므로 전체 롤백
+        if (groupJpaRepository.decreaseTravelCount(travelItinerary.getGroup().getId()) == 0) {
+            throw new BusinessException(GroupErrorCode.GROUP_NOT_FOUND);
+        }
+        publishGroupDetailChanged(travelItinerary);
     }
 
     @Transactional(readOnly = true)
@@ -205,7 +221,7 @@ public class TravelItineraryService {
             final int size,
             final Long userId
     ) {
-        long count = travelItineraryJpaRepository.countByGroupIdAndIsDeletedFalse(groupId);
+        long count = groupJpaRepository.findTravelCountById(groupId).orElse(0);
 
         if (userId == null) {
             return TravelItineraryCursorResponseDto.countOnly(count);
@@ -215,26 +231,34 @@ public class TravelItineraryService {
             return TravelItineraryCursorResponseDto.countOnly(count);
         }
 
-        int pageSize = normalizePageSize(size);
-        Pageable pageRequest = PageRequest.of(0, pageSize + 1);
-
-        List<TravelItinerary> rows = cursor == null
-                ? travelItineraryJpaRepository.findGroupTravelsFirstPage(groupId, pageRequest)
-                : travelItineraryJpaRepository.findGroupTravelsNextPage(groupId, cursor, pageRequest);
-
-        boolean hasNext = rows.size() > pageSize;
-        if (hasNext) {
-            rows = rows.subList(0, pageSize);
-        }
-
-        Long nextCursor = hasNext ? rows.get(rows.size() - 1).getId() : null;
-        return TravelItineraryCursorResponseDto.of(rows, nextCursor, hasNext, count);
+        KeysetPage<TravelSummaryRow> page = KeysetPage.fetch(
+                cursor,
+                normalizePageSize(size),
+                pageable -> travelItineraryJpaRepository.findGroupTravelsFirstPage(groupId, pageable),
+                (after, pageable) -> travelItineraryJpaRepository.findGroupTravelsNextPage(groupId, after, pageable),
+                TravelSummaryRow::getId
+        );
+        return TravelItineraryCursorResponseDto.of(page, count);
     }
 
     private int normalizePageSize(int size) {
         return Math.min(Math.max(size, MIN_PAGE_SIZE), MAX_PAGE_SIZE);
     }
 
+    /**
+     * 여행 메타 정보의 ETag 판단용 조회. 제목 / 일정 수정과 참여 / 탈퇴는 모두 여행 version 을 올린다.
+     */
+    @Transactional(readOnly = true)
+    public String travelInfoETag(final Long travelItineraryId, final Long userId) {
+        Long version = travelItineraryJpaRepository.findVersionById(travelItineraryId)
+                .orElseThrow(() -> new BusinessException(TravelItineraryErrorCode.TRAVEL_NOT_FOUND));
+
+        if (!userTravelItineraryJpaRepository.existsByUserIdAndTravelItineraryId(userId, travelItineraryId)) {
+            throw new BusinessException(UserTravelItineraryErrorCode.USER_TRAVEL_ITINERARY_NOT_FOUND);
+        }
+        return "travel-" + travelItineraryId + "-v" + version;
+    }
+
     @Transactional(readOnly = true)
     public TravelItineraryInfoResponseDto getTravelInfo(final Long travelItineraryId, final Long userId) {
         TravelItinerary travelItinerary = travelItineraryJpaRepository.findByIdAndIsDeletedFalse(travelItineraryId)
@@ -287,5 +311,13 @@ public class TravelItineraryService {
         } catch (OptimisticLockingFailureException e) {
             throw new BusinessException(UserTravelItineraryErrorCode.CONCURRENT_TRAVEL_ITINERARY_LEAVE);
         }
+        publishGroupDetailChanged(travelItinerary);
+    }
+
+    /**
+     * 그룹 상세의 여행 수 / 최근 여행이 바뀌었으므로 그룹 상세 스냅샷을 무효화한다.
+     */
+    private void publishGroupDetailChanged(final TravelItinerary travelItinerary) {
+        eventPublisher.publishEvent(new GroupDetailChangedEvent(travelItinerary.getGroup().getId()));
     }
 }
@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.triple.backend.global.cache.SecondLevelCacheRegions;
 import org.triple.backend.auth.oauth.OauthProvider;
 import org.triple.backend.global.common.BaseEntity;
 import org.triple.backend.group.entity.joinApply.JoinApply;
@@ -23,12 +26,18 @@ import org.triple.backend.user.dto.request.UpdateUserInfoReq;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheRegions.USER)
 @Table(
         name = "users",
         uniqueConstraints = {
                 @UniqueConstraint(
                         name = "uk_users_public_uuid",
                         columnNames = {"public_uuid"}
+                ),
+                @UniqueConstraint(
+                        name = "uk_users_provider_provider_id",
+                        columnNames = {"provider", "provider_id"}
                 )
         }
 )
@@ -42,6 +51,7 @@ public class User extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private OauthProvider provider;
 
+    @Column(name = "provider_id")
     private String providerId;
 
     private String nickname;
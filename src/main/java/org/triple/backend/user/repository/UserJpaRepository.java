@@ -1,19 +1,38 @@
 package org.triple.backend.user.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.triple.backend.auth.oauth.OauthProvider;
+import org.triple.backend.global.cache.SecondLevelCacheRegions;
 import org.triple.backend.user.entity.User;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserJpaRepository extends JpaRepository<User,Long> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheRegions.USER_QUERY)
+    })
     Optional<User> findByProviderAndProviderId(OauthProvider provider, String providerId);
 
     @Query("SELECT u.id FROM User u where u.publicUuid = :publicUuid")
     Optional<Long> findIdByPublicUuid(UUID publicUuid);
 
+    @Query("SELECT u.publicUuid AS publicUuid, u.id AS userId FROM User u WHERE u.publicUuid IN :publicUuids")
+    List<PublicUuidUserId> findIdsByPublicUuidIn(Collection<UUID> publicUuids);
+
     boolean existsById(Long userId);
+
+    interface PublicUuidUserId {
+        UUID getPublicUuid();
+
+        Long getUserId();
+    }
 }
@@ -2,31 +2,61 @@ package org.triple.backend.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.triple.backend.auth.crypto.UuidToUserIdCache;
 import org.triple.backend.global.error.BusinessException;
 import org.triple.backend.global.error.ErrorCode;
-import org.triple.backend.user.repository.UserJpaRepository;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class UserFinder {
 
-    private final UserJpaRepository userJpaRepository;
+    private final UuidToUserIdCache uuidToUserIdCache;
 
     public Long findIdByPublicUuidOrThrow(final String publicUuid, final ErrorCode errorCode) {
+        Long userId = uuidToUserIdCache.find(parseOrThrow(publicUuid, errorCode));
+        if (userId == null) {
+            throw new BusinessException(errorCode);
+        }
+        return userId;
+    }
+
+    /**
+     * 입력 순서를 유지한 publicUuid -> userId Map 을 반환한다.
+     * 캐시 미스는 IN 쿼리 한 번으로 조회하며, 하나라도 찾지 못하면 예외를 던진다.
+     */
+    public Map<String, Long> findIdsByPublicUuidsOrThrow(final Collection<String> publicUuids, final ErrorCode errorCode) {
+        Map<String, UUID> parsedPublicUuids = new LinkedHashMap<>();
+        for (String publicUuid : publicUuids) {
+            parsedPublicUuids.put(publicUuid, parseOrThrow(publicUuid, errorCode));
+        }
+
+        Map<UUID, Long> userIdByPublicUuid = uuidToUserIdCache.findAll(parsedPublicUuids.values());
+
+        Map<String, Long> userIds = new LinkedHashMap<>();
+        parsedPublicUuids.forEach((publicUuid, parsedPublicUuid) -> {
+            Long userId = userIdByPublicUuid.get(parsedPublicUuid);
+            if (userId == null) {
+                throw new BusinessException(errorCode);
+            }
+            userIds.put(publicUuid, userId);
+        });
+        return userIds;
+    }
+
+    private UUID parseOrThrow(final String publicUuid, final ErrorCode errorCode) {
         if (publicUuid == null || publicUuid.isBlank()) {
             throw new BusinessException(errorCode);
         }
 
-        UUID parsedPublicUuid;
         try {
-            parsedPublicUuid = UUID.fromString(publicUuid);
+            return UUID.fromString(publicUuid);
         } catch (IllegalArgumentException e) {
             throw new BusinessException(errorCode);
         }
-
-        return userJpaRepository.findIdByPublicUuid(parsedPublicUuid)
-                .orElseThrow(() -> new BusinessException(errorCode));
     }
 }
@@ -2,10 +2,14 @@ package org.triple.backend.user.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.triple.backend.auth.crypto.UuidCrypto;
 import org.triple.backend.global.error.BusinessException;
+import org.triple.backend.group.entity.userGroup.JoinStatus;
+import org.triple.backend.group.event.GroupDetailChangedEvent;
+import org.triple.backend.group.repository.UserGroupJpaRepository;
 import org.triple.backend.user.dto.response.UpdateUserInfoRes;
 import org.triple.backend.user.dto.request.UpdateUserInfoReq;
 import org.triple.backend.user.dto.response.UserInfoResponseDto;
@@ -22,6 +26,8 @@ public class UserService {
 
     private final UserJpaRepository userJpaRepository;
     private final UuidCrypto uuidCrypto;
+    private final UserGroupJpaRepository userGroupJpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public UserInfoResponseDto userInfo(final Long userId) {
@@ -46,6 +52,9 @@ public class UserService {
             .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
 
         user.patchUserInfo(updateUserInfoReq);
+        // 그룹 상세의 멤버 목록에 닉네임 / 소개 / 프로필이 담겨 있으므로 가입한 그룹의 스냅샷을 무효화한다.
+        userGroupJpaRepository.findGroupIdsByUserIdAndJoinStatus(userId, JoinStatus.JOINED)
+                .forEach(groupId -> eventPublisher.publishEvent(new GroupDetailChangedEvent(groupId)));
 
         return UpdateUserInfoRes.builder()
             .userId(uuidCrypto.encrypt(user.getPublicUuid()))
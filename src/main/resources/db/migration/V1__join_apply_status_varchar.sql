@@ -0,0 +1,4 @@
+-- join_apply.join_apply_status 를 MySQL enum 에서 varchar(20) 으로 바꾼다. (EXPIRED 상태 추가)
+-- ddl-auto: update 는 기존 컬럼 타입을 바꾸지 않으므로, 이 버전을 배포하기 전에 기존 DB 마다 한 번 실행한다.
+-- 이미 varchar 인 DB 에서 다시 실행해도 결과는 같다. 실행하지 않으면 JoinApplyStatusColumnCheck 가 기동을 멈춘다.
+ALTER TABLE join_apply MODIFY join_apply_status VARCHAR(20);
@@ -0,0 +1,106 @@
+package org.triple.backend.auth.benchmark;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.triple.backend.auth.config.property.JwtProperties;
+import org.triple.backend.auth.jwt.AuthenticationContext;
+import org.triple.backend.auth.jwt.JwtAuthenticationInterceptor;
+import org.triple.backend.auth.jwt.JwtManager;
+import org.triple.backend.auth.jwt.LoginRequired;
+import org.triple.backend.common.benchmark.CpuBenchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인증된 요청 1건의 토큰 검증 CPU 시간 비교. ./gradlew benchmark 로만 실행한다.
+ * 변경 전 : 인터셉터와 ArgumentResolver 가 각각 검증하고, 검증마다 SHA-256 키 유도와 파서 생성을 반복
+ * 변경 후 : 기동 시 만든 파서로 인터셉터가 한 번 검증하고 결과를 AuthenticationContext 로 공유
+ */
+@Tag("benchmark")
+class JwtAuthenticationBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationBenchmarkTest.class);
+
+    private static final String SECRET = "benchmark-jwt-secret-value-at-least-32-characters";
+    private static final int WARMUP_OPS = 20_000;
+    private static final int ROUNDS = 7;
+    private static final int OPS_PER_ROUND = 10_000;
+
+    private final JwtManager jwtManager = new JwtManager(new JwtProperties(
+            SECRET,
+            3600,
+            1209600L,
+            "refresh_token",
+            "/auth",
+            false,
+            "Lax"
+    ));
+    private final JwtAuthenticationInterceptor interceptor = new JwtAuthenticationInterceptor(jwtManager);
+
+    @Test
+    @DisplayName("요청당 한 번만 검증하는 경로와 변경 전 경로의 요청당 CPU 시간을 기록한다")
+    void 요청당_토큰_검증_CPU_시간() throws NoSuchMethodException {
+        // given
+        String header = "Bearer " + jwtManager.createAccessToken(1L);
+        String token = header.substring("Bearer ".length());
+        HandlerMethod handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("me"));
+
+        // when
+        double legacyNanos = CpuBenchmark.nanosPerOp(WARMUP_OPS, ROUNDS, OPS_PER_ROUND, () ->
+                legacyParseUserId(token) + legacyParseUserId(token));
+        double currentNanos = CpuBenchmark.nanosPerOp(WARMUP_OPS, ROUNDS, OPS_PER_ROUND, () -> {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(JwtManager.AUTHORIZATION_HEADER, header);
+            interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+            return AuthenticationContext.find(request).userId();
+        });
+        log.info("인증 요청 1건 CPU 시간(us) : 변경 전 = {}, 변경 후 = {}, 비율 = {}",
+                String.format("%.1f", legacyNanos / 1_000),
+                String.format("%.1f", currentNanos / 1_000),
+                String.format("%.2fx", legacyNanos / currentNanos));
+
+        // then
+        assertThat(legacyParseUserId(token)).isEqualTo(1L);
+        assertThat(jwtManager.resolveUserId(header)).isEqualTo(1L);
+    }
+
+    /**
+     * 변경 전 JwtManager.parse 와 같은 방식. 호출마다 키를 유도하고 파서를 새로 만든다.
+     */
+    private long legacyParseUserId(final String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(sha256(SECRET)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .get("userId", Long.class);
+    }
+
+    private byte[] sha256(final String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class SampleController {
+
+        @LoginRequired
+        public String me() {
+            return "me";
+        }
+    }
+}
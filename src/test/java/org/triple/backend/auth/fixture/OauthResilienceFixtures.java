@@ -0,0 +1,35 @@
+package org.triple.backend.auth.fixture;
+
+import org.triple.backend.auth.config.property.OauthResilienceProperties;
+
+import java.time.Duration;
+
+public class OauthResilienceFixtures {
+
+    private OauthResilienceFixtures(){}
+
+    public static OauthResilienceProperties properties() {
+        return properties(8, 3, 5);
+    }
+
+    public static OauthResilienceProperties properties(
+            final int maxConcurrentCalls,
+            final int maxAttempts,
+            final int minimumNumberOfCalls
+    ) {
+        return new OauthResilienceProperties(
+                4,
+                maxConcurrentCalls,
+                maxAttempts,
+                Duration.ofMillis(10),
+                2.0,
+                Duration.ofMillis(50),
+                50,
+                10,
+                minimumNumberOfCalls,
+                Duration.ofSeconds(30),
+                1,
+                Duration.ofSeconds(5)
+        );
+    }
+}
@@ -137,6 +137,24 @@ class AuthControllerTest extends ControllerTest {
                 .andExpect(jsonPath("$.message").value(AuthErrorCode.FAILED_FIND_KAKAO_USER_INFO.getMessage()));
     }
 
+    @Test
+    @DisplayName("oauth provider unavailable returns service unavailable")
+    void loginFailOauthProviderUnavailable() throws Exception {
+        given(authServiceFacade.login(any(AuthLoginRequestDto.class), any(HttpServletResponse.class)))
+                .willThrow(new BusinessException(AuthErrorCode.OAUTH_PROVIDER_UNAVAILABLE));
+
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"code":"test-code","provider":"KAKAO"}
+                                """))
+                .andDo(document("auth/login-fail-oauth-provider-unavailable",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.message").value(AuthErrorCode.OAUTH_PROVIDER_UNAVAILABLE.getMessage()));
+    }
+
     @Test
     @DisplayName("refresh success returns authorization header and rotated refresh cookie")
     void refreshSuccess() throws Exception {
@@ -174,4 +192,26 @@ class AuthControllerTest extends ControllerTest {
                         preprocessResponse(prettyPrint())))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    @DisplayName("logout revokes access token and expires refresh cookie")
+    void logoutSuccess() throws Exception {
+        org.mockito.BDDMockito.willAnswer(invocation -> {
+                    HttpServletResponse response = invocation.getArgument(1, HttpServletResponse.class);
+                    response.addHeader("Set-Cookie", "refresh_token=; Path=/auth; Max-Age=0; HttpOnly");
+                    return null;
+                })
+                .given(authServiceFacade)
+                .logout(any(HttpServletRequest.class), any(HttpServletResponse.class));
+
+        mockMvc.perform(post("/auth/logout")
+                        .header("Authorization", "Bearer access-token"))
+                .andDo(document("auth/logout",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Set-Cookie", startsWith("refresh_token=;")));
+
+        verify(authServiceFacade, times(1)).logout(any(HttpServletRequest.class), any(HttpServletResponse.class));
+    }
 }
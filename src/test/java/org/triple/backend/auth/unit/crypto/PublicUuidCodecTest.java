@@ -0,0 +1,76 @@
+package org.triple.backend.auth.unit.crypto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.triple.backend.auth.crypto.PublicUuidCodec;
+import org.triple.backend.auth.crypto.UuidCrypto;
+import org.triple.backend.group.exception.GroupErrorCode;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PublicUuidCodecTest {
+
+    private static final String SECRET = "test-uuid-secret-value-at-least-32-chars";
+
+    @Test
+    @DisplayName("encryptAllCached reuses tokens for repeated uuids and encrypts only cache misses")
+    void encryptAllCachedReusesTokens() {
+        UuidCrypto uuidCrypto = spy(new UuidCrypto(SECRET));
+        PublicUuidCodec codec = new PublicUuidCodec(uuidCrypto, 100, Duration.ofMinutes(10));
+        String first = UUID.randomUUID().toString();
+        String second = UUID.randomUUID().toString();
+
+        List<String> firstView = codec.encryptAllCached(List.of(first));
+        List<String> secondView = codec.encryptAllCached(List.of(second, first));
+
+        assertThat(secondView).hasSize(2);
+        assertThat(secondView.get(1)).isEqualTo(firstView.get(0));
+        verify(uuidCrypto, times(1)).encryptAll(argThat(uuids -> uuids.size() == 1 && uuids.contains(UUID.fromString(second))));
+        assertThat(codec.decryptAllOrThrow(secondView, GroupErrorCode.NOT_GROUP_MEMBER)).containsExactly(second, first);
+    }
+
+    @Test
+    @DisplayName("encryptAll keeps issuing fresh tokens in random mode")
+    void encryptAllIsNotCached() {
+        PublicUuidCodec codec = new PublicUuidCodec(new UuidCrypto(SECRET));
+        String uuid = UUID.randomUUID().toString();
+
+        List<String> first = codec.encryptAll(List.of(uuid));
+        List<String> second = codec.encryptAll(List.of(uuid));
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(codec.decryptOrThrow(second.get(0), GroupErrorCode.NOT_GROUP_MEMBER)).isEqualTo(uuid);
+    }
+
+    @Test
+    @DisplayName("encryptIds and decryptIdsOrThrow replace ids in order and keep other fields")
+    void replaceIdsKeepsOrderAndFields() {
+        PublicUuidCodec codec = new PublicUuidCodec(new UuidCrypto(SECRET));
+        List<Member> members = List.of(
+                new Member(UUID.randomUUID().toString(), "first"),
+                new Member(UUID.randomUUID().toString(), "second")
+        );
+
+        List<Member> encrypted = codec.encryptIds(members, Member::id, Member::withId);
+        List<Member> decrypted = codec.decryptIdsOrThrow(encrypted, Member::id, Member::withId, GroupErrorCode.NOT_GROUP_MEMBER);
+
+        assertThat(encrypted).extracting(Member::name).containsExactly("first", "second");
+        assertThat(encrypted).extracting(Member::id).doesNotContainAnyElementsOf(members.stream().map(Member::id).toList());
+        assertThat(decrypted).isEqualTo(members);
+    }
+
+    private record Member(String id, String name) {
+
+        Member withId(final String id) {
+            return new Member(id, name);
+        }
+    }
+}
@@ -6,6 +6,10 @@ import org.triple.backend.auth.crypto.UserIdentityResolver;
 import org.triple.backend.auth.crypto.UuidCrypto;
 import org.triple.backend.auth.crypto.UuidToUserIdCache;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -53,4 +57,18 @@ class UserIdentityResolverTest {
 
         assertThat(userIdentityResolver.resolve("bad")).isNull();
     }
+
+    @Test
+    @DisplayName("resolveAll keeps input order and returns null for unresolvable principals")
+    void resolveAllKeepsOrder() {
+        UUID plainUuid = UUID.randomUUID();
+        UUID decryptedUuid = UUID.randomUUID();
+        List<Object> principals = List.of(plainUuid, "enc", "bad");
+        when(uuidCrypto.decryptAll(principals)).thenReturn(Arrays.asList(null, decryptedUuid, null));
+        when(uuidToUserIdCache.findAll(Set.of(plainUuid, decryptedUuid))).thenReturn(Map.of(plainUuid, 1L, decryptedUuid, 2L));
+
+        List<Long> resolved = userIdentityResolver.resolveAll(principals);
+
+        assertThat(resolved).containsExactly(1L, 2L, null);
+    }
 }
@@ -4,8 +4,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.triple.backend.auth.crypto.UuidCrypto;
 
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -52,4 +59,87 @@ class UuidCryptoTest {
     void decryptReturnsNullForMalformedToken() {
         assertThat(uuidCrypto.decryptToUuid("%%%not-base64%%%")).isNull();
     }
+
+    @Test
+    @DisplayName("binary plaintext token is shorter than legacy string plaintext token")
+    void binaryPlaintextTokenIsCompact() {
+        String encrypted = uuidCrypto.encrypt(UUID.randomUUID());
+
+        assertThat(Base64.getUrlDecoder().decode(encrypted)).hasSize(12 + 16 + 16);
+    }
+
+    @Test
+    @DisplayName("decrypt keeps supporting legacy string plaintext tokens")
+    void decryptLegacyStringPlaintextToken() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        String legacyToken = legacyEncrypt("test-uuid-secret-value-at-least-32-chars", uuid);
+
+        assertThat(uuidCrypto.decryptToUuid(legacyToken)).isEqualTo(uuid);
+    }
+
+    @Test
+    @DisplayName("bulk encrypt and decrypt keep order and mark failures as null")
+    void bulkRoundTrip() {
+        List<UUID> uuids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        List<String> encrypted = uuidCrypto.encryptAll(uuids);
+        List<Object> tokens = new ArrayList<>(encrypted);
+        tokens.add(1, "broken-token");
+
+        List<UUID> decrypted = uuidCrypto.decryptAll(tokens);
+
+        assertThat(encrypted).doesNotHaveDuplicates();
+        assertThat(decrypted).containsExactly(uuids.get(0), null, uuids.get(1), uuids.get(2));
+    }
+
+    @Test
+    @DisplayName("deterministic mode returns the same token for the same uuid")
+    void deterministicModeIsStable() {
+        UuidCrypto deterministicCrypto = new UuidCrypto("test-uuid-secret-value-at-least-32-chars", true, 100);
+        UUID uuid = UUID.randomUUID();
+
+        String first = deterministicCrypto.encrypt(uuid);
+        String second = deterministicCrypto.encryptAll(List.of(uuid)).get(0);
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first).isNotEqualTo(deterministicCrypto.encrypt(UUID.randomUUID()));
+        assertThat(deterministicCrypto.decryptToUuid(first)).isEqualTo(uuid);
+    }
+
+    @Test
+    @DisplayName("deterministic mode keeps decrypting random iv tokens and the other way around")
+    void deterministicModeReadsBothFormats() {
+        UuidCrypto deterministicCrypto = new UuidCrypto("test-uuid-secret-value-at-least-32-chars", true, 100);
+        UUID uuid = UUID.randomUUID();
+
+        assertThat(deterministicCrypto.decryptToUuid(uuidCrypto.encrypt(uuid))).isEqualTo(uuid);
+        assertThat(uuidCrypto.decryptToUuid(deterministicCrypto.encrypt(uuid))).isEqualTo(uuid);
+    }
+
+    @Test
+    @DisplayName("tampered deterministic token is rejected")
+    void tamperedDeterministicTokenIsRejected() {
+        UuidCrypto deterministicCrypto = new UuidCrypto("test-uuid-secret-value-at-least-32-chars", true, 100);
+        byte[] payload = Base64.getUrlDecoder().decode(deterministicCrypto.encrypt(UUID.randomUUID()));
+        payload[payload.length - 1] ^= 0x01;
+
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(payload);
+
+        assertThat(deterministicCrypto.decryptToUuid(tampered)).isNull();
+    }
+
+    private String legacyEncrypt(String secret, UUID uuid) throws Exception {
+        byte[] key = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        byte[] iv = new byte[12];
+        new SecureRandom().nextBytes(iv);
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new GCMParameterSpec(128, iv));
+        byte[] encrypted = cipher.doFinal(uuid.toString().getBytes(StandardCharsets.UTF_8));
+
+        byte[] payload = new byte[iv.length + encrypted.length];
+        System.arraycopy(iv, 0, payload, 0, iv.length);
+        System.arraycopy(encrypted, 0, payload, iv.length, encrypted.length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload);
+    }
 }
@@ -3,12 +3,22 @@ package org.triple.backend.auth.unit.crypto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.triple.backend.auth.crypto.UuidToUserIdCache;
+import org.triple.backend.global.cache.CacheInvalidationBus;
+import org.triple.backend.global.cache.CacheInvalidationMessage;
+import org.triple.backend.global.cache.CacheInvalidationTransport;
 import org.triple.backend.user.repository.UserJpaRepository;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -70,4 +80,64 @@ class UuidToUserIdCacheTest {
         assertThat(found).isNull();
         verify(userJpaRepository, times(0)).findIdByPublicUuid(uuid);
     }
+
+    @Test
+    @DisplayName("findAll serves cached ids and loads only misses with a single IN query")
+    void findAllLoadsMissesInSingleQuery() {
+        UUID cached = UUID.randomUUID();
+        UUID loaded = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        cache.save(cached, 1L);
+        when(userJpaRepository.findIdsByPublicUuidIn(anyCollection()))
+                .thenReturn(List.of(publicUuidUserId(loaded, 2L)));
+
+        Map<UUID, Long> found = cache.findAll(List.of(cached, loaded, missing));
+        Map<UUID, Long> again = cache.findAll(List.of(cached, loaded, missing));
+
+        assertThat(found).containsOnly(Map.entry(cached, 1L), Map.entry(loaded, 2L));
+        assertThat(again).isEqualTo(found);
+        verify(userJpaRepository, times(1)).findIdsByPublicUuidIn(argThat(uuids ->
+                uuids.size() == 2 && Set.copyOf(uuids).equals(Set.of(loaded, missing))));
+    }
+
+    @Test
+    @DisplayName("save on another node evicts a cached miss through the invalidation bus")
+    void saveOnAnotherNodeEvictsCachedMiss() {
+        List<Consumer<CacheInvalidationMessage>> listeners = new ArrayList<>();
+        CacheInvalidationTransport transport = new CacheInvalidationTransport() {
+            @Override
+            public void publish(CacheInvalidationMessage message) {
+                listeners.forEach(listener -> listener.accept(message));
+            }
+
+            @Override
+            public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+                listeners.add(listener);
+            }
+        };
+        UuidToUserIdCache nodeA = new UuidToUserIdCache(userJpaRepository, new CacheInvalidationBus(transport));
+        UuidToUserIdCache nodeB = new UuidToUserIdCache(userJpaRepository, new CacheInvalidationBus(transport));
+        UUID uuid = UUID.randomUUID();
+        when(userJpaRepository.findIdByPublicUuid(uuid)).thenReturn(Optional.empty(), Optional.of(3L));
+
+        assertThat(nodeB.find(uuid)).isNull();
+        nodeA.save(uuid, 3L);
+
+        assertThat(nodeB.find(uuid)).isEqualTo(3L);
+        verify(userJpaRepository, times(2)).findIdByPublicUuid(uuid);
+    }
+
+    private UserJpaRepository.PublicUuidUserId publicUuidUserId(UUID publicUuid, Long userId) {
+        return new UserJpaRepository.PublicUuidUserId() {
+            @Override
+            public UUID getPublicUuid() {
+                return publicUuid;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+        };
+    }
 }
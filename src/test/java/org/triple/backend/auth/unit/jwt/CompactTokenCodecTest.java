@@ -0,0 +1,36 @@
+package org.triple.backend.auth.unit.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.triple.backend.auth.jwt.CompactTokenCodec;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactTokenCodecTest {
+
+    private static final byte[] JWT_SIGNING_KEY = "test-jwt-signing-key-value-of-32-bytes!!".getBytes(StandardCharsets.UTF_8);
+    private static final int PAYLOAD_LENGTH = 42;
+
+    @Test
+    @DisplayName("compact token is not signed with the raw jwt signing key")
+    void compactTokenUsesDerivedKey() throws Exception {
+        CompactTokenCodec codec = new CompactTokenCodec(JWT_SIGNING_KEY);
+        Instant now = Instant.now();
+
+        String token = codec.issueAccessToken(7L, now, 3600);
+        byte[] decoded = Base64.getUrlDecoder().decode(token);
+        Mac rawKeyMac = Mac.getInstance("HmacSHA256");
+        rawKeyMac.init(new SecretKeySpec(JWT_SIGNING_KEY, "HmacSHA256"));
+        rawKeyMac.update(decoded, 0, PAYLOAD_LENGTH);
+
+        assertThat(Arrays.copyOfRange(decoded, PAYLOAD_LENGTH, decoded.length)).isNotEqualTo(rawKeyMac.doFinal());
+        assertThat(codec.verify(token, now.getEpochSecond()).userId()).isEqualTo(7L);
+    }
+}
@@ -0,0 +1,120 @@
+package org.triple.backend.auth.unit.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.triple.backend.auth.exception.AuthErrorCode;
+import org.triple.backend.auth.jwt.AuthenticationContext;
+import org.triple.backend.auth.jwt.JwtAuthenticationInterceptor;
+import org.triple.backend.auth.jwt.JwtManager;
+import org.triple.backend.auth.jwt.JwtUserArgumentResolver;
+import org.triple.backend.auth.jwt.LoginRequired;
+import org.triple.backend.auth.jwt.LoginUser;
+import org.triple.backend.global.error.BusinessException;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationInterceptorTest {
+
+    private final JwtManager jwtManager = mock(JwtManager.class);
+    private final JwtAuthenticationInterceptor interceptor = new JwtAuthenticationInterceptor(jwtManager);
+    private final JwtUserArgumentResolver resolver = new JwtUserArgumentResolver(jwtManager);
+
+    @Test
+    @DisplayName("login required handler verifies token once and resolver reuses the request context")
+    void loginRequiredHandlerParsesTokenOnce() throws Exception {
+        MockHttpServletRequest request = requestWithToken();
+        when(jwtManager.resolveUserId("Bearer token")).thenReturn(7L);
+        HandlerMethod handlerMethod = handlerMethod("secured");
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), handlerMethod);
+        Long userId = resolveLoginUser(request, handlerMethod);
+
+        assertThat(userId).isEqualTo(7L);
+        assertThat(AuthenticationContext.find(request)).isEqualTo(AuthenticationContext.authenticated(7L));
+        verify(jwtManager, times(1)).resolveUserId(any());
+    }
+
+    @Test
+    @DisplayName("optional handler resolves token once even when resolver is called repeatedly")
+    void optionalHandlerParsesTokenOnce() throws Exception {
+        MockHttpServletRequest request = requestWithToken();
+        when(jwtManager.resolveUserId("Bearer token")).thenReturn(3L);
+        HandlerMethod handlerMethod = handlerMethod("optional");
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), handlerMethod);
+        Long first = resolveLoginUser(request, handlerMethod);
+        Long second = resolveLoginUser(request, handlerMethod);
+
+        assertThat(first).isEqualTo(3L);
+        assertThat(second).isEqualTo(3L);
+        verify(jwtManager, times(1)).resolveUserId(any());
+    }
+
+    @Test
+    @DisplayName("optional handler caches anonymous context for invalid token")
+    void optionalHandlerCachesAnonymousContext() throws Exception {
+        MockHttpServletRequest request = requestWithToken();
+        when(jwtManager.resolveUserId("Bearer token")).thenThrow(new BusinessException(AuthErrorCode.UNAUTHORIZED));
+        HandlerMethod handlerMethod = handlerMethod("optional");
+
+        assertThat(resolveLoginUser(request, handlerMethod)).isNull();
+        assertThat(resolveLoginUser(request, handlerMethod)).isNull();
+        verify(jwtManager, times(1)).resolveUserId(any());
+    }
+
+    @Test
+    @DisplayName("class level login required applies to every handler method")
+    void classLevelLoginRequired() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        HandlerMethod handlerMethod = new HandlerMethod(new SecuredController(), SecuredController.class.getMethod("any", Long.class));
+
+        assertThatThrownBy(() -> interceptor.preHandle(request, new MockHttpServletResponse(), handlerMethod))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(AuthErrorCode.UNAUTHORIZED);
+    }
+
+    private MockHttpServletRequest requestWithToken() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(JwtManager.AUTHORIZATION_HEADER, "Bearer token");
+        return request;
+    }
+
+    private HandlerMethod handlerMethod(String name) throws NoSuchMethodException {
+        Method method = TestController.class.getMethod(name, Long.class);
+        return new HandlerMethod(new TestController(), method);
+    }
+
+    private Long resolveLoginUser(MockHttpServletRequest request, HandlerMethod handlerMethod) {
+        MethodParameter parameter = handlerMethod.getMethodParameters()[0];
+        return resolver.resolveArgument(parameter, null, new ServletWebRequest(request), null);
+    }
+
+    static class TestController {
+        @LoginRequired
+        public void secured(@LoginUser Long userId) {
+        }
+
+        public void optional(@LoginUser Long userId) {
+        }
+    }
+
+    @LoginRequired
+    static class SecuredController {
+        public void any(@LoginUser Long userId) {
+        }
+    }
+}
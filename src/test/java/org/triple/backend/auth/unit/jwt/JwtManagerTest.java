@@ -2,9 +2,14 @@ package org.triple.backend.auth.unit.jwt;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.triple.backend.auth.config.property.AccessTokenFormatProperties;
+import org.triple.backend.auth.config.property.JwtCacheProperties;
 import org.triple.backend.auth.config.property.JwtProperties;
 import org.triple.backend.auth.exception.AuthErrorCode;
+import org.triple.backend.auth.jwt.AccessTokenFormat;
+import org.triple.backend.auth.jwt.CompactTokenCodec;
 import org.triple.backend.auth.jwt.JwtManager;
+import org.triple.backend.auth.jwt.TokenRevocationChecker;
 import org.triple.backend.global.error.BusinessException;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -82,4 +87,122 @@ class JwtManagerTest {
                 .extracting("errorCode")
                 .isEqualTo(AuthErrorCode.UNAUTHORIZED);
     }
+
+    @Test
+    @DisplayName("verified token cache keeps token type check on cache hit")
+    void cachedAccessTokenStillValidatesTokenType() {
+        JwtManager cachingJwtManager = new JwtManager(
+                new JwtProperties(
+                        "test-jwt-secret-value-at-least-32-characters",
+                        3600,
+                        1209600L,
+                        "refresh_token",
+                        "/auth",
+                        false,
+                        "Lax"
+                ),
+                new JwtCacheProperties(true, 100)
+        );
+        String accessToken = cachingJwtManager.createAccessToken(5L);
+
+        assertThat(cachingJwtManager.resolveUserId("Bearer " + accessToken)).isEqualTo(5L);
+        assertThat(cachingJwtManager.resolveUserId("Bearer " + accessToken)).isEqualTo(5L);
+        assertThatThrownBy(() -> cachingJwtManager.resolveUserIdFromRefreshToken(accessToken))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(AuthErrorCode.UNAUTHORIZED);
+        assertThat(cachingJwtManager.verifiedTokenCacheStats().hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("compact access token resolves user id and is shorter than jwt")
+    void compactAccessTokenSuccess() {
+        JwtManager compactJwtManager = jwtManagerWith(new AccessTokenFormatProperties(AccessTokenFormat.COMPACT, false));
+
+        String token = compactJwtManager.createAccessToken(42L);
+
+        assertThat(CompactTokenCodec.isCompact(token)).isTrue();
+        assertThat(token.length()).isLessThan(jwtManager.createAccessToken(42L).length());
+        assertThat(compactJwtManager.resolveUserId("Bearer " + token)).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("tampered compact access token throws unauthorized")
+    void tamperedCompactAccessTokenThrowsUnauthorized() {
+        JwtManager compactJwtManager = jwtManagerWith(new AccessTokenFormatProperties(AccessTokenFormat.COMPACT, false));
+        String token = compactJwtManager.createAccessToken(42L);
+        char target = token.charAt(20);
+        String tampered = token.substring(0, 20) + (target == 'A' ? 'B' : 'A') + token.substring(21);
+
+        assertThatThrownBy(() -> compactJwtManager.resolveUserId("Bearer " + tampered))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(AuthErrorCode.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("migration mode accepts both jwt and compact access tokens")
+    void migrationModeAcceptsBothFormats() {
+        JwtManager migratingJwtManager = jwtManagerWith(new AccessTokenFormatProperties(AccessTokenFormat.COMPACT, true));
+        String compactToken = migratingJwtManager.createAccessToken(1L);
+        String legacyToken = jwtManager.createAccessToken(2L);
+
+        assertThat(migratingJwtManager.resolveUserId("Bearer " + compactToken)).isEqualTo(1L);
+        assertThat(migratingJwtManager.resolveUserId("Bearer " + legacyToken)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("jwt only mode rejects compact access token but compact mode still accepts jwt refresh token")
+    void formatSwitchWithoutMigration() {
+        JwtManager compactJwtManager = jwtManagerWith(new AccessTokenFormatProperties(AccessTokenFormat.COMPACT, false));
+        String compactToken = compactJwtManager.createAccessToken(1L);
+
+        assertThatThrownBy(() -> jwtManager.resolveUserId("Bearer " + compactToken))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> compactJwtManager.resolveUserId("Bearer " + jwtManager.createAccessToken(1L)))
+                .isInstanceOf(BusinessException.class);
+        assertThat(compactJwtManager.resolveUserIdFromRefreshToken(compactJwtManager.createRefreshToken(3L))).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("revoked access token throws unauthorized")
+    void revokedAccessTokenThrowsUnauthorized() {
+        JwtManager revokingJwtManager = new JwtManager(
+                new JwtProperties(
+                        "test-jwt-secret-value-at-least-32-characters",
+                        3600,
+                        1209600L,
+                        "refresh_token",
+                        "/auth",
+                        false,
+                        "Lax"
+                ),
+                JwtCacheProperties.disabled(),
+                AccessTokenFormatProperties.jwtOnly(),
+                jti -> true
+        );
+        String token = revokingJwtManager.createAccessToken(1L);
+
+        assertThatThrownBy(() -> revokingJwtManager.resolveUserId("Bearer " + token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(AuthErrorCode.UNAUTHORIZED);
+    }
+
+    private JwtManager jwtManagerWith(AccessTokenFormatProperties formatProperties) {
+        return new JwtManager(
+                new JwtProperties(
+                        "test-jwt-secret-value-at-least-32-characters",
+                        3600,
+                        1209600L,
+                        "refresh_token",
+                        "/auth",
+                        false,
+                        "Lax"
+                ),
+                JwtCacheProperties.disabled(),
+                formatProperties,
+                TokenRevocationChecker.NONE
+        );
+    }
 }
@@ -0,0 +1,73 @@
+package org.triple.backend.auth.unit.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.triple.backend.auth.config.property.JwtCacheProperties;
+import org.triple.backend.auth.jwt.VerifiedToken;
+import org.triple.backend.auth.jwt.VerifiedTokenCache;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("cache hit returns verified token without calling verifier again")
+    void cacheHitSkipsVerification() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new JwtCacheProperties(true, 10), clock);
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, VerifiedToken> verifier = countingVerifier(calls, NOW.plusSeconds(60));
+
+        VerifiedToken first = cache.get("token", verifier);
+        VerifiedToken second = cache.get("token", verifier);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(calls).hasValue(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("already expired token is never cached")
+    void expiredTokenIsNotCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new JwtCacheProperties(true, 10), clock);
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, VerifiedToken> verifier = countingVerifier(calls, NOW.minusSeconds(1));
+
+        cache.get("token", verifier);
+        cache.get("token", verifier);
+
+        assertThat(calls).hasValue(2);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("disabled cache always delegates to verifier")
+    void disabledCacheDelegates() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(JwtCacheProperties.disabled(), clock);
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, VerifiedToken> verifier = countingVerifier(calls, NOW.plusSeconds(60));
+
+        cache.get("token", verifier);
+        cache.get("token", verifier);
+
+        assertThat(calls).hasValue(2);
+        assertThat(cache.isEnabled()).isFalse();
+    }
+
+    private Function<String, VerifiedToken> countingVerifier(AtomicInteger calls, Instant expiresAt) {
+        return token -> {
+            calls.incrementAndGet();
+            return new VerifiedToken(1L, "ACCESS", "jti", expiresAt);
+        };
+    }
+}
@@ -6,14 +6,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
-import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.web.client.RestClient;
 import org.triple.backend.auth.dto.response.KakaoTokenResponseDto;
 import org.triple.backend.auth.exception.OauthTransientException;
 import org.triple.backend.auth.oauth.kakao.KakaoApiCaller;
-import org.triple.backend.global.error.BusinessException;
 import org.triple.backend.auth.config.property.KakaoOauthProperties;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -24,7 +22,7 @@ import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.times;
 import static org.springframework.web.client.RestClient.*;
 
-@SpringBootTest(classes = { KakaoApiCaller.class, KakaoApiCallerTest.RetryTestConfig.class})
+@SpringBootTest(classes = { KakaoApiCaller.class, KakaoApiCallerTest.KakaoTestConfig.class})
 @ActiveProfiles("test")
 class KakaoApiCallerTest {
 
@@ -44,8 +42,7 @@ class KakaoApiCallerTest {
     private ResponseSpec responseSpec;
 
     @TestConfiguration
-    @EnableRetry
-    static class RetryTestConfig {
+    static class KakaoTestConfig {
 
         @Bean
         KakaoOauthProperties kakaoOauthProperties() {
@@ -61,8 +58,8 @@ class KakaoApiCallerTest {
 
 
     @Test
-    @DisplayName("연속 3번 오류 발생시 최종적으로 BusinessException 예외가 발생한다.")
-    void 연속_3번_오류_발생시_최종적으로_BusinessException_에외가_발생한다() {
+    @DisplayName("5xx 오류는 재시도하지 않고 OauthTransientException 으로 한 번만 호출한다.")
+    void 오류_발생시_재시도하지_않고_OauthTransientException_예외가_발생한다() {
         // given
         given(restClient.post()).willReturn(postSpec);
         given(postSpec.uri(anyString())).willReturn(bodySpec);
@@ -76,8 +73,8 @@ class KakaoApiCallerTest {
 
         // when & then
         assertThatThrownBy(() -> kakaoApiCaller.requestAccessToken("code"))
-                .isInstanceOf(BusinessException.class);
+                .isInstanceOf(OauthTransientException.class);
 
-        then(restClient).should(times(3)).post();
+        then(restClient).should(times(1)).post();
     }
 }
@@ -0,0 +1,215 @@
+package org.triple.backend.auth.unit.oauth.kakao;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import org.triple.backend.auth.config.property.KakaoOauthProperties;
+import org.triple.backend.auth.config.property.OauthResilienceProperties;
+import org.triple.backend.auth.exception.AuthErrorCode;
+import org.triple.backend.auth.fixture.OauthResilienceFixtures;
+import org.triple.backend.auth.oauth.OauthProvider;
+import org.triple.backend.auth.oauth.OauthUser;
+import org.triple.backend.auth.oauth.kakao.KakaoApiCaller;
+import org.triple.backend.auth.oauth.kakao.KakaoOauthClient;
+import org.triple.backend.auth.oauth.resilience.OauthCallExecutor;
+import org.triple.backend.auth.oauth.resilience.OauthCircuitBreaker;
+import org.triple.backend.global.error.BusinessException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 HTTP 서버로 카카오 장애(5xx, 지연)를 흉내 내어 재시도 / circuit breaker / bulkhead 동작을 확인한다.
+ */
+class KakaoOauthClientStubServerTest {
+
+    private static final String TOKEN_BODY = """
+            {"access_token":"kakao-access-token","token_type":"bearer"}
+            """;
+    private static final String USER_INFO_BODY = """
+            {"id":"kakao-1234","kakao_account":{"email":"test@test.com","profile":{"nickname":"nick","profile_image_url":"http://img"}}}
+            """;
+
+    private final Queue<Integer> tokenStatuses = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger tokenCalls = new AtomicInteger();
+    private final AtomicLong tokenDelayMillis = new AtomicLong();
+    private volatile CountDownLatch tokenEntered = new CountDownLatch(1);
+    private volatile CountDownLatch tokenRelease;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private OauthCallExecutor oauthCallExecutor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/oauth/token", this::handleToken);
+        server.createContext("/v2/user/me", exchange -> respond(exchange, 200, USER_INFO_BODY));
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (oauthCallExecutor != null) {
+            oauthCallExecutor.shutdown();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("토큰 API 가 5xx 를 두 번 반환해도 재시도로 로그인에 성공한다")
+    void 토큰_API_5xx_후_재시도로_성공한다() {
+        tokenStatuses.add(500);
+        tokenStatuses.add(503);
+        KakaoOauthClient client = client(OauthResilienceFixtures.properties());
+
+        OauthUser user = client.fetchUser("code");
+
+        assertThat(user.provider()).isEqualTo(OauthProvider.KAKAO);
+        assertThat(user.providerId()).isEqualTo("kakao-1234");
+        assertThat(user.nickname()).isEqualTo("nick");
+        assertThat(tokenCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("5xx 가 계속되면 재시도를 모두 소진한 뒤 FAILED_ISSUE_KAKAO_ACCESS_TOKEN 으로 실패한다")
+    void 토큰_API_5xx_가_계속되면_재시도_소진_후_실패한다() {
+        for (int i = 0; i < 3; i++) tokenStatuses.add(500);
+        KakaoOauthClient client = client(OauthResilienceFixtures.properties());
+
+        assertThatThrownBy(() -> client.fetchUser("code"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(AuthErrorCode.FAILED_ISSUE_KAKAO_ACCESS_TOKEN);
+        assertThat(tokenCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("응답 지연이 read timeout 을 넘으면 일시 장애로 보고 재시도한다")
+    void 응답_지연이_read_timeout_을_넘으면_재시도한다() {
+        tokenDelayMillis.set(600);
+        KakaoOauthClient client = client(OauthResilienceFixtures.properties(8, 2, 5));
+
+        assertThatThrownBy(() -> client.fetchUser("code"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(AuthErrorCode.FAILED_ISSUE_KAKAO_ACCESS_TOKEN);
+        assertThat(tokenCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 circuit 이 열려 프로바이더를 호출하지 않고 바로 실패한다")
+    void circuit_이_열리면_바로_실패한다() {
+        for (int i = 0; i < 5; i++) tokenStatuses.add(500);
+        KakaoOauthClient client = client(OauthResilienceFixtures.properties(8, 1, 5));
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> client.fetchUser("code")).isInstanceOf(BusinessException.class);
+        }
+
+        assertThat(oauthCallExecutor.circuitState(OauthProvider.KAKAO)).isEqualTo(OauthCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> client.fetchUser("code"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(AuthErrorCode.OAUTH_PROVIDER_UNAVAILABLE);
+        assertThat(tokenCalls.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("동시 호출 상한을 넘는 요청은 기다리지 않고 바로 거절된다")
+    void 동시_호출_상한을_넘으면_바로_거절된다() throws Exception {
+        tokenRelease = new CountDownLatch(1);
+        KakaoOauthClient client = client(OauthResilienceFixtures.properties(1, 1, 5));
+
+        CompletableFuture<OauthUser> first = client.fetchUserAsync("first");
+        assertThat(tokenEntered.await(2, TimeUnit.SECONDS)).isTrue();
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> client.fetchUser("second"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(AuthErrorCode.OAUTH_PROVIDER_UNAVAILABLE);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(100));
+
+        tokenRelease.countDown();
+        assertThat(first.get(2, TimeUnit.SECONDS).providerId()).isEqualTo("kakao-1234");
+        assertThat(tokenCalls.get()).isEqualTo(1);
+    }
+
+    private KakaoOauthClient client(OauthResilienceProperties properties) {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        KakaoOauthProperties kakaoOauthProperties = new KakaoOauthProperties(
+                baseUrl + "/oauth/token",
+                baseUrl + "/v2/user/me",
+                "client-id",
+                "client-secret",
+                "http://localhost:3000/redirect/kakao"
+        );
+
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(HttpClient.newHttpClient());
+        factory.setReadTimeout(Duration.ofMillis(300));
+        RestClient restClient = RestClient.builder().requestFactory(factory).build();
+
+        oauthCallExecutor = new OauthCallExecutor(properties);
+        return new KakaoOauthClient(new KakaoApiCaller(kakaoOauthProperties, restClient), oauthCallExecutor);
+    }
+
+    private void handleToken(HttpExchange exchange) throws IOException {
+        tokenCalls.incrementAndGet();
+        tokenEntered.countDown();
+        try {
+            if (tokenRelease != null) {
+                tokenRelease.await(2, TimeUnit.SECONDS);
+            }
+            if (tokenDelayMillis.get() > 0) {
+                Thread.sleep(tokenDelayMillis.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Integer status = tokenStatuses.poll();
+        if (status != null) {
+            respond(exchange, status, "{\"error\":\"server_error\"}");
+            return;
+        }
+        respond(exchange, 200, TOKEN_BODY);
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            exchange.sendResponseHeaders(status, bytes.length);
+            outputStream.write(bytes);
+        } catch (IOException ignored) {
+            // 클라이언트가 read timeout 으로 먼저 연결을 끊은 경우
+        } finally {
+            exchange.close();
+        }
+    }
+}
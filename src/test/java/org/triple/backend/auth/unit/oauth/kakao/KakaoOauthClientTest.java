@@ -1,16 +1,18 @@
 package org.triple.backend.auth.unit.oauth.kakao;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.triple.backend.auth.dto.response.KakaoUserInfoResponseDto;
+import org.triple.backend.auth.fixture.OauthResilienceFixtures;
 import org.triple.backend.auth.oauth.OauthProvider;
 import org.triple.backend.auth.oauth.OauthUser;
 import org.triple.backend.auth.oauth.kakao.KakaoApiCaller;
 import org.triple.backend.auth.oauth.kakao.KakaoOauthClient;
+import org.triple.backend.auth.oauth.resilience.OauthCallExecutor;
 
 import java.util.Properties;
 
@@ -24,9 +26,13 @@ class KakaoOauthClientTest {
     @Mock
     private KakaoApiCaller kakaoApiCaller;
 
-    @InjectMocks
     private KakaoOauthClient kakaoOauthClient;
 
+    @BeforeEach
+    void setUp() {
+        kakaoOauthClient = new KakaoOauthClient(kakaoApiCaller, new OauthCallExecutor(OauthResilienceFixtures.properties()));
+    }
+
 
     @Test
     @DisplayName("카카오 유저 조회 성공 시 OauthUser로 매핑한다")
@@ -0,0 +1,86 @@
+package org.triple.backend.auth.unit.oauth.resilience;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.triple.backend.auth.config.property.OauthResilienceProperties;
+import org.triple.backend.auth.exception.AuthErrorCode;
+import org.triple.backend.auth.exception.OauthTransientException;
+import org.triple.backend.auth.oauth.OauthProvider;
+import org.triple.backend.auth.oauth.resilience.OauthCallExecutor;
+import org.triple.backend.global.error.BusinessException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OauthCallExecutorTest {
+
+    private final OauthCallExecutor executor = new OauthCallExecutor(new OauthResilienceProperties(
+            2,
+            1,
+            1_000,
+            Duration.ofMillis(10),
+            1.0,
+            Duration.ofMillis(10),
+            50,
+            10,
+            5,
+            Duration.ZERO,
+            1,
+            Duration.ofMillis(100)
+    ));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("이어 붙인 호출을 기다리다 시간 초과되면 내부 호출의 재시도도 멈추고 bulkhead 를 돌려준다")
+    void 시간_초과시_내부_호출의_재시도를_멈춘다() throws InterruptedException {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> owner = new CompletableFuture<>();
+        executor.submit(
+                        OauthProvider.KAKAO,
+                        () -> {
+                            calls.incrementAndGet();
+                            throw new OauthTransientException("timeout", null);
+                        },
+                        AuthErrorCode.FAILED_ISSUE_KAKAO_ACCESS_TOKEN,
+                        owner
+                )
+                .thenApply(String::valueOf)
+                .whenComplete((value, e) -> {
+                    if (e != null) {
+                        owner.completeExceptionally(e);
+                        return;
+                    }
+                    owner.complete(value);
+                });
+
+        // when
+        assertThatThrownBy(() -> executor.await(owner))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(AuthErrorCode.OAUTH_PROVIDER_UNAVAILABLE);
+
+        // then
+        Thread.sleep(100);
+        int callsAfterTimeout = calls.get();
+        Thread.sleep(200);
+        assertThat(callsAfterTimeout).isPositive();
+        assertThat(calls.get()).isEqualTo(callsAfterTimeout);
+
+        String next = executor.await(executor.submit(
+                OauthProvider.KAKAO,
+                () -> "ok",
+                AuthErrorCode.FAILED_ISSUE_KAKAO_ACCESS_TOKEN
+        ));
+        assertThat(next).isEqualTo("ok");
+    }
+}
@@ -0,0 +1,73 @@
+package org.triple.backend.auth.unit.oauth.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.triple.backend.auth.oauth.resilience.OauthCircuitBreaker;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OauthCircuitBreakerTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final OauthCircuitBreaker circuitBreaker =
+            new OauthCircuitBreaker(50, 4, 4, Duration.ofSeconds(10), 1, nanoTime::get);
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 OPEN 으로 바뀌고 호출을 거절한다")
+    void 실패율이_임계치를_넘으면_OPEN() {
+        record(true, false, true, false);
+
+        assertThat(circuitBreaker.state()).isEqualTo(OauthCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("최소 호출 수를 채우기 전에는 실패해도 OPEN 되지 않는다")
+    void 최소_호출_수_전에는_OPEN_되지_않는다() {
+        record(true, true, true);
+
+        assertThat(circuitBreaker.state()).isEqualTo(OauthCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("OPEN 시간이 지나면 HALF_OPEN 시도가 성공할 때 CLOSED 로 돌아간다")
+    void HALF_OPEN_시도_성공시_CLOSED() {
+        record(true, true, true, true);
+        nanoTime.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.state()).isEqualTo(OauthCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.state()).isEqualTo(OauthCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시도가 실패하면 다시 OPEN 된다")
+    void HALF_OPEN_시도_실패시_OPEN() {
+        record(true, true, true, true);
+        nanoTime.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.state()).isEqualTo(OauthCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void record(boolean... failures) {
+        for (boolean failure : failures) {
+            assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+            if (failure) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+        }
+    }
+}
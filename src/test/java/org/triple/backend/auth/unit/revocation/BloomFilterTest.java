@@ -0,0 +1,41 @@
+package org.triple.backend.auth.unit.revocation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.triple.backend.auth.revocation.BloomFilter;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("inserted values are always reported as present")
+    void noFalseNegative() {
+        BloomFilter bloomFilter = new BloomFilter(1_000, 0.01);
+        String[] values = IntStream.range(0, 1_000).mapToObj(i -> UUID.randomUUID().toString()).toArray(String[]::new);
+
+        for (String value : values) {
+            bloomFilter.put(value);
+        }
+
+        for (String value : values) {
+            assertThat(bloomFilter.mightContain(value)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("false positive rate stays close to configured probability")
+    void falsePositiveRate() {
+        BloomFilter bloomFilter = new BloomFilter(1_000, 0.01);
+        IntStream.range(0, 1_000).forEach(i -> bloomFilter.put("revoked-" + i));
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> bloomFilter.mightContain("active-" + i))
+                .count();
+
+        assertThat(falsePositives).isLessThan(500);
+    }
+}
@@ -0,0 +1,92 @@
+package org.triple.backend.auth.unit.revocation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.triple.backend.auth.entity.RevokedToken;
+import org.triple.backend.auth.repository.RevokedTokenJpaRepository;
+import org.triple.backend.auth.revocation.RevokedTokenRegistry;
+import org.triple.backend.common.annotation.ServiceTest;
+import org.triple.backend.global.config.JpaConfig;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceTest
+@Import(JpaConfig.class)
+class RevokedTokenRegistryTest {
+
+    @Autowired
+    private RevokedTokenJpaRepository revokedTokenJpaRepository;
+
+    private RevokedTokenRegistry revokedTokenRegistry;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRegistry = new RevokedTokenRegistry(revokedTokenJpaRepository, Duration.ofMinutes(1));
+        revokedTokenRegistry.rebuild();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 폐기는 주기 동기화로 반영된다")
+    void 다른_노드의_폐기는_주기_동기화로_반영된다() {
+        // given
+        revokedTokenJpaRepository.saveAndFlush(RevokedToken.create("jti-other-node", 1L, LocalDateTime.now().plusHours(1)));
+
+        // when
+        revokedTokenRegistry.syncFromTable();
+
+        // then
+        assertThat(revokedTokenRegistry.isRevoked("jti-other-node")).isTrue();
+    }
+
+    @Test
+    @DisplayName("더 큰 id 보다 늦게 커밋된 폐기도 lookback 구간 안이면 반영된다")
+    void 더_큰_id_보다_늦게_커밋된_폐기도_lookback_구간_안이면_반영된다() {
+        // given
+        RevokedToken lateCommitted = revokedTokenJpaRepository.saveAndFlush(RevokedToken.create("jti-late", 1L, LocalDateTime.now().plusHours(1)));
+        RevokedToken earlyCommitted = revokedTokenJpaRepository.saveAndFlush(RevokedToken.create("jti-early", 2L, LocalDateTime.now().plusHours(1)));
+        // 큰 id 의 행을 먼저 읽어 커서가 이미 지나간 상황
+        ReflectionTestUtils.setField(revokedTokenRegistry, "lastSyncedId", earlyCommitted.getId());
+
+        // when
+        revokedTokenRegistry.syncFromTable();
+
+        // then
+        assertThat(lateCommitted.getId()).isLessThan(earlyCommitted.getId());
+        assertThat(revokedTokenRegistry.isRevoked("jti-late")).isTrue();
+    }
+
+    @Test
+    @DisplayName("폐기는 커밋된 뒤에 메모리에 반영된다")
+    void 폐기는_커밋된_뒤에_메모리에_반영된다() {
+        // when
+        revokedTokenRegistry.revoke("jti-commit", 1L, LocalDateTime.now().plusHours(1));
+        boolean revokedBeforeCommit = revokedTokenRegistry.isRevoked("jti-commit");
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        // then
+        assertThat(revokedBeforeCommit).isFalse();
+        assertThat(revokedTokenRegistry.isRevoked("jti-commit")).isTrue();
+        revokedTokenJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("폐기 트랜잭션이 롤백되면 메모리에 남지 않는다")
+    void 폐기_트랜잭션이_롤백되면_메모리에_남지_않는다() {
+        // when
+        revokedTokenRegistry.revoke("jti-rollback", 1L, LocalDateTime.now().plusHours(1));
+        TestTransaction.end();
+
+        // then
+        assertThat(revokedTokenRegistry.isRevoked("jti-rollback")).isFalse();
+        assertThat(revokedTokenJpaRepository.existsByJti("jti-rollback")).isFalse();
+    }
+}
@@ -11,6 +11,9 @@ import org.springframework.context.annotation.Import;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.triple.backend.auth.config.property.AccessTokenFormatProperties;
+import org.triple.backend.auth.config.property.JwtCacheProperties;
 import org.triple.backend.auth.config.property.JwtProperties;
 import org.triple.backend.auth.crypto.UuidToUserIdCache;
 import org.triple.backend.auth.dto.request.AuthLoginRequestDto;
@@ -20,11 +23,16 @@ import org.triple.backend.auth.exception.AuthErrorCode;
 import org.triple.backend.auth.jwt.JwtCookieWriter;
 import org.triple.backend.auth.jwt.JwtManager;
 import org.triple.backend.auth.oauth.OauthClient;
+import org.triple.backend.auth.oauth.OauthIdentity;
+import org.triple.backend.auth.oauth.OauthIdentityCache;
 import org.triple.backend.auth.oauth.OauthProvider;
 import org.triple.backend.auth.oauth.OauthUser;
 import org.triple.backend.auth.repository.RefreshTokenJpaRepository;
+import org.triple.backend.auth.repository.RevokedTokenJpaRepository;
+import org.triple.backend.auth.revocation.RevokedTokenRegistry;
 import org.triple.backend.auth.service.AuthService;
 import org.triple.backend.common.annotation.ServiceTest;
+import org.triple.backend.global.cache.CacheInvalidationBus;
 import org.triple.backend.global.error.BusinessException;
 import org.triple.backend.user.entity.User;
 import org.triple.backend.user.repository.UserJpaRepository;
@@ -38,7 +46,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
 @ServiceTest
-@Import({AuthService.class, JwtManager.class, JwtCookieWriter.class, AuthServiceTest.JwtTestConfig.class})
+@Import({AuthService.class, JwtManager.class, JwtCookieWriter.class, RevokedTokenRegistry.class, OauthIdentityCache.class, CacheInvalidationBus.class, AuthServiceTest.JwtTestConfig.class})
 class AuthServiceTest {
 
     @Autowired
@@ -53,6 +61,12 @@ class AuthServiceTest {
     @Autowired
     private RefreshTokenJpaRepository refreshTokenJpaRepository;
 
+    @Autowired
+    private RevokedTokenJpaRepository revokedTokenJpaRepository;
+
+    @Autowired
+    private OauthIdentityCache oauthIdentityCache;
+
     @MockitoBean
     private UuidToUserIdCache uuidToUserIdCache;
 
@@ -115,7 +129,7 @@ class AuthServiceTest {
 
         User saved = userJpaRepository.findByProviderAndProviderId(OauthProvider.KAKAO, "kakao-999")
                 .orElseThrow();
-        RefreshToken savedRefreshToken = refreshTokenJpaRepository.findTopByUserIdOrderByIdDesc(saved.getId())
+        RefreshToken savedRefreshToken = refreshTokenJpaRepository.findByUserId(saved.getId())
                 .orElseThrow();
         String authorizationHeader = response.getHeader("Authorization");
         String cookieHeader = response.getHeader("Set-Cookie");
@@ -164,7 +178,7 @@ class AuthServiceTest {
 
         User found = userJpaRepository.findByProviderAndProviderId(OauthProvider.KAKAO, "kakao-123")
                 .orElseThrow();
-        RefreshToken savedRefreshToken = refreshTokenJpaRepository.findTopByUserIdOrderByIdDesc(found.getId())
+        RefreshToken savedRefreshToken = refreshTokenJpaRepository.findByUserId(found.getId())
                 .orElseThrow();
         String authorizationHeader = response.getHeader("Authorization");
         String cookieHeader = response.getHeader("Set-Cookie");
@@ -181,6 +195,31 @@ class AuthServiceTest {
         verify(uuidToUserIdCache).save(found.getPublicUuid(), existing.getId());
     }
 
+    @Test
+    @DisplayName("findOrCreate caches oauth identity and falls back when cached user no longer exists")
+    void findOrCreateUsesOauthIdentityCache() {
+        OauthUser oauthUser = new OauthUser(
+                OauthProvider.KAKAO,
+                "kakao-identity-cache",
+                "cache@test.com",
+                "cache-user",
+                "http://img"
+        );
+        authService.findOrCreate(oauthUser, new MockHttpServletResponse());
+        User saved = userJpaRepository.findByProviderAndProviderId(OauthProvider.KAKAO, "kakao-identity-cache")
+                .orElseThrow();
+        OauthIdentity identity = OauthIdentity.from(oauthUser);
+
+        assertThat(oauthIdentityCache.find(identity)).isEqualTo(saved.getId());
+
+        oauthIdentityCache.save(identity, Long.MAX_VALUE);
+        AuthLoginResponseDto result = authService.findOrCreate(oauthUser, new MockHttpServletResponse());
+
+        assertThat(result.nickname()).isEqualTo("cache-user");
+        assertThat(userJpaRepository.count()).isEqualTo(1);
+        assertThat(oauthIdentityCache.find(identity)).isEqualTo(saved.getId());
+    }
+
     @Test
     @DisplayName("reissueAccessToken validates cookie and rotates refresh token")
     void reissueAccessTokenSuccess() {
@@ -207,7 +246,7 @@ class AuthServiceTest {
         String refreshedAuthorizationHeader = refreshResponse.getHeader("Authorization");
         String refreshedCookieHeader = refreshResponse.getHeader("Set-Cookie");
         String newRefreshToken = extractRefreshToken(refreshedCookieHeader);
-        RefreshToken refreshed = refreshTokenJpaRepository.findTopByUserIdOrderByIdDesc(saved.getId())
+        RefreshToken refreshed = refreshTokenJpaRepository.findByUserId(saved.getId())
                 .orElseThrow();
 
         assertThat(refreshedAuthorizationHeader).startsWith("Bearer ");
@@ -219,6 +258,33 @@ class AuthServiceTest {
         assertThat(refreshTokenJpaRepository.count()).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("reissueAccessToken with already rotated refresh token throws unauthorized")
+    void reissueAccessTokenWithRotatedToken() {
+        OauthUser oauthUser = new OauthUser(
+                OauthProvider.KAKAO,
+                "kakao-778",
+                "reuse@test.com",
+                "reuse-user",
+                "http://img"
+        );
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        authService.findOrCreate(oauthUser, loginResponse);
+        String oldRefreshToken = extractRefreshToken(loginResponse.getHeader("Set-Cookie"));
+
+        MockHttpServletRequest firstRequest = new MockHttpServletRequest();
+        firstRequest.setCookies(new Cookie("refresh_token", oldRefreshToken));
+        authService.reissueAccessToken(firstRequest, new MockHttpServletResponse());
+
+        MockHttpServletRequest reuseRequest = new MockHttpServletRequest();
+        reuseRequest.setCookies(new Cookie("refresh_token", oldRefreshToken));
+
+        assertThatThrownBy(() -> authService.reissueAccessToken(reuseRequest, new MockHttpServletResponse()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(AuthErrorCode.UNAUTHORIZED);
+    }
+
     @Test
     @DisplayName("reissueAccessToken without refresh cookie throws unauthorized")
     void reissueAccessTokenWithoutCookie() {
@@ -246,7 +312,7 @@ class AuthServiceTest {
 
         User saved = userJpaRepository.findByProviderAndProviderId(OauthProvider.KAKAO, "kakao-888")
                 .orElseThrow();
-        RefreshToken stored = refreshTokenJpaRepository.findTopByUserIdOrderByIdDesc(saved.getId())
+        RefreshToken stored = refreshTokenJpaRepository.findByUserId(saved.getId())
                 .orElseThrow();
         stored.rotate(stored.getTokenHash(), LocalDateTime.now().minusSeconds(1));
         refreshTokenJpaRepository.save(stored);
@@ -277,7 +343,7 @@ class AuthServiceTest {
 
         User saved = userJpaRepository.findByProviderAndProviderId(OauthProvider.KAKAO, "kakao-889")
                 .orElseThrow();
-        RefreshToken stored = refreshTokenJpaRepository.findTopByUserIdOrderByIdDesc(saved.getId())
+        RefreshToken stored = refreshTokenJpaRepository.findByUserId(saved.getId())
                 .orElseThrow();
         stored.rotate("different-token-hash", LocalDateTime.now().plusHours(1));
         refreshTokenJpaRepository.save(stored);
@@ -293,6 +359,39 @@ class AuthServiceTest {
                 .isEqualTo(AuthErrorCode.UNAUTHORIZED);
     }
 
+    @Test
+    @DisplayName("logout revokes current access token and removes refresh token")
+    void logoutRevokesAccessToken() {
+        OauthUser oauthUser = new OauthUser(
+                OauthProvider.KAKAO,
+                "kakao-logout",
+                "logout@test.com",
+                "logout",
+                "http://img"
+        );
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        authService.findOrCreate(oauthUser, loginResponse);
+        String authorization = loginResponse.getHeader("Authorization");
+        Long userId = jwtManager.resolveUserId(authorization);
+
+        MockHttpServletRequest logoutRequest = new MockHttpServletRequest();
+        logoutRequest.addHeader("Authorization", authorization);
+        MockHttpServletResponse logoutResponse = new MockHttpServletResponse();
+        authService.logout(logoutRequest, logoutResponse);
+        // 폐기는 커밋된 뒤에 메모리에 반영된다.
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        assertThatThrownBy(() -> jwtManager.resolveUserId(authorization))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(AuthErrorCode.UNAUTHORIZED);
+        assertThat(refreshTokenJpaRepository.findByUserId(userId)).isEmpty();
+        assertThat(logoutResponse.getHeader("Set-Cookie")).contains("Max-Age=0");
+        revokedTokenJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+    }
+
     private String extractRefreshToken(String cookieHeader) {
         String firstSection = cookieHeader.split(";", 2)[0];
         String[] tokenParts = firstSection.split("=", 2);
@@ -313,5 +412,15 @@ class AuthServiceTest {
                     "Lax"
             );
         }
+
+        @Bean
+        JwtCacheProperties jwtCacheProperties() {
+            return JwtCacheProperties.disabled();
+        }
+
+        @Bean
+        AccessTokenFormatProperties accessTokenFormatProperties() {
+            return AccessTokenFormatProperties.jwtOnly();
+        }
     }
 }
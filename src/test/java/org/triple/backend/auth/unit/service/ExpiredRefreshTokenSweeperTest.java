@@ -0,0 +1,69 @@
+package org.triple.backend.auth.unit.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.triple.backend.auth.entity.RefreshToken;
+import org.triple.backend.auth.repository.RefreshTokenJpaRepository;
+import org.triple.backend.auth.service.ExpiredRefreshTokenSweeper;
+import org.triple.backend.common.annotation.ServiceTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceTest
+@Import(ExpiredRefreshTokenSweeper.class)
+class ExpiredRefreshTokenSweeperTest {
+
+    @Autowired
+    private ExpiredRefreshTokenSweeper expiredRefreshTokenSweeper;
+
+    @Autowired
+    private RefreshTokenJpaRepository refreshTokenJpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("sweep removes only expired refresh tokens")
+    void sweepRemovesExpiredTokens() {
+        refreshTokenJpaRepository.save(RefreshToken.create(1L, "expired-1", LocalDateTime.now().minusMinutes(1)));
+        refreshTokenJpaRepository.save(RefreshToken.create(2L, "expired-2", LocalDateTime.now().minusDays(1)));
+        refreshTokenJpaRepository.save(RefreshToken.create(3L, "active", LocalDateTime.now().plusDays(1)));
+
+        int deleted = expiredRefreshTokenSweeper.sweep();
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(refreshTokenJpaRepository.findAll())
+                .extracting(RefreshToken::getTokenHash)
+                .containsExactly("active");
+    }
+
+    @Test
+    @DisplayName("a row rotated by login after its id was picked is not deleted")
+    void rotatedRowIsNotDeleted() {
+        RefreshToken stored = refreshTokenJpaRepository.save(
+                RefreshToken.create(1L, "expired", LocalDateTime.now().minusMinutes(1))
+        );
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> expiredIds = refreshTokenJpaRepository.findExpiredIds(now, PageRequest.of(0, 10));
+
+        stored.rotate("rotated", now.plusDays(14));
+        refreshTokenJpaRepository.saveAndFlush(stored);
+        int deleted = refreshTokenJpaRepository.deleteExpiredByIdIn(expiredIds, now);
+
+        assertThat(expiredIds).containsExactly(stored.getId());
+        assertThat(deleted).isZero();
+        assertThat(refreshTokenJpaRepository.findByUserId(1L))
+                .get()
+                .extracting(RefreshToken::getTokenHash)
+                .isEqualTo("rotated");
+    }
+}
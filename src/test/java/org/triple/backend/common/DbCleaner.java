@@ -1,11 +1,15 @@
 package org.triple.backend.common;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
+import org.triple.backend.group.search.GroupSearchIndex;
+import org.triple.backend.group.service.GroupDetailSnapshotCache;
 
 import java.util.List;
 
@@ -16,6 +20,15 @@ public class DbCleaner {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private GroupDetailSnapshotCache groupDetailSnapshotCache;
+
+    @Autowired
+    private GroupSearchIndex groupSearchIndex;
+
     private List<String> tableNames;
 
     @PostConstruct
@@ -35,5 +48,10 @@ public class DbCleaner {
         }
 
         jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1");
+
+        // TRUNCATE 로 id 가 재사용되므로 이전 테스트의 2차 캐시, 그룹 상세 스냅샷과 검색 색인을 비운다.
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+        groupDetailSnapshotCache.invalidateAll();
+        groupSearchIndex.clear();
     }
 }
@@ -0,0 +1,36 @@
+package org.triple.backend.common;
+
+import org.triple.backend.global.cache.CacheInvalidationMessage;
+import org.triple.backend.global.cache.CacheInvalidationTransport;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 전송된 무효화 메시지를 기록하는 테스트용 전송 계층. 다른 노드로 실제 전송되는지 확인할 때 빈으로 등록해 쓴다.
+ */
+public class RecordingCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private final List<CacheInvalidationMessage> published = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        published.add(message);
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+    }
+
+    public List<String> publishedKeys(String cacheName) {
+        return published.stream()
+                .filter(message -> message.cacheName().equals(cacheName))
+                .map(CacheInvalidationMessage::cacheKey)
+                .toList();
+    }
+
+    public void clear() {
+        published.clear();
+    }
+}
@@ -0,0 +1,48 @@
+package org.triple.backend.common.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * benchmark 태그 테스트용 간이 측정기. 빌드에 JMH 가 없으므로 워밍업 뒤 여러 라운드를 측정해
+ * 호출 1회당 현재 스레드 CPU 시간(ns)의 중앙값을 돌려준다. 스레드 CPU 시간을 지원하지 않는 JVM 에서는 경과 시간을 쓴다.
+ * 결과값은 sink 에 섞어 JIT 가 호출을 지우지 못하게 한다.
+ */
+public final class CpuBenchmark {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private static volatile int sink;
+
+    private CpuBenchmark() {
+    }
+
+    public static double nanosPerOp(final int warmupOps, final int rounds, final int opsPerRound, final Supplier<?> op) {
+        for (int i = 0; i < warmupOps; i++) {
+            consume(op.get());
+        }
+
+        double[] perOp = new double[rounds];
+        for (int round = 0; round < rounds; round++) {
+            long startedAt = now();
+            for (int i = 0; i < opsPerRound; i++) {
+                consume(op.get());
+            }
+            perOp[round] = (double) (now() - startedAt) / opsPerRound;
+        }
+        Arrays.sort(perOp);
+        return perOp[rounds / 2];
+    }
+
+    private static long now() {
+        return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+                ? THREAD_MX_BEAN.getCurrentThreadCpuTime()
+                : System.nanoTime();
+    }
+
+    private static void consume(final Object value) {
+        sink += value == null ? 0 : value.hashCode();
+    }
+}
@@ -0,0 +1,236 @@
+package org.triple.backend.global.Integration;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.triple.backend.common.DbCleaner;
+import org.triple.backend.common.annotation.IntegrationTest;
+import org.triple.backend.global.error.BusinessException;
+import org.triple.backend.global.cache.SecondLevelCacheRegions;
+import org.triple.backend.group.entity.group.Group;
+import org.triple.backend.group.entity.userGroup.JoinStatus;
+import org.triple.backend.group.entity.userGroup.Role;
+import org.triple.backend.group.entity.userGroup.UserGroup;
+import org.triple.backend.group.repository.GroupJpaRepository;
+import org.triple.backend.group.repository.UserGroupJpaRepository;
+import org.triple.backend.group.service.GroupService;
+import org.triple.backend.travel.entity.TravelItinerary;
+import org.triple.backend.travel.exception.TravelItineraryErrorCode;
+import org.triple.backend.travel.repository.TravelItineraryJpaRepository;
+import org.triple.backend.travel.service.TravelItineraryService;
+import org.triple.backend.user.entity.User;
+import org.triple.backend.user.repository.UserJpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.triple.backend.group.fixture.GroupFixtures.publicGroup;
+
+@IntegrationTest
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private GroupJpaRepository groupJpaRepository;
+
+    @Autowired
+    private UserGroupJpaRepository userGroupJpaRepository;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private TravelItineraryJpaRepository travelItineraryJpaRepository;
+
+    @Autowired
+    private TravelItineraryService travelItineraryService;
+
+    @Autowired
+    private DbCleaner dbCleaner;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        dbCleaner.clean();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("멤버십 조회는 두 번째부터 쿼리 캐시에서 읽고, 그룹은 2차 캐시에 두지 않는다")
+    void 멤버십_조회는_두_번째부터_쿼리_캐시에서_읽고_그룹은_2차_캐시에_두지_않는다() {
+        // given
+        User owner = saveUser("kakao-owner");
+        Group group = saveGroup(owner, null);
+        statistics.clear();
+
+        // when
+        groupJpaRepository.findByIdAndIsDeletedFalse(group.getId());
+        userGroupJpaRepository.existsByGroupIdAndUserIdAndJoinStatus(group.getId(), owner.getId(), JoinStatus.JOINED);
+        groupJpaRepository.findByIdAndIsDeletedFalse(group.getId());
+        userGroupJpaRepository.existsByGroupIdAndUserIdAndJoinStatus(group.getId(), owner.getId(), JoinStatus.JOINED);
+
+        // then
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(entityManagerFactory.getCache().contains(Group.class, group.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("그룹을 삭제하면 캐시된 그룹 조회 결과가 바로 바뀐다")
+    void 그룹을_삭제하면_캐시된_그룹_조회_결과가_바로_바뀐다() {
+        // given
+        User owner = saveUser("kakao-owner");
+        Group group = saveGroup(owner, null);
+        assertThat(groupJpaRepository.findByIdAndIsDeletedFalse(group.getId())).isPresent();
+
+        // when
+        groupService.delete(group.getId(), owner.getId());
+
+        // then
+        assertThat(groupJpaRepository.findByIdAndIsDeletedFalse(group.getId())).isEmpty();
+        assertThat(groupJpaRepository.findById(group.getId()).orElseThrow().isDeleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 로 탈퇴하면 캐시된 멤버십 조회 결과가 바로 바뀐다")
+    void 조건부_UPDATE_로_탈퇴하면_캐시된_멤버십_조회_결과가_바로_바뀐다() {
+        // given
+        User owner = saveUser("kakao-owner");
+        User member = saveUser("kakao-member");
+        Group group = saveGroup(owner, member);
+        assertThat(userGroupJpaRepository.existsByGroupIdAndUserIdAndJoinStatus(group.getId(), member.getId(), JoinStatus.JOINED)).isTrue();
+
+        // when
+        groupService.leave(group.getId(), member.getId());
+
+        // then
+        assertThat(userGroupJpaRepository.existsByGroupIdAndUserIdAndJoinStatus(group.getId(), member.getId(), JoinStatus.JOINED)).isFalse();
+        assertThat(groupJpaRepository.findById(group.getId()).orElseThrow().getCurrentMemberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("탈퇴는 바뀐 멤버십만 2차 캐시에서 지우고 다른 멤버십은 계속 캐시에서 읽는다")
+    void 탈퇴는_바뀐_멤버십만_2차_캐시에서_지운다() {
+        // given
+        User owner = saveUser("kakao-owner");
+        User member = saveUser("kakao-member");
+        User otherOwner = saveUser("kakao-other-owner");
+        Group group = saveGroup(owner, member);
+        Group otherGroup = saveGroup(otherOwner, null);
+        Long memberUserGroupId = userGroupJpaRepository
+                .findByGroupIdAndUserIdAndJoinStatus(group.getId(), member.getId(), JoinStatus.JOINED)
+                .orElseThrow()
+                .getId();
+        Long otherUserGroupId = userGroupJpaRepository
+                .findByGroupIdAndUserIdAndJoinStatus(otherGroup.getId(), otherOwner.getId(), JoinStatus.JOINED)
+                .orElseThrow()
+                .getId();
+        Cache cache = entityManagerFactory.getCache();
+        assertThat(cache.contains(UserGroup.class, otherUserGroupId)).isTrue();
+
+        // when
+        groupService.leave(group.getId(), member.getId());
+        statistics.clear();
+        userGroupJpaRepository.findById(otherUserGroupId);
+
+        // then
+        assertThat(cache.contains(UserGroup.class, memberUserGroupId)).isFalse();
+        assertThat(cache.contains(UserGroup.class, otherUserGroupId)).isTrue();
+        assertThat(statistics.getDomainDataRegionStatistics(SecondLevelCacheRegions.USER_GROUP).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("추방된 멤버는 멤버십 조회가 캐시되어 있어도 바로 여행 참가가 거부된다")
+    void 추방된_멤버는_멤버십_조회가_캐시되어_있어도_바로_여행_참가가_거부된다() {
+        // given
+        User owner = saveUser("kakao-owner");
+        User member = saveUser("kakao-member");
+        Group group = saveGroup(owner, member);
+        TravelItinerary travelItinerary = travelItineraryJpaRepository.save(new TravelItinerary(
+                "title",
+                LocalDateTime.of(2026, 2, 14, 0, 0),
+                LocalDateTime.of(2026, 2, 16, 0, 0),
+                group,
+                "description",
+                1,
+                false
+        ));
+        assertThat(userGroupJpaRepository.existsByGroupIdAndUserIdAndJoinStatus(group.getId(), member.getId(), JoinStatus.JOINED)).isTrue();
+
+        // when
+        groupService.kick(group.getId(), owner.getId(), member.getPublicUuid().toString());
+
+        // then
+        assertThatThrownBy(() -> travelItineraryService.joinTravel(travelItinerary.getId(), member.getId()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(TravelItineraryErrorCode.JOIN_FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("추방 커밋 전에 시작한 트랜잭션이 옛 멤버십 결과를 다시 캐시해도 이후 조회는 추방을 본다")
+    void 추방_커밋_전에_시작한_트랜잭션이_옛_멤버십_결과를_다시_캐시해도_이후_조회는_추방을_본다() {
+        // given
+        User owner = saveUser("kakao-owner");
+        User member = saveUser("kakao-member");
+        Group group = saveGroup(owner, member);
+        TransactionTemplate reader = new TransactionTemplate(transactionManager);
+        reader.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        // when
+        Boolean staleResult = reader.execute(status -> {
+            // 추방 전의 스냅샷을 잡는다.
+            userGroupJpaRepository.findByGroupIdAndUserId(group.getId(), member.getId());
+            CompletableFuture.runAsync(() ->
+                    groupService.kick(group.getId(), owner.getId(), member.getPublicUuid().toString())
+            ).join();
+            return userGroupJpaRepository.existsByGroupIdAndUserIdAndJoinStatus(group.getId(), member.getId(), JoinStatus.JOINED);
+        });
+
+        // then
+        assertThat(staleResult).isTrue();
+        assertThat(userGroupJpaRepository.existsByGroupIdAndUserIdAndJoinStatus(group.getId(), member.getId(), JoinStatus.JOINED)).isFalse();
+    }
+
+    private User saveUser(String providerId) {
+        return userJpaRepository.save(
+                User.builder()
+                        .providerId(providerId)
+                        .nickname(providerId)
+                        .email(providerId + "@test.com")
+                        .profileUrl("http://img")
+                        .build()
+        );
+    }
+
+    private Group saveGroup(User owner, User member) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Group group = publicGroup("캐시 그룹");
+            group.addMember(owner, Role.OWNER);
+            if (member != null) {
+                group.addMember(member, Role.MEMBER);
+                ReflectionTestUtils.setField(group, "currentMemberCount", 2);
+            }
+            return groupJpaRepository.save(group);
+        });
+    }
+}
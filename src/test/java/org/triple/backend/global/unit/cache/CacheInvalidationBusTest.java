@@ -0,0 +1,93 @@
+package org.triple.backend.global.unit.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.triple.backend.global.cache.CacheInvalidationBus;
+import org.triple.backend.global.cache.CacheInvalidationMessage;
+import org.triple.backend.global.cache.CacheInvalidationTransport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheInvalidationBusTest {
+
+    private final InMemoryTransport transport = new InMemoryTransport();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발행한 무효화만 등록된 evictor 로 전달된다")
+    void 다른_노드가_발행한_무효화만_전달된다() {
+        CacheInvalidationBus nodeA = new CacheInvalidationBus(transport);
+        CacheInvalidationBus nodeB = new CacheInvalidationBus(transport);
+        List<String> evictedOnA = new ArrayList<>();
+        List<String> evictedOnB = new ArrayList<>();
+        nodeA.register("users", evictedOnA::add);
+        nodeB.register("users", evictedOnB::add);
+
+        nodeA.publish("users", "key-1");
+
+        assertThat(evictedOnA).isEmpty();
+        assertThat(evictedOnB).containsExactly("key-1");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 발행하면 커밋 이후에 전송된다")
+    void 트랜잭션_안에서_발행하면_커밋_이후에_전송된다() {
+        CacheInvalidationBus bus = new CacheInvalidationBus(transport);
+        TransactionSynchronizationManager.initSynchronization();
+
+        bus.publish("users", "key-1");
+        assertThat(transport.published).isEmpty();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(transport.published).extracting(CacheInvalidationMessage::cacheKey).containsExactly("key-1");
+    }
+
+    @Test
+    @DisplayName("전송 실패는 호출자에게 전파되지 않는다")
+    void 전송_실패는_호출자에게_전파되지_않는다() {
+        CacheInvalidationBus bus = new CacheInvalidationBus(new CacheInvalidationTransport() {
+            @Override
+            public void publish(CacheInvalidationMessage message) {
+                throw new IllegalStateException("down");
+            }
+
+            @Override
+            public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+            }
+        });
+
+        bus.publish("users", "key-1");
+    }
+
+    private static class InMemoryTransport implements CacheInvalidationTransport {
+
+        private final List<CacheInvalidationMessage> published = new ArrayList<>();
+        private final List<Consumer<CacheInvalidationMessage>> listeners = new ArrayList<>();
+
+        @Override
+        public void publish(CacheInvalidationMessage message) {
+            published.add(message);
+            listeners.forEach(listener -> listener.accept(message));
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+            listeners.add(listener);
+        }
+    }
+}
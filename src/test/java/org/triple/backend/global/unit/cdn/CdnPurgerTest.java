@@ -0,0 +1,100 @@
+package org.triple.backend.global.unit.cdn;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.triple.backend.global.cdn.CdnPurgeTransport;
+import org.triple.backend.global.cdn.CdnPurger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class CdnPurgerTest {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstCallStarted = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final CdnPurgeTransport blockingTransport = new CdnPurgeTransport() {
+        @Override
+        public void purge(Collection<String> surrogateKeys) {
+            batches.add(new ArrayList<>(surrogateKeys));
+            firstCallStarted.countDown();
+            try {
+                release.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    };
+
+    private final CdnPurger cdnPurger = new CdnPurger(blockingTransport, 100, 10_000);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        cdnPurger.shutdown();
+    }
+
+    @Test
+    @DisplayName("전송이 진행 중이어도 purge 는 기다리지 않고, 그동안 들어온 key 는 중복 없이 한 번에 보낸다")
+    void 전송_중에_들어온_key_는_병합하여_보낸다() throws InterruptedException {
+        // given
+        cdnPurger.purge("group-1");
+        assertThat(firstCallStarted.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        cdnPurger.purge("group-2");
+        cdnPurger.purge("group-3", "group-2");
+        assertThat(batches).hasSize(1);
+
+        release.countDown();
+        cdnPurger.flush();
+
+        // then
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).containsExactly("group-1");
+        assertThat(batches.get(1)).containsExactlyInAnyOrder("group-2", "group-3");
+    }
+
+    @Test
+    @DisplayName("batch-size 를 넘는 key 는 나누어 보낸다")
+    void batch_size_를_넘으면_나누어_보낸다() {
+        // given
+        release.countDown();
+        CdnPurger smallBatchPurger = new CdnPurger(blockingTransport, 2, 10_000);
+
+        // when
+        smallBatchPurger.purge("group-1", "group-2", "group-3");
+        smallBatchPurger.flush();
+        smallBatchPurger.shutdown();
+
+        // then
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(2));
+        assertThat(batches.stream().flatMap(List::stream))
+                .containsExactlyInAnyOrder("group-1", "group-2", "group-3");
+    }
+
+    @Test
+    @DisplayName("전송이 실패해도 예외를 던지지 않는다")
+    void 전송_실패시_예외를_던지지_않는다() {
+        // given
+        CdnPurger failingPurger = new CdnPurger(keys -> {
+            throw new IllegalStateException("purge failed");
+        }, 100, 10_000);
+
+        // when & then
+        assertThatCode(() -> {
+            failingPurger.purge("public-list");
+            failingPurger.flush();
+        }).doesNotThrowAnyException();
+        failingPurger.shutdown();
+    }
+}
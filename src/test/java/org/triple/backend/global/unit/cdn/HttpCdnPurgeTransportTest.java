@@ -0,0 +1,28 @@
+package org.triple.backend.global.unit.cdn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.triple.backend.global.cdn.HttpCdnPurgeTransport;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpCdnPurgeTransportTest {
+
+    @Test
+    @DisplayName("purge url 이나 token 이 비어 있으면 생성되지 않는다")
+    void url_이나_token_이_없으면_생성되지_않는다() {
+        assertThatThrownBy(() -> create("", "token"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> create("https://api.fastly.com/service/svc/purge", ""))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatCode(() -> create("https://api.fastly.com/service/svc/purge", "token"))
+                .doesNotThrowAnyException();
+    }
+
+    private HttpCdnPurgeTransport create(final String purgeUrl, final String token) {
+        return new HttpCdnPurgeTransport(purgeUrl, "Fastly-Key", token, Duration.ofSeconds(1), Duration.ofSeconds(2));
+    }
+}
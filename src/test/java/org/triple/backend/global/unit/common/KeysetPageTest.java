@@ -0,0 +1,80 @@
+package org.triple.backend.global.unit.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.triple.backend.global.common.KeysetPage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeysetPageTest {
+
+    @Test
+    @DisplayName("cursor 가 없으면 첫 페이지 쿼리를 pageSize + 1 개로 조회한다")
+    void cursor_가_없으면_첫_페이지_쿼리를_pageSize_플러스_일_개로_조회한다() {
+        // given
+        List<Pageable> requested = new ArrayList<>();
+
+        // when
+        KeysetPage<Long> page = KeysetPage.fetch(
+                null,
+                2,
+                pageable -> {
+                    requested.add(pageable);
+                    return List.of(10L, 9L, 8L);
+                },
+                (cursor, pageable) -> List.of(),
+                Function.identity()
+        );
+
+        // then
+        assertThat(requested).singleElement().satisfies(pageable -> assertThat(pageable.getPageSize()).isEqualTo(3));
+        assertThat(page.items()).containsExactly(10L, 9L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("cursor 가 있으면 다음 페이지 쿼리에 cursor 를 넘기고, 마지막 페이지는 nextCursor 가 없다")
+    void cursor_가_있으면_다음_페이지_쿼리에_cursor_를_넘긴다() {
+        // given
+        List<Long> cursors = new ArrayList<>();
+
+        // when
+        KeysetPage<Long> page = KeysetPage.fetch(
+                9L,
+                2,
+                pageable -> List.of(),
+                (cursor, pageable) -> {
+                    cursors.add(cursor);
+                    return List.of(8L, 7L);
+                },
+                Function.identity()
+        );
+
+        // then
+        assertThat(cursors).containsExactly(9L);
+        assertThat(page.items()).containsExactly(8L, 7L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("map 은 항목만 바꾸고 커서 정보는 유지한다")
+    void map_은_항목만_바꾸고_커서_정보는_유지한다() {
+        // given
+        KeysetPage<Long> page = KeysetPage.of(List.of(5L, 4L, 3L), 2, Function.identity());
+
+        // when
+        KeysetPage<String> mapped = page.map(id -> "group-" + id);
+
+        // then
+        assertThat(mapped.items()).containsExactly("group-5", "group-4");
+        assertThat(mapped.nextCursor()).isEqualTo(4L);
+        assertThat(mapped.hasNext()).isTrue();
+    }
+}
@@ -0,0 +1,106 @@
+package org.triple.backend.global.unit.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.triple.backend.global.concurrent.ParallelReadExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ParallelReadExecutorTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ParallelReadExecutor parallelReadExecutor = new ParallelReadExecutor(transactionManager, 4, 16, Duration.ofSeconds(2));
+
+    @AfterEach
+    void tearDown() {
+        parallelReadExecutor.shutdown();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("독립적인 조회는 동시에 실행된다")
+    void 독립적인_조회는_동시에_실행된다() {
+        // given
+        CountDownLatch allStarted = new CountDownLatch(3);
+
+        // when
+        CompletableFuture<Boolean> first = parallelReadExecutor.fork(() -> arriveAndAwait(allStarted));
+        CompletableFuture<Boolean> second = parallelReadExecutor.fork(() -> arriveAndAwait(allStarted));
+        CompletableFuture<Boolean> third = parallelReadExecutor.fork(() -> arriveAndAwait(allStarted));
+
+        // then
+        assertThat(parallelReadExecutor.join(first)).isTrue();
+        assertThat(parallelReadExecutor.join(second)).isTrue();
+        assertThat(parallelReadExecutor.join(third)).isTrue();
+    }
+
+    @Test
+    @DisplayName("읽기-쓰기 트랜잭션 안에서는 호출 스레드에서 바로 실행한다")
+    void 읽기_쓰기_트랜잭션_안에서는_호출_스레드에서_바로_실행한다() {
+        // given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        // when
+        CompletableFuture<String> future = parallelReadExecutor.fork(() -> Thread.currentThread().getName());
+
+        // then
+        assertThat(future).isDone();
+        assertThat(parallelReadExecutor.join(future)).isEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("조회에서 발생한 예외는 join 시 원래 예외로 던져진다")
+    void 조회에서_발생한_예외는_join_시_원래_예외로_던져진다() {
+        // given
+        IllegalStateException failure = new IllegalStateException("query failed");
+
+        // when
+        CompletableFuture<Object> future = parallelReadExecutor.fork(() -> {
+            throw failure;
+        });
+
+        // then
+        assertThatThrownBy(() -> parallelReadExecutor.join(future)).isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("timeout 안에 끝나지 않으면 QueryTimeoutException 이 발생한다")
+    void timeout_안에_끝나지_않으면_QueryTimeoutException_이_발생한다() {
+        // given
+        ParallelReadExecutor shortTimeoutExecutor = new ParallelReadExecutor(transactionManager, 1, 1, Duration.ofMillis(50));
+        CountDownLatch never = new CountDownLatch(1);
+
+        try {
+            // when
+            CompletableFuture<Boolean> future = shortTimeoutExecutor.fork(() -> arriveAndAwait(never));
+
+            // then
+            assertThatThrownBy(() -> shortTimeoutExecutor.join(future)).isInstanceOf(QueryTimeoutException.class);
+        } finally {
+            shortTimeoutExecutor.shutdown();
+        }
+    }
+
+    private static boolean arriveAndAwait(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
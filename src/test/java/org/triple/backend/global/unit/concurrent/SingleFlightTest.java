@@ -0,0 +1,87 @@
+package org.triple.backend.global.unit.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.triple.backend.global.concurrent.SingleFlight;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("같은 키로 동시에 호출하면 작업은 한 번만 실행되고 결과를 공유한다")
+    void 같은_키의_동시_호출은_한_번만_실행된다() throws Exception {
+        int callers = 8;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute("kakao:1", () -> {
+                leaderStarted.countDown();
+                await(release);
+                return executions.incrementAndGet();
+            })));
+            assertThat(leaderStarted.await(2, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("kakao:1", executions::incrementAndGet)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertThat(result.get(2, TimeUnit.SECONDS)).isEqualTo(1);
+            }
+            assertThat(executions.get()).isEqualTo(1);
+            assertThat(singleFlight.inFlightCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("작업이 끝난 뒤 같은 키로 호출하면 다시 실행한다")
+    void 작업이_끝나면_다시_실행한다() {
+        AtomicInteger executions = new AtomicInteger();
+
+        singleFlight.execute("kakao:1", executions::incrementAndGet);
+        singleFlight.execute("kakao:1", executions::incrementAndGet);
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 예외를 그대로 던지고 키를 정리한다")
+    void 작업이_실패하면_예외를_던지고_키를_정리한다() {
+        assertThatThrownBy(() -> singleFlight.execute("kakao:1", () -> {
+            throw new IllegalStateException("signup failed");
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("signup failed");
+
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
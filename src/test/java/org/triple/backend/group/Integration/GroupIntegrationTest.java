@@ -11,6 +11,8 @@ import org.triple.backend.auth.crypto.UuidCrypto;
 import org.triple.backend.auth.jwt.JwtManager;
 import org.triple.backend.common.DbCleaner;
 import org.triple.backend.common.annotation.IntegrationTest;
+import org.triple.backend.global.cdn.CdnPurger;
+import org.triple.backend.global.cdn.LocalCdnPurgeReceiver;
 import org.triple.backend.group.dto.response.GroupCursorResponseDto;
 import org.triple.backend.group.entity.group.Group;
 import org.triple.backend.group.entity.group.GroupKind;
@@ -19,6 +21,7 @@ import org.triple.backend.group.entity.userGroup.JoinStatus;
 import org.triple.backend.group.entity.userGroup.Role;
 import org.triple.backend.group.entity.userGroup.UserGroup;
 import org.triple.backend.group.repository.GroupJpaRepository;
+import org.triple.backend.group.repository.GroupPurgeJpaRepository;
 import org.triple.backend.group.repository.JoinApplyJpaRepository;
 import org.triple.backend.group.repository.UserGroupJpaRepository;
 import org.triple.backend.travel.entity.TravelItinerary;
@@ -38,6 +41,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.triple.backend.group.fixture.GroupFixtures.privateGroup;
@@ -64,6 +68,9 @@ public class GroupIntegrationTest {
     @Autowired
     private JoinApplyJpaRepository joinApplyJpaRepository;
 
+    @Autowired
+    private GroupPurgeJpaRepository groupPurgeJpaRepository;
+
     @Autowired
     private TravelItineraryJpaRepository travelItineraryJpaRepository;
 
@@ -82,9 +89,17 @@ public class GroupIntegrationTest {
     @Autowired
     private JwtManager jwtManager;
 
+    @Autowired
+    private LocalCdnPurgeReceiver cdnPurgeReceiver;
+
+    @Autowired
+    private CdnPurger cdnPurger;
+
     @BeforeEach
     void setUp() {
         dbCleaner.clean();
+        cdnPurger.flush();
+        cdnPurgeReceiver.clear();
     }
 
     @Test
@@ -677,6 +692,7 @@ public class GroupIntegrationTest {
                         false
                 )
         );
+        groupJpaRepository.increaseTravelCount(savedGroup.getId());
 
         Group otherGroup = Group.create(GroupKind.PUBLIC, "다른모임", "다른설명", "https://example.com/other-thumb.png", 10);
         otherGroup.addMember(member, Role.OWNER);
@@ -758,8 +774,8 @@ public class GroupIntegrationTest {
     }
 
     @Test
-    @DisplayName("로그인 세션이 있으면 그룹 삭제가 되고, 연관된 UserGroup도 함께 삭제된다")
-    void 로그인_세션이_있으면_그룹_삭제가_되고_연관된_UserGroup도_함께_삭제된다() throws Exception {
+    @DisplayName("로그인 세션이 있으면 그룹 삭제가 되고, 오너 멤버십이 끊기며 연관 데이터 정리가 등록된다")
+    void 로그인_세션이_있으면_그룹_삭제가_되고_연관_데이터_정리가_등록된다() throws Exception {
         // given
         User owner = userJpaRepository.save(
                 User.builder()
@@ -786,7 +802,11 @@ public class GroupIntegrationTest {
         // then
         assertThat(groupJpaRepository.findByIdAndIsDeletedFalse(savedGroup.getId())).isEmpty();
         assertThat(groupJpaRepository.findById(savedGroup.getId()).orElseThrow().isDeleted()).isTrue();
-        assertThat(userGroupJpaRepository.findAll()).isEmpty();
+        assertThat(userGroupJpaRepository.findAll())
+                .singleElement()
+                .extracting(UserGroup::getJoinStatus)
+                .isEqualTo(JoinStatus.LEFTED);
+        assertThat(groupPurgeJpaRepository.findByGroupId(savedGroup.getId())).isPresent();
     }
 
     @Test
@@ -1017,6 +1037,94 @@ public class GroupIntegrationTest {
         assertThat(updated.getMemberLimit()).isEqualTo(20);
     }
 
+    @Test
+    @DisplayName("공개 그룹 목록 응답에는 CDN 캐시 헤더와 surrogate key 가 붙는다")
+    void 공개_그룹_목록_응답에는_CDN_캐시_헤더와_surrogate_key_가_붙는다() throws Exception {
+        // given
+        Group group = groupJpaRepository.save(publicGroup("public-1"));
+
+        // when & then
+        mockMvc.perform(get("/groups"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("s-maxage=300")))
+                .andExpect(header().string("Surrogate-Key", "public-list group-" + group.getId()));
+    }
+
+    @Test
+    @DisplayName("공개 그룹을 만들면 공개 목록 CDN 캐시를 purge 한다")
+    void 공개_그룹을_만들면_공개_목록_CDN_캐시를_purge_한다() throws Exception {
+        // given
+        User owner = userJpaRepository.save(
+                User.builder()
+                        .providerId("kakao-cdn-owner")
+                        .nickname("상윤")
+                        .email("cdn-owner@test.com")
+                        .profileUrl("http://img")
+                        .build()
+        );
+
+        String body = """
+                {
+                  "name": "여행모임",
+                  "description": "3월 일본 여행",
+                  "memberLimit": 10,
+                  "groupKind": "PUBLIC",
+                  "thumbNailUrl": "https://example.com/thumb.png"
+                }
+                """;
+
+        // when
+        mockMvc.perform(post("/groups")
+                        .header("Authorization", authorization(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk());
+
+        // then
+        cdnPurger.flush();
+        assertThat(cdnPurgeReceiver.receivedKeys()).contains("public-list");
+    }
+
+    @Test
+    @DisplayName("공개 그룹을 비공개로 바꾸면 그 그룹의 CDN 캐시를 purge 한다")
+    void 공개_그룹을_비공개로_바꾸면_그_그룹의_CDN_캐시를_purge_한다() throws Exception {
+        // given
+        User owner = userJpaRepository.save(
+                User.builder()
+                        .providerId("kakao-cdn-update")
+                        .nickname("상윤")
+                        .email("cdn-update@test.com")
+                        .profileUrl("http://img")
+                        .build()
+        );
+
+        Group group = Group.create(GroupKind.PUBLIC, "기존모임", "기존설명", "https://example.com/old.png", 10);
+        group.addMember(owner, Role.OWNER);
+        Group savedGroup = groupJpaRepository.saveAndFlush(group);
+        cdnPurgeReceiver.clear();
+
+        String body = """
+                {
+                  "groupKind": "PRIVATE",
+                  "name": "수정모임",
+                  "description": "수정설명",
+                  "thumbNailUrl": "https://example.com/new.png",
+                  "memberLimit": 20
+                }
+                """;
+
+        // when
+        mockMvc.perform(patch("/groups/{groupId}", savedGroup.getId())
+                        .header("Authorization", authorization(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk());
+
+        // then
+        cdnPurger.flush();
+        assertThat(cdnPurgeReceiver.receivedKeys()).containsExactly("group-" + savedGroup.getId());
+    }
+
     @Test
     @DisplayName("그룹 소유권 이전 요청 시 소유자와 대상의 역할이 교체된다")
     void 그룹_소유권_이전_요청_시_소유자와_대상의_역할이_교체된다() throws Exception {
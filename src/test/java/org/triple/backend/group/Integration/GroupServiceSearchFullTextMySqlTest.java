@@ -16,10 +16,18 @@ import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import org.triple.backend.auth.crypto.UuidToUserIdCache;
+import org.triple.backend.global.cache.CacheInvalidationBus;
+import org.triple.backend.global.cache.SecondLevelCacheSync;
+import org.triple.backend.global.concurrent.ParallelReadExecutor;
 import org.triple.backend.group.dto.response.GroupCursorResponseDto;
 import org.triple.backend.group.entity.group.Group;
 import org.triple.backend.group.entity.group.GroupKind;
 import org.triple.backend.group.repository.GroupJpaRepository;
+import org.triple.backend.group.repository.UserGroupJdbcRepository;
+import org.triple.backend.group.search.GroupAutocompleteIndex;
+import org.triple.backend.group.search.GroupSearchIndex;
+import org.triple.backend.group.service.GroupDetailSnapshotCache;
 import org.triple.backend.group.service.GroupService;
 import org.triple.backend.user.service.UserFinder;
 
@@ -29,7 +37,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import({GroupService.class, UserFinder.class})
+@Import({GroupService.class, UserGroupJdbcRepository.class, GroupDetailSnapshotCache.class, GroupSearchIndex.class, GroupAutocompleteIndex.class, ParallelReadExecutor.class, UserFinder.class, UuidToUserIdCache.class, CacheInvalidationBus.class, SecondLevelCacheSync.class})
 @Testcontainers(disabledWithoutDocker = true)
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @TestPropertySource(properties = {
@@ -0,0 +1,82 @@
+package org.triple.backend.group.Integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.triple.backend.global.config.JoinApplyStatusColumnCheck;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(JoinApplyStatusColumnCheck.class)
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JoinApplyStatusColumnCheckMySqlTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.4.3")
+            .withDatabaseName("triple_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+    }
+
+    @Autowired
+    private JoinApplyStatusColumnCheck joinApplyStatusColumnCheck;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("ALTER TABLE join_apply MODIFY join_apply_status VARCHAR(20)");
+    }
+
+    @Test
+    @DisplayName("join_apply_status 가 enum 이면 기동을 멈추고, 마이그레이션 스크립트를 실행하면 통과한다")
+    void enum_컬럼이면_실패하고_스크립트_실행_후_통과한다() {
+        // given
+        jdbcTemplate.execute("ALTER TABLE join_apply MODIFY join_apply_status ENUM('PENDING','APPROVED','REJECTED','CANCELED')");
+
+        // when & then
+        assertThatThrownBy(() -> joinApplyStatusColumnCheck.verify())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(JoinApplyStatusColumnCheck.MIGRATION_SCRIPT);
+
+        new ResourceDatabasePopulator(new ClassPathResource(JoinApplyStatusColumnCheck.MIGRATION_SCRIPT)).execute(dataSource);
+
+        assertThatCode(() -> joinApplyStatusColumnCheck.verify()).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,182 @@
+package org.triple.backend.group.benchmark;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.triple.backend.common.annotation.ServiceTest;
+import org.triple.backend.global.cache.CacheInvalidationBus;
+import org.triple.backend.global.cache.SecondLevelCacheSync;
+import org.triple.backend.group.entity.group.Group;
+import org.triple.backend.group.entity.group.GroupKind;
+import org.triple.backend.group.entity.joinApply.JoinApply;
+import org.triple.backend.group.entity.userGroup.Role;
+import org.triple.backend.group.repository.GroupJpaRepository;
+import org.triple.backend.group.repository.JoinApplyJpaRepository;
+import org.triple.backend.group.repository.UserGroupJdbcRepository;
+import org.triple.backend.group.repository.UserGroupJpaRepository;
+import org.triple.backend.group.service.JoinApplyService;
+import org.triple.backend.user.entity.User;
+import org.triple.backend.user.repository.UserJpaRepository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행 시간이 환경에 따라 달라지므로 단위 테스트(test)에서는 제외하고 ./gradlew benchmark 로만 실행한다.
+ * 처리량은 로그로만 남기고, 검증은 두 방식 모두 실패 없이 인원 수를 맞게 늘렸는지만 한다.
+ */
+@Tag("benchmark")
+@ServiceTest
+@Import({JoinApplyService.class, UserGroupJdbcRepository.class, CacheInvalidationBus.class, SecondLevelCacheSync.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JoinApplyApproveBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JoinApplyApproveBenchmarkTest.class);
+
+    @Autowired
+    private JoinApplyService joinApplyService;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private GroupJpaRepository groupJpaRepository;
+
+    @Autowired
+    private JoinApplyJpaRepository joinApplyJpaRepository;
+
+    @Autowired
+    private UserGroupJpaRepository userGroupJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        joinApplyJpaRepository.deleteAllInBatch();
+        userGroupJpaRepository.deleteAllInBatch();
+        groupJpaRepository.deleteAllInBatch();
+        userJpaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("한 그룹에 몰린 동시 승인의 처리량을 그룹 row 선점 방식과 조건부 UPDATE 방식으로 비교한다")
+    void 한_그룹에_몰린_동시_승인의_처리량을_비교한다() throws InterruptedException {
+        // given
+        int applicantCount = 40;
+        int threadCount = 8;
+        User owner = saveUser("kakao-owner-throughput", "owner-throughput@test.com");
+
+        Group lockedGroup = Group.create(GroupKind.PUBLIC, "선점방식모임", "설명", "https://example.com/thumb.png", 50);
+        lockedGroup.addMember(owner, Role.OWNER);
+        Group savedLockedGroup = groupJpaRepository.saveAndFlush(lockedGroup);
+        List<Long> lockedApplyIds = savePendingApplies(savedLockedGroup, applicantCount, "locked");
+
+        Group hotGroup = Group.create(GroupKind.PUBLIC, "조건부방식모임", "설명", "https://example.com/thumb.png", 50);
+        hotGroup.addMember(owner, Role.OWNER);
+        Group savedHotGroup = groupJpaRepository.saveAndFlush(hotGroup);
+        List<Long> hotApplyIds = savePendingApplies(savedHotGroup, applicantCount, "hot");
+
+        // when
+        long lockedStartedAt = System.nanoTime();
+        List<Throwable> lockedFailures = approveConcurrently(savedLockedGroup.getId(), owner.getId(), lockedApplyIds, threadCount, true);
+        long lockedElapsed = System.nanoTime() - lockedStartedAt;
+
+        long hotStartedAt = System.nanoTime();
+        List<Throwable> hotFailures = approveConcurrently(savedHotGroup.getId(), owner.getId(), hotApplyIds, threadCount, false);
+        long hotElapsed = System.nanoTime() - hotStartedAt;
+
+        double lockedThroughput = approvalsPerSecond(applicantCount, lockedElapsed);
+        double hotThroughput = approvalsPerSecond(applicantCount, hotElapsed);
+        log.info("한 그룹 동시 승인 처리량(건/초) : 그룹 row 선점 = {}, 조건부 UPDATE = {}",
+                String.format("%.1f", lockedThroughput),
+                String.format("%.1f", hotThroughput));
+
+        // then
+        assertThat(lockedFailures).isEmpty();
+        assertThat(hotFailures).isEmpty();
+        assertThat(groupJpaRepository.findById(savedLockedGroup.getId()).orElseThrow().getCurrentMemberCount()).isEqualTo(applicantCount + 1);
+        assertThat(groupJpaRepository.findById(savedHotGroup.getId()).orElseThrow().getCurrentMemberCount()).isEqualTo(applicantCount + 1);
+    }
+
+    private User saveUser(final String providerId, final String email) {
+        return userJpaRepository.save(User.builder()
+                .providerId(providerId)
+                .nickname("사용자")
+                .email(email)
+                .profileUrl("http://img")
+                .build());
+    }
+
+    private List<Long> savePendingApplies(final Group group, final int count, final String prefix) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> saveUser("kakao-" + prefix + "-" + i, prefix + "-" + i + "@test.com"))
+                .map(applicant -> joinApplyJpaRepository.saveAndFlush(JoinApply.create(applicant, group)).getId())
+                .toList();
+    }
+
+    /**
+     * holdGroupLock 이 true 면 승인 트랜잭션 시작 시 그룹 row 를 FOR UPDATE 로 잡아, 이전 승인 방식(커밋까지 그룹 row 선점)을 재현한다.
+     */
+    private List<Throwable> approveConcurrently(
+            final Long groupId,
+            final Long ownerId,
+            final List<Long> joinApplyIds,
+            final int threadCount,
+            final boolean holdGroupLock
+    ) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(joinApplyIds.size());
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        try {
+            for (Long joinApplyId : joinApplyIds) {
+                executorService.submit(() -> {
+                    try {
+                        start.await();
+                        if (holdGroupLock) {
+                            transactionTemplate.executeWithoutResult(status -> {
+                                groupJpaRepository.findByIdForUpdate(groupId).orElseThrow();
+                                joinApplyService.approve(groupId, ownerId, joinApplyId);
+                            });
+                        } else {
+                            joinApplyService.approve(groupId, ownerId, joinApplyId);
+                        }
+                    } catch (Throwable throwable) {
+                        failures.add(throwable);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            start.countDown();
+            assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+            return failures;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private double approvalsPerSecond(final int approvals, final long elapsedNanos) {
+        return approvals / (elapsedNanos / 1_000_000_000.0);
+    }
+}
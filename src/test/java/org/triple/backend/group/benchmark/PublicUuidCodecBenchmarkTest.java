@@ -0,0 +1,74 @@
+package org.triple.backend.group.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.triple.backend.auth.crypto.PublicUuidCodec;
+import org.triple.backend.auth.crypto.UuidCrypto;
+import org.triple.backend.common.benchmark.CpuBenchmark;
+import org.triple.backend.group.dto.response.GroupUsersResponseDto.UserDto;
+import org.triple.backend.group.exception.GroupErrorCode;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 멤버 목록 응답(50명) 한 건의 id 변환 CPU 시간 비교. ./gradlew benchmark 로만 실행한다.
+ * 멤버마다 encrypt / decryptOrThrow 를 부르는 경로와, encryptIds / encryptIdsCached / decryptIdsOrThrow 로 한 번에 바꾸는 경로를 잰다.
+ */
+@Tag("benchmark")
+class PublicUuidCodecBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicUuidCodecBenchmarkTest.class);
+
+    private static final String SECRET = "benchmark-uuid-secret-value-at-least-32-chars";
+    private static final int MEMBER_COUNT = 50;
+    private static final int WARMUP_OPS = 2_000;
+    private static final int ROUNDS = 7;
+    private static final int OPS_PER_ROUND = 1_000;
+
+    private final PublicUuidCodec codec = new PublicUuidCodec(new UuidCrypto(SECRET), 10_000, Duration.ofMinutes(10));
+
+    @Test
+    @DisplayName("멤버별 호출과 일괄 호출의 응답당 CPU 시간을 기록한다")
+    void 멤버별_호출과_일괄_호출의_CPU_시간() {
+        // given
+        List<UserDto> members = IntStream.range(0, MEMBER_COUNT)
+                .mapToObj(i -> new UserDto(UUID.randomUUID().toString(), "member-" + i, "desc", "profile", i == 0))
+                .toList();
+        List<UserDto> encryptedMembers = codec.encryptIds(members, UserDto::id, UserDto::withId);
+
+        // when
+        double perIdEncrypt = CpuBenchmark.nanosPerOp(WARMUP_OPS, ROUNDS, OPS_PER_ROUND, () -> members.stream()
+                .map(member -> member.withId(codec.encrypt(member.id())))
+                .toList());
+        double batchedEncrypt = CpuBenchmark.nanosPerOp(WARMUP_OPS, ROUNDS, OPS_PER_ROUND, () ->
+                codec.encryptIds(members, UserDto::id, UserDto::withId));
+        double cachedEncrypt = CpuBenchmark.nanosPerOp(WARMUP_OPS, ROUNDS, OPS_PER_ROUND, () ->
+                codec.encryptIdsCached(members, UserDto::id, UserDto::withId));
+        double perIdDecrypt = CpuBenchmark.nanosPerOp(WARMUP_OPS, ROUNDS, OPS_PER_ROUND, () -> encryptedMembers.stream()
+                .map(member -> member.withId(codec.decryptOrThrow(member.id(), GroupErrorCode.NOT_GROUP_MEMBER)))
+                .toList());
+        double batchedDecrypt = CpuBenchmark.nanosPerOp(WARMUP_OPS, ROUNDS, OPS_PER_ROUND, () ->
+                codec.decryptIdsOrThrow(encryptedMembers, UserDto::id, UserDto::withId, GroupErrorCode.NOT_GROUP_MEMBER));
+
+        log.info("멤버 {}명 암호화 CPU 시간(us) : 멤버별 = {}, 일괄 = {}, 일괄 + 토큰 캐시 = {}",
+                MEMBER_COUNT, micros(perIdEncrypt), micros(batchedEncrypt), micros(cachedEncrypt));
+        log.info("멤버 {}명 복호화 CPU 시간(us) : 멤버별 = {}, 일괄 = {}",
+                MEMBER_COUNT, micros(perIdDecrypt), micros(batchedDecrypt));
+
+        // then
+        assertThat(codec.decryptIdsOrThrow(encryptedMembers, UserDto::id, UserDto::withId, GroupErrorCode.NOT_GROUP_MEMBER))
+                .isEqualTo(members);
+    }
+
+    private String micros(final double nanos) {
+        return String.format("%.1f", nanos / 1_000);
+    }
+}
@@ -3,15 +3,18 @@ package org.triple.backend.group.unit.controller;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import org.triple.backend.auth.crypto.PublicUuidCodec;
 import org.triple.backend.common.ControllerTest;
+import org.triple.backend.global.cdn.CdnCachePolicy;
 import org.triple.backend.group.controller.GroupController;
 import org.triple.backend.group.dto.request.CreateGroupRequestDto;
 import org.triple.backend.group.dto.request.GroupUpdateRequestDto;
 import org.triple.backend.group.dto.response.CreateGroupResponseDto;
+import org.triple.backend.group.dto.response.GroupAutocompleteResponseDto;
 import org.triple.backend.group.dto.response.GroupCursorResponseDto;
 import org.triple.backend.group.dto.response.GroupDetailResponseDto;
 import org.triple.backend.group.dto.response.GroupMenuResponseDto;
@@ -21,6 +24,7 @@ import org.triple.backend.group.entity.group.GroupKind;
 import org.triple.backend.group.entity.userGroup.Role;
 import org.triple.backend.group.exception.GroupErrorCode;
 import org.triple.backend.group.service.GroupService;
+import org.triple.backend.group.service.GroupViewVersion;
 
 import java.util.List;
 
@@ -34,10 +38,13 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(GroupController.class)
+@Import(CdnCachePolicy.class)
 class GroupControllerTest extends ControllerTest {
 
     @MockitoBean
@@ -105,7 +112,25 @@ class GroupControllerTest extends ControllerTest {
                         .param("keyword", "trip")
                         .param("size", "10"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.items[0].groupId").value(1L));
+                .andExpect(jsonPath("$.items[0].groupId").value(1L))
+                .andExpect(header().string("Cache-Control", "max-age=10, public, s-maxage=300"))
+                .andExpect(header().string(CdnCachePolicy.SURROGATE_CONTROL, "max-age=300"))
+                .andExpect(header().string(CdnCachePolicy.SURROGATE_KEY, "public-list group-1"));
+    }
+
+    @Test
+    @DisplayName("autocomplete returns group names for prefix")
+    void autocomplete() throws Exception {
+        GroupAutocompleteResponseDto response = new GroupAutocompleteResponseDto(
+                List.of(new GroupAutocompleteResponseDto.GroupNameDto(1L, "제주 여행"))
+        );
+        given(groupService.autocomplete(eq("젲"), eq(5))).willReturn(response);
+
+        mockMvc.perform(get("/groups/autocomplete")
+                        .param("prefix", "젲"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].groupId").value(1L))
+                .andExpect(jsonPath("$.items[0].name").value("제주 여행"));
     }
 
     @Test
@@ -167,13 +192,31 @@ class GroupControllerTest extends ControllerTest {
                 List.of(),
                 List.of()
         );
-        given(groupService.detail(1L, 1L)).willReturn(response);
+        GroupViewVersion viewVersion = new GroupViewVersion(1L, 3L, Role.GUEST);
+        given(groupService.viewVersion(1L, 1L)).willReturn(viewVersion);
+        given(groupService.detail(viewVersion)).willReturn(response);
 
         mockMvc.perform(get("/groups/{groupId}", 1L).with(loginJwt()))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"group-1-v3-GUEST\""))
                 .andExpect(jsonPath("$.name").value("group"));
     }
 
+    @Test
+    @DisplayName("group detail returns 304 without loading detail when If-None-Match matches")
+    void groupDetailNotModified() throws Exception {
+        given(groupService.viewVersion(1L, 1L)).willReturn(new GroupViewVersion(1L, 3L, Role.GUEST));
+
+        mockMvc.perform(get("/groups/{groupId}", 1L)
+                        .with(loginJwt())
+                        .header("If-None-Match", "\"group-1-v3-GUEST\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"group-1-v3-GUEST\""))
+                .andExpect(content().string(""));
+
+        verify(groupService, never()).detail(any(GroupViewVersion.class));
+    }
+
     @Test
     @DisplayName("transfer owner decrypts user id and calls service")
     void transferOwner() throws Exception {
@@ -233,27 +276,68 @@ class GroupControllerTest extends ControllerTest {
                 "thumb",
                 Role.OWNER
         );
+        given(groupService.viewVersion(1L, 1L)).willReturn(new GroupViewVersion(1L, 3L, Role.OWNER));
         given(groupService.menu(1L, 1L)).willReturn(response);
 
         mockMvc.perform(get("/groups/{groupId}/menu", 1L).with(loginJwt()))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"group-1-v3-OWNER\""))
                 .andExpect(jsonPath("$.name").value("group"));
     }
 
+    @Test
+    @DisplayName("menu returns 200 with new ETag when group version changed")
+    void menuModified() throws Exception {
+        GroupMenuResponseDto response = new GroupMenuResponseDto("group", "desc", 2, 10, "thumb", Role.OWNER);
+        given(groupService.viewVersion(1L, 1L)).willReturn(new GroupViewVersion(1L, 4L, Role.OWNER));
+        given(groupService.menu(1L, 1L)).willReturn(response);
+
+        mockMvc.perform(get("/groups/{groupId}/menu", 1L)
+                        .with(loginJwt())
+                        .header("If-None-Match", "\"group-1-v3-OWNER\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"group-1-v4-OWNER\""))
+                .andExpect(jsonPath("$.currentMemberCount").value(2));
+    }
+
     @Test
     @DisplayName("group users encrypts ids")
     void groupUsers() throws Exception {
         GroupUsersResponseDto response = new GroupUsersResponseDto(
-                List.of(new GroupUsersResponseDto.UserDto("1", "nick", "desc", "profile", true))
+                List.of(new GroupUsersResponseDto.UserDto("1", "nick", "desc", "profile", true)),
+                null,
+                false
         );
-        given(groupService.groupUsers(1L)).willReturn(response);
-        given(publicUuidCodec.encrypt("1")).willReturn("enc-1");
+        given(groupService.groupUsers(1L, null, 10)).willReturn(response);
+        given(publicUuidCodec.encryptAllCached(List.of("1"))).willReturn(List.of("enc-1"));
+        given(publicUuidCodec.encryptIdsCached(any(), any(), any())).willCallRealMethod();
 
         mockMvc.perform(get("/groups/{groupId}/users", 1L))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.users[0].id").value("enc-1"));
     }
 
+    @Test
+    @DisplayName("group users passes cursor and returns next cursor")
+    void groupUsersWithCursor() throws Exception {
+        GroupUsersResponseDto response = new GroupUsersResponseDto(
+                List.of(new GroupUsersResponseDto.UserDto("2", "nick", "desc", "profile", false)),
+                7L,
+                true
+        );
+        given(groupService.groupUsers(1L, 8L, 1)).willReturn(response);
+        given(publicUuidCodec.encryptAllCached(List.of("2"))).willReturn(List.of("enc-2"));
+        given(publicUuidCodec.encryptIdsCached(any(), any(), any())).willCallRealMethod();
+
+        mockMvc.perform(get("/groups/{groupId}/users", 1L)
+                        .param("cursor", "8")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users[0].id").value("enc-2"))
+                .andExpect(jsonPath("$.nextCursor").value(7L))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
     private RequestPostProcessor loginJwt() {
         return request -> {
             request.addHeader("Authorization", "Bearer test-token");
@@ -3,10 +3,12 @@ package org.triple.backend.group.unit.controller;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import org.triple.backend.common.ControllerTest;
 import org.triple.backend.group.controller.JoinApplyController;
+import org.triple.backend.group.dto.response.JoinApplyBulkResponseDto;
 import org.triple.backend.group.dto.response.JoinApplyUserResponseDto;
 import org.triple.backend.group.entity.joinApply.JoinApplyStatus;
 import org.triple.backend.group.service.JoinApplyService;
@@ -15,6 +17,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -69,6 +72,63 @@ class JoinApplyControllerTest extends ControllerTest {
         verify(joinApplyService, times(1)).reject(1L, 1L, 2L);
     }
 
+    @Test
+    @DisplayName("bulk approve join applies returns result per item")
+    void bulkApproveJoinApplies() throws Exception {
+        JoinApplyBulkResponseDto response = new JoinApplyBulkResponseDto(List.of(
+                JoinApplyBulkResponseDto.ResultDto.success(2L),
+                new JoinApplyBulkResponseDto.ResultDto(3L, false, "그룹 정원이 가득 찼습니다.")
+        ));
+        given(joinApplyService.approveAll(1L, 1L, List.of(2L, 3L))).willReturn(response);
+
+        mockMvc.perform(post("/groups/{groupId}/join-applies/bulk-approve", 1L)
+                        .with(loginJwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"joinApplyIds": [2, 3]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].joinApplyId").value(2L))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[1].success").value(false))
+                .andExpect(jsonPath("$.results[1].message").value("그룹 정원이 가득 찼습니다."));
+
+        verify(joinApplyService, times(1)).approveAll(1L, 1L, List.of(2L, 3L));
+    }
+
+    @Test
+    @DisplayName("bulk reject join applies with login returns ok")
+    void bulkRejectJoinApplies() throws Exception {
+        given(joinApplyService.rejectAll(1L, 1L, List.of(2L))).willReturn(
+                new JoinApplyBulkResponseDto(List.of(JoinApplyBulkResponseDto.ResultDto.success(2L)))
+        );
+
+        mockMvc.perform(post("/groups/{groupId}/join-applies/bulk-reject", 1L)
+                        .with(loginJwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"joinApplyIds": [2]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].success").value(true));
+
+        verify(joinApplyService, times(1)).rejectAll(1L, 1L, List.of(2L));
+    }
+
+    @Test
+    @DisplayName("bulk approve with empty ids returns bad request")
+    void bulkApproveJoinAppliesBadRequest() throws Exception {
+        mockMvc.perform(post("/groups/{groupId}/join-applies/bulk-approve", 1L)
+                        .with(loginJwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"joinApplyIds": []}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verify(joinApplyService, never()).approveAll(any(Long.class), any(Long.class), anyList());
+    }
+
     @Test
     @DisplayName("join apply users returns response")
     void joinApplyUsers() throws Exception {
@@ -99,15 +99,15 @@ public class JoinApplyTest {
     }
 
     @Test
-    @DisplayName("취소 상태가 아니면 reapply 시 IllegalStateException이 발생한다")
-    void 취소_상태가_아니면_reapply_시_IllegalStateException이_발생한다() {
+    @DisplayName("취소 / 만료 상태가 아니면 reapply 시 IllegalStateException이 발생한다")
+    void 취소_만료_상태가_아니면_reapply_시_IllegalStateException이_발생한다() {
         // given
         JoinApply joinApply = JoinApply.create(createUser("kakao-5", "user5@test.com"), createGroup("모임-5"));
 
         // when & then
         assertThatThrownBy(joinApply::reapply)
                 .isInstanceOf(IllegalStateException.class)
-                .hasMessageContaining("취소된 신청만 재신청");
+                .hasMessageContaining("만료된 신청만 재신청");
     }
 
     private static User createUser(final String providerId, final String email) {
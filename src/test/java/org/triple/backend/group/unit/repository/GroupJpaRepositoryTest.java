@@ -14,6 +14,7 @@ import org.triple.backend.common.annotation.RepositoryTest;
 import org.triple.backend.group.entity.group.Group;
 import org.triple.backend.group.entity.group.GroupKind;
 import org.triple.backend.group.repository.GroupJpaRepository;
+import org.triple.backend.group.repository.GroupJpaRepository.GroupSummaryRow;
 
 import java.util.List;
 
@@ -81,13 +82,13 @@ public class GroupJpaRepositoryTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
-        List<Group> result = groupJpaRepository.findPublicFirstPage(GroupKind.PUBLIC, pageable);
+        List<GroupSummaryRow> result = groupJpaRepository.findPublicFirstPage(GroupKind.PUBLIC, pageable);
 
         // then
         assertThat(result).hasSize(10);
-        assertThat(result).allSatisfy(g -> assertThat(g.getGroupKind()).isEqualTo(GroupKind.PUBLIC));
+        assertThat(result).allSatisfy(g -> assertThat(g.getName()).startsWith("public-"));
 
-        List<Long> ids = result.stream().map(Group::getId).toList();
+        List<Long> ids = result.stream().map(GroupSummaryRow::getGroupId).toList();
         assertThat(ids).isSortedAccordingTo((a, b) -> Long.compare(b, a));
     }
 
@@ -101,23 +102,23 @@ public class GroupJpaRepositoryTest {
         }
 
         Pageable firstPageable = PageRequest.of(0, 10);
-        List<Group> first = groupJpaRepository.findPublicFirstPage(GroupKind.PUBLIC, firstPageable);
+        List<GroupSummaryRow> first = groupJpaRepository.findPublicFirstPage(GroupKind.PUBLIC, firstPageable);
 
-        Long cursor = first.get(first.size() - 1).getId();
+        Long cursor = first.get(first.size() - 1).getGroupId();
 
         Pageable nextPageable = PageRequest.of(0, 10);
 
         // when
-        List<Group> next = groupJpaRepository.findPublicNextPage(GroupKind.PUBLIC, cursor, nextPageable);
+        List<GroupSummaryRow> next = groupJpaRepository.findPublicNextPage(GroupKind.PUBLIC, cursor, nextPageable);
 
         // then
         assertThat(next).hasSize(5);
         assertThat(next).allSatisfy(g -> {
-            assertThat(g.getGroupKind()).isEqualTo(GroupKind.PUBLIC);
-            assertThat(g.getId()).isLessThan(cursor);
+            assertThat(g.getName()).startsWith("public-");
+            assertThat(g.getGroupId()).isLessThan(cursor);
         });
 
-        List<Long> ids = next.stream().map(Group::getId).toList();
+        List<Long> ids = next.stream().map(GroupSummaryRow::getGroupId).toList();
         assertThat(ids).isSortedAccordingTo((a, b) -> Long.compare(b, a));
     }
 
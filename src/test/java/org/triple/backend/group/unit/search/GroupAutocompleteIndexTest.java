@@ -0,0 +1,138 @@
+package org.triple.backend.group.unit.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.triple.backend.global.cache.CacheInvalidationBus;
+import org.triple.backend.group.repository.GroupJpaRepository;
+import org.triple.backend.group.search.GroupAutocompleteIndex;
+import org.triple.backend.group.search.GroupSearchDocument;
+import org.triple.backend.group.search.GroupSearchIndex;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class GroupAutocompleteIndexTest {
+
+    private GroupSearchIndex groupSearchIndex;
+    private GroupAutocompleteIndex groupAutocompleteIndex;
+
+    @BeforeEach
+    void setUp() {
+        groupSearchIndex = new GroupSearchIndex(mock(GroupJpaRepository.class), CacheInvalidationBus.local(), 100);
+        groupAutocompleteIndex = new GroupAutocompleteIndex(groupSearchIndex, 10);
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절(자모 단위 접두어)로도 그룹 이름을 찾는다")
+    void 입력_중인_음절로도_그룹_이름을_찾는다() {
+        // given
+        groupSearchIndex.put(document(1L, "제주 여행", 3));
+        groupSearchIndex.put(document(2L, "달걀 요리 모임", 2));
+        groupSearchIndex.put(document(3L, "과천 산책", 1));
+        groupAutocompleteIndex.refresh();
+
+        // when & then
+        assertThat(names(groupAutocompleteIndex.suggest("젲", 5))).containsExactly("제주 여행");
+        assertThat(names(groupAutocompleteIndex.suggest("제ㅈ", 5))).containsExactly("제주 여행");
+        assertThat(names(groupAutocompleteIndex.suggest("닭", 5))).containsExactly("달걀 요리 모임");
+        assertThat(names(groupAutocompleteIndex.suggest("고", 5))).containsExactly("과천 산책");
+        assertThat(groupAutocompleteIndex.suggest("부산", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초성만 입력해도, 중간 단어로 시작해도 찾는다")
+    void 초성만_입력해도_중간_단어로_시작해도_찾는다() {
+        // given
+        groupSearchIndex.put(document(1L, "서울 러닝 크루", 5));
+        groupSearchIndex.put(document(2L, "Seoul Running", 1));
+        groupAutocompleteIndex.refresh();
+
+        // when & then
+        assertThat(names(groupAutocompleteIndex.suggest("ㅅㅇㄹ", 5))).containsExactly("서울 러닝 크루");
+        assertThat(names(groupAutocompleteIndex.suggest("러닝", 5))).containsExactly("서울 러닝 크루");
+        assertThat(names(groupAutocompleteIndex.suggest("RUN", 5))).containsExactly("Seoul Running");
+    }
+
+    @Test
+    @DisplayName("현재 인원이 많은 순, 같으면 최신 그룹 순으로 limit 개까지 반환한다")
+    void 현재_인원이_많은_순으로_limit_개까지_반환한다() {
+        // given
+        groupSearchIndex.put(document(1L, "제주 하나", 2));
+        groupSearchIndex.put(document(2L, "제주 둘", 7));
+        groupSearchIndex.put(document(3L, "제주 셋", 2));
+        groupSearchIndex.put(document(4L, "제주도 넷", 1));
+        groupAutocompleteIndex.refresh();
+
+        // when & then
+        assertThat(ids(groupAutocompleteIndex.suggest("ㅈ", 3))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(groupAutocompleteIndex.suggest("제주", 10))).containsExactly(2L, 3L, 1L, 4L);
+    }
+
+    @Test
+    @DisplayName("검색 색인이 바뀐 뒤 refresh 하면 변경이 반영된다")
+    void 검색_색인이_바뀐_뒤_refresh_하면_변경이_반영된다() {
+        // given
+        groupSearchIndex.put(document(1L, "제주 여행", 1));
+        groupAutocompleteIndex.refresh();
+
+        // when
+        groupSearchIndex.remove(1L);
+        groupSearchIndex.put(document(2L, "제주 맛집", 1));
+        groupAutocompleteIndex.refresh();
+
+        // then
+        assertThat(names(groupAutocompleteIndex.suggest("제주", 5))).containsExactly("제주 맛집");
+    }
+
+    @Test
+    @DisplayName("인원 수만 바뀌면 refresh 는 다시 만들지 않고, refreshRanking 에서 순위를 반영한다")
+    void 인원_수만_바뀌면_refreshRanking_에서_순위를_반영한다() {
+        // given
+        groupSearchIndex.put(document(1L, "제주 하나", 5));
+        groupSearchIndex.put(document(2L, "제주 둘", 1));
+        groupAutocompleteIndex.refresh();
+
+        // when
+        groupSearchIndex.put(document(2L, "제주 둘", 9));
+        groupAutocompleteIndex.refresh();
+        List<GroupSearchDocument> beforeRanking = groupAutocompleteIndex.suggest("제주", 5);
+        groupAutocompleteIndex.refreshRanking();
+        List<GroupSearchDocument> afterRanking = groupAutocompleteIndex.suggest("제주", 5);
+
+        // then
+        assertThat(ids(beforeRanking)).containsExactly(1L, 2L);
+        assertThat(beforeRanking.get(1).currentMemberCount()).isEqualTo(9);
+        assertThat(ids(afterRanking)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("이름이 바뀌면 refresh 에서 바로 다시 만든다")
+    void 이름이_바뀌면_refresh_에서_다시_만든다() {
+        // given
+        groupSearchIndex.put(document(1L, "제주 여행", 1));
+        groupAutocompleteIndex.refresh();
+
+        // when
+        groupSearchIndex.put(document(1L, "부산 여행", 1));
+        groupAutocompleteIndex.refresh();
+
+        // then
+        assertThat(groupAutocompleteIndex.suggest("제주", 5)).isEmpty();
+        assertThat(names(groupAutocompleteIndex.suggest("부산", 5))).containsExactly("부산 여행");
+    }
+
+    private static List<Long> ids(List<GroupSearchDocument> documents) {
+        return documents.stream().map(GroupSearchDocument::groupId).toList();
+    }
+
+    private static List<String> names(List<GroupSearchDocument> documents) {
+        return documents.stream().map(GroupSearchDocument::name).toList();
+    }
+
+    private static GroupSearchDocument document(Long id, String name, int currentMemberCount) {
+        return new GroupSearchDocument(id, name, "desc", currentMemberCount, 10, "thumb");
+    }
+}
@@ -0,0 +1,62 @@
+package org.triple.backend.group.unit.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.triple.backend.common.RecordingCacheInvalidationTransport;
+import org.triple.backend.common.annotation.ServiceTest;
+import org.triple.backend.global.cache.CacheInvalidationBus;
+import org.triple.backend.group.event.GroupDetailChangedEvent;
+import org.triple.backend.group.search.GroupSearchIndex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({GroupSearchIndex.class, CacheInvalidationBus.class, RecordingCacheInvalidationTransport.class})
+class GroupSearchIndexPublishTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RecordingCacheInvalidationTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        transport.clear();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 그룹 변경 이벤트를 발행하면 커밋 이후 다른 노드에 색인 갱신이 전송된다")
+    void 트랜잭션_안에서_그룹_변경_이벤트를_발행하면_커밋_이후_다른_노드에_색인_갱신이_전송된다() {
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new GroupDetailChangedEvent(3L));
+            assertThat(transport.publishedKeys("group-search")).isEmpty();
+        });
+
+        // then
+        assertThat(transport.publishedKeys("group-search")).containsExactly("3");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 발행하면 바로 전송된다")
+    void 트랜잭션_밖에서_발행하면_바로_전송된다() {
+        // when
+        eventPublisher.publishEvent(new GroupDetailChangedEvent(4L));
+
+        // then
+        assertThat(transport.publishedKeys("group-search")).containsExactly("4");
+    }
+}
@@ -0,0 +1,239 @@
+package org.triple.backend.group.unit.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.triple.backend.global.cache.CacheInvalidationBus;
+import org.triple.backend.group.entity.group.GroupKind;
+import org.triple.backend.group.repository.GroupJpaRepository;
+import org.triple.backend.group.repository.GroupJpaRepository.GroupSearchRow;
+import org.triple.backend.group.search.GroupSearchDocument;
+import org.triple.backend.group.search.GroupSearchIndex;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupSearchIndexTest {
+
+    private final GroupJpaRepository groupJpaRepository = mock(GroupJpaRepository.class);
+    private GroupSearchIndex groupSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        groupSearchIndex = new GroupSearchIndex(groupJpaRepository, CacheInvalidationBus.local(), 2);
+    }
+
+    @Test
+    @DisplayName("한글 복합어는 중간 부분 문자열로도 검색된다")
+    void 한글_복합어는_중간_부분_문자열로도_검색된다() {
+        // given
+        groupSearchIndex.put(document(1L, "제주여행모임", "주말마다 떠나요"));
+        groupSearchIndex.put(document(2L, "부산 맛집", "해운대 여행"));
+        groupSearchIndex.put(document(3L, "서울 산책", "한강 걷기"));
+
+        // when & then
+        assertThat(ids(groupSearchIndex.search("여행", null, 10))).containsExactly(2L, 1L);
+        assertThat(ids(groupSearchIndex.search("주여", null, 10))).containsExactly(1L);
+        assertThat(ids(groupSearchIndex.search("산", null, 10))).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("검색어 토큰은 모두 포함되어야 하고 bigram 이 겹치기만 한 문서는 제외된다")
+    void 검색어_토큰은_모두_포함되어야_한다() {
+        // given
+        groupSearchIndex.put(document(1L, "jeju travel crew", "weekend trip"));
+        groupSearchIndex.put(document(2L, "busan club", "jeju travel plan"));
+        groupSearchIndex.put(document(3L, "jeju walkers", "hangang walk"));
+        groupSearchIndex.put(document(4L, "ravel tje", "jeu"));
+
+        // when
+        List<GroupSearchDocument> hits = groupSearchIndex.search("JEJU, travel!", null, 10);
+
+        // then
+        assertThat(ids(hits)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("cursor 보다 작은 group_id 를 내림차순으로 limit 개까지 반환한다")
+    void cursor_보다_작은_group_id_를_내림차순으로_limit_개까지_반환한다() {
+        // given
+        for (long id = 1; id <= 12; id++) {
+            groupSearchIndex.put(document(id, "제주 모임 " + id, "desc"));
+        }
+
+        // when
+        List<GroupSearchDocument> first = groupSearchIndex.search("제주", null, 5);
+        List<GroupSearchDocument> second = groupSearchIndex.search("제주", 8L, 5);
+
+        // then
+        assertThat(ids(first)).containsExactly(12L, 11L, 10L, 9L, 8L);
+        assertThat(ids(second)).containsExactly(7L, 6L, 5L, 4L, 3L);
+    }
+
+    @Test
+    @DisplayName("다시 읽은 그룹이 비공개 / 삭제 상태면 색인에서 빠지고, 수정된 그룹은 새 내용으로 검색된다")
+    void 다시_읽은_그룹이_비공개_삭제_상태면_색인에서_빠진다() {
+        // given
+        groupSearchIndex.put(document(1L, "제주여행", "desc"));
+        groupSearchIndex.put(document(2L, "제주모임", "desc"));
+
+        when(groupJpaRepository.findSearchRowById(1L)).thenReturn(Optional.of(row(1L, "제주여행", "desc", 1L, GroupKind.PRIVATE)));
+        when(groupJpaRepository.findSearchRowById(2L)).thenReturn(Optional.of(row(2L, "부산모임", "desc")));
+
+        // when
+        groupSearchIndex.reload(1L);
+        groupSearchIndex.reload(2L);
+
+        // then
+        assertThat(groupSearchIndex.search("제주", null, 10)).isEmpty();
+        assertThat(ids(groupSearchIndex.search("부산", null, 10))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("같은 그룹의 다시 읽기가 늦게 끝나도 더 오래된 version 의 문서로 덮지 않는다")
+    void 같은_그룹의_다시_읽기가_늦게_끝나도_더_오래된_version_의_문서로_덮지_않는다() {
+        // given
+        when(groupJpaRepository.findSearchRowById(1L)).thenReturn(
+                Optional.of(row(1L, "부산모임", "desc", 2L, GroupKind.PUBLIC)),
+                Optional.of(row(1L, "제주모임", "desc", 1L, GroupKind.PUBLIC))
+        );
+
+        // when
+        groupSearchIndex.reload(1L);
+        groupSearchIndex.reload(1L);
+
+        // then
+        assertThat(groupSearchIndex.document(1L).name()).isEqualTo("부산모임");
+        assertThat(groupSearchIndex.search("제주", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("색인에서 빠진 그룹은 그보다 오래된 version 의 문서가 늦게 도착해도 다시 들어오지 않는다")
+    void 색인에서_빠진_그룹은_오래된_문서가_늦게_도착해도_다시_들어오지_않는다() {
+        // given
+        when(groupJpaRepository.findSearchRowById(1L)).thenReturn(
+                Optional.of(row(1L, "제주모임", "desc", 3L, GroupKind.PRIVATE)),
+                Optional.of(row(1L, "제주모임", "desc", 2L, GroupKind.PUBLIC))
+        );
+
+        // when
+        groupSearchIndex.reload(1L);
+        groupSearchIndex.reload(1L);
+
+        // then
+        assertThat(groupSearchIndex.document(1L)).isNull();
+        assertThat(groupSearchIndex.search("제주", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재구성은 DB 를 batch 단위로 끝까지 읽어 색인을 교체하고 준비 상태가 된다")
+    void 재구성은_DB_를_batch_단위로_끝까지_읽어_색인을_교체한다() {
+        // given
+        groupSearchIndex.put(document(99L, "사라질 제주 그룹", "desc"));
+
+        when(groupJpaRepository.findSearchRowsAfterId(eq(0L), eq(GroupKind.PUBLIC), any(Pageable.class)))
+                .thenReturn(List.of(row(1L, "제주 하나", "desc"), row(2L, "제주 둘", "desc")));
+        when(groupJpaRepository.findSearchRowsAfterId(eq(2L), eq(GroupKind.PUBLIC), any(Pageable.class)))
+                .thenReturn(List.of(row(5L, "제주 셋", "desc")));
+
+        assertThat(groupSearchIndex.isReady()).isFalse();
+
+        // when
+        groupSearchIndex.rebuild();
+
+        // then
+        assertThat(groupSearchIndex.isReady()).isTrue();
+        assertThat(ids(groupSearchIndex.search("제주", null, 10))).containsExactly(5L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("기동 시 재구성이 실패하면 준비될 때까지 예약된 재시도로 다시 재구성한다")
+    void 기동_시_재구성이_실패하면_준비될_때까지_다시_재구성한다() {
+        // given
+        GroupSearchIndex retryingIndex = new GroupSearchIndex(groupJpaRepository, CacheInvalidationBus.local(), 2, Duration.ZERO, Duration.ZERO);
+        when(groupJpaRepository.findSearchRowsAfterId(eq(0L), eq(GroupKind.PUBLIC), any(Pageable.class)))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of(row(1L, "제주 하나", "desc")));
+
+        retryingIndex.rebuildOnStartup();
+        assertThat(retryingIndex.isReady()).isFalse();
+        assertThat(retryingIndex.nextRetryAt()).isNotNull();
+
+        // when
+        retryingIndex.retryRebuild();
+
+        // then
+        assertThat(retryingIndex.isReady()).isTrue();
+        assertThat(retryingIndex.nextRetryAt()).isNull();
+        assertThat(ids(retryingIndex.search("제주", null, 10))).containsExactly(1L);
+    }
+
+    private static List<Long> ids(List<GroupSearchDocument> documents) {
+        return documents.stream().map(GroupSearchDocument::groupId).toList();
+    }
+
+    private static GroupSearchDocument document(Long id, String name, String description) {
+        return new GroupSearchDocument(id, name, description, 1, 10, "thumb");
+    }
+
+    private static GroupSearchRow row(Long id, String name, String description) {
+        return row(id, name, description, 1L, GroupKind.PUBLIC);
+    }
+
+    private static GroupSearchRow row(Long id, String name, String description, Long version, GroupKind groupKind) {
+        return new GroupSearchRow() {
+            @Override
+            public Long getGroupId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+
+            @Override
+            public int getCurrentMemberCount() {
+                return 1;
+            }
+
+            @Override
+            public int getMemberLimit() {
+                return 10;
+            }
+
+            @Override
+            public String getThumbNailUrl() {
+                return "thumb";
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+
+            @Override
+            public GroupKind getGroupKind() {
+                return groupKind;
+            }
+
+            @Override
+            public boolean getDeleted() {
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,143 @@
+package org.triple.backend.group.unit.sevice;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.triple.backend.auth.oauth.OauthProvider;
+import org.triple.backend.common.annotation.ServiceTest;
+import org.triple.backend.group.entity.group.Group;
+import org.triple.backend.group.repository.GroupJpaRepository;
+import org.triple.backend.group.repository.GroupJpaRepository.GroupCounter;
+import org.triple.backend.group.service.GroupCounterReconciler;
+import org.triple.backend.travel.entity.TravelItinerary;
+import org.triple.backend.travel.entity.TravelReview;
+import org.triple.backend.travel.repository.TravelItineraryJpaRepository;
+import org.triple.backend.travel.repository.TravelReviewJpaRepository;
+import org.triple.backend.user.entity.User;
+import org.triple.backend.user.repository.UserJpaRepository;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.triple.backend.group.fixture.GroupFixtures.publicGroup;
+
+@ServiceTest
+class GroupCounterReconcilerTest {
+
+    @Autowired
+    private GroupJpaRepository groupJpaRepository;
+
+    @Autowired
+    private TravelItineraryJpaRepository travelItineraryJpaRepository;
+
+    @Autowired
+    private TravelReviewJpaRepository travelReviewJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private GroupCounterReconciler groupCounterReconciler;
+
+    @BeforeEach
+    void setUp() {
+        // 청크 경계를 확인하기 위해 batch-size 를 1로 둔다.
+        groupCounterReconciler = new GroupCounterReconciler(
+                groupJpaRepository,
+                travelItineraryJpaRepository,
+                travelReviewJpaRepository,
+                eventPublisher,
+                transactionManager,
+                1
+        );
+    }
+
+    @Test
+    @DisplayName("저장된 여행 / 후기 수가 실제와 다르면 실제 개수로 보정한다")
+    void 저장된_여행_후기_수가_실제와_다르면_실제_개수로_보정한다() {
+        // given
+        User user = userJpaRepository.save(User.builder()
+                .provider(OauthProvider.KAKAO)
+                .providerId("kakao-counter-reconcile")
+                .nickname("tester")
+                .email("counter-reconcile@test.com")
+                .profileUrl("http://img")
+                .build());
+
+        Group driftedGroup = groupJpaRepository.save(publicGroup("drifted"));
+        TravelItinerary travel = travelItineraryJpaRepository.save(createTravel(driftedGroup, false));
+        travelItineraryJpaRepository.save(createTravel(driftedGroup, false));
+        travelItineraryJpaRepository.save(createTravel(driftedGroup, true));
+        travelReviewJpaRepository.save(createReview(user, travel, false));
+        travelReviewJpaRepository.save(createReview(user, travel, true));
+
+        Group syncedGroup = groupJpaRepository.save(publicGroup("synced"));
+        travelItineraryJpaRepository.save(createTravel(syncedGroup, false));
+        groupJpaRepository.increaseTravelCount(syncedGroup.getId());
+
+        // when
+        int fixed = groupCounterReconciler.reconcile();
+
+        // then
+        GroupCounter drifted = findCounter(driftedGroup.getId());
+        GroupCounter synced = findCounter(syncedGroup.getId());
+
+        assertThat(fixed).isGreaterThanOrEqualTo(1);
+        assertThat(drifted.getTravelCount()).isEqualTo(2);
+        assertThat(drifted.getReviewCount()).isEqualTo(1);
+        assertThat(synced.getTravelCount()).isEqualTo(1);
+        assertThat(synced.getReviewCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("보정 결과 변경이 없으면 다시 실행해도 아무것도 고치지 않는다")
+    void 보정_후_다시_실행하면_아무것도_고치지_않는다() {
+        // given
+        Group group = groupJpaRepository.save(publicGroup("reconciled"));
+        travelItineraryJpaRepository.save(createTravel(group, false));
+        groupCounterReconciler.reconcile();
+
+        // when
+        int fixed = groupCounterReconciler.reconcile();
+
+        // then
+        assertThat(fixed).isZero();
+        assertThat(findCounter(group.getId()).getTravelCount()).isEqualTo(1);
+    }
+
+    private GroupCounter findCounter(Long groupId) {
+        return groupJpaRepository.findCountersAfterId(groupId - 1, PageRequest.of(0, 1)).get(0);
+    }
+
+    private static TravelItinerary createTravel(Group group, boolean isDeleted) {
+        return new TravelItinerary(
+                "title",
+                LocalDateTime.of(2026, 2, 14, 0, 0),
+                LocalDateTime.of(2026, 2, 16, 0, 0),
+                group,
+                "description",
+                1,
+                isDeleted
+        );
+    }
+
+    private static TravelReview createReview(User user, TravelItinerary travelItinerary, boolean isDeleted) {
+        TravelReview travelReview = new TravelReview();
+        ReflectionTestUtils.setField(travelReview, "user", user);
+        ReflectionTestUtils.setField(travelReview, "travelItinerary", travelItinerary);
+        ReflectionTestUtils.setField(travelReview, "content", "content");
+        ReflectionTestUtils.setField(travelReview, "isDeleted", isDeleted);
+        ReflectionTestUtils.setField(travelReview, "view", 0);
+        return travelReview;
+    }
+}
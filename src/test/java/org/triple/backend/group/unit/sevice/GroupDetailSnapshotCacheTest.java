@@ -0,0 +1,124 @@
+package org.triple.backend.group.unit.sevice;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.triple.backend.common.RecordingCacheInvalidationTransport;
+import org.triple.backend.common.annotation.ServiceTest;
+import org.triple.backend.global.cache.CacheInvalidationBus;
+import org.triple.backend.group.entity.group.GroupKind;
+import org.triple.backend.group.event.GroupDetailChangedEvent;
+import org.triple.backend.group.service.GroupDetailSnapshot;
+import org.triple.backend.group.service.GroupDetailSnapshotCache;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({GroupDetailSnapshotCache.class, CacheInvalidationBus.class, RecordingCacheInvalidationTransport.class})
+class GroupDetailSnapshotCacheTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RecordingCacheInvalidationTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        transport.clear();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 그룹 변경 이벤트를 발행하면 커밋 이후 다른 노드에 무효화가 전송된다")
+    void 트랜잭션_안에서_그룹_변경_이벤트를_발행하면_커밋_이후_다른_노드에_무효화가_전송된다() {
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new GroupDetailChangedEvent(7L));
+            assertThat(transport.publishedKeys("group-detail")).isEmpty();
+        });
+
+        // then
+        assertThat(transport.publishedKeys("group-detail")).containsExactly("7");
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 그룹 변경은 다른 노드에 전송되지 않는다")
+    void 롤백된_트랜잭션의_그룹_변경은_다른_노드에_전송되지_않는다() {
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new GroupDetailChangedEvent(7L));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(transport.publishedKeys("group-detail")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재를 기다리는 동안 캐시는 막히지 않고, 같은 그룹의 동시 조회는 한 번만 적재한다")
+    void 적재를_기다리는_동안_캐시는_막히지_않고_같은_그룹의_동시_조회는_한_번만_적재한다() throws Exception {
+        // given
+        GroupDetailSnapshotCache cache = new GroupDetailSnapshotCache();
+        CompletableFuture<GroupDetailSnapshot> slowLoad = new CompletableFuture<>();
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        CompletableFuture<GroupDetailSnapshot> first = cache.get(1L, 0L, groupId -> {
+            loadCount.incrementAndGet();
+            return slowLoad;
+        });
+        CompletableFuture<GroupDetailSnapshot> second = cache.get(1L, 0L, groupId -> {
+            loadCount.incrementAndGet();
+            return slowLoad;
+        });
+        GroupDetailSnapshot other = cache.get(2L, 0L, groupId -> CompletableFuture.completedFuture(snapshot(1L)))
+                .get(1, TimeUnit.SECONDS);
+        boolean loadingVisible = cache.find(1L) != null;
+        slowLoad.complete(snapshot(3L));
+
+        // then
+        assertThat(loadingVisible).isFalse();
+        assertThat(other.version()).isEqualTo(1L);
+        assertThat(first.get(1, TimeUnit.SECONDS).version()).isEqualTo(3L);
+        assertThat(second.get(1, TimeUnit.SECONDS).version()).isEqualTo(3L);
+        assertThat(loadCount).hasValue(1);
+        assertThat(cache.find(1L).version()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("적재가 실패하면 캐시에 남지 않아 다음 조회가 다시 적재한다")
+    void 적재가_실패하면_캐시에_남지_않아_다음_조회가_다시_적재한다() throws Exception {
+        // given
+        GroupDetailSnapshotCache cache = new GroupDetailSnapshotCache();
+        CompletableFuture<GroupDetailSnapshot> failed = cache.get(1L, 0L,
+                groupId -> CompletableFuture.failedFuture(new IllegalStateException("db down")));
+
+        // when
+        GroupDetailSnapshot reloaded = cache.get(1L, 0L, groupId -> CompletableFuture.completedFuture(snapshot(2L)))
+                .get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(reloaded.version()).isEqualTo(2L);
+    }
+
+    private static GroupDetailSnapshot snapshot(long version) {
+        return new GroupDetailSnapshot(version, List.of(), "그룹", "설명", GroupKind.PUBLIC, "thumb", 1, 10, List.of(), 0, List.of(), List.of());
+    }
+}
@@ -0,0 +1,334 @@
+package org.triple.backend.group.unit.sevice;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.triple.backend.auth.oauth.OauthProvider;
+import org.triple.backend.common.annotation.ServiceTest;
+import org.triple.backend.file.entity.File;
+import org.triple.backend.file.infra.S3Bucket;
+import org.triple.backend.file.repository.FileJpaRepository;
+import org.triple.backend.global.cache.CacheInvalidationBus;
+import org.triple.backend.global.cache.SecondLevelCacheSync;
+import org.triple.backend.group.entity.group.Group;
+import org.triple.backend.group.entity.joinApply.JoinApply;
+import org.triple.backend.group.entity.purge.GroupPurge;
+import org.triple.backend.group.entity.purge.GroupPurgeStage;
+import org.triple.backend.group.entity.userGroup.Role;
+import org.triple.backend.group.repository.GroupJpaRepository;
+import org.triple.backend.group.repository.GroupPurgeJdbcRepository;
+import org.triple.backend.group.repository.GroupPurgeJpaRepository;
+import org.triple.backend.group.repository.JoinApplyJpaRepository;
+import org.triple.backend.group.service.GroupPurger;
+import org.triple.backend.transfer.entity.Transfer;
+import org.triple.backend.transfer.entity.TransferUser;
+import org.triple.backend.transfer.repository.TransferJpaRepository;
+import org.triple.backend.transfer.repository.TransferUserJpaRepository;
+import org.triple.backend.travel.entity.TravelDoc;
+import org.triple.backend.travel.entity.TravelItinerary;
+import org.triple.backend.travel.entity.TravelReview;
+import org.triple.backend.travel.entity.TravelReviewImage;
+import org.triple.backend.travel.entity.UserRole;
+import org.triple.backend.travel.entity.UserTravelItinerary;
+import org.triple.backend.travel.repository.TravelDocJpaRepository;
+import org.triple.backend.travel.repository.TravelItineraryJpaRepository;
+import org.triple.backend.travel.repository.TravelReviewImageJpaRepository;
+import org.triple.backend.travel.repository.TravelReviewJpaRepository;
+import org.triple.backend.travel.repository.UserTravelItineraryJpaRepository;
+import org.triple.backend.user.entity.User;
+import org.triple.backend.user.repository.UserJpaRepository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.triple.backend.group.fixture.GroupFixtures.publicGroup;
+
+@ServiceTest
+class GroupPurgerTest {
+
+    private static final String URL_PREFIX = "https://cdn.test/";
+
+    @Autowired
+    private GroupJpaRepository groupJpaRepository;
+
+    @Autowired
+    private GroupPurgeJpaRepository groupPurgeJpaRepository;
+
+    @Autowired
+    private JoinApplyJpaRepository joinApplyJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private TravelItineraryJpaRepository travelItineraryJpaRepository;
+
+    @Autowired
+    private TravelReviewJpaRepository travelReviewJpaRepository;
+
+    @Autowired
+    private TravelReviewImageJpaRepository travelReviewImageJpaRepository;
+
+    @Autowired
+    private UserTravelItineraryJpaRepository userTravelItineraryJpaRepository;
+
+    @Autowired
+    private TravelDocJpaRepository travelDocJpaRepository;
+
+    @Autowired
+    private TransferJpaRepository transferJpaRepository;
+
+    @Autowired
+    private TransferUserJpaRepository transferUserJpaRepository;
+
+    @Autowired
+    private FileJpaRepository fileJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final S3Bucket s3Bucket = mock(S3Bucket.class);
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        when(s3Bucket.extractUploadedKey(anyString())).thenAnswer(invocation -> {
+            String url = invocation.getArgument(0);
+            return url.startsWith(URL_PREFIX) ? url.substring(URL_PREFIX.length()) : null;
+        });
+
+        owner = userJpaRepository.save(User.builder()
+                .provider(OauthProvider.KAKAO)
+                .providerId("kakao-group-purge")
+                .nickname("owner")
+                .email("group-purge@test.com")
+                .profileUrl("http://img")
+                .build());
+    }
+
+    @Test
+    @DisplayName("삭제된 그룹의 여행 / 후기 / 이미지 / 정산 / 가입 신청 / 멤버십과 저장소 객체(후기 이미지, 썸네일)를 모두 정리하고, 다른 그룹 데이터는 남긴다")
+    void 삭제된_그룹의_연관_데이터와_저장소_객체를_모두_정리한다() {
+        // given
+        Group deletedGroup = saveGroupWithDependents("deleted", "deleted.png");
+        Group aliveGroup = saveGroupWithDependents("alive", "alive.png");
+        deletedGroup.deleteGroup();
+        GroupPurge purge = groupPurgeJpaRepository.saveAndFlush(GroupPurge.start(deletedGroup.getId()));
+
+        // when
+        int completed = groupPurger(500, 50).purge();
+
+        // then
+        assertThat(completed).isEqualTo(1);
+        assertThat(countByGroup(deletedGroup.getId())).isZero();
+        assertThat(countByGroup(aliveGroup.getId())).isEqualTo(9);
+        assertThat(fileJpaRepository.findAll())
+                .extracting(File::getUploadedUrl)
+                .containsExactlyInAnyOrder(URL_PREFIX + "alive.png", URL_PREFIX + "alive-thumb.png");
+
+        verify(s3Bucket).deleteObject("deleted.png");
+        verify(s3Bucket).deleteObject("deleted-thumb.png");
+        verify(s3Bucket, never()).deleteObject("alive.png");
+        verify(s3Bucket, never()).deleteObject("alive-thumb.png");
+
+        GroupPurge completedPurge = groupPurgeJpaRepository.findById(purge.getId()).orElseThrow();
+        assertThat(completedPurge.getStage()).isEqualTo(GroupPurgeStage.COMPLETED);
+        assertThat(completedPurge.getCompletedAt()).isNotNull();
+        assertThat(completedPurge.getDeletedObjects()).isEqualTo(2);
+        assertThat(completedPurge.getPurgedRows()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("업로드한 파일이 아닌 썸네일이면 저장소 객체는 지우지 않고 정리를 마친다")
+    void 업로드한_파일이_아닌_썸네일이면_저장소_객체는_지우지_않고_정리를_마친다() {
+        // given
+        Group deletedGroup = saveGroupWithDependents("deleted", "deleted.png");
+        ReflectionTestUtils.setField(deletedGroup, "thumbNailUrl", "https://example.com/thumb.png");
+        groupJpaRepository.flush();
+        GroupPurge purge = groupPurgeJpaRepository.saveAndFlush(GroupPurge.start(deletedGroup.getId()));
+
+        // when
+        int completed = groupPurger(500, 50).purge();
+
+        // then
+        assertThat(completed).isEqualTo(1);
+        verify(s3Bucket).deleteObject("deleted.png");
+        verify(s3Bucket, never()).deleteObject("https://example.com/thumb.png");
+        assertThat(groupPurgeJpaRepository.findById(purge.getId()).orElseThrow().getDeletedObjects()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 번의 실행은 max-chunks 개 청크까지만 처리하고, 다음 실행은 기록된 단계부터 이어서 정리한다")
+    void 한_번의_실행은_max_chunks_개_청크까지만_처리하고_다음_실행은_이어서_정리한다() {
+        // given
+        Group deletedGroup = saveGroupWithDependents("deleted", "deleted.png");
+        GroupPurge purge = groupPurgeJpaRepository.saveAndFlush(GroupPurge.start(deletedGroup.getId()));
+        GroupPurger groupPurger = groupPurger(1, 3);
+
+        // when
+        int completed = groupPurger.purge();
+
+        // then
+        GroupPurge inProgress = groupPurgeJpaRepository.findById(purge.getId()).orElseThrow();
+        assertThat(completed).isZero();
+        assertThat(inProgress.getStage()).isEqualTo(GroupPurgeStage.REVIEW_IMAGES);
+        assertThat(inProgress.getCompletedAt()).isNull();
+        assertThat(inProgress.getDeletedObjects()).isEqualTo(1);
+        assertThat(inProgress.getPurgedRows()).isEqualTo(1);
+        assertThat(countByGroup(deletedGroup.getId())).isEqualTo(8);
+
+        // when
+        int runs = 1;
+        while (groupPurger.purge() == 0 && runs < 20) {
+            runs++;
+        }
+
+        // then
+        assertThat(groupPurgeJpaRepository.findById(purge.getId()).orElseThrow().isCompleted()).isTrue();
+        assertThat(countByGroup(deletedGroup.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("저장소 객체 삭제가 실패하면 커서를 옮기지 않고 실패 횟수만 기록하며, 다음 실행에서 다시 지운다")
+    void 저장소_객체_삭제가_실패하면_커서를_옮기지_않고_다음_실행에서_다시_지운다() {
+        // given
+        Group deletedGroup = saveGroupWithDependents("deleted", "deleted.png");
+        GroupPurge purge = groupPurgeJpaRepository.saveAndFlush(GroupPurge.start(deletedGroup.getId()));
+        doThrow(new IllegalStateException("s3 down")).doNothing().when(s3Bucket).deleteObject("deleted.png");
+        GroupPurger groupPurger = groupPurger(500, 50);
+
+        // when
+        int firstRun = groupPurger.purge();
+
+        // then
+        GroupPurge failed = groupPurgeJpaRepository.findById(purge.getId()).orElseThrow();
+        assertThat(firstRun).isZero();
+        assertThat(failed.getStage()).isEqualTo(GroupPurgeStage.REVIEW_IMAGE_OBJECTS);
+        assertThat(failed.getLastId()).isZero();
+        assertThat(failed.getFailureCount()).isEqualTo(1);
+        assertThat(countByGroup(deletedGroup.getId())).isEqualTo(9);
+
+        // when
+        int secondRun = groupPurger.purge();
+
+        // then
+        assertThat(secondRun).isEqualTo(1);
+        assertThat(countByGroup(deletedGroup.getId())).isZero();
+    }
+
+    private GroupPurger groupPurger(int batchSize, int maxChunks) {
+        return new GroupPurger(
+                groupPurgeJpaRepository,
+                new GroupPurgeJdbcRepository(jdbcTemplate),
+                s3Bucket,
+                new SecondLevelCacheSync(entityManagerFactory, CacheInvalidationBus.local()),
+                transactionManager,
+                batchSize,
+                maxChunks,
+                Duration.ZERO
+        );
+    }
+
+    /**
+     * 그룹 하나에 정리 대상 행을 단계마다 한 건씩, 총 9건(이미지, 후기, 여행 참여, 문서, 정산 대상자, 정산, 여행, 가입 신청, 멤버십) 만든다.
+     * 썸네일은 "{name}-thumb.png" 로 업로드한 파일이다.
+     */
+    private Group saveGroupWithDependents(String name, String imageKey) {
+        User applicant = userJpaRepository.save(User.builder()
+                .provider(OauthProvider.KAKAO)
+                .providerId("kakao-group-purge-" + name)
+                .nickname(name)
+                .email(name + "-group-purge@test.com")
+                .profileUrl("http://img")
+                .build());
+
+        Group group = publicGroup(name);
+        ReflectionTestUtils.setField(group, "thumbNailUrl", URL_PREFIX + name + "-thumb.png");
+        group.addMember(owner, Role.OWNER);
+        Group savedGroup = groupJpaRepository.save(group);
+        fileJpaRepository.save(File.of(owner.getId(), URL_PREFIX + name + "-thumb.png"));
+        joinApplyJpaRepository.save(JoinApply.create(applicant, savedGroup));
+
+        TravelItinerary travel = travelItineraryJpaRepository.save(new TravelItinerary(
+                "title",
+                LocalDateTime.of(2026, 2, 14, 0, 0),
+                LocalDateTime.of(2026, 2, 16, 0, 0),
+                savedGroup,
+                "description",
+                1,
+                false
+        ));
+        userTravelItineraryJpaRepository.save(UserTravelItinerary.of(owner, travel, UserRole.LEADER));
+        travelDocJpaRepository.save(TravelDoc.of(travel.getId(), new byte[]{1}));
+
+        TravelReview review = travelReviewJpaRepository.save(createReview(owner, travel));
+        travelReviewImageJpaRepository.save(createReviewImage(owner, review, URL_PREFIX + imageKey));
+        fileJpaRepository.save(File.of(owner.getId(), URL_PREFIX + imageKey));
+
+        Transfer transfer = transferJpaRepository.save(Transfer.create(
+                "1234", "bank", "holder", BigDecimal.valueOf(10000),
+                LocalDateTime.of(2026, 3, 1, 0, 0), owner, travel, savedGroup
+        ));
+        transferUserJpaRepository.save(TransferUser.create(transfer, applicant, BigDecimal.valueOf(10000)));
+
+        groupJpaRepository.flush();
+        return savedGroup;
+    }
+
+    private long countByGroup(Long groupId) {
+        String travelIds = "SELECT travel_itinerary_id FROM travel_itinerary WHERE group_id = " + groupId;
+        String reviewIds = "SELECT travel_review_id FROM travel_review WHERE travel_itinerary_id IN (" + travelIds + ")";
+        String transferIds = "SELECT transfer_id FROM transfer WHERE group_id = " + groupId;
+        return count("SELECT COUNT(*) FROM travel_review_image WHERE travel_review_id IN (" + reviewIds + ")")
+                + count("SELECT COUNT(*) FROM travel_review WHERE travel_itinerary_id IN (" + travelIds + ")")
+                + count("SELECT COUNT(*) FROM user_travel_itinerary WHERE travel_itinerary_id IN (" + travelIds + ")")
+                + count("SELECT COUNT(*) FROM travel_doc WHERE travel_itinerary_id IN (" + travelIds + ")")
+                + count("SELECT COUNT(*) FROM transfer_user WHERE transfer_id IN (" + transferIds + ")")
+                + count("SELECT COUNT(*) FROM transfer WHERE group_id = " + groupId)
+                + count("SELECT COUNT(*) FROM travel_itinerary WHERE group_id = " + groupId)
+                + count("SELECT COUNT(*) FROM join_apply WHERE group_id = " + groupId)
+                + count("SELECT COUNT(*) FROM user_group WHERE group_id = " + groupId);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private static TravelReview createReview(User user, TravelItinerary travelItinerary) {
+        TravelReview travelReview = new TravelReview();
+        ReflectionTestUtils.setField(travelReview, "user", user);
+        ReflectionTestUtils.setField(travelReview, "travelItinerary", travelItinerary);
+        ReflectionTestUtils.setField(travelReview, "content", "content");
+        ReflectionTestUtils.setField(travelReview, "isDeleted", false);
+        ReflectionTestUtils.setField(travelReview, "view", 0);
+        return travelReview;
+    }
+
+    private static TravelReviewImage createReviewImage(User user, TravelReview review, String imageUrl) {
+        TravelReviewImage travelReviewImage = new TravelReviewImage();
+        ReflectionTestUtils.setField(travelReviewImage, "user", user);
+        ReflectionTestUtils.setField(travelReviewImage, "travelReview", review);
+        ReflectionTestUtils.setField(travelReviewImage, "reviewImageUrl", imageUrl);
+        return travelReviewImage;
+    }
+}
@@ -7,16 +7,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.triple.backend.global.cache.SecondLevelCacheSync;
+import org.triple.backend.global.concurrent.ParallelReadExecutor;
 import org.triple.backend.global.error.BusinessException;
 import org.triple.backend.group.dto.response.GroupCursorResponseDto;
-import org.triple.backend.group.entity.group.Group;
-import org.triple.backend.group.entity.group.GroupKind;
 import org.triple.backend.group.exception.GroupErrorCode;
 import org.triple.backend.group.repository.GroupJpaRepository;
+import org.triple.backend.group.repository.GroupJpaRepository.GroupSummaryRow;
+import org.triple.backend.group.repository.GroupPurgeJpaRepository;
 import org.triple.backend.group.repository.JoinApplyJpaRepository;
+import org.triple.backend.group.repository.UserGroupJdbcRepository;
 import org.triple.backend.group.repository.UserGroupJpaRepository;
+import org.triple.backend.group.search.GroupAutocompleteIndex;
+import org.triple.backend.group.search.GroupSearchDocument;
+import org.triple.backend.group.search.GroupSearchIndex;
+import org.triple.backend.group.service.GroupDetailSnapshotCache;
 import org.triple.backend.group.service.GroupService;
 import org.triple.backend.travel.repository.TravelItineraryJpaRepository;
 import org.triple.backend.travel.repository.TravelReviewImageJpaRepository;
@@ -25,6 +34,7 @@ import org.triple.backend.user.repository.UserJpaRepository;
 import org.triple.backend.user.service.UserFinder;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -37,6 +47,8 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class GroupServiceSearchFullTextTest {
 
+    private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
     @Mock
     private GroupJpaRepository groupJpaRepository;
 
@@ -46,6 +58,12 @@ class GroupServiceSearchFullTextTest {
     @Mock
     private JoinApplyJpaRepository joinApplyJpaRepository;
 
+    @Mock
+    private UserGroupJdbcRepository userGroupJdbcRepository;
+
+    @Mock
+    private GroupPurgeJpaRepository groupPurgeJpaRepository;
+
     @Mock
     private UserJpaRepository userJpaRepository;
 
@@ -61,6 +79,21 @@ class GroupServiceSearchFullTextTest {
     @Mock
     private UserFinder userFinder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ParallelReadExecutor parallelReadExecutor;
+
+    @Mock
+    private GroupSearchIndex groupSearchIndex;
+
+    @Mock
+    private GroupAutocompleteIndex groupAutocompleteIndex;
+
+    @Mock
+    private SecondLevelCacheSync secondLevelCacheSync;
+
     private GroupService groupService;
 
     @BeforeEach
@@ -68,12 +101,20 @@ class GroupServiceSearchFullTextTest {
         groupService = new GroupService(
                 groupJpaRepository,
                 userGroupJpaRepository,
+                userGroupJdbcRepository,
                 joinApplyJpaRepository,
+                groupPurgeJpaRepository,
                 travelItineraryJpaRepository,
                 travelReviewJpaRepository,
                 travelReviewImageJpaRepository,
                 userJpaRepository,
-                userFinder
+                userFinder,
+                new GroupDetailSnapshotCache(),
+                eventPublisher,
+                parallelReadExecutor,
+                groupSearchIndex,
+                groupAutocompleteIndex,
+                secondLevelCacheSync
         );
     }
 
@@ -81,8 +122,8 @@ class GroupServiceSearchFullTextTest {
     @DisplayName("FULLTEXT 검색은 키워드를 boolean mode 쿼리로 변환해 첫 페이지를 조회한다")
     void FULLTEXT_검색은_키워드를_boolean_mode_쿼리로_변환해_첫_페이지를_조회한다() {
         // given
-        Group g1 = newGroup(30L, "제주여행");
-        Group g2 = newGroup(29L, "제주모임");
+        GroupSummaryRow g1 = newGroup(30L, "제주여행");
+        GroupSummaryRow g2 = newGroup(29L, "제주모임");
 
         when(groupJpaRepository.findFirstPageByKeywordFullText(eq("+제주* +여행*"), eq("PUBLIC"), any(Pageable.class)))
                 .thenReturn(List.of(g1, g2));
@@ -103,7 +144,7 @@ class GroupServiceSearchFullTextTest {
     @DisplayName("FULLTEXT 검색은 구두점을 단어 경계로 처리해 boolean mode 쿼리로 변환한다")
     void FULLTEXT_검색은_구두점을_단어_경계로_처리해_boolean_mode_쿼리로_변환한다() {
         // given
-        Group g1 = newGroup(31L, "jeju-travelers");
+        GroupSummaryRow g1 = newGroup(31L, "jeju-travelers");
 
         when(groupJpaRepository.findFirstPageByKeywordFullText(eq("+jeju* +travel* +plan*"), eq("PUBLIC"), any(Pageable.class)))
                 .thenReturn(List.of(g1));
@@ -120,9 +161,9 @@ class GroupServiceSearchFullTextTest {
     @DisplayName("FULLTEXT 검색 다음 페이지는 커서 조건과 pageSize+1로 조회하고 hasNext를 계산한다")
     void FULLTEXT_검색_다음_페이지는_커서_조건과_pageSize_플러스_일로_조회하고_hasNext를_계산한다() {
         // given
-        Group g1 = newGroup(49L, "제주49");
-        Group g2 = newGroup(48L, "제주48");
-        Group g3 = newGroup(47L, "제주47");
+        GroupSummaryRow g1 = newGroup(49L, "제주49");
+        GroupSummaryRow g2 = newGroup(48L, "제주48");
+        GroupSummaryRow g3 = newGroup(47L, "제주47");
 
         when(groupJpaRepository.findNextPageByKeywordFullText(eq("+제주* +여행*"), eq(50L), eq("PUBLIC"), any(Pageable.class)))
                 .thenReturn(List.of(g1, g2, g3));
@@ -155,6 +196,30 @@ class GroupServiceSearchFullTextTest {
         verify(groupJpaRepository, never()).findNextPageByKeywordFullText(any(), any(), any(), any());
     }
 
+    @Test
+    @DisplayName("검색 색인이 준비되어 있으면 FULLTEXT 쿼리 없이 색인 결과로 응답한다")
+    void 검색_색인이_준비되어_있으면_FULLTEXT_쿼리_없이_색인_결과로_응답한다() {
+        // given
+        when(groupSearchIndex.isReady()).thenReturn(true);
+        when(groupSearchIndex.search("제주 여행", 50L, 3)).thenReturn(List.of(
+                newDocument(49L, "제주49"),
+                newDocument(48L, "제주48"),
+                newDocument(47L, "제주47")
+        ));
+
+        // when
+        GroupCursorResponseDto response = groupService.search(" 제주 여행 ", 50L, 2);
+
+        // then
+        assertThat(response.items())
+                .extracting(GroupCursorResponseDto.GroupSummaryDto::groupId)
+                .containsExactly(49L, 48L);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.nextCursor()).isEqualTo(48L);
+
+        verify(groupJpaRepository, never()).findNextPageByKeywordFullText(any(), any(), any(), any());
+    }
+
     @Test
     @DisplayName("검색어 길이가 20자를 초과하면 INVALID_SEARCH_KEYWORD_LENGTH 예외가 발생한다")
     void 검색어_길이가_20자를_초과하면_INVALID_SEARCH_KEYWORD_LENGTH_예외가_발생한다() {
@@ -169,9 +234,18 @@ class GroupServiceSearchFullTextTest {
         verify(groupJpaRepository, never()).findFirstPageByKeywordFullText(any(), any(), any());
     }
 
-    private Group newGroup(Long id, String name) {
-        Group group = Group.create(GroupKind.PUBLIC, name, "desc", "thumb", 10);
-        ReflectionTestUtils.setField(group, "id", id);
-        return group;
+    private GroupSearchDocument newDocument(Long id, String name) {
+        return new GroupSearchDocument(id, name, "desc", 1, 10, "thumb");
+    }
+
+    private GroupSummaryRow newGroup(Long id, String name) {
+        return PROJECTION_FACTORY.createProjection(GroupSummaryRow.class, Map.of(
+                "groupId", id,
+                "name", name,
+                "description", "desc",
+                "currentMemberCount", 1,
+                "memberLimit", 10,
+                "thumbNailUrl", "thumb"
+        ));
     }
 }
@@ -6,7 +6,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.triple.backend.auth.crypto.UuidToUserIdCache;
 import org.triple.backend.common.annotation.ServiceTest;
+import org.triple.backend.global.cache.CacheInvalidationBus;
+import org.triple.backend.global.cache.SecondLevelCacheSync;
+import org.triple.backend.global.concurrent.ParallelReadExecutor;
 import org.triple.backend.global.error.BusinessException;
 import org.triple.backend.group.dto.request.CreateGroupRequestDto;
 import org.triple.backend.group.dto.request.GroupUpdateRequestDto;
@@ -15,17 +19,25 @@ import org.triple.backend.group.dto.response.GroupCursorResponseDto;
 import org.triple.backend.group.dto.response.GroupDetailResponseDto;
 import org.triple.backend.group.dto.response.GroupMenuResponseDto;
 import org.triple.backend.group.dto.response.GroupUpdateResponseDto;
+import org.triple.backend.group.dto.response.GroupUsersResponseDto;
 import org.triple.backend.group.entity.group.Group;
 import org.triple.backend.group.entity.group.GroupKind;
 import org.triple.backend.group.entity.joinApply.JoinApply;
+import org.triple.backend.group.entity.purge.GroupPurgeStage;
 import org.triple.backend.group.entity.userGroup.JoinStatus;
 import org.triple.backend.group.entity.userGroup.Role;
 import org.triple.backend.group.entity.userGroup.UserGroup;
 import org.triple.backend.group.exception.GroupErrorCode;
 import org.triple.backend.group.repository.GroupJpaRepository;
+import org.triple.backend.group.repository.GroupPurgeJpaRepository;
 import org.triple.backend.group.repository.JoinApplyJpaRepository;
+import org.triple.backend.group.repository.UserGroupJdbcRepository;
 import org.triple.backend.group.repository.UserGroupJpaRepository;
+import org.triple.backend.group.search.GroupAutocompleteIndex;
+import org.triple.backend.group.search.GroupSearchIndex;
+import org.triple.backend.group.service.GroupDetailSnapshotCache;
 import org.triple.backend.group.service.GroupService;
+import org.triple.backend.group.service.GroupViewVersion;
 import org.triple.backend.travel.entity.TravelItinerary;
 import org.triple.backend.travel.repository.TravelItineraryJpaRepository;
 import org.triple.backend.user.entity.User;
@@ -44,7 +56,7 @@ import static org.triple.backend.group.fixture.GroupFixtures.privateGroup;
 import static org.triple.backend.group.fixture.GroupFixtures.publicGroup;
 
 @ServiceTest
-@Import({GroupService.class, UserFinder.class})
+@Import({GroupService.class, UserGroupJdbcRepository.class, GroupDetailSnapshotCache.class, GroupSearchIndex.class, GroupAutocompleteIndex.class, ParallelReadExecutor.class, UserFinder.class, UuidToUserIdCache.class, CacheInvalidationBus.class, SecondLevelCacheSync.class})
 public class GroupServiceTest {
 
     @Autowired
@@ -62,9 +74,15 @@ public class GroupServiceTest {
     @Autowired
     private JoinApplyJpaRepository joinApplyJpaRepository;
 
+    @Autowired
+    private GroupPurgeJpaRepository groupPurgeJpaRepository;
+
     @Autowired
     private TravelItineraryJpaRepository travelItineraryJpaRepository;
 
+    @Autowired
+    private GroupDetailSnapshotCache groupDetailSnapshotCache;
+
     @Test
     @DisplayName("새로운 그룹 생성 시 그룹 정보가 올바르게 저장되고 생성자가 방장으로 등록된다")
     void 새로운_그룹_생성_시_그룹_정보가_올바르게_저장되고_생성자가_방장으로_등록된다() {
@@ -374,6 +392,7 @@ public class GroupServiceTest {
                 1,
                 false
         ));
+        groupJpaRepository.increaseTravelCount(savedGroup.getId());
 
         GroupDetailResponseDto response = groupService.detail(savedGroup.getId(), outsider.getId());
 
@@ -382,6 +401,147 @@ public class GroupServiceTest {
         assertThat(response.recentTravels()).isEmpty();
     }
 
+    @Test
+    @DisplayName("그룹 상세는 스냅샷을 공유하고 조회자별 역할만 다르게 적용한다")
+    void 그룹_상세는_스냅샷을_공유하고_조회자별_역할만_다르게_적용한다() {
+        // given
+        User owner = userJpaRepository.save(User.builder()
+                .providerId("kakao-owner-detail-snapshot")
+                .nickname("owner")
+                .email("owner-detail-snapshot@test.com")
+                .profileUrl("http://img")
+                .build());
+
+        User outsider = userJpaRepository.save(User.builder()
+                .providerId("kakao-outsider-detail-snapshot")
+                .nickname("outsider")
+                .email("outsider-detail-snapshot@test.com")
+                .profileUrl("http://img2")
+                .build());
+
+        Group group = Group.create(GroupKind.PUBLIC, "snapshot-group", "desc", "thumb", 10);
+        group.addMember(owner, Role.OWNER);
+        Group savedGroup = groupJpaRepository.save(group);
+
+        travelItineraryJpaRepository.save(new TravelItinerary(
+                "spring trip",
+                LocalDateTime.of(2026, 4, 10, 10, 0),
+                LocalDateTime.of(2026, 4, 12, 18, 0),
+                savedGroup,
+                "travel desc",
+                1,
+                false
+        ));
+        groupJpaRepository.increaseTravelCount(savedGroup.getId());
+
+        // when
+        GroupDetailResponseDto ownerResponse = groupService.detail(savedGroup.getId(), owner.getId());
+        GroupDetailResponseDto outsiderResponse = groupService.detail(savedGroup.getId(), outsider.getId());
+
+        // then
+        assertThat(groupDetailSnapshotCache.find(savedGroup.getId())).isNotNull();
+        assertThat(ownerResponse.role()).isEqualTo(Role.OWNER);
+        assertThat(ownerResponse.recentTravels()).hasSize(1);
+        assertThat(outsiderResponse.role()).isEqualTo(Role.GUEST);
+        assertThat(outsiderResponse.recentTravels()).isEmpty();
+        assertThat(outsiderResponse.travelCount()).isEqualTo(1);
+        assertThat(outsiderResponse.users()).isEqualTo(ownerResponse.users());
+    }
+
+    @Test
+    @DisplayName("그룹 상세 ETag 는 그룹 version 과 조회자 역할로 정해지고, 그룹 version 이 오르면 바뀐다")
+    void 그룹_상세_ETag_는_그룹_version_과_조회자_역할로_정해진다() {
+        // given
+        User owner = userJpaRepository.save(User.builder()
+                .providerId("kakao-owner-view-version")
+                .nickname("owner")
+                .email("owner-view-version@test.com")
+                .profileUrl("http://img")
+                .build());
+
+        Group group = Group.create(GroupKind.PUBLIC, "version-group", "desc", "thumb", 10);
+        group.addMember(owner, Role.OWNER);
+        Group savedGroup = groupJpaRepository.save(group);
+        Long groupId = savedGroup.getId();
+
+        // when
+        GroupViewVersion ownerVersion = groupService.viewVersion(groupId, owner.getId());
+        GroupViewVersion guestVersion = groupService.viewVersion(groupId, null);
+        groupJpaRepository.increaseDetailVersion(List.of(groupId));
+        GroupViewVersion bumpedVersion = groupService.viewVersion(groupId, owner.getId());
+
+        // then
+        assertThat(ownerVersion.eTag()).isEqualTo("group-" + groupId + "-v0-OWNER");
+        assertThat(guestVersion.eTag()).isEqualTo("group-" + groupId + "-v0-GUEST");
+        assertThat(bumpedVersion.eTag()).isEqualTo("group-" + groupId + "-v1-OWNER");
+    }
+
+    @Test
+    @DisplayName("캐시된 그룹 상세 스냅샷이 ETag 의 version 보다 오래되었으면 다시 적재한다")
+    void 캐시된_그룹_상세_스냅샷이_ETag_의_version_보다_오래되었으면_다시_적재한다() {
+        // given
+        User owner = userJpaRepository.save(User.builder()
+                .providerId("kakao-owner-stale-snapshot")
+                .nickname("owner")
+                .email("owner-stale-snapshot@test.com")
+                .profileUrl("http://img")
+                .build());
+
+        Group group = Group.create(GroupKind.PUBLIC, "before", "desc", "thumb", 10);
+        group.addMember(owner, Role.OWNER);
+        Group savedGroup = groupJpaRepository.save(group);
+        groupService.detail(savedGroup.getId(), owner.getId());
+
+        // 이벤트 없이 그룹만 바뀐 상황(다른 노드의 무효화가 아직 도착하지 않은 경우)
+        savedGroup.update(GroupKind.PUBLIC, "after", "desc", "thumb", 10);
+        groupJpaRepository.flush();
+
+        // when
+        GroupViewVersion viewVersion = groupService.viewVersion(savedGroup.getId(), owner.getId());
+        GroupDetailResponseDto response = groupService.detail(viewVersion);
+
+        // then
+        assertThat(viewVersion.version()).isEqualTo(1L);
+        assertThat(response.name()).isEqualTo("after");
+        assertThat(groupDetailSnapshotCache.find(savedGroup.getId()).version()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("그룹 멤버가 탈퇴하면 그룹 상세 스냅샷이 무효화되어 변경된 멤버 목록이 조회된다")
+    void 그룹_멤버가_탈퇴하면_그룹_상세_스냅샷이_무효화되어_변경된_멤버_목록이_조회된다() {
+        // given
+        User owner = userJpaRepository.save(User.builder()
+                .providerId("kakao-owner-detail-evict")
+                .nickname("owner")
+                .email("owner-detail-evict@test.com")
+                .profileUrl("http://img")
+                .build());
+
+        User member = userJpaRepository.save(User.builder()
+                .providerId("kakao-member-detail-evict")
+                .nickname("member")
+                .email("member-detail-evict@test.com")
+                .profileUrl("http://img2")
+                .build());
+
+        Group group = Group.create(GroupKind.PUBLIC, "evict-group", "desc", "thumb", 10);
+        group.addMember(owner, Role.OWNER);
+        group.addMember(member, Role.MEMBER);
+        group.addCurrentMemberCount();
+        Group savedGroup = groupJpaRepository.saveAndFlush(group);
+
+        GroupDetailResponseDto before = groupService.detail(savedGroup.getId(), owner.getId());
+
+        // when
+        groupService.leave(savedGroup.getId(), member.getId());
+        GroupDetailResponseDto after = groupService.detail(savedGroup.getId(), owner.getId());
+
+        // then
+        assertThat(before.users()).hasSize(2);
+        assertThat(after.users()).hasSize(1);
+        assertThat(after.currentMemberCount()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("비공개 그룹 상세 조회 시 멤버가 아니면 NOT_GROUP_MEMBER 예외가 발생한다")
     void 비공개_그룹_상세_조회_시_멤버가_아니면_NOT_GROUP_MEMBER_예외가_발생한다() {
@@ -556,8 +716,8 @@ public class GroupServiceTest {
     }
 
     @Test
-    @DisplayName("그룹 삭제 시 Group이 삭제되고, 연관된 UserGroup과 JoinApply도 함께 삭제된다")
-    void 그룹_삭제_시_Group이_삭제되고_연관된_UserGroup과_JoinApply도_함께_삭제된다() {
+    @DisplayName("그룹 삭제 시 Group은 삭제 표시만 되고, 오너 멤버십은 LEFTED가 되며 연관 데이터 정리는 purge 작업으로 등록된다")
+    void 그룹_삭제_시_Group은_삭제_표시만_되고_연관_데이터_정리는_purge_작업으로_등록된다() {
         // given
         User owner = userJpaRepository.save(User.builder()
                 .providerId("kakao-1")
@@ -595,8 +755,16 @@ public class GroupServiceTest {
         // then
         assertThat(groupJpaRepository.findByIdAndIsDeletedFalse(savedGroup.getId())).isEmpty();
         assertThat(groupJpaRepository.findById(savedGroup.getId()).orElseThrow().isDeleted()).isTrue();
-        assertThat(userGroupJpaRepository.findAll()).isEmpty();
-        assertThat(joinApplyJpaRepository.findAll()).isEmpty();
+        assertThat(userGroupJpaRepository.findAll())
+                .singleElement()
+                .extracting(UserGroup::getJoinStatus)
+                .isEqualTo(JoinStatus.LEFTED);
+        assertThat(joinApplyJpaRepository.findAll()).hasSize(1);
+        assertThat(groupPurgeJpaRepository.findByGroupId(savedGroup.getId()))
+                .hasValueSatisfying(purge -> {
+                    assertThat(purge.getStage()).isEqualTo(GroupPurgeStage.REVIEW_IMAGE_OBJECTS);
+                    assertThat(purge.getCompletedAt()).isNull();
+                });
     }
 
 
@@ -710,8 +878,10 @@ public class GroupServiceTest {
             assertThat(groupNotFoundCount).isEqualTo(1);
             assertThat(groupJpaRepository.findByIdAndIsDeletedFalse(savedGroup.getId())).isEmpty();
             assertThat(groupJpaRepository.findById(savedGroup.getId()).orElseThrow().isDeleted()).isTrue();
+            assertThat(groupPurgeJpaRepository.findAll()).hasSize(1);
         } finally {
             executorService.shutdownNow();
+            groupPurgeJpaRepository.deleteAllInBatch();
             joinApplyJpaRepository.deleteAllInBatch();
             userGroupJpaRepository.deleteAllInBatch();
             groupJpaRepository.deleteAllInBatch();
@@ -1370,4 +1540,65 @@ public class GroupServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("공개 그룹 멤버 목록은 멤버십 id 커서로 나눠 조회하고 LEFTED 멤버는 제외한다")
+    void 공개_그룹_멤버_목록은_멤버십_id_커서로_나눠_조회한다() {
+        // given
+        Group group = Group.create(GroupKind.PUBLIC, "멤버목록모임", "설명", "thumb", 10);
+        for (int i = 0; i < 5; i++) {
+            User user = userJpaRepository.save(User.builder()
+                    .providerId("kakao-member-page-" + i)
+                    .nickname("member-" + i)
+                    .email("member-page-" + i + "@test.com")
+                    .profileUrl("http://img")
+                    .build());
+            group.addMember(user, i == 0 ? Role.OWNER : Role.MEMBER);
+        }
+        Group savedGroup = groupJpaRepository.saveAndFlush(group);
+
+        UserGroup lefted = userGroupJpaRepository.findAllByGroupIdAndJoinStatus(savedGroup.getId(), JoinStatus.JOINED).stream()
+                .filter(userGroup -> userGroup.getUser().getNickname().equals("member-2"))
+                .findFirst()
+                .orElseThrow();
+        lefted.leave();
+        userGroupJpaRepository.flush();
+
+        // when
+        GroupUsersResponseDto first = groupService.groupUsers(savedGroup.getId(), null, 3);
+        GroupUsersResponseDto second = groupService.groupUsers(savedGroup.getId(), first.nextCursor(), 3);
+
+        // then
+        assertThat(first.users()).extracting(GroupUsersResponseDto.UserDto::name)
+                .containsExactly("member-4", "member-3", "member-1");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.users()).extracting(GroupUsersResponseDto.UserDto::name)
+                .containsExactly("member-0");
+        assertThat(second.users().get(0).isOwner()).isTrue();
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("그룹 상세의 멤버 목록은 최근 가입한 멤버부터 최대 10명까지만 미리 보여준다")
+    void 그룹_상세의_멤버_목록은_최대_10명까지만_보여준다() {
+        // given
+        Group group = Group.create(GroupKind.PUBLIC, "멤버미리보기모임", "설명", "thumb", 20);
+        for (int i = 0; i < 12; i++) {
+            User user = userJpaRepository.save(User.builder()
+                    .providerId("kakao-member-preview-" + i)
+                    .nickname("preview-" + i)
+                    .email("member-preview-" + i + "@test.com")
+                    .profileUrl("http://img")
+                    .build());
+            group.addMember(user, i == 0 ? Role.OWNER : Role.MEMBER);
+        }
+        Group savedGroup = groupJpaRepository.saveAndFlush(group);
+
+        // when
+        GroupDetailResponseDto response = groupService.detail(savedGroup.getId(), null);
+
+        // then
+        assertThat(response.users()).hasSize(10);
+        assertThat(response.users().get(0).name()).isEqualTo("preview-11");
+    }
 }
@@ -0,0 +1,87 @@
+package org.triple.backend.group.unit.sevice;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.triple.backend.common.annotation.ServiceTest;
+import org.triple.backend.group.entity.group.Group;
+import org.triple.backend.group.entity.group.GroupKind;
+import org.triple.backend.group.event.GroupDetailChangedEvent;
+import org.triple.backend.group.repository.GroupJpaRepository;
+import org.triple.backend.group.service.GroupVersionBumper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceTest
+@Import(GroupVersionBumper.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GroupVersionBumperTest {
+
+    @Autowired
+    private GroupJpaRepository groupJpaRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        groupJpaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션의 여러 이벤트는 그룹마다 detail_version 을 한 번만 올리고 @Version 은 그대로 둔다")
+    void 한_트랜잭션의_이벤트는_그룹마다_detail_version_을_한_번만_올린다() {
+        // given
+        Group first = groupJpaRepository.save(Group.create(GroupKind.PUBLIC, "첫모임", "설명", "thumb", 10));
+        Group second = groupJpaRepository.save(Group.create(GroupKind.PUBLIC, "둘모임", "설명", "thumb", 10));
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new GroupDetailChangedEvent(second.getId()));
+            eventPublisher.publishEvent(new GroupDetailChangedEvent(first.getId()));
+            eventPublisher.publishEvent(new GroupDetailChangedEvent(second.getId()));
+        });
+
+        // then
+        Group bumpedFirst = groupJpaRepository.findById(first.getId()).orElseThrow();
+        Group bumpedSecond = groupJpaRepository.findById(second.getId()).orElseThrow();
+        assertThat(bumpedFirst.getDetailVersion()).isEqualTo(1L);
+        assertThat(bumpedSecond.getDetailVersion()).isEqualTo(1L);
+        assertThat(bumpedFirst.getVersion()).isEqualTo(0L);
+        assertThat(bumpedSecond.getVersion()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("먼저 읽은 그룹을 수정하는 중에 detail_version 이 올라도 낙관적 락 충돌 없이 수정된다")
+    void detail_version_이_올라도_진행_중인_그룹_수정은_충돌하지_않는다() {
+        // given
+        Group group = groupJpaRepository.save(Group.create(GroupKind.PUBLIC, "before", "설명", "thumb", 10));
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Group loaded = groupJpaRepository.findById(group.getId()).orElseThrow();
+            requiresNew.executeWithoutResult(inner ->
+                    eventPublisher.publishEvent(new GroupDetailChangedEvent(group.getId())));
+            loaded.update(GroupKind.PUBLIC, "after", "설명", "thumb", 10);
+        });
+
+        // then
+        Group updated = groupJpaRepository.findById(group.getId()).orElseThrow();
+        assertThat(updated.getName()).isEqualTo("after");
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        assertThat(updated.getDetailVersion()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,136 @@
+package org.triple.backend.group.unit.sevice;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.triple.backend.common.annotation.ServiceTest;
+import org.triple.backend.group.entity.group.Group;
+import org.triple.backend.group.entity.joinApply.JoinApply;
+import org.triple.backend.group.entity.joinApply.JoinApplyStatus;
+import org.triple.backend.group.event.JoinApplyExpiredEvent;
+import org.triple.backend.group.repository.GroupJpaRepository;
+import org.triple.backend.group.repository.JoinApplyJpaRepository;
+import org.triple.backend.group.service.JoinApplyExpirer;
+import org.triple.backend.user.entity.User;
+import org.triple.backend.user.repository.UserJpaRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.triple.backend.group.fixture.GroupFixtures.publicGroup;
+
+@ServiceTest
+class JoinApplyExpirerTest {
+
+    @Autowired
+    private JoinApplyJpaRepository joinApplyJpaRepository;
+
+    @Autowired
+    private GroupJpaRepository groupJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<Object> publishedEvents = new ArrayList<>();
+
+    private JoinApplyExpirer joinApplyExpirer;
+
+    @BeforeEach
+    void setUp() {
+        // 청크 경계를 확인하기 위해 batch-size 를 1로 둔다.
+        joinApplyExpirer = new JoinApplyExpirer(
+                joinApplyJpaRepository,
+                publishedEvents::add,
+                transactionManager,
+                Duration.ofDays(14),
+                1,
+                20
+        );
+    }
+
+    @Test
+    @DisplayName("pending-ttl 보다 오래된 PENDING 신청만 만료하고 그룹별 만료 수를 발행한다")
+    void 오래된_PENDING_신청만_만료하고_그룹별_만료_수를_발행한다() {
+        // given
+        Group jeju = groupJpaRepository.save(publicGroup("jeju"));
+        Group busan = groupJpaRepository.save(publicGroup("busan"));
+        LocalDateTime old = LocalDateTime.now().minusDays(15);
+
+        Long staleJeju1 = saveApply("stale-jeju-1", jeju, old);
+        Long staleJeju2 = saveApply("stale-jeju-2", jeju, old);
+        Long staleBusan = saveApply("stale-busan", busan, old);
+        Long fresh = saveApply("fresh", busan, LocalDateTime.now().minusDays(1));
+        Long oldRejected = saveApply("old-rejected", jeju, old);
+        entityManager.clear();
+        joinApplyJpaRepository.findById(oldRejected).orElseThrow().reject();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        int expired = joinApplyExpirer.expire();
+
+        // then
+        entityManager.clear();
+        assertThat(expired).isEqualTo(3);
+        assertThat(statusOf(staleJeju1)).isEqualTo(JoinApplyStatus.EXPIRED);
+        assertThat(statusOf(staleJeju2)).isEqualTo(JoinApplyStatus.EXPIRED);
+        assertThat(statusOf(staleBusan)).isEqualTo(JoinApplyStatus.EXPIRED);
+        assertThat(statusOf(fresh)).isEqualTo(JoinApplyStatus.PENDING);
+        assertThat(statusOf(oldRejected)).isEqualTo(JoinApplyStatus.REJECTED);
+        assertThat(joinApplyJpaRepository.findById(staleBusan).orElseThrow().getExpiredAt()).isNotNull();
+
+        // batch-size 가 1이므로 청크마다 한 건씩 발행된다.
+        assertThat(publishedEvents)
+                .map(JoinApplyExpiredEvent.class::cast)
+                .extracting(JoinApplyExpiredEvent::groupId)
+                .containsExactlyInAnyOrder(jeju.getId(), jeju.getId(), busan.getId());
+    }
+
+    @Test
+    @DisplayName("만료할 신청이 없으면 아무것도 바꾸지 않고 발행하지 않는다")
+    void 만료할_신청이_없으면_아무것도_바꾸지_않는다() {
+        // given
+        Group group = groupJpaRepository.save(publicGroup("fresh"));
+        Long fresh = saveApply("fresh-only", group, LocalDateTime.now().minusDays(1));
+        entityManager.clear();
+
+        // when
+        int expired = joinApplyExpirer.expire();
+
+        // then
+        assertThat(expired).isZero();
+        assertThat(statusOf(fresh)).isEqualTo(JoinApplyStatus.PENDING);
+        assertThat(publishedEvents).isEmpty();
+    }
+
+    private Long saveApply(String providerId, Group group, LocalDateTime createdAt) {
+        User user = userJpaRepository.save(User.builder()
+                .providerId(providerId)
+                .nickname(providerId)
+                .email(providerId + "@test.com")
+                .profileUrl("http://img")
+                .build());
+        Long joinApplyId = joinApplyJpaRepository.saveAndFlush(JoinApply.create(user, group)).getId();
+        entityManager.createQuery("UPDATE JoinApply ja SET ja.createdAt = :createdAt WHERE ja.id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", joinApplyId)
+                .executeUpdate();
+        return joinApplyId;
+    }
+
+    private JoinApplyStatus statusOf(Long joinApplyId) {
+        return joinApplyJpaRepository.findById(joinApplyId).orElseThrow().getJoinApplyStatus();
+    }
+}
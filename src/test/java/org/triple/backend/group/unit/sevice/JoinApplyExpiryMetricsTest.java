@@ -0,0 +1,27 @@
+package org.triple.backend.group.unit.sevice;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.triple.backend.group.event.JoinApplyExpiredEvent;
+import org.triple.backend.group.service.JoinApplyExpiryMetrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JoinApplyExpiryMetricsTest {
+
+    @Test
+    @DisplayName("만료 이벤트의 수를 그룹과 관계없이 만료 카운터에 더한다")
+    void 만료_이벤트의_수를_카운터에_더한다() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JoinApplyExpiryMetrics metrics = new JoinApplyExpiryMetrics(meterRegistry);
+
+        // when
+        metrics.onExpired(new JoinApplyExpiredEvent(1L, 3));
+        metrics.onExpired(new JoinApplyExpiredEvent(2L, 2));
+
+        // then
+        assertThat(meterRegistry.get("group.join_apply.expired").counter().count()).isEqualTo(5.0);
+    }
+}
@@ -10,7 +10,10 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.triple.backend.common.annotation.ServiceTest;
+import org.triple.backend.global.cache.CacheInvalidationBus;
+import org.triple.backend.global.cache.SecondLevelCacheSync;
 import org.triple.backend.global.error.BusinessException;
+import org.triple.backend.group.dto.response.JoinApplyBulkResponseDto;
 import org.triple.backend.group.dto.response.JoinApplyUserResponseDto;
 import org.triple.backend.group.entity.group.Group;
 import org.triple.backend.group.entity.group.GroupKind;
@@ -23,6 +26,7 @@ import org.triple.backend.group.exception.GroupErrorCode;
 import org.triple.backend.group.exception.JoinApplyErrorCode;
 import org.triple.backend.group.repository.GroupJpaRepository;
 import org.triple.backend.group.repository.JoinApplyJpaRepository;
+import org.triple.backend.group.repository.UserGroupJdbcRepository;
 import org.triple.backend.group.repository.UserGroupJpaRepository;
 import org.triple.backend.group.service.JoinApplyService;
 import org.triple.backend.user.entity.User;
@@ -38,12 +42,14 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @ServiceTest
-@Import(JoinApplyService.class)
+@Import({JoinApplyService.class, UserGroupJdbcRepository.class, CacheInvalidationBus.class, SecondLevelCacheSync.class})
 public class JoinApplyServiceTest {
 
     @Autowired
@@ -145,6 +151,31 @@ public class JoinApplyServiceTest {
         assertThat(joinApplyJpaRepository.count()).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("만료된 가입 신청은 재신청할 수 있다")
+    void 만료된_가입_신청은_재신청할_수_있다() {
+        // given
+        User applicant = saveUser("kakao-applicant", "applicant@test.com");
+
+        Group group = groupJpaRepository.save(
+                Group.create(GroupKind.PUBLIC, "여행모임", "설명", "https://example.com/thumb.png", 10)
+        );
+
+        JoinApply joinApply = joinApplyJpaRepository.saveAndFlush(JoinApply.create(applicant, group));
+        joinApplyJpaRepository.expireAllByIdIn(List.of(joinApply.getId()), JoinApplyStatus.EXPIRED, LocalDateTime.now());
+        entityManager.clear();
+
+        // when
+        joinApplyService.joinApply(group.getId(), applicant.getId());
+
+        // then
+        entityManager.clear();
+        JoinApply reapplied = joinApplyJpaRepository.findByGroupIdAndUserId(group.getId(), applicant.getId()).orElseThrow();
+        assertThat(reapplied.getJoinApplyStatus()).isEqualTo(JoinApplyStatus.PENDING);
+        assertThat(reapplied.getExpiredAt()).isNull();
+        assertThat(joinApplyJpaRepository.count()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("거절된 가입 신청은 재신청할 수 없다")
     void 거절된_가입_신청은_재신청할_수_없다() {
@@ -512,6 +543,184 @@ public class JoinApplyServiceTest {
                 });
     }
 
+    @Test
+    @DisplayName("일괄 승인은 신규 / 재가입 신청자를 함께 승인하고, 대기 중이 아니거나 이미 가입된 신청은 항목별 실패로 돌려준다")
+    void 일괄_승인은_신청별_결과를_돌려준다() {
+        // given
+        User owner = saveUser("kakao-owner-bulk", "owner-bulk@test.com");
+        User newcomer = saveUser("kakao-newcomer-bulk", "newcomer-bulk@test.com");
+        User returner = saveUser("kakao-returner-bulk", "returner-bulk@test.com");
+        User member = saveUser("kakao-member-bulk", "member-bulk@test.com");
+        User rejected = saveUser("kakao-rejected-bulk", "rejected-bulk@test.com");
+
+        Group group = Group.create(GroupKind.PUBLIC, "일괄승인모임", "설명", "https://example.com/thumb.png", 10);
+        group.addMember(owner, Role.OWNER);
+        group.addMember(member, Role.MEMBER);
+        group.addCurrentMemberCount();
+        Group savedGroup = groupJpaRepository.saveAndFlush(group);
+
+        userGroupJpaRepository.saveAndFlush(UserGroup.builder()
+                .user(returner)
+                .group(savedGroup)
+                .role(Role.MEMBER)
+                .joinStatus(JoinStatus.LEFTED)
+                .joinedAt(LocalDateTime.now().minusDays(1))
+                .leftAt(LocalDateTime.now())
+                .build());
+
+        JoinApply newcomerApply = joinApplyJpaRepository.saveAndFlush(JoinApply.create(newcomer, savedGroup));
+        JoinApply returnerApply = joinApplyJpaRepository.saveAndFlush(JoinApply.create(returner, savedGroup));
+        JoinApply memberApply = joinApplyJpaRepository.saveAndFlush(JoinApply.create(member, savedGroup));
+        JoinApply rejectedApply = JoinApply.create(rejected, savedGroup);
+        rejectedApply.reject();
+        joinApplyJpaRepository.saveAndFlush(rejectedApply);
+
+        // when
+        JoinApplyBulkResponseDto response = joinApplyService.approveAll(
+                savedGroup.getId(),
+                owner.getId(),
+                List.of(newcomerApply.getId(), returnerApply.getId(), memberApply.getId(), rejectedApply.getId(), newcomerApply.getId())
+        );
+
+        // then
+        assertThat(response.results())
+                .extracting(JoinApplyBulkResponseDto.ResultDto::joinApplyId, JoinApplyBulkResponseDto.ResultDto::success)
+                .containsExactly(
+                        tuple(newcomerApply.getId(), true),
+                        tuple(returnerApply.getId(), true),
+                        tuple(memberApply.getId(), false),
+                        tuple(rejectedApply.getId(), false)
+                );
+        assertThat(response.results().get(2).message()).isEqualTo(JoinApplyErrorCode.ALREADY_JOINED_GROUP.getMessage());
+        assertThat(response.results().get(3).message()).isEqualTo(JoinApplyErrorCode.JOIN_APPLY_NOT_FOUND.getMessage());
+
+        assertThat(joinApplyJpaRepository.findById(newcomerApply.getId()).orElseThrow().getJoinApplyStatus()).isEqualTo(JoinApplyStatus.APPROVED);
+        assertThat(joinApplyJpaRepository.findById(returnerApply.getId()).orElseThrow().getApprovedAt()).isNotNull();
+        assertThat(joinApplyJpaRepository.findById(memberApply.getId()).orElseThrow().getJoinApplyStatus()).isEqualTo(JoinApplyStatus.PENDING);
+        assertThat(userGroupJpaRepository.existsByGroupIdAndUserIdAndJoinStatus(savedGroup.getId(), newcomer.getId(), JoinStatus.JOINED)).isTrue();
+        UserGroup rejoined = userGroupJpaRepository.findByGroupIdAndUserId(savedGroup.getId(), returner.getId()).orElseThrow();
+        assertThat(rejoined.getJoinStatus()).isEqualTo(JoinStatus.JOINED);
+        assertThat(rejoined.getLeftAt()).isNull();
+        assertThat(groupJpaRepository.findById(savedGroup.getId()).orElseThrow().getCurrentMemberCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("일괄 승인은 남은 정원만큼만 요청 순서대로 승인하고 나머지는 정원 초과로 돌려준다")
+    void 일괄_승인은_남은_정원만큼만_승인한다() {
+        // given
+        User owner = saveUser("kakao-owner-bulk-limit", "owner-bulk-limit@test.com");
+        Group group = Group.create(GroupKind.PUBLIC, "일괄정원모임", "설명", "https://example.com/thumb.png", 3);
+        group.addMember(owner, Role.OWNER);
+        Group savedGroup = groupJpaRepository.saveAndFlush(group);
+        List<Long> joinApplyIds = savePendingApplies(savedGroup, 4, "bulk-limit");
+
+        // when
+        JoinApplyBulkResponseDto response = joinApplyService.approveAll(savedGroup.getId(), owner.getId(), joinApplyIds);
+
+        // then
+        assertThat(response.results())
+                .extracting(JoinApplyBulkResponseDto.ResultDto::success)
+                .containsExactly(true, true, false, false);
+        assertThat(response.results().get(3).message()).isEqualTo(GroupErrorCode.EXCEEDED_JOIN_NUMBER.getMessage());
+        assertThat(groupJpaRepository.findById(savedGroup.getId()).orElseThrow().getCurrentMemberCount()).isEqualTo(3);
+        assertThat(joinApplyJpaRepository.findById(joinApplyIds.get(3)).orElseThrow().getJoinApplyStatus()).isEqualTo(JoinApplyStatus.PENDING);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("동시에 들어온 일괄 승인은 그룹 row 를 선점하지 않아도 정원을 넘기지 않는다")
+    void 동시_일괄_승인은_정원을_넘기지_않는다() throws InterruptedException {
+        // given
+        User owner = saveUser("kakao-owner-bulk-race", "owner-bulk-race@test.com");
+        Group group = Group.create(GroupKind.PUBLIC, "일괄경합모임", "설명", "https://example.com/thumb.png", 3);
+        group.addMember(owner, Role.OWNER);
+        Group savedGroup = groupJpaRepository.saveAndFlush(group);
+        List<Long> firstBatch = savePendingApplies(savedGroup, 2, "bulk-race-a");
+        List<Long> secondBatch = savePendingApplies(savedGroup, 2, "bulk-race-b");
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+        try {
+            for (List<Long> batch : List.of(firstBatch, secondBatch)) {
+                executorService.submit(() -> {
+                    try {
+                        start.await();
+                        joinApplyService.approveAll(savedGroup.getId(), owner.getId(), batch);
+                    } catch (Throwable throwable) {
+                        failures.add(throwable);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            // when
+            start.countDown();
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // then
+            assertThat(failures).allSatisfy(failure -> assertThat(failure)
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(GroupErrorCode.EXCEEDED_JOIN_NUMBER));
+            assertThat(groupJpaRepository.findById(savedGroup.getId()).orElseThrow().getCurrentMemberCount()).isEqualTo(3);
+            assertThat(joinApplyJpaRepository.findAll())
+                    .filteredOn(joinApply -> joinApply.getJoinApplyStatus() == JoinApplyStatus.APPROVED)
+                    .hasSize(2);
+        } finally {
+            executorService.shutdownNow();
+            joinApplyJpaRepository.deleteAllInBatch();
+            userGroupJpaRepository.deleteAllInBatch();
+            groupJpaRepository.deleteAllInBatch();
+            userJpaRepository.deleteAllInBatch();
+        }
+    }
+
+    @Test
+    @DisplayName("오너가 아니면 일괄 승인할 수 없다")
+    void 오너가_아니면_일괄_승인할_수_없다() {
+        // given
+        User owner = saveUser("kakao-owner-bulk-auth", "owner-bulk-auth@test.com");
+        User outsider = saveUser("kakao-outsider-bulk-auth", "outsider-bulk-auth@test.com");
+        Group group = Group.create(GroupKind.PUBLIC, "일괄권한모임", "설명", "https://example.com/thumb.png", 10);
+        group.addMember(owner, Role.OWNER);
+        Group savedGroup = groupJpaRepository.saveAndFlush(group);
+        List<Long> joinApplyIds = savePendingApplies(savedGroup, 2, "bulk-auth");
+
+        // when & then
+        assertThatThrownBy(() -> joinApplyService.approveAll(savedGroup.getId(), outsider.getId(), joinApplyIds))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> {
+                    BusinessException be = (BusinessException) ex;
+                    assertThat(be.getErrorCode()).isEqualTo(JoinApplyErrorCode.NO_SIGNUP_APPROVAL_PERMISSION);
+                });
+    }
+
+    @Test
+    @DisplayName("일괄 거절은 대기 중인 신청만 거절하고 나머지는 항목별 실패로 돌려준다")
+    void 일괄_거절은_대기_중인_신청만_거절한다() {
+        // given
+        User owner = saveUser("kakao-owner-bulk-reject", "owner-bulk-reject@test.com");
+        Group group = Group.create(GroupKind.PUBLIC, "일괄거절모임", "설명", "https://example.com/thumb.png", 10);
+        group.addMember(owner, Role.OWNER);
+        Group savedGroup = groupJpaRepository.saveAndFlush(group);
+        List<Long> joinApplyIds = savePendingApplies(savedGroup, 2, "bulk-reject");
+
+        // when
+        JoinApplyBulkResponseDto response = joinApplyService.rejectAll(savedGroup.getId(), owner.getId(), List.of(joinApplyIds.get(0), 999999L, joinApplyIds.get(1)));
+
+        // then
+        assertThat(response.results())
+                .extracting(JoinApplyBulkResponseDto.ResultDto::success)
+                .containsExactly(true, false, true);
+        assertThat(joinApplyJpaRepository.findAll())
+                .extracting(JoinApply::getJoinApplyStatus)
+                .containsOnly(JoinApplyStatus.REJECTED);
+    }
+
     @Test
     @DisplayName("오너는 상태 조건으로 가입 신청 사용자 목록을 커서 조회할 수 있다")
     void 오너는_상태_조건으로_가입_신청_사용자_목록을_커서_조회할_수_있다() {
@@ -734,8 +943,8 @@ public class JoinApplyServiceTest {
 
     @Test
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
-    @DisplayName("부모 Group 락이 선점되면 가입 신청은 락 해제 후 처리된다")
-    void 부모_Group_락이_선점되면_가입_신청은_락_해제_후_처리된다() throws InterruptedException {
+    @DisplayName("부모 Group 락이 선점되어 있어도 가입 신청은 기다리지 않고 처리된다")
+    void 부모_Group_락이_선점되어_있어도_가입_신청은_기다리지_않고_처리된다() throws InterruptedException {
         // given
         User applicant = userJpaRepository.save(User.builder()
                 .providerId("kakao-lock-applicant")
@@ -789,13 +998,11 @@ public class JoinApplyServiceTest {
 
             executorService.submit(applyTask);
 
-            assertThat(applyDone.await(300, TimeUnit.MILLISECONDS)).isFalse();
-
-            releaseLock.countDown();
-
             assertThat(applyDone.await(5, TimeUnit.SECONDS)).isTrue();
             assertThat(failures).isEmpty();
 
+            releaseLock.countDown();
+
             JoinApply savedApply = joinApplyJpaRepository.findByGroupIdAndUserId(group.getId(), applicant.getId()).orElseThrow();
             assertThat(savedApply.getJoinApplyStatus()).isEqualTo(JoinApplyStatus.PENDING);
         } finally {
@@ -951,4 +1158,92 @@ public class JoinApplyServiceTest {
             userJpaRepository.deleteAllInBatch();
         }
     }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("정원보다 많은 동시 승인은 남은 자리만큼만 성공하고 나머지는 정원 초과로 롤백된다")
+    void 정원보다_많은_동시_승인은_남은_자리만큼만_성공한다() throws InterruptedException {
+        // given
+        int memberLimit = 5;
+        int applicantCount = 10;
+        User owner = saveUser("kakao-owner-limit", "owner-limit@test.com");
+        Group group = Group.create(GroupKind.PUBLIC, "정원테스트모임", "설명", "https://example.com/thumb.png", memberLimit);
+        group.addMember(owner, Role.OWNER);
+        Group savedGroup = groupJpaRepository.saveAndFlush(group);
+        List<Long> joinApplyIds = savePendingApplies(savedGroup, applicantCount, "limit");
+
+        try {
+            // when
+            List<Throwable> failures = approveConcurrently(savedGroup.getId(), owner.getId(), joinApplyIds, 5);
+
+            // then
+            long exceededCount = failures.stream()
+                    .filter(BusinessException.class::isInstance)
+                    .map(BusinessException.class::cast)
+                    .filter(e -> e.getErrorCode() == GroupErrorCode.EXCEEDED_JOIN_NUMBER)
+                    .count();
+
+            assertThat(failures).hasSize(applicantCount - (memberLimit - 1));
+            assertThat(exceededCount).isEqualTo(failures.size());
+            assertThat(groupJpaRepository.findById(savedGroup.getId()).orElseThrow().getCurrentMemberCount()).isEqualTo(memberLimit);
+            assertThat(userGroupJpaRepository.findAllByGroupIdAndJoinStatus(savedGroup.getId(), JoinStatus.JOINED)).hasSize(memberLimit);
+            assertThat(joinApplyJpaRepository.findAll())
+                    .filteredOn(joinApply -> joinApply.getJoinApplyStatus() == JoinApplyStatus.APPROVED)
+                    .hasSize(memberLimit - 1);
+        } finally {
+            joinApplyJpaRepository.deleteAllInBatch();
+            userGroupJpaRepository.deleteAllInBatch();
+            groupJpaRepository.deleteAllInBatch();
+            userJpaRepository.deleteAllInBatch();
+        }
+    }
+
+    private User saveUser(final String providerId, final String email) {
+        return userJpaRepository.save(User.builder()
+                .providerId(providerId)
+                .nickname("사용자")
+                .email(email)
+                .profileUrl("http://img")
+                .build());
+    }
+
+    private List<Long> savePendingApplies(final Group group, final int count, final String prefix) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> saveUser("kakao-" + prefix + "-" + i, prefix + "-" + i + "@test.com"))
+                .map(applicant -> joinApplyJpaRepository.saveAndFlush(JoinApply.create(applicant, group)).getId())
+                .toList();
+    }
+
+    private List<Throwable> approveConcurrently(
+            final Long groupId,
+            final Long ownerId,
+            final List<Long> joinApplyIds,
+            final int threadCount
+    ) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(joinApplyIds.size());
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+        try {
+            for (Long joinApplyId : joinApplyIds) {
+                executorService.submit(() -> {
+                    try {
+                        start.await();
+                        joinApplyService.approve(groupId, ownerId, joinApplyId);
+                    } catch (Throwable throwable) {
+                        failures.add(throwable);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            start.countDown();
+            assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+            return failures;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
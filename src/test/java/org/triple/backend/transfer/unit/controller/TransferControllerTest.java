@@ -53,6 +53,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -648,6 +649,22 @@ class TransferControllerTest extends ControllerTest {
         verify(transferService, times(1)).searchTransfer(1L, 20L);
     }
 
+    @Test
+    @DisplayName("정산 version 이 If-None-Match 와 같으면 정산서를 다시 조회하지 않고 304를 반환한다.")
+    void 정산_version_이_If_None_Match_와_같으면_304를_반환한다() throws Exception {
+        given(transferService.searchTransferETag(eq(1L), eq(20L))).willReturn("transfer-5-v3");
+        mockCsrfValid();
+
+        // when & then
+        mockMvc.perform(get("/transfers/travels/{travelItineraryId}", 20L)
+                        .with(loginSessionAndCsrf())
+                        .header("If-None-Match", "\"transfer-5-v3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"transfer-5-v3\""));
+
+        verify(transferService, never()).searchTransfer(anyLong(), anyLong());
+    }
+
     @Test
     @DisplayName("비로그인 사용자가 정산서 조회를 요청하면 401을 반환한다.")
     void 비로그인_사용자가_청구서_조회를_요청하면_401을_반환한다() throws Exception {
@@ -176,6 +176,7 @@ class TravelIntegrationTest {
                 1,
                 false
         ));
+        groupJpaRepository.increaseTravelCount(group.getId());
 
         mockMvc.perform(get("/travels/{groupId}", group.getId())
                         .header("Authorization", authorization(user))
@@ -203,6 +204,7 @@ class TravelIntegrationTest {
                 1,
                 false
         ));
+        groupJpaRepository.increaseTravelCount(group.getId());
 
         mockMvc.perform(get("/travels/{groupId}", group.getId())
                         .param("size", "10"))
@@ -229,6 +231,7 @@ class TravelIntegrationTest {
                 1,
                 false
         ));
+        groupJpaRepository.increaseTravelCount(group.getId());
 
         mockMvc.perform(get("/travels/{groupId}", group.getId())
                         .header("Authorization", authorization(outsider))
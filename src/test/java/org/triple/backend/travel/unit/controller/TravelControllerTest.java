@@ -40,6 +40,7 @@ import static org.springframework.restdocs.request.RequestDocumentation.paramete
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -766,6 +767,22 @@ class TravelControllerTest extends ControllerTest {
         verify(travelItineraryService, times(1)).getTravelInfo(travelId, 1L);
     }
 
+    @Test
+    @DisplayName("여행 version 이 If-None-Match 와 같으면 여행 메타 정보를 다시 만들지 않고 304를 반환한다.")
+    void 여행_version_이_If_None_Match_와_같으면_304를_반환한다() throws Exception {
+        Long travelId = 1L;
+        given(sessionManager.getUserIdOrThrow(any())).willReturn(1L);
+        given(travelItineraryService.travelInfoETag(travelId, 1L)).willReturn("travel-1-v2");
+
+        mockMvc.perform(get("/travels/{travelId}/info", travelId)
+                        .with(loginJwt())
+                        .header("If-None-Match", "\"travel-1-v2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"travel-1-v2\""));
+
+        verify(travelItineraryService, never()).getTravelInfo(any(), any());
+    }
+
     @Test
     @DisplayName("비로그인 사용자가 여행 메타 정보 조회 시 401을 반환한다.")
     void 비로그인_사용자가_여행_메타_정보_조회_시_401을_반환한다() throws Exception {
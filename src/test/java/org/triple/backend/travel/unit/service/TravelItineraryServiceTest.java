@@ -42,6 +42,7 @@ import org.triple.backend.user.repository.UserJpaRepository;
 
 import java.time.LocalDateTime;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -139,6 +140,35 @@ class TravelItineraryServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .extracting("errorCode")
                 .isEqualTo(TravelItineraryErrorCode.SAVE_FORBIDDEN);
+        Assertions.assertThat(groupJpaRepository.findTravelCountById(group.getId())).contains(0);
+    }
+
+    @Test
+    @DisplayName("여행 저장과 삭제 시 그룹의 여행 수가 같은 트랜잭션에서 함께 변경된다.")
+    void 여행_저장_삭제_시_그룹_여행_수_변경() {
+        // given
+        User user = userJpaRepository.save(createUser());
+        Group group = groupJpaRepository.save(createGroup());
+        userGroupJpaRepository.save(createUserGroup(user, group));
+
+        TravelItinerarySaveRequestDto request = new TravelItinerarySaveRequestDto(
+                "제목",
+                LocalDateTime.of(2026, 2, 14, 0, 0),
+                LocalDateTime.of(2026, 2, 16, 0, 0),
+                group.getId(),
+                "설명"
+        );
+
+        // when
+        TravelItinerarySaveResponseDto response = travelItineraryService.saveTravels(request, user.getId());
+        int countAfterSave = groupJpaRepository.findTravelCountById(group.getId()).orElseThrow();
+
+        travelItineraryService.deleteTravel(response.itineraryId(), user.getId());
+        int countAfterDelete = groupJpaRepository.findTravelCountById(group.getId()).orElseThrow();
+
+        // then
+        Assertions.assertThat(countAfterSave).isEqualTo(1);
+        Assertions.assertThat(countAfterDelete).isZero();
     }
 
     @Test
@@ -335,6 +365,29 @@ class TravelItineraryServiceTest {
         Assertions.assertThat(deletedTravel.isDeleted()).isTrue();
     }
 
+    @Test
+    @DisplayName("그룹이 삭제되어 여행 수를 줄이지 못하면 여행 삭제도 되돌린다.")
+    void 그룹이_삭제되었으면_여행_삭제_예외() {
+        Group group = createGroup();
+        group.deleteGroup();
+        Group deletedGroup = groupJpaRepository.save(group);
+        TravelItinerary savedTravelItinerary = travelItineraryJpaRepository.save(new TravelItinerary(
+                "title",
+                LocalDateTime.of(2026, 2, 14, 0, 0),
+                LocalDateTime.of(2026, 2, 16, 0, 0),
+                deletedGroup,
+                "description",
+                1,
+                false));
+        User user = userJpaRepository.save(createUser());
+        userTravelItineraryJpaRepository.save(new UserTravelItinerary(user, savedTravelItinerary, UserRole.LEADER));
+
+        Assertions.assertThatThrownBy(() -> travelItineraryService.deleteTravel(savedTravelItinerary.getId(), user.getId()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(GroupErrorCode.GROUP_NOT_FOUND);
+    }
+
     @Test
     @DisplayName("여행 탈퇴 요청 시 참가 정보가 삭제된다.")
     void 여행_탈퇴_요청_시_참가_정보가_삭제된다() {
@@ -415,6 +468,7 @@ class TravelItineraryServiceTest {
                 1,
                 false
         ));
+        groupJpaRepository.increaseTravelCount(group.getId());
 
         TravelItineraryCursorResponseDto result = travelItineraryService.browseTravels(group.getId(), null, 10, user.getId());
 
@@ -482,6 +536,9 @@ class TravelItineraryServiceTest {
                 1,
                 true
         ));
+        for (int i = 0; i < 3; i++) {
+            groupJpaRepository.increaseTravelCount(group.getId());
+        }
 
         TravelItineraryCursorResponseDto firstPage = travelItineraryService.browseTravels(group.getId(), null, 2, user.getId());
         Assertions.assertThat(firstPage.items()).hasSize(2);
@@ -695,7 +752,7 @@ class TravelItineraryServiceTest {
         userGroupJpaRepository.save(createUserGroup(member, group));
 
         UUID memberUuid = member.getPublicUuid();
-        given(userIdentityResolver.resolve(memberUuid.toString())).willReturn(member.getId());
+        given(userIdentityResolver.resolveAll(List.of(memberUuid.toString()))).willReturn(List.of(member.getId()));
 
         TravelItinerarySaveRequestDto request = new TravelItinerarySaveRequestDto(
                 "title",
@@ -724,7 +781,7 @@ class TravelItineraryServiceTest {
         userGroupJpaRepository.save(createUserGroup(leader, group));
 
         UUID unknownMemberUuid = UUID.randomUUID();
-        given(userIdentityResolver.resolve(unknownMemberUuid.toString())).willReturn(null);
+        given(userIdentityResolver.resolveAll(List.of(unknownMemberUuid.toString()))).willReturn(Collections.singletonList(null));
 
         TravelItinerarySaveRequestDto request = new TravelItinerarySaveRequestDto(
                 "title",
@@ -750,7 +807,7 @@ class TravelItineraryServiceTest {
         userGroupJpaRepository.save(createUserGroup(leader, group));
 
         UUID outsiderUuid = outsider.getPublicUuid();
-        given(userIdentityResolver.resolve(outsiderUuid.toString())).willReturn(outsider.getId());
+        given(userIdentityResolver.resolveAll(List.of(outsiderUuid.toString()))).willReturn(List.of(outsider.getId()));
 
         TravelItinerarySaveRequestDto request = new TravelItinerarySaveRequestDto(
                 "title",
@@ -778,8 +835,8 @@ class TravelItineraryServiceTest {
 
         UUID leaderUuid = leader.getPublicUuid();
         UUID memberUuid = member.getPublicUuid();
-        given(userIdentityResolver.resolve(leaderUuid.toString())).willReturn(leader.getId());
-        given(userIdentityResolver.resolve(memberUuid.toString())).willReturn(member.getId());
+        given(userIdentityResolver.resolveAll(List.of(leaderUuid.toString(), memberUuid.toString(), memberUuid.toString())))
+                .willReturn(List.of(leader.getId(), member.getId(), member.getId()));
 
         TravelItinerarySaveRequestDto request = new TravelItinerarySaveRequestDto(
                 "title",
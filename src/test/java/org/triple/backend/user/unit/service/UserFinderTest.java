@@ -2,21 +2,27 @@ package org.triple.backend.user.unit.service;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.triple.backend.auth.crypto.UuidToUserIdCache;
 import org.triple.backend.global.error.BusinessException;
 import org.triple.backend.transfer.exception.TransferErrorCode;
 import org.triple.backend.user.repository.UserJpaRepository;
 import org.triple.backend.user.service.UserFinder;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 class UserFinderTest {
 
@@ -24,7 +30,7 @@ class UserFinderTest {
     @DisplayName("publicUuid가 null이면 예외가 발생한다")
     void publicUuid가_null이면_예외가_발생한다() {
         UserJpaRepository userJpaRepository = mock(UserJpaRepository.class);
-        UserFinder userFinder = new UserFinder(userJpaRepository);
+        UserFinder userFinder = new UserFinder(new UuidToUserIdCache(userJpaRepository));
 
         assertThatThrownBy(() -> userFinder.findIdByPublicUuidOrThrow(null, TransferErrorCode.RECIPIENT_USER_NOT_FOUND))
                 .isInstanceOf(BusinessException.class)
@@ -37,7 +43,7 @@ class UserFinderTest {
     @DisplayName("publicUuid가 공백이면 예외가 발생한다")
     void publicUuid가_공백이면_예외가_발생한다() {
         UserJpaRepository userJpaRepository = mock(UserJpaRepository.class);
-        UserFinder userFinder = new UserFinder(userJpaRepository);
+        UserFinder userFinder = new UserFinder(new UuidToUserIdCache(userJpaRepository));
 
         assertThatThrownBy(() -> userFinder.findIdByPublicUuidOrThrow("   ", TransferErrorCode.RECIPIENT_USER_NOT_FOUND))
                 .isInstanceOf(BusinessException.class)
@@ -50,7 +56,7 @@ class UserFinderTest {
     @DisplayName("publicUuid 포맷이 잘못되면 예외가 발생한다")
     void publicUuid_포맷이_잘못되면_예외가_발생한다() {
         UserJpaRepository userJpaRepository = mock(UserJpaRepository.class);
-        UserFinder userFinder = new UserFinder(userJpaRepository);
+        UserFinder userFinder = new UserFinder(new UuidToUserIdCache(userJpaRepository));
 
         assertThatThrownBy(() -> userFinder.findIdByPublicUuidOrThrow("invalid-uuid", TransferErrorCode.RECIPIENT_USER_NOT_FOUND))
                 .isInstanceOf(BusinessException.class)
@@ -63,7 +69,7 @@ class UserFinderTest {
     @DisplayName("존재하지 않는 publicUuid면 예외가 발생한다")
     void 존재하지_않는_publicUuid면_예외가_발생한다() {
         UserJpaRepository userJpaRepository = mock(UserJpaRepository.class);
-        UserFinder userFinder = new UserFinder(userJpaRepository);
+        UserFinder userFinder = new UserFinder(new UuidToUserIdCache(userJpaRepository));
         UUID publicUuid = UUID.randomUUID();
         given(userJpaRepository.findIdByPublicUuid(publicUuid)).willReturn(Optional.empty());
 
@@ -78,7 +84,7 @@ class UserFinderTest {
     @DisplayName("유효한 publicUuid면 내부 userId를 반환한다")
     void 유효한_publicUuid면_내부_userId를_반환한다() {
         UserJpaRepository userJpaRepository = mock(UserJpaRepository.class);
-        UserFinder userFinder = new UserFinder(userJpaRepository);
+        UserFinder userFinder = new UserFinder(new UuidToUserIdCache(userJpaRepository));
         UUID publicUuid = UUID.randomUUID();
         given(userJpaRepository.findIdByPublicUuid(publicUuid)).willReturn(Optional.of(1L));
 
@@ -87,4 +93,56 @@ class UserFinderTest {
         assertThat(userId).isEqualTo(1L);
         then(userJpaRepository).should().findIdByPublicUuid(publicUuid);
     }
+
+    @Test
+    @DisplayName("여러 publicUuid는 IN 쿼리 한 번으로 조회하고 입력 순서를 유지한다")
+    void 여러_publicUuid는_IN_쿼리_한_번으로_조회한다() {
+        UserJpaRepository userJpaRepository = mock(UserJpaRepository.class);
+        UserFinder userFinder = new UserFinder(new UuidToUserIdCache(userJpaRepository));
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        given(userJpaRepository.findIdsByPublicUuidIn(anyCollection()))
+                .willReturn(List.of(publicUuidUserId(second, 2L), publicUuidUserId(first, 1L)));
+
+        Map<String, Long> userIds = userFinder.findIdsByPublicUuidsOrThrow(
+                List.of(first.toString(), second.toString()),
+                TransferErrorCode.RECIPIENT_USER_NOT_FOUND
+        );
+
+        assertThat(userIds).containsExactly(entry(first.toString(), 1L), entry(second.toString(), 2L));
+        then(userJpaRepository).should(times(1)).findIdsByPublicUuidIn(anyCollection());
+        then(userJpaRepository).should(never()).findIdByPublicUuid(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("여러 publicUuid 중 하나라도 없으면 예외가 발생한다")
+    void 여러_publicUuid_중_하나라도_없으면_예외가_발생한다() {
+        UserJpaRepository userJpaRepository = mock(UserJpaRepository.class);
+        UserFinder userFinder = new UserFinder(new UuidToUserIdCache(userJpaRepository));
+        UUID exists = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        given(userJpaRepository.findIdsByPublicUuidIn(anyCollection()))
+                .willReturn(List.of(publicUuidUserId(exists, 1L)));
+
+        assertThatThrownBy(() -> userFinder.findIdsByPublicUuidsOrThrow(
+                List.of(exists.toString(), missing.toString()),
+                TransferErrorCode.RECIPIENT_USER_NOT_FOUND
+        ))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(TransferErrorCode.RECIPIENT_USER_NOT_FOUND.getMessage());
+    }
+
+    private UserJpaRepository.PublicUuidUserId publicUuidUserId(UUID publicUuid, Long userId) {
+        return new UserJpaRepository.PublicUuidUserId() {
+            @Override
+            public UUID getPublicUuid() {
+                return publicUuid;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+        };
+    }
 }